@@ -0,0 +1,88 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.vault.config.aws;
+
+import java.time.Instant;
+
+import org.springframework.context.ApplicationEvent;
+import org.springframework.lang.Nullable;
+
+/**
+ * Event published after rotation of AWS STS credentials. Consumers replace credentials
+ * obtained for the {@link #getProperties() AWS role} with the rotated ones.
+ *
+ * @author Mark Paluch
+ * @since 5.0.3
+ * @see VaultAwsCredentialsProvider
+ */
+public class AwsCredentialsRotatedEvent extends ApplicationEvent {
+
+	private final VaultAwsProperties properties;
+
+	private final String accessKey;
+
+	private final String secretKey;
+
+	@Nullable
+	private final String sessionToken;
+
+	@Nullable
+	private final Instant expiration;
+
+	/**
+	 * Create a new {@link AwsCredentialsRotatedEvent}.
+	 * @param source the event source.
+	 * @param properties the AWS properties.
+	 * @param accessKey the rotated access key.
+	 * @param secretKey the rotated secret key.
+	 * @param sessionToken the rotated session token, can be {@literal null}.
+	 * @param expiration expiration of the rotated credentials, can be {@literal null}
+	 * if unknown.
+	 */
+	public AwsCredentialsRotatedEvent(Object source, VaultAwsProperties properties, String accessKey,
+			String secretKey, @Nullable String sessionToken, @Nullable Instant expiration) {
+		super(source);
+		this.properties = properties;
+		this.accessKey = accessKey;
+		this.secretKey = secretKey;
+		this.sessionToken = sessionToken;
+		this.expiration = expiration;
+	}
+
+	public VaultAwsProperties getProperties() {
+		return this.properties;
+	}
+
+	public String getAccessKey() {
+		return this.accessKey;
+	}
+
+	public String getSecretKey() {
+		return this.secretKey;
+	}
+
+	@Nullable
+	public String getSessionToken() {
+		return this.sessionToken;
+	}
+
+	@Nullable
+	public Instant getExpiration() {
+		return this.expiration;
+	}
+
+}
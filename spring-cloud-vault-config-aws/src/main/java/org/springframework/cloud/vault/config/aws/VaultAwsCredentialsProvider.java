@@ -0,0 +1,160 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.vault.config.aws;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.AwsCredentials;
+import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
+import software.amazon.awssdk.auth.credentials.AwsSessionCredentials;
+
+import org.springframework.context.ApplicationListener;
+import org.springframework.core.env.PropertyResolver;
+import org.springframework.util.Assert;
+import org.springframework.util.ObjectUtils;
+import org.springframework.util.StringUtils;
+
+/**
+ * AWS SDK {@link AwsCredentialsProvider} serving the current credentials obtained from
+ * Vault's AWS secret backend. AWS SDK clients using this provider pick up rotated STS
+ * credentials without rebuilding the client.
+ * <p>
+ * STS credentials are requested as rotating lease. The
+ * {@link org.springframework.vault.core.lease.SecretLeaseContainer} obtains the next
+ * credentials in the background before the current ones expire (see
+ * {@code spring.cloud.vault.config.lifecycle.expiry-threshold}) and publishes
+ * {@link AwsCredentialsRotatedEvent}. {@link #resolveCredentials()} therefore never
+ * calls Vault and does not block SDK request threads. Initial credentials are resolved
+ * from the properties configured through {@link VaultAwsProperties}.
+ * <p>
+ * Only STS credentials are rotated. {@link AwsCredentialType#IAM_USER IAM user}
+ * credentials are not rotated and no {@link AwsCredentialsRotatedEvent} is published
+ * for them. The provider therefore does not cache IAM user credentials but resolves
+ * them from the properties on each call so that it serves the current credentials,
+ * for example after refreshing the Vault property source.
+ *
+ * @author Mark Paluch
+ * @since 5.0.3
+ * @see VaultAwsProperties#getTtl()
+ */
+public class VaultAwsCredentialsProvider
+		implements AwsCredentialsProvider, ApplicationListener<AwsCredentialsRotatedEvent> {
+
+	private static final String PROVIDER_NAME = "VaultAwsCredentialsProvider";
+
+	private final PropertyResolver propertyResolver;
+
+	private final VaultAwsProperties properties;
+
+	private final AtomicReference<AwsCredentials> credentials = new AtomicReference<>();
+
+	/**
+	 * Create a new {@link VaultAwsCredentialsProvider}.
+	 * @param propertyResolver the property resolver, typically the application
+	 * {@link org.springframework.core.env.Environment}.
+	 * @param properties the AWS properties that determine the credential property names.
+	 */
+	public VaultAwsCredentialsProvider(PropertyResolver propertyResolver, VaultAwsProperties properties) {
+
+		Assert.notNull(propertyResolver, "PropertyResolver must not be null");
+		Assert.notNull(properties, "VaultAwsProperties must not be null");
+
+		this.propertyResolver = propertyResolver;
+		this.properties = properties;
+	}
+
+	@Override
+	public AwsCredentials resolveCredentials() {
+
+		if (this.properties.getCredentialType() == AwsCredentialType.IAM_USER) {
+			return fromProperties();
+		}
+
+		AwsCredentials credentials = this.credentials.get();
+
+		if (credentials != null) {
+			return credentials;
+		}
+
+		// do not overwrite credentials that were rotated in the meantime
+		this.credentials.compareAndSet(null, fromProperties());
+		return this.credentials.get();
+	}
+
+	@Override
+	public void onApplicationEvent(AwsCredentialsRotatedEvent event) {
+
+		VaultAwsProperties rotated = event.getProperties();
+
+		if (!ObjectUtils.nullSafeEquals(this.properties.getBackend(), rotated.getBackend())
+				|| !ObjectUtils.nullSafeEquals(this.properties.getRole(), rotated.getRole())) {
+			return;
+		}
+
+		if (!StringUtils.hasText(event.getSessionToken())) {
+			this.credentials.set(basic(event.getAccessKey(), event.getSecretKey()));
+			return;
+		}
+
+		this.credentials.set(AwsSessionCredentials.builder()
+			.accessKeyId(event.getAccessKey())
+			.secretAccessKey(event.getSecretKey())
+			.sessionToken(event.getSessionToken())
+			.expirationTime(event.getExpiration())
+			.providerName(PROVIDER_NAME)
+			.build());
+	}
+
+	private AwsCredentials fromProperties() {
+
+		String accessKey = this.propertyResolver.getRequiredProperty(this.properties.getAccessKeyProperty());
+		String secretKey = this.propertyResolver.getRequiredProperty(this.properties.getSecretKeyProperty());
+
+		if (this.properties.getCredentialType() == AwsCredentialType.IAM_USER) {
+			return basic(accessKey, secretKey);
+		}
+
+		String sessionToken = this.propertyResolver.getProperty(this.properties.getSessionTokenKeyProperty());
+
+		if (!StringUtils.hasText(sessionToken)) {
+			return basic(accessKey, secretKey);
+		}
+
+		return AwsSessionCredentials.builder()
+			.accessKeyId(accessKey)
+			.secretAccessKey(secretKey)
+			.sessionToken(sessionToken)
+			.providerName(PROVIDER_NAME)
+			.build();
+	}
+
+	private static AwsCredentials basic(String accessKey, String secretKey) {
+		return AwsBasicCredentials.builder()
+			.accessKeyId(accessKey)
+			.secretAccessKey(secretKey)
+			.providerName(PROVIDER_NAME)
+			.build();
+	}
+
+	@Override
+	public String toString() {
+		return "%s[backend=%s, role=%s]".formatted(getClass().getSimpleName(), this.properties.getBackend(),
+				this.properties.getRole());
+	}
+
+}
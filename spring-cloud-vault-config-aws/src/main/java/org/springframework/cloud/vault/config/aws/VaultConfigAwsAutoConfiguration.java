@@ -0,0 +1,54 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.vault.config.aws;
+
+import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
+
+import org.springframework.boot.autoconfigure.AutoConfigureAfter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cloud.vault.config.VaultAutoConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+/**
+ * {@link org.springframework.boot.autoconfigure.EnableAutoConfiguration
+ * Auto-configuration} exposing Vault-issued AWS credentials as AWS SDK
+ * {@link AwsCredentialsProvider}.
+ *
+ * @author Mark Paluch
+ * @since 5.0.3
+ * @see VaultAwsCredentialsProvider
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(name = "spring.cloud.vault.enabled", matchIfMissing = true)
+@ConditionalOnClass(AwsCredentialsProvider.class)
+@AutoConfigureAfter(VaultAutoConfiguration.class)
+@EnableConfigurationProperties(VaultAwsProperties.class)
+public class VaultConfigAwsAutoConfiguration {
+
+	@Bean
+	@ConditionalOnMissingBean(AwsCredentialsProvider.class)
+	@ConditionalOnProperty(name = "spring.cloud.vault.aws.enabled")
+	VaultAwsCredentialsProvider vaultAwsCredentialsProvider(Environment environment, VaultAwsProperties properties) {
+		return new VaultAwsCredentialsProvider(environment, properties);
+	}
+
+}
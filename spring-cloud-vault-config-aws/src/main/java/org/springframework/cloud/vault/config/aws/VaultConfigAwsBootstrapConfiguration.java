@@ -16,10 +16,14 @@
 
 package org.springframework.cloud.vault.config.aws;
 
+import java.time.Instant;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.StringJoiner;
 
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.cloud.vault.config.LeasingSecretBackendMetadata;
@@ -27,11 +31,18 @@ import org.springframework.cloud.vault.config.PropertyNameTransformer;
 import org.springframework.cloud.vault.config.SecretBackendMetadata;
 import org.springframework.cloud.vault.config.SecretBackendMetadataFactory;
 import org.springframework.cloud.vault.config.VaultSecretBackendDescriptor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.ApplicationEventPublisherAware;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.util.StringUtils;
+import org.springframework.vault.core.lease.SecretLeaseContainer;
+import org.springframework.vault.core.lease.domain.Lease;
+import org.springframework.vault.core.lease.domain.RequestedSecret;
 import org.springframework.vault.core.lease.domain.RequestedSecret.Mode;
+import org.springframework.vault.core.lease.event.SecretLeaseCreatedEvent;
 import org.springframework.vault.core.util.PropertyTransformer;
 
 /**
@@ -97,17 +108,36 @@ public class VaultConfigAwsBootstrapConfiguration {
 			return backendDescriptor instanceof VaultAwsProperties;
 		}
 
-		private static class AwsStsLeasingSecretBackendMetadata implements LeasingSecretBackendMetadata {
+		/**
+		 * {@link LeasingSecretBackendMetadata} rotating AWS STS credentials. Publishes
+		 * {@link AwsCredentialsRotatedEvent} when the {@link SecretLeaseContainer}
+		 * obtained new credentials.
+		 */
+		private static class AwsStsLeasingSecretBackendMetadata
+				implements LeasingSecretBackendMetadata, ApplicationEventPublisherAware {
+
+			private static final Log log = LogFactory.getLog(AwsStsLeasingSecretBackendMetadata.class);
 
 			private final VaultAwsProperties properties;
 
 			private final PropertyNameTransformer transformer;
 
+			@Nullable
+			private ApplicationEventPublisher eventPublisher;
+
+			@Nullable
+			private volatile String accessKey;
+
 			AwsStsLeasingSecretBackendMetadata(VaultAwsProperties properties, PropertyNameTransformer transformer) {
 				this.properties = properties;
 				this.transformer = transformer;
 			}
 
+			@Override
+			public void setApplicationEventPublisher(ApplicationEventPublisher applicationEventPublisher) {
+				this.eventPublisher = applicationEventPublisher;
+			}
+
 			@Override
 			public String getName() {
 				return String.format("%s with Role %s", this.properties.getBackend(), this.properties.getRole());
@@ -159,6 +189,52 @@ public class VaultConfigAwsBootstrapConfiguration {
 				return Mode.ROTATE;
 			}
 
+			@Override
+			public void beforeRegistration(RequestedSecret secret, SecretLeaseContainer container) {
+
+				// registered before the initial request to capture the initial access key
+				container.addLeaseListener(leaseEvent -> {
+
+					if (leaseEvent.getSource() == secret && leaseEvent instanceof SecretLeaseCreatedEvent created) {
+						onCredentials(created.getSecrets(), created.getLease());
+					}
+				});
+			}
+
+			private void onCredentials(Map<String, Object> secrets, Lease lease) {
+
+				Object accessKey = secrets.get("access_key");
+				Object secretKey = secrets.get("secret_key");
+				Object sessionToken = secrets.get("security_token");
+
+				if (accessKey == null || secretKey == null) {
+					return;
+				}
+
+				String previousAccessKey = this.accessKey;
+				this.accessKey = accessKey.toString();
+
+				if (previousAccessKey == null || previousAccessKey.equals(this.accessKey)) {
+					return;
+				}
+
+				if (this.eventPublisher == null) {
+					log.warn("Cannot publish rotated credentials for %s: No ApplicationEventPublisher available"
+						.formatted(getName()));
+					return;
+				}
+
+				if (log.isDebugEnabled()) {
+					log.debug("Publishing AwsCredentialsRotatedEvent for %s".formatted(getName()));
+				}
+
+				Instant expiration = lease.getLeaseDuration().isZero() ? null
+						: Instant.now().plus(lease.getLeaseDuration());
+
+				this.eventPublisher.publishEvent(new AwsCredentialsRotatedEvent(this, this.properties, this.accessKey,
+						secretKey.toString(), sessionToken != null ? sessionToken.toString() : null, expiration));
+			}
+
 		}
 
 		private static class AwsLeasingSecretBackendMetadata implements SecretBackendMetadata {
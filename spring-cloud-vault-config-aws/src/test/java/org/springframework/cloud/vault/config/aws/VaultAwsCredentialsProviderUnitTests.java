@@ -0,0 +1,130 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.vault.config.aws;
+
+import java.time.Instant;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.auth.credentials.AwsCredentials;
+import software.amazon.awssdk.auth.credentials.AwsSessionCredentials;
+
+import org.springframework.mock.env.MockEnvironment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+/**
+ * Unit tests for {@link VaultAwsCredentialsProvider}.
+ *
+ * @author Mark Paluch
+ */
+public class VaultAwsCredentialsProviderUnitTests {
+
+	MockEnvironment environment = new MockEnvironment().withProperty("cloud.aws.credentials.accessKey", "key-1")
+		.withProperty("cloud.aws.credentials.secretKey", "secret-1")
+		.withProperty("cloud.aws.credentials.sessionToken", "token-1");
+
+	@Test
+	void shouldResolveIamUserCredentialsFromProperties() {
+
+		VaultAwsProperties properties = new VaultAwsProperties();
+		properties.setRole("readonly");
+
+		AwsCredentials credentials = new VaultAwsCredentialsProvider(this.environment, properties)
+			.resolveCredentials();
+
+		assertThat(credentials).isNotInstanceOf(AwsSessionCredentials.class);
+		assertThat(credentials.accessKeyId()).isEqualTo("key-1");
+		assertThat(credentials.secretAccessKey()).isEqualTo("secret-1");
+	}
+
+	@Test
+	void shouldResolveCurrentIamUserCredentials() {
+
+		VaultAwsProperties properties = new VaultAwsProperties();
+		properties.setRole("readonly");
+
+		VaultAwsCredentialsProvider provider = new VaultAwsCredentialsProvider(this.environment, properties);
+		provider.resolveCredentials();
+
+		this.environment.setProperty("cloud.aws.credentials.accessKey", "key-2");
+
+		assertThat(provider.resolveCredentials().accessKeyId()).isEqualTo("key-2");
+	}
+
+	@Test
+	void shouldResolveStsCredentialsFromProperties() {
+
+		VaultAwsCredentialsProvider provider = new VaultAwsCredentialsProvider(this.environment, stsProperties());
+
+		assertThat(provider.resolveCredentials()).isInstanceOfSatisfying(AwsSessionCredentials.class,
+				credentials -> {
+					assertThat(credentials.accessKeyId()).isEqualTo("key-1");
+					assertThat(credentials.sessionToken()).isEqualTo("token-1");
+				});
+	}
+
+	@Test
+	void shouldServeRotatedCredentials() {
+
+		VaultAwsProperties properties = stsProperties();
+		VaultAwsCredentialsProvider provider = new VaultAwsCredentialsProvider(this.environment, properties);
+		provider.resolveCredentials();
+
+		Instant expiration = Instant.now().plusSeconds(3600);
+		provider.onApplicationEvent(
+				new AwsCredentialsRotatedEvent(this, properties, "key-2", "secret-2", "token-2", expiration));
+
+		assertThat(provider.resolveCredentials()).isInstanceOfSatisfying(AwsSessionCredentials.class,
+				credentials -> {
+					assertThat(credentials.accessKeyId()).isEqualTo("key-2");
+					assertThat(credentials.secretAccessKey()).isEqualTo("secret-2");
+					assertThat(credentials.sessionToken()).isEqualTo("token-2");
+					assertThat(credentials.expirationTime()).contains(expiration);
+				});
+	}
+
+	@Test
+	void shouldIgnoreCredentialsOfOtherRole() {
+
+		VaultAwsCredentialsProvider provider = new VaultAwsCredentialsProvider(this.environment, stsProperties());
+
+		VaultAwsProperties other = stsProperties();
+		other.setRole("other");
+		provider.onApplicationEvent(new AwsCredentialsRotatedEvent(this, other, "key-2", "secret-2", "token-2", null));
+
+		assertThat(provider.resolveCredentials().accessKeyId()).isEqualTo("key-1");
+	}
+
+	@Test
+	void shouldRejectMissingCredentials() {
+
+		VaultAwsCredentialsProvider provider = new VaultAwsCredentialsProvider(new MockEnvironment(),
+				stsProperties());
+
+		assertThatIllegalStateException().isThrownBy(provider::resolveCredentials);
+	}
+
+	private static VaultAwsProperties stsProperties() {
+
+		VaultAwsProperties properties = new VaultAwsProperties();
+		properties.setCredentialType(AwsCredentialType.ASSUMED_ROLE);
+		properties.setRole("readonly");
+		return properties;
+	}
+
+}
@@ -17,13 +17,28 @@
 package org.springframework.cloud.vault.config.aws;
 
 import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
 
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 
+import org.springframework.cloud.vault.config.LeasingSecretBackendMetadata;
 import org.springframework.cloud.vault.config.SecretBackendMetadata;
 import org.springframework.cloud.vault.config.SecretBackendMetadataFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.ApplicationEventPublisherAware;
+import org.springframework.vault.core.lease.SecretLeaseContainer;
+import org.springframework.vault.core.lease.domain.Lease;
+import org.springframework.vault.core.lease.domain.RequestedSecret;
+import org.springframework.vault.core.lease.event.LeaseListener;
+import org.springframework.vault.core.lease.event.SecretLeaseCreatedEvent;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 /**
  * Unit tests for {@link VaultConfigAwsBootstrapConfiguration}.
@@ -81,4 +96,41 @@ public class VaultConfigAwsBootstrapConfigurationUnitTests {
 		assertThat(metadata.getVariables()).containsEntry("backend", "aws").containsEntry("key", "sts/readonly");
 	}
 
+	@Test
+	void shouldPublishRotatedStsCredentials() {
+
+		VaultAwsProperties properties = new VaultAwsProperties();
+		properties.setCredentialType(AwsCredentialType.ASSUMED_ROLE);
+		properties.setRole("readonly");
+
+		SecretBackendMetadata metadata = new VaultConfigAwsBootstrapConfiguration().awsSecretBackendMetadataFactory()
+			.createMetadata(properties);
+		ApplicationEventPublisher publisher = mock(ApplicationEventPublisher.class);
+		((ApplicationEventPublisherAware) metadata).setApplicationEventPublisher(publisher);
+
+		RequestedSecret secret = RequestedSecret.rotating(metadata.getPath());
+		SecretLeaseContainer container = mock(SecretLeaseContainer.class);
+		((LeasingSecretBackendMetadata) metadata).beforeRegistration(secret, container);
+
+		ArgumentCaptor<LeaseListener> listener = ArgumentCaptor.forClass(LeaseListener.class);
+		verify(container).addLeaseListener(listener.capture());
+
+		listener.getValue()
+			.onLeaseEvent(new SecretLeaseCreatedEvent(secret, Lease.of("1", Duration.ofHours(1), false),
+					Map.of("access_key", "key-1", "secret_key", "secret-1", "security_token", "token-1")));
+		verify(publisher, never()).publishEvent(any(Object.class));
+
+		listener.getValue()
+			.onLeaseEvent(new SecretLeaseCreatedEvent(secret, Lease.of("2", Duration.ofHours(1), false),
+					Map.of("access_key", "key-2", "secret_key", "secret-2", "security_token", "token-2")));
+
+		ArgumentCaptor<AwsCredentialsRotatedEvent> event = ArgumentCaptor.forClass(AwsCredentialsRotatedEvent.class);
+		verify(publisher).publishEvent(event.capture());
+
+		assertThat(event.getValue().getAccessKey()).isEqualTo("key-2");
+		assertThat(event.getValue().getSecretKey()).isEqualTo("secret-2");
+		assertThat(event.getValue().getSessionToken()).isEqualTo("token-2");
+		assertThat(event.getValue().getExpiration()).isAfter(Instant.now().plus(Duration.ofMinutes(59)));
+	}
+
 }
@@ -26,6 +26,7 @@ import org.springframework.cloud.vault.config.LeasingSecretBackendMetadata;
 import org.springframework.context.ApplicationEvent;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.ApplicationEventPublisherAware;
+import org.springframework.lang.Nullable;
 import org.springframework.vault.core.lease.SecretLeaseContainer;
 import org.springframework.vault.core.lease.domain.RequestedSecret;
 import org.springframework.vault.core.lease.event.SecretLeaseCreatedEvent;
@@ -36,6 +37,8 @@ import org.springframework.vault.core.util.PropertyTransformer;
  */
 class ConsulBackendMetadata implements LeasingSecretBackendMetadata, ApplicationEventPublisherAware {
 
+	private static final String DEFAULT_TOKEN_PROPERTY = "spring.cloud.consul.token";
+
 	private final Log log = LogFactory.getLog(getClass());
 
 	private final VaultConsulProperties properties;
@@ -91,21 +94,58 @@ class ConsulBackendMetadata implements LeasingSecretBackendMetadata, Application
 	public void afterRegistration(RequestedSecret secret, SecretLeaseContainer container) {
 		container.addLeaseListener(leaseEvent -> {
 
-			if (leaseEvent.getSource() == secret && leaseEvent instanceof SecretLeaseCreatedEvent) {
+			if (leaseEvent.getSource() == secret && leaseEvent instanceof SecretLeaseCreatedEvent created) {
 				if (this.log.isDebugEnabled()) {
 					this.log.debug("Publishing a RebindConsulEvent");
 				}
-				this.eventPublisher.publishEvent(new RebindConsulEvent(this));
+				this.eventPublisher.publishEvent(new RebindConsulEvent(this, getToken(created)));
 			}
 		});
 
 		// no need to rebind here since the transformer creats all appropriate properties.
 	}
 
+	/**
+	 * Obtain the ACL token to apply directly to Consul properties. The token is only
+	 * applied directly if it is bound to {@code spring.cloud.consul.token}, the property
+	 * that configures the Consul properties beans. Tokens bound to a custom property
+	 * require rebinding so that placeholders referring to the property are resolved.
+	 * @param event the lease event.
+	 * @return the ACL token or {@literal null} if properties require rebinding.
+	 */
+	@Nullable
+	private String getToken(SecretLeaseCreatedEvent event) {
+
+		if (!DEFAULT_TOKEN_PROPERTY.equals(this.properties.getTokenProperty())) {
+			return null;
+		}
+
+		Object token = event.getSecrets().get("token");
+		return token != null ? token.toString() : null;
+	}
+
 	public static class RebindConsulEvent extends ApplicationEvent {
 
+		@Nullable
+		private final String token;
+
 		RebindConsulEvent(Object source) {
+			this(source, null);
+		}
+
+		RebindConsulEvent(Object source, @Nullable String token) {
 			super(source);
+			this.token = token;
+		}
+
+		/**
+		 * @return the obtained ACL token, can be {@literal null} if the token is not
+		 * known or not bound to {@code spring.cloud.consul.token}.
+		 * @since 5.0.3
+		 */
+		@Nullable
+		public String getToken() {
+			return this.token;
 		}
 
 	}
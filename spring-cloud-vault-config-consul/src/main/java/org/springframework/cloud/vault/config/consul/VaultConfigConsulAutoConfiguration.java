@@ -16,17 +16,27 @@
 
 package org.springframework.cloud.vault.config.consul;
 
+import java.util.Map;
+
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 
+import org.springframework.beans.factory.BeanFactoryUtils;
+import org.springframework.beans.factory.ListableBeanFactory;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.cloud.consul.config.ConsulConfigProperties;
+import org.springframework.cloud.consul.discovery.ConsulDiscoveryProperties;
 import org.springframework.cloud.context.properties.ConfigurationPropertiesRebinder;
-import org.springframework.cloud.vault.config.SecretBackendMetadataFactory;
 import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationContextAware;
 import org.springframework.context.ApplicationListener;
 import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.StringUtils;
 
 /**
  * Bootstrap configuration providing support for the Consul secret backend.
@@ -50,29 +60,102 @@ public class VaultConfigConsulAutoConfiguration {
 	}
 
 	/**
-	 * {@link SecretBackendMetadataFactory} for Consul integration using
-	 * {@link VaultConsulProperties}.
+	 * {@link ApplicationListener} applying an ACL token obtained from Vault to Consul
+	 * properties. Consul clients read the ACL token from the properties with each
+	 * request so the token is set directly on the
+	 * {@code ConsulDiscoveryProperties}/{@code ConsulConfigProperties} beans. Properties
+	 * are rebound through {@link ConfigurationPropertiesRebinder} if the token is not
+	 * known, is bound to a custom token property, or the properties beans cannot be
+	 * found. An explicitly configured {@code acl-token} of Consul Discovery or Consul
+	 * Config takes precedence and is retained.
 	 */
 	public static class ConsulSecretRebindListener
-			implements ApplicationListener<ConsulBackendMetadata.RebindConsulEvent> {
+			implements ApplicationListener<ConsulBackendMetadata.RebindConsulEvent>, ApplicationContextAware {
+
+		private static final boolean CONSUL_CONFIG_PRESENT = ClassUtils.isPresent(
+				"org.springframework.cloud.consul.config.ConsulConfigProperties",
+				ConsulSecretRebindListener.class.getClassLoader());
+
+		private static final boolean CONSUL_DISCOVERY_PRESENT = ClassUtils.isPresent(
+				"org.springframework.cloud.consul.discovery.ConsulDiscoveryProperties",
+				ConsulSecretRebindListener.class.getClassLoader());
+
+		static final String DISCOVERY_ACL_TOKEN_PROPERTY = "spring.cloud.consul.discovery.acl-token";
+
+		static final String CONFIG_ACL_TOKEN_PROPERTY = "spring.cloud.consul.config.acl-token";
 
 		private final Log log = LogFactory.getLog(getClass());
 
 		private final ConfigurationPropertiesRebinder rebinder;
 
+		private ListableBeanFactory beanFactory;
+
+		private Environment environment;
+
 		public ConsulSecretRebindListener(ConfigurationPropertiesRebinder rebinder,
 				ConfigurableApplicationContext context) {
 			this.rebinder = rebinder;
+			this.beanFactory = context;
+			this.environment = context.getEnvironment();
 			context.addApplicationListener(this);
 		}
 
+		@Override
+		public void setApplicationContext(ApplicationContext applicationContext) {
+			// the context containing this listener also sees beans of a parent context
+			this.beanFactory = applicationContext;
+			this.environment = applicationContext.getEnvironment();
+		}
+
 		@Override
 		public void onApplicationEvent(ConsulBackendMetadata.RebindConsulEvent event) {
 			if (this.log.isDebugEnabled()) {
 				this.log.debug("received RebindConsulEvent");
 			}
-			rebind("consulDiscoveryProperties");
-			rebind("consulConfigProperties");
+
+			String token = event.getToken();
+
+			if (token != null && isConfigured(DISCOVERY_ACL_TOKEN_PROPERTY)) {
+				retained("consulDiscoveryProperties", DISCOVERY_ACL_TOKEN_PROPERTY);
+			}
+			else if (token == null || !CONSUL_DISCOVERY_PRESENT
+					|| !DiscoveryTokenUpdater.setToken(this.beanFactory, token)) {
+				rebind("consulDiscoveryProperties");
+			}
+			else {
+				updated("consulDiscoveryProperties");
+			}
+
+			if (token != null && isConfigured(CONFIG_ACL_TOKEN_PROPERTY)) {
+				retained("consulConfigProperties", CONFIG_ACL_TOKEN_PROPERTY);
+			}
+			else if (token == null || !CONSUL_CONFIG_PRESENT
+					|| !ConfigTokenUpdater.setToken(this.beanFactory, token)) {
+				rebind("consulConfigProperties");
+			}
+			else {
+				updated("consulConfigProperties");
+			}
+		}
+
+		private boolean isConfigured(String property) {
+			return Binder.get(this.environment).bind(property, String.class).map(StringUtils::hasText).orElse(false);
+		}
+
+		private void retained(String bean, String property) {
+
+			if (this.log.isInfoEnabled()) {
+				this.log.info(String.format(
+						"Retaining ACL token of Consul bean '%s' configured through '%s', ignoring token from vault",
+						bean, property));
+			}
+		}
+
+		private void updated(String bean) {
+
+			if (this.log.isDebugEnabled()) {
+				this.log.debug(String.format("Updated ACL token of Consul bean '%s' with token from vault", bean));
+			}
 		}
 
 		private void rebind(String bean) {
@@ -87,4 +170,38 @@ public class VaultConfigConsulAutoConfiguration {
 
 	}
 
+	/**
+	 * Sets the ACL token on {@link ConsulDiscoveryProperties}. Isolated to not require
+	 * Spring Cloud Consul Discovery on the class path.
+	 */
+	static class DiscoveryTokenUpdater {
+
+		static boolean setToken(ListableBeanFactory beanFactory, String token) {
+
+			Map<String, ConsulDiscoveryProperties> properties = BeanFactoryUtils
+				.beansOfTypeIncludingAncestors(beanFactory, ConsulDiscoveryProperties.class, false, false);
+			properties.values().forEach(it -> it.setAclToken(token));
+
+			return !properties.isEmpty();
+		}
+
+	}
+
+	/**
+	 * Sets the ACL token on {@link ConsulConfigProperties}. Isolated to not require Spring
+	 * Cloud Consul Config on the class path.
+	 */
+	static class ConfigTokenUpdater {
+
+		static boolean setToken(ListableBeanFactory beanFactory, String token) {
+
+			Map<String, ConsulConfigProperties> properties = BeanFactoryUtils
+				.beansOfTypeIncludingAncestors(beanFactory, ConsulConfigProperties.class, false, false);
+			properties.values().forEach(it -> it.setAclToken(token));
+
+			return !properties.isEmpty();
+		}
+
+	}
+
 }
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.vault.config.consul;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import org.springframework.cloud.vault.config.consul.ConsulBackendMetadata.RebindConsulEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.vault.core.lease.SecretLeaseContainer;
+import org.springframework.vault.core.lease.domain.Lease;
+import org.springframework.vault.core.lease.domain.RequestedSecret;
+import org.springframework.vault.core.lease.event.LeaseListener;
+import org.springframework.vault.core.lease.event.SecretLeaseCreatedEvent;
+import org.springframework.vault.core.util.PropertyTransformers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Unit tests for {@link ConsulBackendMetadata}.
+ *
+ * @author Mark Paluch
+ */
+class ConsulBackendMetadataUnitTests {
+
+	ApplicationEventPublisher publisher = mock(ApplicationEventPublisher.class);
+
+	@Test
+	void shouldPublishTokenForDefaultTokenProperty() {
+
+		RebindConsulEvent event = rotate(new VaultConsulProperties());
+
+		assertThat(event.getToken()).isEqualTo("rotated-token");
+	}
+
+	@Test
+	void shouldRequireRebindForCustomTokenProperty() {
+
+		VaultConsulProperties properties = new VaultConsulProperties();
+		properties.setTokenProperty("consul.acl.token");
+
+		RebindConsulEvent event = rotate(properties);
+
+		assertThat(event.getToken()).isNull();
+	}
+
+	private RebindConsulEvent rotate(VaultConsulProperties properties) {
+
+		properties.setRole("my-role");
+		ConsulBackendMetadata metadata = new ConsulBackendMetadata(properties, PropertyTransformers.noop(),
+				this.publisher);
+
+		RequestedSecret secret = RequestedSecret.rotating(metadata.getPath());
+		SecretLeaseContainer container = mock(SecretLeaseContainer.class);
+		metadata.afterRegistration(secret, container);
+
+		ArgumentCaptor<LeaseListener> listener = ArgumentCaptor.forClass(LeaseListener.class);
+		verify(container).addLeaseListener(listener.capture());
+
+		listener.getValue()
+			.onLeaseEvent(new SecretLeaseCreatedEvent(secret, Lease.none(), Map.of("token", "rotated-token")));
+
+		ArgumentCaptor<RebindConsulEvent> event = ArgumentCaptor.forClass(RebindConsulEvent.class);
+		verify(this.publisher).publishEvent(event.capture());
+
+		return event.getValue();
+	}
+
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.vault.config.consul;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.cloud.commons.util.InetUtils;
+import org.springframework.cloud.commons.util.InetUtilsProperties;
+import org.springframework.cloud.consul.config.ConsulConfigProperties;
+import org.springframework.cloud.consul.discovery.ConsulDiscoveryProperties;
+import org.springframework.cloud.context.properties.ConfigurationPropertiesRebinder;
+import org.springframework.cloud.vault.config.consul.ConsulBackendMetadata.RebindConsulEvent;
+import org.springframework.cloud.vault.config.consul.VaultConfigConsulAutoConfiguration.ConsulSecretRebindListener;
+import org.springframework.context.support.StaticApplicationContext;
+import org.springframework.core.env.MapPropertySource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+/**
+ * Unit tests for {@link ConsulSecretRebindListener}.
+ *
+ * @author Mark Paluch
+ */
+public class ConsulSecretRebindListenerUnitTests {
+
+	ConfigurationPropertiesRebinder rebinder = mock(ConfigurationPropertiesRebinder.class);
+
+	StaticApplicationContext context = new StaticApplicationContext();
+
+	@AfterEach
+	void tearDown() {
+		this.context.close();
+	}
+
+	@Test
+	void shouldApplyTokenToConsulProperties() {
+
+		ConsulDiscoveryProperties discoveryProperties = new ConsulDiscoveryProperties(
+				new InetUtils(new InetUtilsProperties()));
+		ConsulConfigProperties configProperties = new ConsulConfigProperties();
+		this.context.getBeanFactory().registerSingleton("consulDiscoveryProperties", discoveryProperties);
+		this.context.getBeanFactory().registerSingleton("consulConfigProperties", configProperties);
+		this.context.refresh();
+
+		ConsulSecretRebindListener listener = new ConsulSecretRebindListener(this.rebinder, this.context);
+		listener.onApplicationEvent(new RebindConsulEvent(this, "rotated-token"));
+
+		assertThat(discoveryProperties.getAclToken()).isEqualTo("rotated-token");
+		assertThat(configProperties.getAclToken()).isEqualTo("rotated-token");
+		verifyNoInteractions(this.rebinder);
+	}
+
+	@Test
+	void shouldRetainConfiguredAclToken() {
+
+		ConsulDiscoveryProperties discoveryProperties = new ConsulDiscoveryProperties(
+				new InetUtils(new InetUtilsProperties()));
+		discoveryProperties.setAclToken("configured-token");
+		ConsulConfigProperties configProperties = new ConsulConfigProperties();
+		this.context.getBeanFactory().registerSingleton("consulDiscoveryProperties", discoveryProperties);
+		this.context.getBeanFactory().registerSingleton("consulConfigProperties", configProperties);
+		this.context.getEnvironment()
+			.getPropertySources()
+			.addFirst(new MapPropertySource("test",
+					Map.of(ConsulSecretRebindListener.DISCOVERY_ACL_TOKEN_PROPERTY, "configured-token")));
+		this.context.refresh();
+
+		ConsulSecretRebindListener listener = new ConsulSecretRebindListener(this.rebinder, this.context);
+		listener.onApplicationEvent(new RebindConsulEvent(this, "rotated-token"));
+
+		assertThat(discoveryProperties.getAclToken()).isEqualTo("configured-token");
+		assertThat(configProperties.getAclToken()).isEqualTo("rotated-token");
+		verifyNoInteractions(this.rebinder);
+	}
+
+	@Test
+	void shouldRebindWithoutToken() {
+
+		this.context.refresh();
+
+		ConsulSecretRebindListener listener = new ConsulSecretRebindListener(this.rebinder, this.context);
+		listener.onApplicationEvent(new RebindConsulEvent(this));
+
+		verify(this.rebinder).rebind("consulDiscoveryProperties");
+		verify(this.rebinder).rebind("consulConfigProperties");
+	}
+
+	@Test
+	void shouldRebindIfPropertiesAreAbsent() {
+
+		this.context.getBeanFactory()
+			.registerSingleton("consulDiscoveryProperties",
+					new ConsulDiscoveryProperties(new InetUtils(new InetUtilsProperties())));
+		this.context.refresh();
+
+		ConsulSecretRebindListener listener = new ConsulSecretRebindListener(this.rebinder, this.context);
+		listener.onApplicationEvent(new RebindConsulEvent(this, "rotated-token"));
+
+		verify(this.rebinder).rebind("consulConfigProperties");
+	}
+
+}
@@ -0,0 +1,190 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.vault.config.databases;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.cloud.vault.config.LeasingSecretBackendMetadata;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.ApplicationEventPublisherAware;
+import org.springframework.lang.Nullable;
+import org.springframework.vault.core.lease.SecretLeaseContainer;
+import org.springframework.vault.core.lease.domain.RequestedSecret;
+import org.springframework.vault.core.lease.event.SecretLeaseCreatedEvent;
+import org.springframework.vault.core.util.PropertyTransformer;
+
+/**
+ * {@link LeasingSecretBackendMetadata} for database credentials. Publishes
+ * {@link DatabaseCredentialsRotatedEvent} when rotation is enabled and the
+ * {@link SecretLeaseContainer} obtained new credentials.
+ * <p>
+ * Static role credentials are requested as rotating secret so that the
+ * {@link SecretLeaseContainer} requests them again after Vault rotated the password.
+ * A changed password is published as {@link DatabaseCredentialsRotatedEvent} retaining
+ * the username.
+ *
+ * @author Mark Paluch
+ * @since 5.0.3
+ */
+class DatabaseBackendMetadata implements LeasingSecretBackendMetadata, ApplicationEventPublisherAware {
+
+	private static final Log log = LogFactory.getLog(DatabaseBackendMetadata.class);
+
+	private final DatabaseSecretProperties properties;
+
+	private final PropertyTransformer transformer;
+
+	private final String credPath;
+
+	@Nullable
+	private ApplicationEventPublisher eventPublisher;
+
+	@Nullable
+	private volatile String username;
+
+	@Nullable
+	private volatile String password;
+
+	DatabaseBackendMetadata(DatabaseSecretProperties properties, PropertyTransformer transformer) {
+		this.properties = properties;
+		this.transformer = transformer;
+		this.credPath = properties.isStaticRole() ? "static-creds" : "creds";
+	}
+
+	/**
+	 * Check whether rotation of dynamic credentials is enabled.
+	 * @param properties the database secret properties.
+	 * @return {@literal true} if credentials are rotated.
+	 */
+	static boolean isRotationEnabled(DatabaseSecretProperties properties) {
+		return !properties.isStaticRole() && properties.isRotationEnabled();
+	}
+
+	/**
+	 * Check whether credentials are requested as rotating secret, either as static role
+	 * or with rotation of dynamic credentials enabled.
+	 * @param properties the database secret properties.
+	 * @return {@literal true} if credentials are requested as rotating secret.
+	 */
+	static boolean isRotating(DatabaseSecretProperties properties) {
+		return properties.isStaticRole() || isRotationEnabled(properties);
+	}
+
+	/**
+	 * Determine the time window across which pooled connections using previous
+	 * credentials are evicted after rotation.
+	 * @param properties the database secret properties.
+	 * @return the eviction window. {@link Duration#ZERO} to evict connections at once.
+	 */
+	static Duration getEvictionWindow(DatabaseSecretProperties properties) {
+
+		if (properties instanceof VaultDatabaseProperties database) {
+			return database.getRotation().getEvictionWindow();
+		}
+
+		return Duration.ZERO;
+	}
+
+	@Override
+	public void setApplicationEventPublisher(ApplicationEventPublisher applicationEventPublisher) {
+		this.eventPublisher = applicationEventPublisher;
+	}
+
+	@Override
+	public String getName() {
+		return String.format("%s with Role %s", this.properties.getBackend(), this.properties.getRole());
+	}
+
+	@Override
+	public String getPath() {
+		return String.format("%s/%s/%s", this.properties.getBackend(), this.credPath, this.properties.getRole());
+	}
+
+	@Override
+	public PropertyTransformer getPropertyTransformer() {
+		return this.transformer;
+	}
+
+	@Override
+	public Map<String, String> getVariables() {
+
+		Map<String, String> variables = new HashMap<>();
+		variables.put("backend", this.properties.getBackend());
+		variables.put("key", String.format("%s/%s", this.credPath, this.properties.getRole()));
+		return variables;
+	}
+
+	@Override
+	public RequestedSecret.Mode getLeaseMode() {
+		return isRotating(this.properties) ? RequestedSecret.Mode.ROTATE : RequestedSecret.Mode.RENEW;
+	}
+
+	@Override
+	public void beforeRegistration(RequestedSecret secret, SecretLeaseContainer container) {
+
+		if (!isRotating(this.properties)) {
+			return;
+		}
+
+		// registered before the initial request to capture the initial credentials
+		container.addLeaseListener(leaseEvent -> {
+
+			if (leaseEvent.getSource() == secret && leaseEvent instanceof SecretLeaseCreatedEvent created) {
+				onCredentials(created.getSecrets());
+			}
+		});
+	}
+
+	private void onCredentials(Map<String, Object> secrets) {
+
+		Object username = secrets.get("username");
+		Object password = secrets.get("password");
+
+		if (username == null || password == null) {
+			return;
+		}
+
+		String previousUsername = this.username;
+		String previousPassword = this.password;
+		this.username = username.toString();
+		this.password = password.toString();
+
+		if (previousUsername == null
+				|| (previousUsername.equals(this.username) && this.password.equals(previousPassword))) {
+			return;
+		}
+
+		if (this.eventPublisher == null) {
+			log.warn("Cannot publish rotated credentials for %s: No ApplicationEventPublisher available"
+				.formatted(getName()));
+			return;
+		}
+
+		if (log.isDebugEnabled()) {
+			log.debug("Publishing DatabaseCredentialsRotatedEvent for %s".formatted(getName()));
+		}
+
+		this.eventPublisher.publishEvent(new DatabaseCredentialsRotatedEvent(this, this.properties, previousUsername,
+				this.username, this.password));
+	}
+
+}
@@ -55,4 +55,13 @@ public interface DatabaseSecretProperties extends VaultSecretBackendDescriptor {
 	 */
 	String getPasswordProperty();
 
+	/**
+	 * Whether dynamic credentials are rotated once their lease expires.
+	 * @return {@literal true} if dynamic credentials are rotated.
+	 * @since 5.0.3
+	 */
+	default boolean isRotationEnabled() {
+		return false;
+	}
+
 }
@@ -0,0 +1,277 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.vault.config.databases;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import javax.sql.DataSource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import com.zaxxer.hikari.util.Credentials;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.context.ApplicationListener;
+import org.springframework.lang.Nullable;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.util.StringUtils;
+
+/**
+ * Applies {@link DatabaseCredentialsRotatedEvent rotated credentials} to
+ * {@link HikariDataSource} pools using the previous credentials. Credentials are
+ * updated through {@link com.zaxxer.hikari.HikariConfigMXBean} so that new connections
+ * use the rotated credentials. Connections using the previous credentials are evicted
+ * one by one across the configured
+ * {@link VaultDatabaseProperties.Rotation#getEvictionWindow() eviction window} instead
+ * of draining the pool at once.
+ * <p>
+ * Connections that existed before the rotation are marked by the
+ * {@link DatabaseMetaData#getUserName() user name} an idle connection reports right
+ * before the credentials are updated. This way, the comparison uses the form of the
+ * driver in use (for example {@code user@host} with MySQL). If the pool has no idle
+ * connection at that time, the previous username is used, also accepting a
+ * {@code user@host} form. Each eviction step borrows a single idle connection, evicts it
+ * if it was marked and returns it to the pool right away otherwise. Eviction runs on a
+ * dedicated thread as borrowing a connection may block. Connections that are in use are
+ * retired through the regular pool lifecycle ({@code maxLifetime}). Rotated static role
+ * credentials retain their username: Existing connections remain authenticated and are
+ * not evicted.
+ *
+ * @author Mark Paluch
+ * @since 5.0.3
+ */
+class HikariCredentialRotationListener implements ApplicationListener<DatabaseCredentialsRotatedEvent>, DisposableBean {
+
+	private static final Log log = LogFactory.getLog(HikariCredentialRotationListener.class);
+
+	private final Supplier<List<DataSource>> dataSources;
+
+	private final TaskScheduler taskScheduler;
+
+	@Nullable
+	private final ThreadPoolTaskScheduler ownedScheduler;
+
+	HikariCredentialRotationListener(Supplier<List<DataSource>> dataSources) {
+
+		ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+		scheduler.setPoolSize(1);
+		scheduler.setThreadNamePrefix("vault-hikari-eviction-");
+		scheduler.setDaemon(true);
+		scheduler.initialize();
+
+		this.dataSources = dataSources;
+		this.taskScheduler = scheduler;
+		this.ownedScheduler = scheduler;
+	}
+
+	HikariCredentialRotationListener(Supplier<List<DataSource>> dataSources, TaskScheduler taskScheduler) {
+		this.dataSources = dataSources;
+		this.taskScheduler = taskScheduler;
+		this.ownedScheduler = null;
+	}
+
+	@Override
+	public void onApplicationEvent(DatabaseCredentialsRotatedEvent event) {
+
+		String previousUsername = event.getPreviousUsername();
+
+		for (HikariDataSource dataSource : getDataSources(previousUsername)) {
+
+			HikariPoolMXBean pool = dataSource.getHikariPoolMXBean();
+			boolean evict = pool != null && !previousUsername.equals(event.getUsername());
+
+			// mark connections before new connections use the rotated credentials
+			String staleUsername = evict ? getStaleUsername(dataSource, pool, previousUsername) : previousUsername;
+
+			dataSource.getHikariConfigMXBean().setCredentials(Credentials.of(event.getUsername(), event.getPassword()));
+
+			if (log.isInfoEnabled()) {
+				log.info("Applied rotated credentials for %s to pool %s".formatted(event.getProperties().getRole(),
+						dataSource.getPoolName()));
+			}
+
+			if (evict) {
+				evict(dataSource, pool, staleUsername, DatabaseBackendMetadata.getEvictionWindow(event.getProperties()));
+			}
+		}
+	}
+
+	@Override
+	public void destroy() {
+
+		if (this.ownedScheduler != null) {
+			this.ownedScheduler.destroy();
+		}
+	}
+
+	private List<HikariDataSource> getDataSources(String username) {
+
+		List<HikariDataSource> result = new ArrayList<>();
+
+		for (DataSource dataSource : this.dataSources.get()) {
+
+			HikariDataSource hikari = unwrap(dataSource);
+
+			if (hikari != null && username.equals(hikari.getUsername())) {
+				result.add(hikari);
+			}
+		}
+
+		return result;
+	}
+
+	@Nullable
+	private static HikariDataSource unwrap(DataSource dataSource) {
+
+		if (dataSource instanceof HikariDataSource hikari) {
+			return hikari;
+		}
+
+		try {
+			return dataSource.isWrapperFor(HikariDataSource.class) ? dataSource.unwrap(HikariDataSource.class) : null;
+		}
+		catch (SQLException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Determine the user name that connections using the previous credentials report
+	 * through their {@link DatabaseMetaData}. Must be called before updating the pool
+	 * credentials.
+	 */
+	static String getStaleUsername(HikariDataSource dataSource, HikariPoolMXBean pool, String previousUsername) {
+
+		if (pool.getIdleConnections() == 0) {
+			return previousUsername;
+		}
+
+		try (Connection connection = dataSource.getConnection()) {
+
+			String userName = connection.getMetaData().getUserName();
+			return StringUtils.hasText(userName) ? userName : previousUsername;
+		}
+		catch (SQLException e) {
+			log.debug("Cannot determine user name of pool %s".formatted(dataSource.getPoolName()), e);
+			return previousUsername;
+		}
+	}
+
+	private void evict(HikariDataSource dataSource, HikariPoolMXBean pool, String staleUsername,
+			Duration evictionWindow) {
+
+		int connections = pool.getTotalConnections();
+
+		if (connections == 0) {
+			return;
+		}
+
+		if (evictionWindow.isZero() || evictionWindow.isNegative()) {
+			// connections created after updating the credentials use the rotated ones
+			pool.softEvictConnections();
+			return;
+		}
+
+		AtomicInteger remaining = new AtomicInteger(connections);
+		AtomicReference<ScheduledFuture<?>> schedule = new AtomicReference<>();
+		Duration interval = evictionWindow.dividedBy(connections);
+
+		schedule.set(this.taskScheduler.scheduleWithFixedDelay(() -> {
+
+			if (remaining.getAndDecrement() <= 0 || dataSource.isClosed()) {
+				ScheduledFuture<?> future = schedule.get();
+				if (future != null) {
+					future.cancel(false);
+				}
+				return;
+			}
+
+			evictIdleConnection(dataSource, pool, staleUsername);
+		}, interval));
+	}
+
+	/**
+	 * Evict a single idle connection that was marked with the given user name. A
+	 * connection is not obtained if the pool has no idle connections to avoid waiting for
+	 * or creating connections. A connection using the rotated credentials is returned to
+	 * the pool right away. The pool hands out its oldest idle connection first so that
+	 * marked connections are evicted before newer ones are obtained.
+	 * @return {@literal true} if a connection was evicted.
+	 */
+	static boolean evictIdleConnection(HikariDataSource dataSource, HikariPoolMXBean pool, String staleUsername) {
+
+		if (pool.getIdleConnections() == 0) {
+			return false;
+		}
+
+		Connection connection = null;
+
+		try {
+			connection = dataSource.getConnection();
+
+			if (isStale(connection.getMetaData().getUserName(), staleUsername)) {
+				dataSource.evictConnection(connection);
+				connection = null;
+				return true;
+			}
+		}
+		catch (SQLException e) {
+			log.debug("Cannot evict connection from pool %s".formatted(dataSource.getPoolName()), e);
+		}
+		finally {
+			if (connection != null) {
+				close(connection);
+			}
+		}
+
+		return false;
+	}
+
+	private static boolean isStale(@Nullable String userName, String staleUsername) {
+
+		if (userName == null) {
+			return false;
+		}
+
+		return userName.equalsIgnoreCase(staleUsername)
+				|| userName.toLowerCase(Locale.ROOT).startsWith(staleUsername.toLowerCase(Locale.ROOT) + "@");
+	}
+
+	private static void close(Connection connection) {
+
+		try {
+			connection.close();
+		}
+		catch (SQLException e) {
+			log.debug("Cannot return connection to pool", e);
+		}
+	}
+
+}
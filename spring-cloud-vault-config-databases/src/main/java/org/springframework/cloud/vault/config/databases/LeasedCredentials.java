@@ -0,0 +1,73 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.vault.config.databases;
+
+import java.util.function.BiFunction;
+
+import org.springframework.core.env.PropertyResolver;
+import org.springframework.util.Assert;
+
+/**
+ * Username and password resolved from the properties that Vault populates with
+ * lease-backed credentials. Properties are resolved on each access so that renewed or
+ * rotated credentials are picked up without restarting the application.
+ *
+ * @author Mark Paluch
+ * @since 5.0.3
+ */
+final class LeasedCredentials {
+
+	private final PropertyResolver propertyResolver;
+
+	private final String usernameProperty;
+
+	private final String passwordProperty;
+
+	LeasedCredentials(PropertyResolver propertyResolver, DatabaseSecretProperties properties) {
+
+		Assert.notNull(propertyResolver, "PropertyResolver must not be null");
+		Assert.notNull(properties, "DatabaseSecretProperties must not be null");
+
+		this.propertyResolver = propertyResolver;
+		this.usernameProperty = properties.getUsernameProperty();
+		this.passwordProperty = properties.getPasswordProperty();
+	}
+
+	/**
+	 * Resolve the current username and password. Resolution is retried once if the
+	 * username changed while resolving the password to not mix credentials of a rotation
+	 * in progress.
+	 * @param <T> the credentials type.
+	 * @param function function to create the credentials object from username and
+	 * password.
+	 * @return the credentials object.
+	 * @throws IllegalStateException if the credential properties are not set.
+	 */
+	<T> T get(BiFunction<String, String, T> function) {
+
+		String username = this.propertyResolver.getRequiredProperty(this.usernameProperty);
+		String password = this.propertyResolver.getRequiredProperty(this.passwordProperty);
+
+		if (!username.equals(this.propertyResolver.getRequiredProperty(this.usernameProperty))) {
+			username = this.propertyResolver.getRequiredProperty(this.usernameProperty);
+			password = this.propertyResolver.getRequiredProperty(this.passwordProperty);
+		}
+
+		return function.apply(username, password);
+	}
+
+}
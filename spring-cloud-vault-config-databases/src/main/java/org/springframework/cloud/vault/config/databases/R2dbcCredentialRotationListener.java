@@ -0,0 +1,96 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.vault.config.databases;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.Wrapped;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.context.ApplicationListener;
+import org.springframework.lang.Nullable;
+
+/**
+ * Applies {@link DatabaseCredentialsRotatedEvent rotated credentials} to
+ * {@link RotatingConnectionFactory} instances using the previous credentials. Rotating
+ * connection factories are discovered directly or as the underlying factory of a
+ * {@link Wrapped wrapping} connection factory such as a connection pool.
+ *
+ * @author Mark Paluch
+ * @since 5.0.3
+ * @see RotatingConnectionFactory
+ */
+class R2dbcCredentialRotationListener implements ApplicationListener<DatabaseCredentialsRotatedEvent> {
+
+	private static final Log log = LogFactory.getLog(R2dbcCredentialRotationListener.class);
+
+	private final Supplier<List<ConnectionFactory>> connectionFactories;
+
+	R2dbcCredentialRotationListener(Supplier<List<ConnectionFactory>> connectionFactories) {
+		this.connectionFactories = connectionFactories;
+	}
+
+	@Override
+	public void onApplicationEvent(DatabaseCredentialsRotatedEvent event) {
+
+		for (RotatingConnectionFactory connectionFactory : getConnectionFactories(event.getPreviousUsername())) {
+
+			connectionFactory.rotate(event.getUsername(), event.getPassword(),
+					DatabaseBackendMetadata.getEvictionWindow(event.getProperties()));
+
+			if (log.isInfoEnabled()) {
+				log.info("Applied rotated credentials for %s to R2DBC ConnectionFactory"
+					.formatted(event.getProperties().getRole()));
+			}
+		}
+	}
+
+	private List<RotatingConnectionFactory> getConnectionFactories(String username) {
+
+		List<RotatingConnectionFactory> result = new ArrayList<>();
+
+		for (ConnectionFactory connectionFactory : this.connectionFactories.get()) {
+
+			RotatingConnectionFactory rotating = unwrap(connectionFactory);
+
+			if (rotating != null && username.equals(rotating.getUsername()) && !result.contains(rotating)) {
+				result.add(rotating);
+			}
+		}
+
+		return result;
+	}
+
+	@Nullable
+	private static RotatingConnectionFactory unwrap(ConnectionFactory connectionFactory) {
+
+		if (connectionFactory instanceof RotatingConnectionFactory rotating) {
+			return rotating;
+		}
+
+		if (connectionFactory instanceof Wrapped<?> wrapped) {
+			return wrapped.unwrap(RotatingConnectionFactory.class);
+		}
+
+		return null;
+	}
+
+}
@@ -0,0 +1,377 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.vault.config.databases;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import io.r2dbc.spi.Batch;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryMetadata;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import io.r2dbc.spi.ConnectionMetadata;
+import io.r2dbc.spi.IsolationLevel;
+import io.r2dbc.spi.Lifecycle;
+import io.r2dbc.spi.Statement;
+import io.r2dbc.spi.TransactionDefinition;
+import io.r2dbc.spi.ValidationDepth;
+import io.r2dbc.spi.Wrapped;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Mono;
+
+import org.springframework.util.Assert;
+
+/**
+ * Delegating R2DBC {@link ConnectionFactory} that allows swapping credentials at
+ * runtime. Credentials are replaced atomically through
+ * {@link #rotate(String, CharSequence, Duration)} so that new connections use the
+ * rotated credentials.
+ * <p>
+ * Use this connection factory as the underlying factory of a connection pool (such as
+ * {@code io.r2dbc.pool.ConnectionPool}). Connections created by this factory implement
+ * {@link Lifecycle}: When the pool hands out a connection that was created with previous
+ * credentials, the physical connection is replaced by a connection using the rotated
+ * credentials. Replacements are spread across the eviction window passed to
+ * {@link #rotate(String, CharSequence, Duration)} to avoid reconnecting all pooled
+ * connections at once. Acquisition never fails because of rotation: If a replacement
+ * connection cannot be created, the previous connection remains in use. Connections
+ * that are not acquired after rotation are retired through the regular pool lifecycle
+ * ({@code maxIdleTime}, {@code maxLifeTime}).
+ *
+ * @author Mark Paluch
+ * @since 5.0.3
+ * @see R2dbcCredentialRotationListener
+ */
+public class RotatingConnectionFactory implements ConnectionFactory, Wrapped<ConnectionFactory> {
+
+	private static final Log log = LogFactory.getLog(RotatingConnectionFactory.class);
+
+	private final ConnectionFactoryOptions options;
+
+	private final Function<ConnectionFactoryOptions, ConnectionFactory> connectionFactoryFunction;
+
+	private final AtomicInteger connections = new AtomicInteger();
+
+	private final AtomicLong nextReplacement = new AtomicLong();
+
+	private volatile Generation generation;
+
+	/**
+	 * Create a new {@link RotatingConnectionFactory} given {@link ConnectionFactoryOptions}.
+	 * Options must contain the initial {@link ConnectionFactoryOptions#USER user} and
+	 * {@link ConnectionFactoryOptions#PASSWORD password}.
+	 * @param options the connection factory options.
+	 */
+	public RotatingConnectionFactory(ConnectionFactoryOptions options) {
+		this(options, ConnectionFactories::get);
+	}
+
+	/**
+	 * Create a new {@link RotatingConnectionFactory} given {@link ConnectionFactoryOptions}
+	 * and a {@link Function} to create a {@link ConnectionFactory} for options.
+	 * @param options the connection factory options.
+	 * @param connectionFactoryFunction function to create a {@link ConnectionFactory}
+	 * for options containing the current credentials.
+	 */
+	public RotatingConnectionFactory(ConnectionFactoryOptions options,
+			Function<ConnectionFactoryOptions, ConnectionFactory> connectionFactoryFunction) {
+
+		Assert.notNull(options, "ConnectionFactoryOptions must not be null");
+		Assert.notNull(connectionFactoryFunction, "ConnectionFactory function must not be null");
+		Assert.isTrue(options.hasOption(ConnectionFactoryOptions.USER),
+				"ConnectionFactoryOptions must contain a user");
+
+		this.options = options;
+		this.connectionFactoryFunction = connectionFactoryFunction;
+		this.generation = new Generation(0, (String) options.getRequiredValue(ConnectionFactoryOptions.USER),
+				connectionFactoryFunction.apply(options), 0);
+	}
+
+	/**
+	 * @return the user name of the current credentials.
+	 */
+	public String getUsername() {
+		return this.generation.username;
+	}
+
+	/**
+	 * Rotate credentials. New connections use the rotated credentials. Pooled connections
+	 * using previous credentials are replaced across the given {@code evictionWindow}
+	 * when acquired from the pool.
+	 * @param username the rotated user name.
+	 * @param password the rotated password.
+	 * @param evictionWindow time window across which connections using previous
+	 * credentials are replaced. {@link Duration#ZERO} to replace connections upon their
+	 * next acquisition.
+	 */
+	public void rotate(String username, CharSequence password, Duration evictionWindow) {
+
+		Assert.hasText(username, "Username must not be empty");
+		Assert.notNull(password, "Password must not be null");
+		Assert.notNull(evictionWindow, "Eviction window must not be null");
+
+		ConnectionFactoryOptions options = this.options.mutate()
+			.option(ConnectionFactoryOptions.USER, username)
+			.option(ConnectionFactoryOptions.PASSWORD, password)
+			.build();
+
+		int connections = this.connections.get();
+		long interval = connections == 0 || evictionWindow.isNegative() ? 0
+				: evictionWindow.dividedBy(connections).toNanos();
+
+		synchronized (this) {
+			this.nextReplacement.set(System.nanoTime());
+			this.generation = new Generation(this.generation.id + 1, username,
+					this.connectionFactoryFunction.apply(options), interval);
+		}
+	}
+
+	@Override
+	public Publisher<? extends Connection> create() {
+
+		Generation generation = this.generation;
+
+		return Mono.from(generation.connectionFactory.create()).map(connection -> {
+			this.connections.incrementAndGet();
+			return new RotatingConnection(connection, generation.id);
+		});
+	}
+
+	@Override
+	public ConnectionFactoryMetadata getMetadata() {
+		return this.generation.connectionFactory.getMetadata();
+	}
+
+	@Override
+	public ConnectionFactory unwrap() {
+		return this.generation.connectionFactory;
+	}
+
+	/**
+	 * Check whether the given connection should be replaced. Connections using previous
+	 * credentials are replaced one at a time per replacement interval.
+	 */
+	boolean shouldReplace(RotatingConnection connection) {
+
+		Generation generation = this.generation;
+
+		if (connection.generation == generation.id) {
+			return false;
+		}
+
+		if (generation.replacementInterval == 0) {
+			return true;
+		}
+
+		long now = System.nanoTime();
+		long next = this.nextReplacement.get();
+
+		return now - next >= 0 && this.nextReplacement.compareAndSet(next, now + generation.replacementInterval);
+	}
+
+	private static Mono<Void> postAllocate(Connection connection) {
+		return connection instanceof Lifecycle lifecycle ? Mono.from(lifecycle.postAllocate()) : Mono.empty();
+	}
+
+	private static Mono<Void> preRelease(Connection connection) {
+		return connection instanceof Lifecycle lifecycle ? Mono.from(lifecycle.preRelease()) : Mono.empty();
+	}
+
+	/**
+	 * Credentials generation along with its {@link ConnectionFactory}.
+	 */
+	static class Generation {
+
+		final int id;
+
+		final String username;
+
+		final ConnectionFactory connectionFactory;
+
+		final long replacementInterval;
+
+		Generation(int id, String username, ConnectionFactory connectionFactory, long replacementInterval) {
+			this.id = id;
+			this.username = username;
+			this.connectionFactory = connectionFactory;
+			this.replacementInterval = replacementInterval;
+		}
+
+	}
+
+	/**
+	 * {@link Connection} wrapper that replaces its physical connection with a connection
+	 * using the current credentials upon {@link #postAllocate() allocation}.
+	 */
+	class RotatingConnection implements Connection, Lifecycle, Wrapped<Connection> {
+
+		private final AtomicBoolean closed = new AtomicBoolean();
+
+		private volatile Connection delegate;
+
+		private volatile int generation;
+
+		RotatingConnection(Connection delegate, int generation) {
+			this.delegate = delegate;
+			this.generation = generation;
+		}
+
+		@Override
+		public Publisher<Void> postAllocate() {
+
+			return Mono.defer(() -> {
+
+				Connection previous = this.delegate;
+
+				if (!shouldReplace(this)) {
+					return RotatingConnectionFactory.postAllocate(previous);
+				}
+
+				Generation generation = RotatingConnectionFactory.this.generation;
+
+				return Mono.from(generation.connectionFactory.create()).flatMap(connection -> {
+
+					this.delegate = connection;
+					this.generation = generation.id;
+
+					return Mono.from(previous.close())
+						.onErrorResume(e -> Mono.empty())
+						.then(RotatingConnectionFactory.postAllocate(connection));
+				}).onErrorResume(e -> {
+
+					log.debug("Cannot replace connection using previous credentials", e);
+					return RotatingConnectionFactory.postAllocate(previous);
+				});
+			});
+		}
+
+		@Override
+		public Publisher<Void> preRelease() {
+			return Mono.defer(() -> RotatingConnectionFactory.preRelease(this.delegate));
+		}
+
+		@Override
+		public Publisher<Void> close() {
+			return Mono.defer(() -> Mono.from(this.delegate.close())).doFinally(signal -> {
+				if (this.closed.compareAndSet(false, true)) {
+					RotatingConnectionFactory.this.connections.decrementAndGet();
+				}
+			});
+		}
+
+		@Override
+		public Connection unwrap() {
+			return this.delegate;
+		}
+
+		@Override
+		public Publisher<Void> beginTransaction() {
+			return this.delegate.beginTransaction();
+		}
+
+		@Override
+		public Publisher<Void> beginTransaction(TransactionDefinition definition) {
+			return this.delegate.beginTransaction(definition);
+		}
+
+		@Override
+		public Publisher<Void> commitTransaction() {
+			return this.delegate.commitTransaction();
+		}
+
+		@Override
+		public Batch createBatch() {
+			return this.delegate.createBatch();
+		}
+
+		@Override
+		public Publisher<Void> createSavepoint(String name) {
+			return this.delegate.createSavepoint(name);
+		}
+
+		@Override
+		public Statement createStatement(String sql) {
+			return this.delegate.createStatement(sql);
+		}
+
+		@Override
+		public boolean isAutoCommit() {
+			return this.delegate.isAutoCommit();
+		}
+
+		@Override
+		public ConnectionMetadata getMetadata() {
+			return this.delegate.getMetadata();
+		}
+
+		@Override
+		public IsolationLevel getTransactionIsolationLevel() {
+			return this.delegate.getTransactionIsolationLevel();
+		}
+
+		@Override
+		public Publisher<Void> releaseSavepoint(String name) {
+			return this.delegate.releaseSavepoint(name);
+		}
+
+		@Override
+		public Publisher<Void> rollbackTransaction() {
+			return this.delegate.rollbackTransaction();
+		}
+
+		@Override
+		public Publisher<Void> rollbackTransactionToSavepoint(String name) {
+			return this.delegate.rollbackTransactionToSavepoint(name);
+		}
+
+		@Override
+		public Publisher<Void> setAutoCommit(boolean autoCommit) {
+			return this.delegate.setAutoCommit(autoCommit);
+		}
+
+		@Override
+		public Publisher<Void> setLockWaitTimeout(Duration timeout) {
+			return this.delegate.setLockWaitTimeout(timeout);
+		}
+
+		@Override
+		public Publisher<Void> setStatementTimeout(Duration timeout) {
+			return this.delegate.setStatementTimeout(timeout);
+		}
+
+		@Override
+		public Publisher<Void> setTransactionIsolationLevel(IsolationLevel isolationLevel) {
+			return this.delegate.setTransactionIsolationLevel(isolationLevel);
+		}
+
+		@Override
+		public Publisher<Boolean> validate(ValidationDepth depth) {
+
+			// pools assemble validation before postAllocate() may replace the delegate
+			return Mono.defer(() -> Mono.from(this.delegate.validate(depth)));
+		}
+
+	}
+
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.vault.config.databases;
+
+import com.datastax.oss.driver.api.core.auth.AuthProvider;
+import com.datastax.oss.driver.api.core.auth.Authenticator;
+import com.datastax.oss.driver.api.core.auth.ProgrammaticPlainTextAuthProvider;
+import com.datastax.oss.driver.api.core.metadata.EndPoint;
+
+import org.springframework.core.env.PropertyResolver;
+import org.springframework.lang.Nullable;
+
+/**
+ * Cassandra {@link AuthProvider} using the current lease-backed credentials. The driver
+ * requests credentials for each new connection so that connections opened after
+ * credential renewal or rotation authenticate with the current credentials while the
+ * {@code CqlSession} and its established connections remain in place.
+ * <p>
+ * Register the provider with the session builder, for example through a
+ * {@code CqlSessionBuilderCustomizer}:
+ *
+ * <pre class="code">
+ * &#64;Bean
+ * CqlSessionBuilderCustomizer vaultAuthProvider(Environment environment) {
+ * 	VaultDatabaseProperties properties = …;
+ * 	return builder -> builder.withAuthProvider(new VaultCassandraAuthProvider(environment, properties));
+ * }
+ * </pre>
+ *
+ * @author Mark Paluch
+ * @since 5.0.3
+ * @see DatabaseSecretProperties#isRotationEnabled()
+ */
+public class VaultCassandraAuthProvider implements AuthProvider {
+
+	private final LeasedCredentials credentials;
+
+	@Nullable
+	private ProgrammaticPlainTextAuthProvider delegate;
+
+	/**
+	 * Create a new {@link VaultCassandraAuthProvider}.
+	 * @param propertyResolver the property resolver, typically the application
+	 * {@link org.springframework.core.env.Environment}.
+	 * @param properties the database secret properties that determine the credential
+	 * property names.
+	 */
+	public VaultCassandraAuthProvider(PropertyResolver propertyResolver, DatabaseSecretProperties properties) {
+		this.credentials = new LeasedCredentials(propertyResolver, properties);
+	}
+
+	@Override
+	public synchronized Authenticator newAuthenticator(EndPoint endPoint, String serverAuthenticator) {
+
+		ProgrammaticPlainTextAuthProvider delegate = this.credentials.get((username, password) -> {
+
+			if (this.delegate == null) {
+				return new ProgrammaticPlainTextAuthProvider(username, password);
+			}
+
+			this.delegate.setUsername(username);
+			this.delegate.setPassword(password);
+			return this.delegate;
+		});
+
+		this.delegate = delegate;
+		return delegate.newAuthenticator(endPoint, serverAuthenticator);
+	}
+
+	@Override
+	public synchronized void onMissingChallenge(EndPoint endPoint) {
+
+		if (this.delegate != null) {
+			this.delegate.onMissingChallenge(endPoint);
+		}
+	}
+
+	@Override
+	public synchronized void close() {
+
+		if (this.delegate != null) {
+			this.delegate.close();
+		}
+	}
+
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.vault.config.databases;
+
+import javax.sql.DataSource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.r2dbc.spi.ConnectionFactory;
+import reactor.core.publisher.Mono;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfigureAfter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cloud.vault.config.VaultAutoConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * {@link org.springframework.boot.autoconfigure.EnableAutoConfiguration
+ * Auto-configuration} applying rotated database credentials to connection pools.
+ *
+ * @author Mark Paluch
+ * @since 5.0.3
+ * @see DatabaseCredentialsRotatedEvent
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(name = "spring.cloud.vault.enabled", matchIfMissing = true)
+@AutoConfigureAfter(VaultAutoConfiguration.class)
+public class VaultConfigDatabaseAutoConfiguration {
+
+	/**
+	 * Configuration for HikariCP connection pools.
+	 */
+	@Configuration(proxyBeanMethods = false)
+	@ConditionalOnClass(HikariDataSource.class)
+	static class HikariConfiguration {
+
+		@Bean
+		@ConditionalOnMissingBean
+		HikariCredentialRotationListener hikariCredentialRotationListener(ObjectProvider<DataSource> dataSources) {
+			return new HikariCredentialRotationListener(() -> dataSources.orderedStream().toList());
+		}
+
+	}
+
+	/**
+	 * Configuration for R2DBC connection factories.
+	 */
+	@Configuration(proxyBeanMethods = false)
+	@ConditionalOnClass({ ConnectionFactory.class, Mono.class })
+	static class R2dbcConfiguration {
+
+		@Bean
+		@ConditionalOnMissingBean
+		R2dbcCredentialRotationListener r2dbcCredentialRotationListener(
+				ObjectProvider<ConnectionFactory> connectionFactories) {
+			return new R2dbcCredentialRotationListener(() -> connectionFactories.orderedStream().toList());
+		}
+
+	}
+
+}
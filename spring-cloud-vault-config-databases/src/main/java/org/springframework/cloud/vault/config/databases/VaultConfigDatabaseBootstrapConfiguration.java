@@ -27,10 +27,6 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.core.Ordered;
 import org.springframework.core.annotation.Order;
 import org.springframework.util.Assert;
-import org.springframework.vault.core.util.PropertyTransformer;
-
-import java.util.HashMap;
-import java.util.Map;
 
 /**
  * Bootstrap configuration providing support for the Database secret backends such as
@@ -79,34 +75,7 @@ public class VaultConfigDatabaseBootstrapConfiguration {
 			transformer.addKeyTransformation("username", properties.getUsernameProperty());
 			transformer.addKeyTransformation("password", properties.getPasswordProperty());
 
-			return new SecretBackendMetadata() {
-
-				private final String credPath = properties.isStaticRole() ? "static-creds" : "creds";
-
-				@Override
-				public String getName() {
-					return String.format("%s with Role %s", properties.getBackend(), properties.getRole());
-				}
-
-				@Override
-				public String getPath() {
-					return String.format("%s/%s/%s", properties.getBackend(), this.credPath, properties.getRole());
-				}
-
-				@Override
-				public PropertyTransformer getPropertyTransformer() {
-					return transformer;
-				}
-
-				@Override
-				public Map<String, String> getVariables() {
-
-					Map<String, String> variables = new HashMap<>();
-					variables.put("backend", properties.getBackend());
-					variables.put("key", String.format("%s/%s", this.credPath, properties.getRole()));
-					return variables;
-				}
-			};
+			return new DatabaseBackendMetadata(properties, transformer);
 		}
 
 		@Override
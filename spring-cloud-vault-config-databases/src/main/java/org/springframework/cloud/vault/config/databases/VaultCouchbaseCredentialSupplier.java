@@ -0,0 +1,63 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.vault.config.databases;
+
+import java.util.function.Supplier;
+
+import com.couchbase.client.core.env.UsernameAndPassword;
+
+import org.springframework.core.env.PropertyResolver;
+
+/**
+ * {@link Supplier} of Couchbase {@link UsernameAndPassword} using the current
+ * lease-backed credentials. Use the supplier with
+ * {@link com.couchbase.client.core.env.PasswordAuthenticator#builder(Supplier)} so that
+ * the {@code Cluster} authenticates new connections and HTTP requests with renewed or
+ * rotated credentials without being recreated:
+ *
+ * <pre class="code">
+ * Authenticator authenticator = PasswordAuthenticator
+ * 	.builder(new VaultCouchbaseCredentialSupplier(environment, properties))
+ * 	.build();
+ * Cluster cluster = Cluster.connect(connectionString, ClusterOptions.clusterOptions(authenticator));
+ * </pre>
+ *
+ * @author Mark Paluch
+ * @since 5.0.3
+ * @see DatabaseSecretProperties#isRotationEnabled()
+ */
+public class VaultCouchbaseCredentialSupplier implements Supplier<UsernameAndPassword> {
+
+	private final LeasedCredentials credentials;
+
+	/**
+	 * Create a new {@link VaultCouchbaseCredentialSupplier}.
+	 * @param propertyResolver the property resolver, typically the application
+	 * {@link org.springframework.core.env.Environment}.
+	 * @param properties the database secret properties that determine the credential
+	 * property names.
+	 */
+	public VaultCouchbaseCredentialSupplier(PropertyResolver propertyResolver, DatabaseSecretProperties properties) {
+		this.credentials = new LeasedCredentials(propertyResolver, properties);
+	}
+
+	@Override
+	public UsernameAndPassword get() {
+		return this.credentials.get(UsernameAndPassword::new);
+	}
+
+}
@@ -16,6 +16,8 @@
 
 package org.springframework.cloud.vault.config.databases;
 
+import java.time.Duration;
+
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.lang.Nullable;
 
@@ -60,6 +62,11 @@ public class VaultDatabaseProperties implements DatabaseSecretProperties {
 	 */
 	private String passwordProperty = "spring.datasource.password";
 
+	/**
+	 * Credential rotation properties.
+	 */
+	private Rotation rotation = new Rotation();
+
 	@Override
 	public boolean isEnabled() {
 		return this.enabled;
@@ -115,4 +122,54 @@ public class VaultDatabaseProperties implements DatabaseSecretProperties {
 		this.passwordProperty = passwordProperty;
 	}
 
+	@Override
+	public boolean isRotationEnabled() {
+		return this.rotation.isEnabled();
+	}
+
+	public Rotation getRotation() {
+		return this.rotation;
+	}
+
+	public void setRotation(Rotation rotation) {
+		this.rotation = rotation;
+	}
+
+	/**
+	 * Credential rotation properties.
+	 *
+	 * @since 5.0.3
+	 */
+	public static class Rotation {
+
+		/**
+		 * Enable rotation of dynamic credentials once their lease expires. Rotated
+		 * credentials are applied to running connection pools.
+		 */
+		private boolean enabled = false;
+
+		/**
+		 * Time window across which pooled connections using previous credentials are
+		 * evicted after rotation.
+		 */
+		private Duration evictionWindow = Duration.ofSeconds(30);
+
+		public boolean isEnabled() {
+			return this.enabled;
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		public Duration getEvictionWindow() {
+			return this.evictionWindow;
+		}
+
+		public void setEvictionWindow(Duration evictionWindow) {
+			this.evictionWindow = evictionWindow;
+		}
+
+	}
+
 }
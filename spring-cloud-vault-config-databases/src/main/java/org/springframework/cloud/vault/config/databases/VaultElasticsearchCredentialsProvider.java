@@ -0,0 +1,72 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.vault.config.databases;
+
+import org.apache.hc.client5.http.auth.AuthScope;
+import org.apache.hc.client5.http.auth.Credentials;
+import org.apache.hc.client5.http.auth.CredentialsProvider;
+import org.apache.hc.client5.http.auth.UsernamePasswordCredentials;
+import org.apache.hc.core5.http.protocol.HttpContext;
+
+import org.springframework.core.env.PropertyResolver;
+
+/**
+ * Apache HttpClient 5 {@link CredentialsProvider} using the current lease-backed
+ * credentials for Elasticsearch. HttpClient requests credentials when authenticating
+ * against Elasticsearch so that renewed or rotated credentials are used without
+ * recreating the REST client and its connection pool.
+ * <p>
+ * Register the provider with the Elasticsearch REST client, for example through a
+ * {@code Rest5ClientBuilderCustomizer}:
+ *
+ * <pre class="code">
+ * &#64;Bean
+ * Rest5ClientBuilderCustomizer vaultCredentials(Environment environment) {
+ * 	VaultElasticsearchProperties properties = …;
+ * 	CredentialsProvider credentialsProvider = new VaultElasticsearchCredentialsProvider(environment, properties);
+ * 	return builder -> builder
+ * 		.setHttpClientConfigCallback(client -> client.setDefaultCredentialsProvider(credentialsProvider));
+ * }
+ * </pre>
+ *
+ * @author Mark Paluch
+ * @since 5.0.3
+ * @see DatabaseSecretProperties#isRotationEnabled()
+ */
+public class VaultElasticsearchCredentialsProvider implements CredentialsProvider {
+
+	private final LeasedCredentials credentials;
+
+	/**
+	 * Create a new {@link VaultElasticsearchCredentialsProvider}.
+	 * @param propertyResolver the property resolver, typically the application
+	 * {@link org.springframework.core.env.Environment}.
+	 * @param properties the database secret properties that determine the credential
+	 * property names.
+	 */
+	public VaultElasticsearchCredentialsProvider(PropertyResolver propertyResolver,
+			DatabaseSecretProperties properties) {
+		this.credentials = new LeasedCredentials(propertyResolver, properties);
+	}
+
+	@Override
+	public Credentials getCredentials(AuthScope authScope, HttpContext context) {
+		return this.credentials
+			.get((username, password) -> new UsernamePasswordCredentials(username, password.toCharArray()));
+	}
+
+}
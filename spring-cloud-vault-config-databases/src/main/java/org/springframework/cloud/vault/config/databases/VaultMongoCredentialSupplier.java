@@ -0,0 +1,69 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.vault.config.databases;
+
+import java.util.function.Supplier;
+
+import com.mongodb.MongoCredential;
+
+import org.springframework.core.env.PropertyResolver;
+import org.springframework.util.Assert;
+
+/**
+ * {@link Supplier} of a {@link MongoCredential} using the current lease-backed
+ * credentials. Each call resolves the credential properties so that renewed or rotated
+ * credentials are returned without refreshing the application context.
+ * <p>
+ * The MongoDB driver fixes credentials when creating a {@code MongoClient}. Use this
+ * supplier when creating clients or client settings (for example a
+ * {@code MongoClientSettingsBuilderCustomizer} or clients created per unit of work) to
+ * obtain the credentials that are current at that time.
+ *
+ * @author Mark Paluch
+ * @since 5.0.3
+ * @see DatabaseSecretProperties#isRotationEnabled()
+ */
+public class VaultMongoCredentialSupplier implements Supplier<MongoCredential> {
+
+	private final LeasedCredentials credentials;
+
+	private final String source;
+
+	/**
+	 * Create a new {@link VaultMongoCredentialSupplier}.
+	 * @param propertyResolver the property resolver, typically the application
+	 * {@link org.springframework.core.env.Environment}.
+	 * @param properties the database secret properties that determine the credential
+	 * property names.
+	 * @param source the authentication database.
+	 */
+	public VaultMongoCredentialSupplier(PropertyResolver propertyResolver, DatabaseSecretProperties properties,
+			String source) {
+
+		Assert.hasText(source, "Authentication database must not be empty");
+
+		this.credentials = new LeasedCredentials(propertyResolver, properties);
+		this.source = source;
+	}
+
+	@Override
+	public MongoCredential get() {
+		return this.credentials.get(
+				(username, password) -> MongoCredential.createCredential(username, this.source, password.toCharArray()));
+	}
+
+}
@@ -61,6 +61,11 @@ public class VaultMongoProperties implements DatabaseSecretProperties {
 	 */
 	private String passwordProperty = "spring.data.mongodb.password";
 
+	/**
+	 * Credential rotation properties.
+	 */
+	private Rotation rotation = new Rotation();
+
 	@Override
 	public boolean isEnabled() {
 		return this.enabled;
@@ -116,4 +121,40 @@ public class VaultMongoProperties implements DatabaseSecretProperties {
 		this.passwordProperty = passwordProperty;
 	}
 
+	@Override
+	public boolean isRotationEnabled() {
+		return this.rotation.isEnabled();
+	}
+
+	public Rotation getRotation() {
+		return this.rotation;
+	}
+
+	public void setRotation(Rotation rotation) {
+		this.rotation = rotation;
+	}
+
+	/**
+	 * Credential rotation properties.
+	 *
+	 * @since 5.0.3
+	 */
+	public static class Rotation {
+
+		/**
+		 * Enable rotation of dynamic credentials once their lease expires. Rotated
+		 * credentials are used by new MongoDB connections.
+		 */
+		private boolean enabled = false;
+
+		public boolean isEnabled() {
+			return this.enabled;
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+	}
+
 }
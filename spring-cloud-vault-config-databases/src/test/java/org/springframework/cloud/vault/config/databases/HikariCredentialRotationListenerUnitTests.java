@@ -0,0 +1,251 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.vault.config.databases;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicReference;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.scheduling.TaskScheduler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for {@link HikariCredentialRotationListener}.
+ *
+ * @author Mark Paluch
+ */
+public class HikariCredentialRotationListenerUnitTests {
+
+	HikariDataSource dataSource = new HikariDataSource();
+
+	TaskScheduler taskScheduler = mock(TaskScheduler.class);
+
+	AtomicReference<Runnable> eviction = new AtomicReference<>();
+
+	@BeforeEach
+	void setUp() throws SQLException {
+
+		this.dataSource.setJdbcUrl("jdbc:h2:mem:hikari-rotation;DB_CLOSE_DELAY=-1");
+		this.dataSource.setUsername("sa");
+		this.dataSource.setPassword("");
+		this.dataSource.setMaximumPoolSize(1);
+		this.dataSource.setMinimumIdle(1);
+
+		try (Connection connection = this.dataSource.getConnection();
+				Statement statement = connection.createStatement()) {
+			statement.execute("CREATE USER IF NOT EXISTS rotated PASSWORD 'secret' ADMIN");
+		}
+
+		when(this.taskScheduler.scheduleWithFixedDelay(any(Runnable.class), any(Duration.class)))
+			.thenAnswer(invocation -> {
+				this.eviction.set(invocation.getArgument(0));
+				return mock(ScheduledFuture.class);
+			});
+	}
+
+	@AfterEach
+	void tearDown() {
+		this.dataSource.close();
+	}
+
+	@Test
+	void shouldApplyRotatedCredentialsAndEvictConnections() throws SQLException {
+
+		HikariCredentialRotationListener listener = new HikariCredentialRotationListener(
+				() -> List.of(this.dataSource), this.taskScheduler);
+
+		listener.onApplicationEvent(createEvent("sa"));
+
+		assertThat(this.dataSource.getUsername()).isEqualTo("rotated");
+		assertThat(getCurrentUser()).isEqualToIgnoringCase("sa");
+
+		this.eviction.get().run();
+
+		assertThat(getCurrentUser()).isEqualToIgnoringCase("rotated");
+	}
+
+	@Test
+	void shouldEvictOnlyConnectionsUsingPreviousCredentials() throws SQLException {
+
+		this.dataSource.close();
+		this.dataSource = new HikariDataSource();
+		this.dataSource.setJdbcUrl("jdbc:h2:mem:hikari-rotation;DB_CLOSE_DELAY=-1");
+		this.dataSource.setUsername("sa");
+		this.dataSource.setPassword("");
+		this.dataSource.setMaximumPoolSize(3);
+		this.dataSource.setMinimumIdle(3);
+
+		List<Connection> connections = new ArrayList<>();
+		for (int i = 0; i < 3; i++) {
+			connections.add(this.dataSource.getConnection());
+		}
+		for (Connection connection : connections) {
+			connection.close();
+		}
+
+		HikariCredentialRotationListener listener = new HikariCredentialRotationListener(
+				() -> List.of(this.dataSource), this.taskScheduler);
+
+		listener.onApplicationEvent(createEvent("sa"));
+
+		HikariPoolMXBean pool = this.dataSource.getHikariPoolMXBean();
+		assertThat(pool.getTotalConnections()).isEqualTo(3);
+
+		for (int i = 0; i < 3; i++) {
+			assertThat(HikariCredentialRotationListener.evictIdleConnection(this.dataSource, pool, "sa")).isTrue();
+		}
+
+		assertThat(HikariCredentialRotationListener.evictIdleConnection(this.dataSource, pool, "sa")).isFalse();
+		assertThat(getCurrentUsers(3)).containsOnly("ROTATED");
+	}
+
+	@Test
+	void shouldEvictConnectionReportingUserAtHost() throws SQLException {
+
+		HikariDataSource dataSource = mock(HikariDataSource.class);
+		HikariPoolMXBean pool = mock(HikariPoolMXBean.class);
+		Connection connection = mockConnection("sa@10.0.0.1");
+		when(pool.getIdleConnections()).thenReturn(1);
+		when(dataSource.getConnection()).thenReturn(connection);
+
+		assertThat(HikariCredentialRotationListener.evictIdleConnection(dataSource, pool, "sa")).isTrue();
+
+		verify(dataSource).evictConnection(connection);
+		verify(connection, never()).close();
+	}
+
+	@Test
+	void shouldReturnCurrentConnectionRightAway() throws SQLException {
+
+		HikariDataSource dataSource = mock(HikariDataSource.class);
+		HikariPoolMXBean pool = mock(HikariPoolMXBean.class);
+		Connection connection = mockConnection("rotated@10.0.0.1");
+		when(pool.getIdleConnections()).thenReturn(2);
+		when(dataSource.getConnection()).thenReturn(connection);
+
+		assertThat(HikariCredentialRotationListener.evictIdleConnection(dataSource, pool, "sa@10.0.0.1")).isFalse();
+
+		verify(dataSource, times(1)).getConnection();
+		verify(dataSource, never()).evictConnection(any());
+		verify(connection).close();
+	}
+
+	@Test
+	void shouldMarkConnectionsUsingReportedUserName() throws SQLException {
+
+		HikariPoolMXBean pool = this.dataSource.getHikariPoolMXBean();
+
+		assertThat(HikariCredentialRotationListener.getStaleUsername(this.dataSource, pool, "sa")).isEqualTo("SA");
+	}
+
+	@Test
+	void shouldNotEvictConnectionsForUnchangedUsername() {
+
+		HikariCredentialRotationListener listener = new HikariCredentialRotationListener(
+				() -> List.of(this.dataSource), this.taskScheduler);
+
+		listener.onApplicationEvent(new DatabaseCredentialsRotatedEvent(this, new VaultDatabaseProperties(), "sa",
+				"sa", "changed"));
+
+		assertThat(this.dataSource.getPassword()).isEqualTo("changed");
+		verifyNoInteractions(this.taskScheduler);
+	}
+
+	@Test
+	void shouldIgnoreDataSourceUsingOtherCredentials() {
+
+		HikariCredentialRotationListener listener = new HikariCredentialRotationListener(
+				() -> List.of(this.dataSource), this.taskScheduler);
+
+		listener.onApplicationEvent(createEvent("other"));
+
+		assertThat(this.dataSource.getUsername()).isEqualTo("sa");
+		verifyNoInteractions(this.taskScheduler);
+	}
+
+	private static Connection mockConnection(String userName) throws SQLException {
+
+		Connection connection = mock(Connection.class);
+		DatabaseMetaData metaData = mock(DatabaseMetaData.class);
+		when(connection.getMetaData()).thenReturn(metaData);
+		when(metaData.getUserName()).thenReturn(userName);
+		return connection;
+	}
+
+	private DatabaseCredentialsRotatedEvent createEvent(String previousUsername) {
+
+		VaultDatabaseProperties properties = new VaultDatabaseProperties();
+		properties.setRole("readonly");
+		properties.getRotation().setEvictionWindow(Duration.ofSeconds(1));
+
+		return new DatabaseCredentialsRotatedEvent(this, properties, previousUsername, "rotated", "secret");
+	}
+
+	private List<String> getCurrentUsers(int count) throws SQLException {
+
+		List<Connection> connections = new ArrayList<>();
+		List<String> users = new ArrayList<>();
+
+		try {
+			for (int i = 0; i < count; i++) {
+				Connection connection = this.dataSource.getConnection();
+				connections.add(connection);
+				users.add(connection.getMetaData().getUserName());
+			}
+		}
+		finally {
+			for (Connection connection : connections) {
+				connection.close();
+			}
+		}
+
+		return users;
+	}
+
+	private String getCurrentUser() throws SQLException {
+
+		try (Connection connection = this.dataSource.getConnection();
+				Statement statement = connection.createStatement();
+				ResultSet resultSet = statement.executeQuery("SELECT CURRENT_USER()")) {
+
+			resultSet.next();
+			return resultSet.getString(1);
+		}
+	}
+
+}
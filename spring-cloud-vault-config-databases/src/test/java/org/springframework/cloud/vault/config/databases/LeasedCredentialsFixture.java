@@ -0,0 +1,110 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.vault.config.databases;
+
+import java.util.Map;
+
+import org.springframework.cloud.vault.config.LeasingSecretBackendMetadata;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.vault.core.VaultOperations;
+import org.springframework.vault.core.env.LeaseAwareVaultPropertySource;
+import org.springframework.vault.core.lease.SecretLeaseContainer;
+import org.springframework.vault.core.lease.domain.RequestedSecret;
+import org.springframework.vault.support.VaultResponse;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Fixture that obtains database credentials through a {@link SecretLeaseContainer} and
+ * exposes them as lease-aware property source of a {@link StandardEnvironment}.
+ *
+ * @author Mark Paluch
+ */
+final class LeasedCredentialsFixture implements AutoCloseable {
+
+	private final ThreadPoolTaskScheduler taskScheduler = new ThreadPoolTaskScheduler();
+
+	private final StandardEnvironment environment = new StandardEnvironment();
+
+	private final SecretLeaseContainer container;
+
+	private final RequestedSecret secret;
+
+	/**
+	 * Start a {@link SecretLeaseContainer} that obtains the given credentials in the order
+	 * of the given responses.
+	 * @param properties the database secret properties.
+	 * @param response the initial credentials.
+	 * @param subsequent credentials obtained on rotation.
+	 */
+	LeasedCredentialsFixture(DatabaseSecretProperties properties, VaultResponse response,
+			VaultResponse... subsequent) {
+
+		LeasingSecretBackendMetadata metadata = (LeasingSecretBackendMetadata) VaultConfigDatabaseBootstrapConfiguration.DatabaseSecretBackendMetadataFactory
+			.forDatabase(properties);
+
+		VaultOperations vaultOperations = mock(VaultOperations.class);
+		when(vaultOperations.read(metadata.getPath())).thenReturn(response, subsequent);
+
+		this.taskScheduler.initialize();
+		this.container = new SecretLeaseContainer(vaultOperations, this.taskScheduler);
+		this.container.afterPropertiesSet();
+		this.secret = RequestedSecret.from(metadata.getLeaseMode(), metadata.getPath());
+
+		this.environment.getPropertySources()
+			.addFirst(new LeaseAwareVaultPropertySource(metadata.getName(), this.container, this.secret,
+					metadata.getPropertyTransformer()));
+		this.container.start();
+	}
+
+	/**
+	 * Create a renewable credentials response.
+	 * @param username the username.
+	 * @param password the password.
+	 * @return the response.
+	 */
+	static VaultResponse credentials(String username, String password) {
+
+		VaultResponse response = new VaultResponse();
+		response.setData(Map.of("username", username, "password", password));
+		response.setLeaseId("database/creds/my-role/" + username);
+		response.setLeaseDuration(3600);
+		response.setRenewable(true);
+		return response;
+	}
+
+	StandardEnvironment getEnvironment() {
+		return this.environment;
+	}
+
+	/**
+	 * Expire the current lease. Rotating secrets are requested again, renewable secrets
+	 * expire.
+	 */
+	void expireLease() {
+		this.container.rotate(this.secret);
+	}
+
+	@Override
+	public void close() throws Exception {
+		this.container.destroy();
+		this.taskScheduler.shutdown();
+	}
+
+}
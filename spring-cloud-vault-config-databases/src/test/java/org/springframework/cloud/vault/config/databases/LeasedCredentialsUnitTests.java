@@ -0,0 +1,68 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.vault.config.databases;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.core.env.PropertyResolver;
+import org.springframework.mock.env.MockEnvironment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for {@link LeasedCredentials}.
+ *
+ * @author Mark Paluch
+ */
+class LeasedCredentialsUnitTests {
+
+	@Test
+	void shouldResolveCredentials() {
+
+		MockEnvironment environment = new MockEnvironment();
+		environment.setProperty("spring.datasource.username", "initial");
+		environment.setProperty("spring.datasource.password", "secret-1");
+
+		LeasedCredentials credentials = new LeasedCredentials(environment, new VaultDatabaseProperties());
+
+		assertThat(credentials.<String>get((username, password) -> username + ":" + password)).isEqualTo("initial:secret-1");
+	}
+
+	@Test
+	void shouldRetryIfUsernameChangedWhileResolvingPassword() {
+
+		PropertyResolver resolver = mock(PropertyResolver.class);
+		when(resolver.getRequiredProperty("spring.datasource.username")).thenReturn("initial", "rotated", "rotated");
+		when(resolver.getRequiredProperty("spring.datasource.password")).thenReturn("secret-1", "secret-2");
+
+		LeasedCredentials credentials = new LeasedCredentials(resolver, new VaultDatabaseProperties());
+
+		assertThat(credentials.<String>get((username, password) -> username + ":" + password)).isEqualTo("rotated:secret-2");
+	}
+
+	@Test
+	void shouldFailWithoutCredentials() {
+
+		LeasedCredentials credentials = new LeasedCredentials(new MockEnvironment(), new VaultDatabaseProperties());
+
+		assertThatIllegalStateException().isThrownBy(() -> credentials.get((username, password) -> username));
+	}
+
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.vault.config.databases;
+
+import java.time.Duration;
+import java.util.List;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link R2dbcCredentialRotationListener} and
+ * {@link RotatingConnectionFactory}.
+ *
+ * @author Mark Paluch
+ */
+public class R2dbcCredentialRotationListenerUnitTests {
+
+	RotatingConnectionFactory connectionFactory = new RotatingConnectionFactory(
+			ConnectionFactoryOptions.parse("r2dbc:h2:mem:///r2dbc-rotation?options=DB_CLOSE_DELAY=-1")
+				.mutate()
+				.option(ConnectionFactoryOptions.USER, "sa")
+				.option(ConnectionFactoryOptions.PASSWORD, "")
+				.build());
+
+	ConnectionPool pool = new ConnectionPool(
+			ConnectionPoolConfiguration.builder(this.connectionFactory).initialSize(2).maxSize(2).build());
+
+	R2dbcCredentialRotationListener listener = new R2dbcCredentialRotationListener(() -> List.of(this.pool));
+
+	@BeforeEach
+	void setUp() {
+		this.pool.warmup().block();
+
+		String sql = "CREATE USER IF NOT EXISTS rotated PASSWORD 'secret' ADMIN";
+
+		Mono.usingWhen(this.pool.create(), connection -> Mono.from(connection.createStatement(sql).execute())
+			.flatMap(result -> Mono.from(result.getRowsUpdated())), Connection::close).block();
+	}
+
+	@AfterEach
+	void tearDown() {
+		this.pool.dispose();
+	}
+
+	@Test
+	void shouldApplyRotatedCredentialsAndReplacePooledConnections() {
+
+		this.listener.onApplicationEvent(createEvent("sa", Duration.ZERO));
+
+		assertThat(this.connectionFactory.getUsername()).isEqualTo("rotated");
+		assertThat(getCurrentUser()).isEqualToIgnoringCase("rotated");
+		assertThat(this.pool.getMetrics().get().allocatedSize()).isEqualTo(2);
+	}
+
+	@Test
+	void shouldReplacePooledConnectionsGradually() {
+
+		this.listener.onApplicationEvent(createEvent("sa", Duration.ofHours(1)));
+
+		Connection first = Mono.from(this.pool.create()).block();
+		Connection second = Mono.from(this.pool.create()).block();
+
+		assertThat(getCurrentUser(first)).isEqualToIgnoringCase("rotated");
+		assertThat(getCurrentUser(second)).isEqualToIgnoringCase("sa");
+
+		Mono.from(first.close()).then(Mono.from(second.close())).block();
+	}
+
+	@Test
+	void shouldIgnoreConnectionFactoryUsingOtherCredentials() {
+
+		this.listener.onApplicationEvent(createEvent("other", Duration.ZERO));
+
+		assertThat(this.connectionFactory.getUsername()).isEqualTo("sa");
+		assertThat(getCurrentUser()).isEqualToIgnoringCase("sa");
+	}
+
+	private DatabaseCredentialsRotatedEvent createEvent(String previousUsername, Duration evictionWindow) {
+
+		VaultDatabaseProperties properties = new VaultDatabaseProperties();
+		properties.setRole("readonly");
+		properties.getRotation().setEvictionWindow(evictionWindow);
+
+		return new DatabaseCredentialsRotatedEvent(this, properties, previousUsername, "rotated", "secret");
+	}
+
+	private String getCurrentUser() {
+		return Mono.usingWhen(this.pool.create(), R2dbcCredentialRotationListenerUnitTests::getUser, Connection::close)
+			.block();
+	}
+
+	private static String getCurrentUser(Connection connection) {
+		return getUser(connection).block();
+	}
+
+	private static Mono<String> getUser(Connection connection) {
+		return Flux.from(connection.createStatement("SELECT CURRENT_USER()").execute())
+			.flatMap(result -> result.map((row, metadata) -> row.get(0, String.class)))
+			.single();
+	}
+
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.vault.config.databases;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import com.datastax.oss.driver.api.core.auth.Authenticator;
+import com.datastax.oss.driver.api.core.metadata.EndPoint;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.mock.env.MockEnvironment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Unit tests for {@link VaultCassandraAuthProvider}.
+ *
+ * @author Mark Paluch
+ */
+public class VaultCassandraAuthProviderUnitTests {
+
+	MockEnvironment environment = new MockEnvironment();
+
+	EndPoint endPoint = mock(EndPoint.class);
+
+	VaultCassandraAuthProvider authProvider = new VaultCassandraAuthProvider(this.environment,
+			new VaultCassandraProperties());
+
+	@Test
+	void shouldUseCurrentCredentials() throws Exception {
+
+		this.environment.setProperty("spring.data.cassandra.username", "initial");
+		this.environment.setProperty("spring.data.cassandra.password", "secret-1");
+
+		assertThat(getInitialResponse()).isEqualTo("\0initial\0secret-1");
+
+		this.environment.setProperty("spring.data.cassandra.username", "rotated");
+		this.environment.setProperty("spring.data.cassandra.password", "secret-2");
+
+		assertThat(getInitialResponse()).isEqualTo("\0rotated\0secret-2");
+	}
+
+	@Test
+	void shouldFailWithoutCredentials() {
+		assertThatIllegalStateException()
+			.isThrownBy(() -> this.authProvider.newAuthenticator(this.endPoint, "PasswordAuthenticator"));
+	}
+
+	private String getInitialResponse() throws Exception {
+
+		Authenticator authenticator = this.authProvider.newAuthenticator(this.endPoint, "PasswordAuthenticator");
+		ByteBuffer response = authenticator.initialResponse().toCompletableFuture().get();
+
+		return StandardCharsets.UTF_8.decode(response).toString();
+	}
+
+}
@@ -16,11 +16,25 @@
 
 package org.springframework.cloud.vault.config.databases;
 
+import java.util.Map;
+
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 
+import org.springframework.cloud.vault.config.LeasingSecretBackendMetadata;
 import org.springframework.cloud.vault.config.SecretBackendMetadata;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.vault.core.lease.SecretLeaseContainer;
+import org.springframework.vault.core.lease.domain.Lease;
+import org.springframework.vault.core.lease.domain.RequestedSecret;
+import org.springframework.vault.core.lease.event.LeaseListener;
+import org.springframework.vault.core.lease.event.SecretLeaseCreatedEvent;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 /**
  * Unit tests for {@link VaultConfigDatabaseBootstrapConfiguration}.
@@ -44,4 +58,121 @@ public class VaultConfigDatabaseBootstrapConfigurationUnitTests {
 		assertThat(metadata.getPath()).isEqualTo("database/static-creds/my-role");
 	}
 
+	@Test
+	public void shouldRenewCredentialsByDefault() {
+
+		VaultDatabaseProperties properties = new VaultDatabaseProperties();
+		properties.setRole("my-role");
+
+		SecretBackendMetadata metadata = VaultConfigDatabaseBootstrapConfiguration.DatabaseSecretBackendMetadataFactory
+			.forDatabase(properties);
+
+		assertThat(metadata).isInstanceOf(LeasingSecretBackendMetadata.class);
+		assertThat(((LeasingSecretBackendMetadata) metadata).getLeaseMode()).isEqualTo(RequestedSecret.Mode.RENEW);
+	}
+
+	@Test
+	public void shouldRotateCassandraAndMongoCredentialsIfEnabled() {
+
+		VaultCassandraProperties cassandra = new VaultCassandraProperties();
+		cassandra.setRole("my-role");
+		VaultMongoProperties mongo = new VaultMongoProperties();
+		mongo.setRole("my-role");
+
+		assertThat(getLeaseMode(cassandra)).isEqualTo(RequestedSecret.Mode.RENEW);
+		assertThat(getLeaseMode(mongo)).isEqualTo(RequestedSecret.Mode.RENEW);
+
+		cassandra.getRotation().setEnabled(true);
+		mongo.getRotation().setEnabled(true);
+
+		assertThat(getLeaseMode(cassandra)).isEqualTo(RequestedSecret.Mode.ROTATE);
+		assertThat(getLeaseMode(mongo)).isEqualTo(RequestedSecret.Mode.ROTATE);
+	}
+
+	@Test
+	public void shouldPublishRotatedCredentials() {
+
+		VaultDatabaseProperties properties = new VaultDatabaseProperties();
+		properties.setRole("my-role");
+		properties.getRotation().setEnabled(true);
+
+		DatabaseBackendMetadata metadata = (DatabaseBackendMetadata) VaultConfigDatabaseBootstrapConfiguration.DatabaseSecretBackendMetadataFactory
+			.forDatabase(properties);
+		ApplicationEventPublisher publisher = mock(ApplicationEventPublisher.class);
+		metadata.setApplicationEventPublisher(publisher);
+
+		assertThat(metadata.getLeaseMode()).isEqualTo(RequestedSecret.Mode.ROTATE);
+
+		RequestedSecret secret = RequestedSecret.rotating(metadata.getPath());
+		SecretLeaseContainer container = mock(SecretLeaseContainer.class);
+		metadata.beforeRegistration(secret, container);
+
+		ArgumentCaptor<LeaseListener> listener = ArgumentCaptor.forClass(LeaseListener.class);
+		verify(container).addLeaseListener(listener.capture());
+
+		listener.getValue()
+			.onLeaseEvent(new SecretLeaseCreatedEvent(secret, Lease.none(),
+					Map.of("username", "initial", "password", "secret-1")));
+		verify(publisher, never()).publishEvent(any(Object.class));
+
+		listener.getValue()
+			.onLeaseEvent(new SecretLeaseCreatedEvent(secret, Lease.none(),
+					Map.of("username", "rotated", "password", "secret-2")));
+
+		ArgumentCaptor<DatabaseCredentialsRotatedEvent> event = ArgumentCaptor
+			.forClass(DatabaseCredentialsRotatedEvent.class);
+		verify(publisher).publishEvent(event.capture());
+
+		assertThat(event.getValue().getPreviousUsername()).isEqualTo("initial");
+		assertThat(event.getValue().getUsername()).isEqualTo("rotated");
+		assertThat(event.getValue().getPassword()).isEqualTo("secret-2");
+	}
+
+	@Test
+	public void shouldPublishRotatedStaticRolePassword() {
+
+		VaultDatabaseProperties properties = new VaultDatabaseProperties();
+		properties.setRole("my-role");
+		properties.setStaticRole(true);
+
+		DatabaseBackendMetadata metadata = (DatabaseBackendMetadata) VaultConfigDatabaseBootstrapConfiguration.DatabaseSecretBackendMetadataFactory
+			.forDatabase(properties);
+		ApplicationEventPublisher publisher = mock(ApplicationEventPublisher.class);
+		metadata.setApplicationEventPublisher(publisher);
+
+		assertThat(metadata.getLeaseMode()).isEqualTo(RequestedSecret.Mode.ROTATE);
+
+		RequestedSecret secret = RequestedSecret.rotating(metadata.getPath());
+		SecretLeaseContainer container = mock(SecretLeaseContainer.class);
+		metadata.beforeRegistration(secret, container);
+
+		ArgumentCaptor<LeaseListener> listener = ArgumentCaptor.forClass(LeaseListener.class);
+		verify(container).addLeaseListener(listener.capture());
+
+		listener.getValue()
+			.onLeaseEvent(new SecretLeaseCreatedEvent(secret, Lease.none(),
+					Map.of("username", "static", "password", "secret-1")));
+		listener.getValue()
+			.onLeaseEvent(new SecretLeaseCreatedEvent(secret, Lease.none(),
+					Map.of("username", "static", "password", "secret-1")));
+		verify(publisher, never()).publishEvent(any(Object.class));
+
+		listener.getValue()
+			.onLeaseEvent(new SecretLeaseCreatedEvent(secret, Lease.none(),
+					Map.of("username", "static", "password", "secret-2")));
+
+		ArgumentCaptor<DatabaseCredentialsRotatedEvent> event = ArgumentCaptor
+			.forClass(DatabaseCredentialsRotatedEvent.class);
+		verify(publisher).publishEvent(event.capture());
+
+		assertThat(event.getValue().getPreviousUsername()).isEqualTo("static");
+		assertThat(event.getValue().getUsername()).isEqualTo("static");
+		assertThat(event.getValue().getPassword()).isEqualTo("secret-2");
+	}
+
+	private static RequestedSecret.Mode getLeaseMode(DatabaseSecretProperties properties) {
+		return ((LeasingSecretBackendMetadata) VaultConfigDatabaseBootstrapConfiguration.DatabaseSecretBackendMetadataFactory
+			.forDatabase(properties)).getLeaseMode();
+	}
+
 }
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.vault.config.databases;
+
+import com.couchbase.client.core.env.UsernameAndPassword;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.mock.env.MockEnvironment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.springframework.cloud.vault.config.databases.LeasedCredentialsFixture.credentials;
+
+/**
+ * Unit tests for {@link VaultCouchbaseCredentialSupplier}.
+ *
+ * @author Mark Paluch
+ */
+public class VaultCouchbaseCredentialSupplierUnitTests {
+
+	@Test
+	void shouldUseCurrentCredentials() {
+
+		VaultCouchbaseProperties properties = new VaultCouchbaseProperties();
+		properties.getRotation().setEnabled(true);
+
+		MockEnvironment environment = new MockEnvironment();
+		VaultCouchbaseCredentialSupplier supplier = new VaultCouchbaseCredentialSupplier(environment, properties);
+
+		environment.setProperty("spring.couchbase.username", "initial");
+		environment.setProperty("spring.couchbase.password", "secret-1");
+
+		UsernameAndPassword credentials = supplier.get();
+
+		assertThat(credentials.username()).isEqualTo("initial");
+		assertThat(credentials.password()).isEqualTo("secret-1");
+
+		environment.setProperty("spring.couchbase.username", "rotated");
+		environment.setProperty("spring.couchbase.password", "secret-2");
+
+		assertThat(supplier.get().username()).isEqualTo("rotated");
+	}
+
+	@Test
+	void shouldUseRotatedCredentials() throws Exception {
+
+		VaultCouchbaseProperties properties = new VaultCouchbaseProperties();
+		properties.setRole("my-role");
+		properties.getRotation().setEnabled(true);
+
+		try (LeasedCredentialsFixture fixture = new LeasedCredentialsFixture(properties,
+				credentials("initial", "secret-1"), credentials("rotated", "secret-2"))) {
+
+			VaultCouchbaseCredentialSupplier supplier = new VaultCouchbaseCredentialSupplier(fixture.getEnvironment(),
+					properties);
+
+			assertThat(supplier.get().username()).isEqualTo("initial");
+
+			fixture.expireLease();
+
+			UsernameAndPassword credentials = supplier.get();
+			assertThat(credentials.username()).isEqualTo("rotated");
+			assertThat(credentials.password()).isEqualTo("secret-2");
+		}
+	}
+
+	@Test
+	void shouldFailAfterLeaseExpiryWithoutRotation() throws Exception {
+
+		VaultCouchbaseProperties properties = new VaultCouchbaseProperties();
+		properties.setRole("my-role");
+
+		try (LeasedCredentialsFixture fixture = new LeasedCredentialsFixture(properties,
+				credentials("initial", "secret-1"))) {
+
+			VaultCouchbaseCredentialSupplier supplier = new VaultCouchbaseCredentialSupplier(fixture.getEnvironment(),
+					properties);
+
+			assertThat(supplier.get().username()).isEqualTo("initial");
+
+			fixture.expireLease();
+
+			assertThatIllegalStateException().isThrownBy(supplier::get);
+		}
+	}
+
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.vault.config.databases;
+
+import org.apache.hc.client5.http.auth.AuthScope;
+import org.apache.hc.client5.http.auth.UsernamePasswordCredentials;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.mock.env.MockEnvironment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.springframework.cloud.vault.config.databases.LeasedCredentialsFixture.credentials;
+
+/**
+ * Unit tests for {@link VaultElasticsearchCredentialsProvider}.
+ *
+ * @author Mark Paluch
+ */
+public class VaultElasticsearchCredentialsProviderUnitTests {
+
+	@Test
+	void shouldUseCurrentCredentials() {
+
+		VaultElasticsearchProperties properties = new VaultElasticsearchProperties();
+		properties.getRotation().setEnabled(true);
+
+		MockEnvironment environment = new MockEnvironment();
+		VaultElasticsearchCredentialsProvider provider = new VaultElasticsearchCredentialsProvider(environment,
+				properties);
+		AuthScope scope = new AuthScope("localhost", 9200);
+
+		environment.setProperty("spring.elasticsearch.rest.username", "initial");
+		environment.setProperty("spring.elasticsearch.rest.password", "secret-1");
+
+		UsernamePasswordCredentials credentials = (UsernamePasswordCredentials) provider.getCredentials(scope, null);
+
+		assertThat(credentials.getUserName()).isEqualTo("initial");
+		assertThat(credentials.getUserPassword()).isEqualTo("secret-1".toCharArray());
+
+		environment.setProperty("spring.elasticsearch.rest.username", "rotated");
+		environment.setProperty("spring.elasticsearch.rest.password", "secret-2");
+
+		credentials = (UsernamePasswordCredentials) provider.getCredentials(scope, null);
+
+		assertThat(credentials.getUserName()).isEqualTo("rotated");
+		assertThat(credentials.getUserPassword()).isEqualTo("secret-2".toCharArray());
+	}
+
+	@Test
+	void shouldUseRotatedCredentials() throws Exception {
+
+		VaultElasticsearchProperties properties = new VaultElasticsearchProperties();
+		properties.setRole("my-role");
+		properties.getRotation().setEnabled(true);
+		AuthScope scope = new AuthScope("localhost", 9200);
+
+		try (LeasedCredentialsFixture fixture = new LeasedCredentialsFixture(properties,
+				credentials("initial", "secret-1"), credentials("rotated", "secret-2"))) {
+
+			VaultElasticsearchCredentialsProvider provider = new VaultElasticsearchCredentialsProvider(
+					fixture.getEnvironment(), properties);
+
+			assertThat(provider.getCredentials(scope, null).getUserPrincipal().getName()).isEqualTo("initial");
+
+			fixture.expireLease();
+
+			UsernamePasswordCredentials credentials = (UsernamePasswordCredentials) provider.getCredentials(scope,
+					null);
+			assertThat(credentials.getUserName()).isEqualTo("rotated");
+			assertThat(credentials.getUserPassword()).isEqualTo("secret-2".toCharArray());
+		}
+	}
+
+	@Test
+	void shouldFailAfterLeaseExpiryWithoutRotation() throws Exception {
+
+		VaultElasticsearchProperties properties = new VaultElasticsearchProperties();
+		properties.setRole("my-role");
+		AuthScope scope = new AuthScope("localhost", 9200);
+
+		try (LeasedCredentialsFixture fixture = new LeasedCredentialsFixture(properties,
+				credentials("initial", "secret-1"))) {
+
+			VaultElasticsearchCredentialsProvider provider = new VaultElasticsearchCredentialsProvider(
+					fixture.getEnvironment(), properties);
+
+			assertThat(provider.getCredentials(scope, null).getUserPrincipal().getName()).isEqualTo("initial");
+
+			fixture.expireLease();
+
+			assertThatIllegalStateException().isThrownBy(() -> provider.getCredentials(scope, null));
+		}
+	}
+
+}
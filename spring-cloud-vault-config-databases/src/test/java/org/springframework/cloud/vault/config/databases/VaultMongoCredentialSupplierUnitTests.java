@@ -0,0 +1,55 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.vault.config.databases;
+
+import com.mongodb.MongoCredential;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.mock.env.MockEnvironment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link VaultMongoCredentialSupplier}.
+ *
+ * @author Mark Paluch
+ */
+public class VaultMongoCredentialSupplierUnitTests {
+
+	@Test
+	void shouldUseCurrentCredentials() {
+
+		MockEnvironment environment = new MockEnvironment();
+		VaultMongoCredentialSupplier supplier = new VaultMongoCredentialSupplier(environment,
+				new VaultMongoProperties(), "admin");
+
+		environment.setProperty("spring.data.mongodb.username", "initial");
+		environment.setProperty("spring.data.mongodb.password", "secret-1");
+
+		MongoCredential credential = supplier.get();
+
+		assertThat(credential.getUserName()).isEqualTo("initial");
+		assertThat(credential.getPassword()).isEqualTo("secret-1".toCharArray());
+		assertThat(credential.getSource()).isEqualTo("admin");
+
+		environment.setProperty("spring.data.mongodb.username", "rotated");
+		environment.setProperty("spring.data.mongodb.password", "secret-2");
+
+		assertThat(supplier.get().getUserName()).isEqualTo("rotated");
+	}
+
+}
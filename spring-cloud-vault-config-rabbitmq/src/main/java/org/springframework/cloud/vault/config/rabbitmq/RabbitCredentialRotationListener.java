@@ -0,0 +1,141 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.vault.config.rabbitmq;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.amqp.rabbit.connection.AbstractConnectionFactory;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.context.ApplicationListener;
+import org.springframework.scheduling.TaskScheduler;
+
+/**
+ * Applies {@link RabbitMqCredentialsRotatedEvent rotated credentials} to
+ * {@link AbstractConnectionFactory connection factories} (typically
+ * {@link org.springframework.amqp.rabbit.connection.CachingConnectionFactory}) using
+ * the previous credentials. Credentials are updated in place so that new connections
+ * use the rotated credentials. Connection factories, including their publisher
+ * connection factories, are then reconnected one at a time across the configured
+ * {@link VaultRabbitMqProperties.Rotation#getEvictionWindow() eviction window} so that
+ * listener containers and publishers recover on a working connection instead of all
+ * connections being closed at once.
+ * <p>
+ * Reconnects are staggered per connection factory only. Resetting a connection factory
+ * closes all of its connections and channels at once, so applications using a single
+ * connection factory reconnect everything at the start of the eviction window.
+ *
+ * @author Mark Paluch
+ * @since 5.0.3
+ */
+class RabbitCredentialRotationListener implements ApplicationListener<RabbitMqCredentialsRotatedEvent> {
+
+	private static final Log log = LogFactory.getLog(RabbitCredentialRotationListener.class);
+
+	private final Supplier<List<ConnectionFactory>> connectionFactories;
+
+	private final Supplier<TaskScheduler> taskScheduler;
+
+	RabbitCredentialRotationListener(Supplier<List<ConnectionFactory>> connectionFactories,
+			Supplier<TaskScheduler> taskScheduler) {
+		this.connectionFactories = connectionFactories;
+		this.taskScheduler = taskScheduler;
+	}
+
+	@Override
+	public void onApplicationEvent(RabbitMqCredentialsRotatedEvent event) {
+
+		List<AbstractConnectionFactory> connectionFactories = getConnectionFactories(event.getPreviousUsername());
+
+		if (connectionFactories.isEmpty()) {
+			return;
+		}
+
+		for (AbstractConnectionFactory connectionFactory : connectionFactories) {
+			connectionFactory.setUsername(event.getUsername());
+			connectionFactory.setPassword(event.getPassword());
+		}
+
+		if (log.isInfoEnabled()) {
+			log.info("Applied rotated credentials for %s to %d RabbitMQ connection factories"
+				.formatted(event.getProperties().getRole(), connectionFactories.size()));
+		}
+
+		Duration evictionWindow = event.getProperties().getRotation().getEvictionWindow();
+
+		if (evictionWindow.isZero() || evictionWindow.isNegative()) {
+			connectionFactories.forEach(RabbitCredentialRotationListener::reconnect);
+			return;
+		}
+
+		Duration interval = evictionWindow.dividedBy(connectionFactories.size());
+		Instant now = Instant.now();
+
+		for (int i = 0; i < connectionFactories.size(); i++) {
+
+			AbstractConnectionFactory connectionFactory = connectionFactories.get(i);
+			this.taskScheduler.get().schedule(() -> reconnect(connectionFactory), now.plus(interval.multipliedBy(i)));
+		}
+	}
+
+	private List<AbstractConnectionFactory> getConnectionFactories(String username) {
+
+		List<AbstractConnectionFactory> result = new ArrayList<>();
+
+		for (ConnectionFactory connectionFactory : this.connectionFactories.get()) {
+
+			collect(connectionFactory, username, result);
+
+			if (connectionFactory instanceof AbstractConnectionFactory acf && acf.hasPublisherConnectionFactory()) {
+				collect(acf.getPublisherConnectionFactory(), username, result);
+			}
+		}
+
+		return result;
+	}
+
+	private static void collect(ConnectionFactory connectionFactory, String username,
+			List<AbstractConnectionFactory> result) {
+
+		if (connectionFactory instanceof AbstractConnectionFactory acf && username.equals(acf.getUsername())
+				&& !result.contains(acf)) {
+			result.add(acf);
+		}
+	}
+
+	/**
+	 * Close connections of the given connection factory. Connections are re-established
+	 * with the rotated credentials upon next use, listener containers reconnect
+	 * automatically.
+	 */
+	static void reconnect(AbstractConnectionFactory connectionFactory) {
+
+		try {
+			connectionFactory.resetConnection();
+		}
+		catch (RuntimeException e) {
+			log.warn("Cannot reconnect RabbitMQ connection factory to %s".formatted(connectionFactory.getHost()), e);
+		}
+	}
+
+}
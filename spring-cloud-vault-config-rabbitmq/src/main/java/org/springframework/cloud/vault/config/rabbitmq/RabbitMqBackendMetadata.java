@@ -0,0 +1,152 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.vault.config.rabbitmq;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.cloud.vault.config.LeasingSecretBackendMetadata;
+import org.springframework.cloud.vault.config.SecretBackendMetadata;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.ApplicationEventPublisherAware;
+import org.springframework.lang.Nullable;
+import org.springframework.vault.core.lease.SecretLeaseContainer;
+import org.springframework.vault.core.lease.domain.RequestedSecret;
+import org.springframework.vault.core.lease.event.SecretLeaseCreatedEvent;
+import org.springframework.vault.core.util.PropertyTransformer;
+
+/**
+ * {@link SecretBackendMetadata} for RabbitMQ credentials.
+ *
+ * @author Mark Paluch
+ * @since 5.0.3
+ */
+class RabbitMqBackendMetadata implements SecretBackendMetadata {
+
+	final VaultRabbitMqProperties properties;
+
+	private final PropertyTransformer transformer;
+
+	RabbitMqBackendMetadata(VaultRabbitMqProperties properties, PropertyTransformer transformer) {
+		this.properties = properties;
+		this.transformer = transformer;
+	}
+
+	@Override
+	public String getName() {
+		return String.format("%s with Role %s", this.properties.getBackend(), this.properties.getRole());
+	}
+
+	@Override
+	public String getPath() {
+		return String.format("%s/creds/%s", this.properties.getBackend(), this.properties.getRole());
+	}
+
+	@Override
+	public PropertyTransformer getPropertyTransformer() {
+		return this.transformer;
+	}
+
+	@Override
+	public Map<String, String> getVariables() {
+
+		Map<String, String> variables = new HashMap<>();
+
+		variables.put("backend", this.properties.getBackend());
+		variables.put("key", String.format("creds/%s", this.properties.getRole()));
+
+		return variables;
+	}
+
+	/**
+	 * {@link LeasingSecretBackendMetadata} rotating RabbitMQ credentials. Publishes
+	 * {@link RabbitMqCredentialsRotatedEvent} when the {@link SecretLeaseContainer}
+	 * obtained new credentials.
+	 */
+	static class Rotating extends RabbitMqBackendMetadata
+			implements LeasingSecretBackendMetadata, ApplicationEventPublisherAware {
+
+		private static final Log log = LogFactory.getLog(Rotating.class);
+
+		@Nullable
+		private ApplicationEventPublisher eventPublisher;
+
+		@Nullable
+		private volatile String username;
+
+		Rotating(VaultRabbitMqProperties properties, PropertyTransformer transformer) {
+			super(properties, transformer);
+		}
+
+		@Override
+		public void setApplicationEventPublisher(ApplicationEventPublisher applicationEventPublisher) {
+			this.eventPublisher = applicationEventPublisher;
+		}
+
+		@Override
+		public RequestedSecret.Mode getLeaseMode() {
+			return RequestedSecret.Mode.ROTATE;
+		}
+
+		@Override
+		public void beforeRegistration(RequestedSecret secret, SecretLeaseContainer container) {
+
+			// registered before the initial request to capture the initial username
+			container.addLeaseListener(leaseEvent -> {
+
+				if (leaseEvent.getSource() == secret && leaseEvent instanceof SecretLeaseCreatedEvent created) {
+					onCredentials(created.getSecrets());
+				}
+			});
+		}
+
+		private void onCredentials(Map<String, Object> secrets) {
+
+			Object username = secrets.get("username");
+			Object password = secrets.get("password");
+
+			if (username == null || password == null) {
+				return;
+			}
+
+			String previousUsername = this.username;
+			this.username = username.toString();
+
+			if (previousUsername == null || previousUsername.equals(this.username)) {
+				return;
+			}
+
+			if (this.eventPublisher == null) {
+				log.warn("Cannot publish rotated credentials for %s: No ApplicationEventPublisher available"
+					.formatted(getName()));
+				return;
+			}
+
+			if (log.isDebugEnabled()) {
+				log.debug("Publishing RabbitMqCredentialsRotatedEvent for %s".formatted(getName()));
+			}
+
+			this.eventPublisher.publishEvent(new RabbitMqCredentialsRotatedEvent(this, this.properties,
+					previousUsername, this.username, password.toString()));
+		}
+
+	}
+
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.vault.config.rabbitmq;
+
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * Event published after rotation of dynamic RabbitMQ credentials. Consumers update
+ * connection factories that were configured with the {@link #getPreviousUsername()
+ * previous username}.
+ *
+ * @author Mark Paluch
+ * @since 5.0.3
+ * @see VaultRabbitMqProperties.Rotation
+ */
+public class RabbitMqCredentialsRotatedEvent extends ApplicationEvent {
+
+	private final VaultRabbitMqProperties properties;
+
+	private final String previousUsername;
+
+	private final String username;
+
+	private final String password;
+
+	/**
+	 * Create a new {@link RabbitMqCredentialsRotatedEvent}.
+	 * @param source the event source.
+	 * @param properties the RabbitMQ properties.
+	 * @param previousUsername the username of the previous credentials.
+	 * @param username the rotated username.
+	 * @param password the rotated password.
+	 */
+	public RabbitMqCredentialsRotatedEvent(Object source, VaultRabbitMqProperties properties, String previousUsername,
+			String username, String password) {
+		super(source);
+		this.properties = properties;
+		this.previousUsername = previousUsername;
+		this.username = username;
+		this.password = password;
+	}
+
+	public VaultRabbitMqProperties getProperties() {
+		return this.properties;
+	}
+
+	public String getPreviousUsername() {
+		return this.previousUsername;
+	}
+
+	public String getUsername() {
+		return this.username;
+	}
+
+	public String getPassword() {
+		return this.password;
+	}
+
+}
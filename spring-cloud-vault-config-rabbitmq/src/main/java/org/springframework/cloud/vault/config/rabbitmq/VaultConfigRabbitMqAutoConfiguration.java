@@ -0,0 +1,53 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.vault.config.rabbitmq;
+
+import org.springframework.amqp.rabbit.connection.AbstractConnectionFactory;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfigureAfter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cloud.vault.config.VaultAutoConfiguration;
+import org.springframework.cloud.vault.config.VaultAutoConfiguration.TaskSchedulerWrapper;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * {@link org.springframework.boot.autoconfigure.EnableAutoConfiguration
+ * Auto-configuration} applying rotated RabbitMQ credentials to connection factories.
+ *
+ * @author Mark Paluch
+ * @since 5.0.3
+ * @see RabbitMqCredentialsRotatedEvent
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(name = "spring.cloud.vault.enabled", matchIfMissing = true)
+@ConditionalOnClass(AbstractConnectionFactory.class)
+@AutoConfigureAfter(VaultAutoConfiguration.class)
+public class VaultConfigRabbitMqAutoConfiguration {
+
+	@Bean
+	@ConditionalOnMissingBean
+	RabbitCredentialRotationListener rabbitCredentialRotationListener(
+			ObjectProvider<ConnectionFactory> connectionFactories, ObjectProvider<TaskSchedulerWrapper> taskScheduler) {
+		return new RabbitCredentialRotationListener(() -> connectionFactories.orderedStream().toList(),
+				() -> taskScheduler.getObject().getTaskScheduler());
+	}
+
+}
@@ -16,9 +16,6 @@
 
 package org.springframework.cloud.vault.config.rabbitmq;
 
-import java.util.HashMap;
-import java.util.Map;
-
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.cloud.vault.config.PropertyNameTransformer;
@@ -28,7 +25,6 @@ import org.springframework.cloud.vault.config.VaultSecretBackendDescriptor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.util.Assert;
-import org.springframework.vault.core.util.PropertyTransformer;
 
 /**
  * Bootstrap configuration providing support for the RabbitMQ secret backend.
@@ -69,34 +65,11 @@ public class VaultConfigRabbitMqBootstrapConfiguration {
 			transformer.addKeyTransformation("username", properties.getUsernameProperty());
 			transformer.addKeyTransformation("password", properties.getPasswordProperty());
 
-			return new SecretBackendMetadata() {
-
-				@Override
-				public String getName() {
-					return String.format("%s with Role %s", properties.getBackend(), properties.getRole());
-				}
-
-				@Override
-				public String getPath() {
-					return String.format("%s/creds/%s", properties.getBackend(), properties.getRole());
-				}
-
-				@Override
-				public PropertyTransformer getPropertyTransformer() {
-					return transformer;
-				}
-
-				@Override
-				public Map<String, String> getVariables() {
-
-					Map<String, String> variables = new HashMap<>();
-
-					variables.put("backend", properties.getBackend());
-					variables.put("key", String.format("creds/%s", properties.getRole()));
+			if (properties.getRotation().isEnabled()) {
+				return new RabbitMqBackendMetadata.Rotating(properties, transformer);
+			}
 
-					return variables;
-				}
-			};
+			return new RabbitMqBackendMetadata(properties, transformer);
 		}
 
 		@Override
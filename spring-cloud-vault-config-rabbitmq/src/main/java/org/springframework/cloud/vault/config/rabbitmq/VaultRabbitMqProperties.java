@@ -16,6 +16,8 @@
 
 package org.springframework.cloud.vault.config.rabbitmq;
 
+import java.time.Duration;
+
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.cloud.vault.config.VaultSecretBackendDescriptor;
 import org.springframework.lang.Nullable;
@@ -54,6 +56,11 @@ public class VaultRabbitMqProperties implements VaultSecretBackendDescriptor {
 	 */
 	private String passwordProperty = "spring.rabbitmq.password";
 
+	/**
+	 * Credential rotation properties.
+	 */
+	private Rotation rotation = new Rotation();
+
 	@Override
 	public boolean isEnabled() {
 		return this.enabled;
@@ -97,4 +104,49 @@ public class VaultRabbitMqProperties implements VaultSecretBackendDescriptor {
 		this.passwordProperty = passwordProperty;
 	}
 
+	public Rotation getRotation() {
+		return this.rotation;
+	}
+
+	public void setRotation(Rotation rotation) {
+		this.rotation = rotation;
+	}
+
+	/**
+	 * Credential rotation properties.
+	 *
+	 * @since 5.0.3
+	 */
+	public static class Rotation {
+
+		/**
+		 * Enable rotation of dynamic credentials once their lease expires. Rotated
+		 * credentials are applied to running RabbitMQ connection factories.
+		 */
+		private boolean enabled = false;
+
+		/**
+		 * Time window across which connection factories using previous credentials are
+		 * reconnected after rotation.
+		 */
+		private Duration evictionWindow = Duration.ofSeconds(30);
+
+		public boolean isEnabled() {
+			return this.enabled;
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		public Duration getEvictionWindow() {
+			return this.evictionWindow;
+		}
+
+		public void setEvictionWindow(Duration evictionWindow) {
+			this.evictionWindow = evictionWindow;
+		}
+
+	}
+
 }
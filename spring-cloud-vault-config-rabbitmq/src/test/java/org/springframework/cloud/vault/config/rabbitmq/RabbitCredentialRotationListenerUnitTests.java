@@ -0,0 +1,96 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.vault.config.rabbitmq;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import org.springframework.amqp.rabbit.connection.CachingConnectionFactory;
+import org.springframework.scheduling.TaskScheduler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+/**
+ * Unit tests for {@link RabbitCredentialRotationListener}.
+ *
+ * @author Mark Paluch
+ */
+public class RabbitCredentialRotationListenerUnitTests {
+
+	CachingConnectionFactory connectionFactory = new CachingConnectionFactory("localhost");
+
+	TaskScheduler taskScheduler = mock(TaskScheduler.class);
+
+	RabbitCredentialRotationListener listener = new RabbitCredentialRotationListener(
+			() -> List.of(this.connectionFactory), () -> this.taskScheduler);
+
+	@AfterEach
+	void tearDown() {
+		this.connectionFactory.destroy();
+	}
+
+	@Test
+	void shouldApplyRotatedCredentialsAndReconnectOneAtATime() {
+
+		this.connectionFactory.setUsername("initial");
+		this.connectionFactory.setPublisherConnectionFactory(new CachingConnectionFactory("localhost"));
+		((CachingConnectionFactory) this.connectionFactory.getPublisherConnectionFactory()).setUsername("initial");
+
+		this.listener.onApplicationEvent(createEvent("initial"));
+
+		assertThat(this.connectionFactory.getUsername()).isEqualTo("rotated");
+		assertThat(((CachingConnectionFactory) this.connectionFactory.getPublisherConnectionFactory()).getUsername())
+			.isEqualTo("rotated");
+
+		ArgumentCaptor<Instant> startTimes = ArgumentCaptor.forClass(Instant.class);
+		verify(this.taskScheduler, times(2)).schedule(any(Runnable.class), startTimes.capture());
+
+		assertThat(Duration.between(startTimes.getAllValues().get(0), startTimes.getAllValues().get(1)))
+			.isEqualTo(Duration.ofSeconds(5));
+	}
+
+	@Test
+	void shouldIgnoreConnectionFactoryUsingOtherCredentials() {
+
+		this.connectionFactory.setUsername("other");
+
+		this.listener.onApplicationEvent(createEvent("initial"));
+
+		assertThat(this.connectionFactory.getUsername()).isEqualTo("other");
+		verifyNoInteractions(this.taskScheduler);
+	}
+
+	private RabbitMqCredentialsRotatedEvent createEvent(String previousUsername) {
+
+		VaultRabbitMqProperties properties = new VaultRabbitMqProperties();
+		properties.setRole("my-role");
+		properties.getRotation().setEvictionWindow(Duration.ofSeconds(10));
+
+		return new RabbitMqCredentialsRotatedEvent(this, properties, previousUsername, "rotated", "secret");
+	}
+
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.vault.config.rabbitmq;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import org.springframework.cloud.vault.config.LeasingSecretBackendMetadata;
+import org.springframework.cloud.vault.config.SecretBackendMetadata;
+import org.springframework.cloud.vault.config.rabbitmq.VaultConfigRabbitMqBootstrapConfiguration.RabbitMqSecretBackendMetadataFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.vault.core.lease.SecretLeaseContainer;
+import org.springframework.vault.core.lease.domain.Lease;
+import org.springframework.vault.core.lease.domain.RequestedSecret;
+import org.springframework.vault.core.lease.event.LeaseListener;
+import org.springframework.vault.core.lease.event.SecretLeaseCreatedEvent;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Unit tests for {@link VaultConfigRabbitMqBootstrapConfiguration}.
+ *
+ * @author Mark Paluch
+ */
+public class VaultConfigRabbitMqBootstrapConfigurationUnitTests {
+
+	@Test
+	public void shouldNotManageLeaseByDefault() {
+
+		VaultRabbitMqProperties properties = new VaultRabbitMqProperties();
+		properties.setRole("my-role");
+
+		SecretBackendMetadata metadata = RabbitMqSecretBackendMetadataFactory.forRabbitMq(properties);
+
+		assertThat(metadata).isNotInstanceOf(LeasingSecretBackendMetadata.class);
+		assertThat(metadata.getPath()).isEqualTo("rabbitmq/creds/my-role");
+	}
+
+	@Test
+	public void shouldPublishRotatedCredentials() {
+
+		VaultRabbitMqProperties properties = new VaultRabbitMqProperties();
+		properties.setRole("my-role");
+		properties.getRotation().setEnabled(true);
+
+		RabbitMqBackendMetadata.Rotating metadata = (RabbitMqBackendMetadata.Rotating) RabbitMqSecretBackendMetadataFactory
+			.forRabbitMq(properties);
+		ApplicationEventPublisher publisher = mock(ApplicationEventPublisher.class);
+		metadata.setApplicationEventPublisher(publisher);
+
+		assertThat(metadata.getLeaseMode()).isEqualTo(RequestedSecret.Mode.ROTATE);
+
+		RequestedSecret secret = RequestedSecret.rotating(metadata.getPath());
+		SecretLeaseContainer container = mock(SecretLeaseContainer.class);
+		metadata.beforeRegistration(secret, container);
+
+		ArgumentCaptor<LeaseListener> listener = ArgumentCaptor.forClass(LeaseListener.class);
+		verify(container).addLeaseListener(listener.capture());
+
+		listener.getValue()
+			.onLeaseEvent(new SecretLeaseCreatedEvent(secret, Lease.none(),
+					Map.of("username", "initial", "password", "secret-1")));
+		verify(publisher, never()).publishEvent(any(Object.class));
+
+		listener.getValue()
+			.onLeaseEvent(new SecretLeaseCreatedEvent(secret, Lease.none(),
+					Map.of("username", "rotated", "password", "secret-2")));
+
+		ArgumentCaptor<RabbitMqCredentialsRotatedEvent> event = ArgumentCaptor
+			.forClass(RabbitMqCredentialsRotatedEvent.class);
+		verify(publisher).publishEvent(event.capture());
+
+		assertThat(event.getValue().getPreviousUsername()).isEqualTo("initial");
+		assertThat(event.getValue().getUsername()).isEqualTo("rotated");
+		assertThat(event.getValue().getPassword()).isEqualTo("secret-2");
+	}
+
+}
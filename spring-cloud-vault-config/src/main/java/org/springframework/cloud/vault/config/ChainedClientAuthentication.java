@@ -0,0 +1,450 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.vault.config;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.cloud.vault.config.VaultProperties.AuthenticationMethod;
+import org.springframework.http.HttpEntity;
+import org.springframework.lang.Nullable;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.util.Assert;
+import org.springframework.util.function.SingletonSupplier;
+import org.springframework.vault.authentication.ClientAuthentication;
+import org.springframework.vault.authentication.LoginToken;
+import org.springframework.vault.authentication.VaultLoginException;
+import org.springframework.vault.client.VaultHttpHeaders;
+import org.springframework.vault.support.VaultToken;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestOperations;
+
+/**
+ * {@link ClientAuthentication} trying an ordered chain of authentication methods until
+ * one of them succeeds. Each attempt is bounded by a timeout. Optionally, the next method
+ * is started speculatively if an attempt has not completed within the hedge delay so
+ * that a slow dependency (such as a throttled instance metadata service) does not delay
+ * the login. The method that succeeded last is tried first on the next login.
+ * <p>
+ * Delegates are created lazily on their first attempt so that methods that are never
+ * attempted do not need to be fully configured. Tokens obtained by attempts that lost
+ * the race, timed out or were abandoned otherwise are revoked once they complete.
+ * <p>
+ * Each method has at most one attempt in flight. A method whose previous attempt is
+ * still running (for example after a timeout) is considered failed instead of starting
+ * another attempt, which bounds the number of login threads to the number of methods.
+ * <p>
+ * Destroying this authentication destroys all delegates that were created and that
+ * implement {@link DisposableBean}.
+ *
+ * @author Mark Paluch
+ * @since 5.0.3
+ */
+class ChainedClientAuthentication implements ClientAuthentication, DisposableBean {
+
+	private static final Log log = LogFactory.getLog(ChainedClientAuthentication.class);
+
+	private final Map<AuthenticationMethod, Supplier<ClientAuthentication>> delegates;
+
+	private final Map<AuthenticationMethod, ClientAuthentication> created = new ConcurrentHashMap<>();
+
+	private final Duration timeout;
+
+	@Nullable
+	private final Duration hedgeDelay;
+
+	private final RestOperations restOperations;
+
+	private final ExecutorService executor;
+
+	private final Map<AuthenticationMethod, Attempt> attempts = new ConcurrentHashMap<>();
+
+	@Nullable
+	private volatile AuthenticationMethod preferred;
+
+	/**
+	 * Create a new {@link ChainedClientAuthentication}.
+	 * @param methods the authentication methods in the order in which they are attempted.
+	 * @param factory factory to create the {@link ClientAuthentication} for a method.
+	 * @param timeout timeout for each attempt.
+	 * @param hedgeDelay delay after which the next method is attempted while the
+	 * previous attempt is still running. {@literal null} to attempt methods sequentially.
+	 * @param restOperations the {@link RestOperations} to revoke superfluous tokens.
+	 */
+	ChainedClientAuthentication(List<AuthenticationMethod> methods,
+			Function<AuthenticationMethod, ClientAuthentication> factory, Duration timeout,
+			@Nullable Duration hedgeDelay, RestOperations restOperations) {
+
+		Assert.notEmpty(methods, "Authentication methods must not be empty");
+		Assert.isTrue(!methods.contains(AuthenticationMethod.NONE), "Authentication method NONE cannot be chained");
+		Assert.isTrue(!timeout.isNegative() && !timeout.isZero(), "Timeout must be positive");
+
+		this.delegates = new LinkedHashMap<>();
+		for (AuthenticationMethod method : methods) {
+			this.delegates.put(method, SingletonSupplier.of(() -> {
+				ClientAuthentication delegate = factory.apply(method);
+				this.created.put(method, delegate);
+				return delegate;
+			}));
+		}
+
+		this.timeout = timeout;
+		this.hedgeDelay = hedgeDelay;
+		this.restOperations = restOperations;
+		this.executor = createExecutor(this.delegates.size());
+	}
+
+	private static ExecutorService createExecutor(int threads) {
+
+		CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("vault-login-");
+		threadFactory.setDaemon(true);
+
+		return new ThreadPoolExecutor(0, threads, 60, TimeUnit.SECONDS, new SynchronousQueue<>(), threadFactory);
+	}
+
+	@Override
+	public void destroy() throws Exception {
+
+		this.executor.shutdownNow();
+
+		Exception failure = null;
+		for (Map.Entry<AuthenticationMethod, ClientAuthentication> entry : this.created.entrySet()) {
+
+			if (!(entry.getValue() instanceof DisposableBean disposable)) {
+				continue;
+			}
+
+			try {
+				disposable.destroy();
+			}
+			catch (Exception ex) {
+				log.warn("Cannot destroy authentication %s".formatted(entry.getKey()), ex);
+				if (failure == null) {
+					failure = ex;
+				}
+			}
+		}
+
+		if (failure != null) {
+			throw failure;
+		}
+	}
+
+	/**
+	 * @return the method that succeeded last or {@literal null} if no login has
+	 * succeeded yet. Session instrumentation and the token cache are keyed on this
+	 * method.
+	 */
+	@Nullable
+	AuthenticationMethod getPreferred() {
+		return this.preferred;
+	}
+
+	/**
+	 * Prefer the given method, typically because a token it obtained earlier was reused.
+	 * @param method the method to prefer, must be part of this chain.
+	 */
+	void setPreferred(AuthenticationMethod method) {
+
+		Assert.isTrue(this.delegates.containsKey(method), () -> "Method %s is not part of %s".formatted(method,
+				this.delegates.keySet()));
+
+		this.preferred = method;
+	}
+
+	/**
+	 * @return the authentication methods of this chain in their configured order.
+	 */
+	List<AuthenticationMethod> getMethods() {
+		return new ArrayList<>(this.delegates.keySet());
+	}
+
+	/**
+	 * Unwrap a {@link ChainedClientAuthentication} from {@code authentication}.
+	 * @param authentication the authentication object, can be {@literal null}.
+	 * @return the {@link ChainedClientAuthentication} or {@literal null} if
+	 * {@code authentication} does not use a chain.
+	 */
+	@Nullable
+	static ChainedClientAuthentication unwrap(@Nullable Object authentication) {
+
+		if (authentication instanceof Chained chained) {
+			return chained.getChain();
+		}
+
+		if (authentication instanceof ClientAuthentication clientAuthentication && SpeculativeLogin.PrefetchedAuthentication
+			.unwrap(clientAuthentication) instanceof ChainedClientAuthentication chain) {
+			return chain;
+		}
+
+		return null;
+	}
+
+	/**
+	 * @return the authentication methods in the order of the next login.
+	 */
+	List<AuthenticationMethod> getOrder() {
+
+		List<AuthenticationMethod> order = new ArrayList<>(this.delegates.keySet());
+		AuthenticationMethod preferred = this.preferred;
+
+		if (preferred != null) {
+			order.remove(preferred);
+			order.add(0, preferred);
+		}
+
+		return order;
+	}
+
+	@Override
+	public VaultToken login() throws VaultLoginException {
+
+		List<AuthenticationMethod> order = getOrder();
+		BlockingQueue<Attempt> completions = new LinkedBlockingQueue<>();
+		List<Attempt> running = new ArrayList<>();
+		List<String> failures = new ArrayList<>();
+		int next = 0;
+		long lastStart = 0;
+
+		try {
+			while (true) {
+
+				if (running.isEmpty()) {
+
+					if (next == order.size()) {
+						break;
+					}
+
+					running.add(start(order.get(next++), completions));
+					lastStart = System.nanoTime();
+				}
+
+				boolean hedge = this.hedgeDelay != null && next < order.size();
+				long now = System.nanoTime();
+				long wait = running.stream().mapToLong(attempt -> attempt.deadline - now).min().orElse(0);
+
+				if (hedge) {
+					wait = Math.min(wait, lastStart + this.hedgeDelay.toNanos() - now);
+				}
+
+				Attempt completed = completions.poll(Math.max(wait, 0), TimeUnit.NANOSECONDS);
+
+				if (completed != null) {
+
+					running.remove(completed);
+
+					if (completed.token != null) {
+
+						this.preferred = completed.method;
+						log.debug("Login successful using %s".formatted(completed.method));
+						abandon(running, completions, completed);
+						return completed.token;
+					}
+
+					failures.add("%s: %s".formatted(completed.method, getMessage(completed.error)));
+					log.debug("Login using %s failed".formatted(completed.method), completed.error);
+					continue;
+				}
+
+				long time = System.nanoTime();
+
+				for (Iterator<Attempt> iterator = running.iterator(); iterator.hasNext();) {
+
+					Attempt attempt = iterator.next();
+
+					if (time - attempt.deadline >= 0) {
+						iterator.remove();
+						abandon(attempt, completions);
+						failures.add("%s: timed out after %s".formatted(attempt.method, this.timeout));
+					}
+				}
+
+				if (hedge && time - (lastStart + this.hedgeDelay.toNanos()) >= 0) {
+					running.add(start(order.get(next++), completions));
+					lastStart = time;
+				}
+			}
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			abandon(running, completions, null);
+			throw new VaultLoginException("Login interrupted", ex);
+		}
+
+		throw new VaultLoginException(
+				"Cannot login using any of %s: %s".formatted(order, String.join("; ", failures)));
+	}
+
+	private Attempt start(AuthenticationMethod method, BlockingQueue<Attempt> completions) {
+
+		Attempt attempt = new Attempt(method, System.nanoTime() + this.timeout.toNanos());
+		Attempt previous = this.attempts.get(method);
+
+		if (previous != null && !previous.done) {
+			complete(attempt, null, new IllegalStateException("Previous attempt still running"), completions);
+			return attempt;
+		}
+
+		this.attempts.put(method, attempt);
+		Supplier<ClientAuthentication> delegate = this.delegates.get(method);
+
+		try {
+			CompletableFuture.supplyAsync(() -> delegate.get().login(), this.executor)
+				.whenComplete((token, error) -> complete(attempt, token, error, completions));
+		}
+		catch (RejectedExecutionException ex) {
+			complete(attempt, null, ex, completions);
+		}
+
+		return attempt;
+	}
+
+	private void complete(Attempt attempt, @Nullable VaultToken token, @Nullable Throwable error,
+			BlockingQueue<Attempt> completions) {
+
+		attempt.token = token;
+		attempt.error = error;
+		attempt.done = true;
+
+		if (attempt.state.compareAndSet(Attempt.RUNNING, Attempt.COMPLETED)) {
+			completions.offer(attempt);
+		}
+		else if (token != null) {
+			// abandoned while running
+			revoke(attempt);
+		}
+	}
+
+	private void abandon(List<Attempt> running, BlockingQueue<Attempt> completions, @Nullable Attempt winner) {
+
+		for (Attempt attempt : running) {
+			if (attempt != winner) {
+				abandon(attempt, completions);
+			}
+		}
+	}
+
+	private void abandon(Attempt attempt, BlockingQueue<Attempt> completions) {
+
+		if (attempt.state.compareAndSet(Attempt.RUNNING, Attempt.ABANDONED)) {
+			// token is revoked once the attempt completes
+			return;
+		}
+
+		// completed concurrently, possibly not yet enqueued
+		if (attempt.state.compareAndSet(Attempt.COMPLETED, Attempt.ABANDONED)) {
+
+			completions.remove(attempt);
+
+			if (attempt.token != null) {
+				revoke(attempt);
+			}
+		}
+	}
+
+	private void revoke(Attempt attempt) {
+
+		VaultToken token = attempt.token;
+
+		if (!(token instanceof LoginToken)) {
+			return;
+		}
+
+		try {
+			this.restOperations.postForObject("auth/token/revoke-self", new HttpEntity<>(VaultHttpHeaders.from(token)),
+					Map.class);
+		}
+		catch (RestClientException ex) {
+			log.warn("Cannot revoke token obtained using %s".formatted(attempt.method), ex);
+		}
+	}
+
+	private static String getMessage(@Nullable Throwable error) {
+
+		Throwable cause = error instanceof CompletionException && error.getCause() != null
+				? error.getCause() : error;
+
+		return cause != null ? String.valueOf(cause.getMessage()) : "unknown error";
+	}
+
+	/**
+	 * Interface implemented by components that obtain tokens through a
+	 * {@link ChainedClientAuthentication}.
+	 */
+	interface Chained {
+
+		/**
+		 * @return the underlying {@link ChainedClientAuthentication}.
+		 */
+		ChainedClientAuthentication getChain();
+
+	}
+
+	/**
+	 * Login attempt using a single authentication method.
+	 */
+	static final class Attempt {
+
+		static final int RUNNING = 0;
+
+		static final int COMPLETED = 1;
+
+		static final int ABANDONED = 2;
+
+		final AuthenticationMethod method;
+
+		final long deadline;
+
+		final AtomicInteger state = new AtomicInteger(RUNNING);
+
+		@Nullable
+		volatile VaultToken token;
+
+		@Nullable
+		volatile Throwable error;
+
+		volatile boolean done;
+
+		Attempt(AuthenticationMethod method, long deadline) {
+			this.method = method;
+			this.deadline = deadline;
+		}
+
+	}
+
+}
@@ -21,6 +21,7 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
 
 import software.amazon.awssdk.auth.credentials.AwsCredentials;
 import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
@@ -31,6 +32,7 @@ import org.springframework.boot.system.SystemProperties;
 import org.springframework.cloud.vault.config.VaultProperties.AppRoleProperties;
 import org.springframework.cloud.vault.config.VaultProperties.AwsIamProperties;
 import org.springframework.cloud.vault.config.VaultProperties.AzureMsiProperties;
+import org.springframework.scheduling.TaskScheduler;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
 import org.springframework.util.StringUtils;
@@ -67,6 +69,7 @@ import org.springframework.vault.authentication.ResourceCredentialSupplier;
 import org.springframework.vault.authentication.TokenAuthentication;
 import org.springframework.vault.support.VaultToken;
 import org.springframework.web.client.RestOperations;
+import org.springframework.web.client.RestTemplate;
 
 import static java.nio.charset.StandardCharsets.UTF_8;
 
@@ -91,11 +94,27 @@ class ClientAuthenticationFactory {
 
 	private final RestOperations externalRestOperations;
 
+	private final Supplier<TaskScheduler> taskScheduler;
+
 	ClientAuthenticationFactory(VaultProperties vaultProperties, RestOperations restOperations,
 			RestOperations externalRestOperations) {
+		this(vaultProperties, restOperations, externalRestOperations, () -> null);
+	}
+
+	/**
+	 * @param vaultProperties the Vault properties.
+	 * @param restOperations the client to access Vault.
+	 * @param externalRestOperations the client to access cloud provider metadata
+	 * services.
+	 * @param taskScheduler supplier of the scheduler to prefetch cached login material.
+	 * May supply {@literal null} if no scheduler is available.
+	 */
+	ClientAuthenticationFactory(VaultProperties vaultProperties, RestOperations restOperations,
+			RestOperations externalRestOperations, Supplier<TaskScheduler> taskScheduler) {
 		this.vaultProperties = vaultProperties;
 		this.restOperations = restOperations;
 		this.externalRestOperations = externalRestOperations;
+		this.taskScheduler = taskScheduler;
 	}
 
 	/**
@@ -103,7 +122,23 @@ class ClientAuthenticationFactory {
 	 */
 	ClientAuthentication createClientAuthentication() {
 
-		return switch (this.vaultProperties.getAuthentication()) {
+		VaultProperties.AuthenticationChain chain = this.vaultProperties.getAuthenticationChain();
+
+		if (!chain.getMethods().isEmpty()) {
+			return new ChainedClientAuthentication(chain.getMethods(), this::createClientAuthentication,
+					chain.getTimeout(), chain.getHedgeDelay(), this.restOperations);
+		}
+
+		return createClientAuthentication(this.vaultProperties.getAuthentication());
+	}
+
+	/**
+	 * @param authentication the authentication method.
+	 * @return a new {@link ClientAuthentication} for the given authentication method.
+	 */
+	ClientAuthentication createClientAuthentication(VaultProperties.AuthenticationMethod authentication) {
+
+		return switch (authentication) {
 			case APPROLE -> appRoleAuthentication(this.vaultProperties);
 			case AWS_EC2 -> awsEc2Authentication(this.vaultProperties);
 			case AWS_IAM -> awsIamAuthentication(this.vaultProperties);
@@ -117,7 +152,7 @@ class ClientAuthenticationFactory {
 			case PCF -> pcfAuthentication(this.vaultProperties);
 			case TOKEN -> tokenAuthentication(this.vaultProperties);
 			default -> throw new UnsupportedOperationException(
-					String.format("Client authentication %s not supported", this.vaultProperties.getAuthentication()));
+					String.format("Client authentication %s not supported", authentication));
 		};
 
 	}
@@ -197,6 +232,13 @@ class ClientAuthenticationFactory {
 			.identityDocumentUri(awsEc2.getIdentityDocument()) //
 			.build();
 
+		VaultProperties.LoginMaterialCache cache = vaultProperties.getSession().getLoginMaterialCache();
+
+		if (cache.isEnabled()) {
+			return new LoginMaterialCachingAuthentication.AwsEc2(authenticationOptions, this.restOperations,
+					this.externalRestOperations, cache.getTimeToLive(), this.taskScheduler);
+		}
+
 		return new AwsEc2Authentication(authenticationOptions, this.restOperations, this.externalRestOperations);
 	}
 
@@ -244,6 +286,13 @@ class ClientAuthenticationFactory {
 			.identityTokenServiceUri(azureMsi.getIdentityTokenService()) //
 			.build();
 
+		VaultProperties.LoginMaterialCache cache = vaultProperties.getSession().getLoginMaterialCache();
+
+		if (cache.isEnabled() && this.externalRestOperations instanceof RestTemplate restTemplate) {
+			return new LoginMaterialCachingAuthentication.AzureMsi(options, this.restOperations, restTemplate,
+					cache.getTimeToLive(), this.taskScheduler);
+		}
+
 		return new AzureMsiAuthentication(options, this.restOperations, this.externalRestOperations);
 	}
 
@@ -274,13 +323,21 @@ class ClientAuthenticationFactory {
 			builder.serviceAccount(gcp.getServiceAccount());
 		}
 
+		VaultProperties.LoginMaterialCache cache = vaultProperties.getSession().getLoginMaterialCache();
+
+		if (cache.isEnabled()) {
+			return new LoginMaterialCachingAuthentication.GcpCompute(builder.build(), this.restOperations,
+					this.externalRestOperations, cache.getTimeToLive(), this.taskScheduler);
+		}
+
 		return new GcpComputeAuthentication(builder.build(), this.restOperations, this.externalRestOperations);
 	}
 
 	private ClientAuthentication gcpIamAuthentication(VaultProperties vaultProperties) {
 
 		if (googleCredentialsPresent) {
-			return GcpIamCredentialsAuthenticationFactory.create(vaultProperties, this.restOperations);
+			return GcpIamCredentialsAuthenticationFactory.create(vaultProperties, this.restOperations,
+					this.taskScheduler);
 		}
 
 		throw new IllegalStateException(
@@ -345,6 +402,21 @@ class ClientAuthenticationFactory {
 		Assert.hasText(kubernetes.getServiceAccountTokenFile(),
 				"Service account token file (spring.cloud.vault.kubernetes.service-account-token-file) must not be empty");
 
+		if (vaultProperties.getSession().getCredentialWatch().isEnabled()) {
+
+			WatchedCredentialFile tokenFile = new WatchedCredentialFile(
+					Paths.get(kubernetes.getServiceAccountTokenFile()));
+			tokenFile.start();
+
+			KubernetesAuthenticationOptions options = KubernetesAuthenticationOptions.builder()
+				.path(kubernetes.getKubernetesPath())
+				.role(kubernetes.getRole())
+				.jwtSupplier(tokenFile)
+				.build();
+
+			return new WatchedCredentialFile.KubernetesFileAuthentication(options, this.restOperations, tokenFile);
+		}
+
 		KubernetesAuthenticationOptions options = KubernetesAuthenticationOptions.builder()
 			.path(kubernetes.getKubernetesPath())
 			.role(kubernetes.getRole())
@@ -398,6 +470,15 @@ class ClientAuthenticationFactory {
 		Path vaultTokenPath = Paths.get(SystemProperties.get("user.home"), ".vault-token");
 
 		if (Files.exists(vaultTokenPath)) {
+
+			if (vaultProperties.getSession().getCredentialWatch().isEnabled()) {
+
+				WatchedCredentialFile tokenFile = new WatchedCredentialFile(vaultTokenPath);
+				tokenFile.start();
+
+				return new WatchedCredentialFile.TokenFileAuthentication(tokenFile);
+			}
+
 			try {
 				return new TokenAuthentication(new String(Files.readAllBytes(vaultTokenPath), UTF_8));
 			}
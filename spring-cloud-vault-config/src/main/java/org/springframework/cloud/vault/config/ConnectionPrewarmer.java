@@ -0,0 +1,200 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.vault.config;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.util.Assert;
+import org.springframework.util.StreamUtils;
+import org.springframework.vault.client.VaultEndpoint;
+
+/**
+ * Opens pooled connections to Vault ahead of their use. The first connection is opened
+ * on its own, remaining connections are opened concurrently afterwards. Pre-warming does
+ * not configure the TLS setup: Whether subsequent connections resume the TLS session of
+ * the first connection is up to the HTTP client and the JDK.
+ * <p>
+ * Connections are opened by requesting the unauthenticated {@code sys/health} endpoint.
+ * Responses are consumed completely to return connections to the pool of the
+ * {@link ClientHttpRequestFactory}. Failures are logged and otherwise ignored.
+ * <p>
+ * Concurrent requests do not guarantee separate connections. A request that completes
+ * early returns its connection to the pool where a later request may reuse it. The
+ * number of connections actually opened is determined by the HTTP client and its pool
+ * limits.
+ *
+ * @author Mark Paluch
+ * @since 5.0.3
+ * @see ConnectionPrewarmerMetrics
+ */
+final class ConnectionPrewarmer {
+
+	private static final Log log = LogFactory.getLog(ConnectionPrewarmer.class);
+
+	private final ClientHttpRequestFactory requestFactory;
+
+	private final URI uri;
+
+	private final int connections;
+
+	private final List<Connection> established = new ArrayList<>();
+
+	private final List<Consumer<Connection>> listeners = new ArrayList<>();
+
+	private AsyncTaskExecutor executor = createExecutor();
+
+	ConnectionPrewarmer(ClientHttpRequestFactory requestFactory, VaultEndpoint endpoint, int connections) {
+
+		Assert.notNull(requestFactory, "ClientHttpRequestFactory must not be null");
+		Assert.notNull(endpoint, "VaultEndpoint must not be null");
+		Assert.isTrue(connections > 0, "Number of connections must be greater than zero");
+
+		this.requestFactory = requestFactory;
+		this.uri = endpoint.createUri("sys/health");
+		this.connections = connections;
+	}
+
+	private static AsyncTaskExecutor createExecutor() {
+
+		SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("vault-connection-prewarm-");
+		executor.setDaemon(true);
+		return executor;
+	}
+
+	void setExecutor(AsyncTaskExecutor executor) {
+		this.executor = executor;
+	}
+
+	/**
+	 * Open connections in the background.
+	 * @return a future that completes once all connections were attempted.
+	 */
+	CompletableFuture<Void> start() {
+
+		return CompletableFuture.runAsync(() -> connect(true), this.executor).thenCompose(ignore -> {
+
+			List<CompletableFuture<Void>> futures = new ArrayList<>();
+
+			for (int i = 1; i < this.connections; i++) {
+				futures.add(CompletableFuture.runAsync(() -> connect(false), this.executor));
+			}
+
+			return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]));
+		});
+	}
+
+	/**
+	 * Add a listener that is notified about established connections. The listener is
+	 * notified about connections that were established before registering the listener,
+	 * too.
+	 * @param listener the listener to add, must not be {@literal null}.
+	 */
+	void addListener(Consumer<Connection> listener) {
+
+		Assert.notNull(listener, "Listener must not be null");
+
+		List<Connection> connections;
+
+		synchronized (this.established) {
+			this.listeners.add(listener);
+			connections = new ArrayList<>(this.established);
+		}
+
+		connections.forEach(listener);
+	}
+
+	private void connect(boolean first) {
+
+		long start = System.nanoTime();
+		boolean success = false;
+
+		try {
+			try (ClientHttpResponse response = this.requestFactory.createRequest(this.uri, HttpMethod.GET).execute();
+					InputStream body = response.getBody()) {
+				StreamUtils.drain(body);
+			}
+			success = true;
+		}
+		catch (IOException | RuntimeException ex) {
+			log.debug("Cannot pre-warm connection to %s".formatted(this.uri), ex);
+		}
+
+		Connection connection = new Connection(first, success, Duration.ofNanos(System.nanoTime() - start));
+		List<Consumer<Connection>> listeners;
+
+		synchronized (this.established) {
+			this.established.add(connection);
+			listeners = new ArrayList<>(this.listeners);
+		}
+
+		listeners.forEach(it -> it.accept(connection));
+	}
+
+	/**
+	 * Outcome of opening a connection.
+	 */
+	static class Connection {
+
+		private final boolean first;
+
+		private final boolean success;
+
+		private final Duration duration;
+
+		Connection(boolean first, boolean success, Duration duration) {
+			this.first = first;
+			this.success = success;
+			this.duration = duration;
+		}
+
+		/**
+		 * @return {@literal true} if this was the first request that ran on its own.
+		 */
+		boolean isFirst() {
+			return this.first;
+		}
+
+		boolean isSuccess() {
+			return this.success;
+		}
+
+		/**
+		 * @return time to complete the request, including connection setup if the
+		 * request opened a new connection.
+		 */
+		Duration getDuration() {
+			return this.duration;
+		}
+
+	}
+
+}
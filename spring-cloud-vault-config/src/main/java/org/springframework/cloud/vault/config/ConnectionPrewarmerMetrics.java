@@ -0,0 +1,68 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.vault.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import org.springframework.util.Assert;
+
+/**
+ * {@link MeterBinder} for connections opened by {@link ConnectionPrewarmer}.
+ * <p>
+ * The following meters are registered:
+ * <ul>
+ * <li>{@code vault.client.prewarm}: Duration of pre-warming requests, including
+ * connection setup if the request opened a new connection. Tagged with
+ * {@code request} ({@code first} for the request that runs on its own,
+ * {@code subsequent} for requests running concurrently afterwards) and
+ * {@code outcome}.</li>
+ * </ul>
+ *
+ * @author Mark Paluch
+ * @since 5.0.3
+ */
+public class ConnectionPrewarmerMetrics implements MeterBinder {
+
+	private final ConnectionPrewarmer prewarmer;
+
+	ConnectionPrewarmerMetrics(ConnectionPrewarmer prewarmer) {
+
+		Assert.notNull(prewarmer, "ConnectionPrewarmer must not be null");
+
+		this.prewarmer = prewarmer;
+	}
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+
+		this.prewarmer.addListener(connection -> {
+
+			Tags tags = Tags.of("request", connection.isFirst() ? "first" : "subsequent", "outcome",
+					connection.isSuccess() ? "SUCCESS" : "ERROR");
+
+			Timer.builder("vault.client.prewarm")
+				.description("Duration of requests pre-warming connections to Vault")
+				.tags(tags)
+				.register(registry)
+				.record(connection.getDuration());
+		});
+	}
+
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.vault.config;
+
+import java.io.IOException;
+
+import org.springframework.cloud.vault.config.VaultFlightRecorderEvents.RequestEvent;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.lang.Nullable;
+
+/**
+ * {@link ClientHttpRequestInterceptor} emitting a
+ * {@link VaultFlightRecorderEvents.RequestEvent} for each request issued through
+ * {@link org.springframework.web.client.RestTemplate}. The response status is recorded
+ * once the request has been executed. Requests that fail or whose status cannot be
+ * read are recorded as I/O errors without affecting the request.
+ *
+ * @author Mark Paluch
+ * @since 5.0.3
+ */
+class FlightRecorderClientHttpRequestInterceptor implements ClientHttpRequestInterceptor {
+
+	@Override
+	public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+			throws IOException {
+
+		RequestEvent event = new RequestEvent();
+		event.begin();
+
+		HttpStatusCode statusCode = null;
+		long bytes = 0;
+
+		try {
+
+			ClientHttpResponse response = execution.execute(request, body);
+
+			statusCode = getStatusCode(response);
+			bytes = Math.max(0, response.getHeaders().getContentLength());
+
+			return response;
+		}
+		finally {
+
+			event.end();
+
+			if (event.shouldCommit()) {
+
+				String path = request.getURI().getPath();
+
+				event.method = request.getMethod().name();
+				event.path = VaultPathTemplates.toTemplate(path);
+				event.operation = VaultObservationSupport.getOperation(request.getMethod(), path);
+
+				if (statusCode != null) {
+					event.status = statusCode.value();
+					event.bytes = bytes;
+				}
+
+				event.outcome = VaultFlightRecorderEvents.getOutcome(statusCode);
+
+				event.commit();
+			}
+		}
+	}
+
+	@Nullable
+	private static HttpStatusCode getStatusCode(ClientHttpResponse response) {
+
+		try {
+			return response.getStatusCode();
+		}
+		catch (IOException e) {
+			// reported to the caller when it reads the status
+			return null;
+		}
+	}
+
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.vault.config;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+import org.springframework.cloud.vault.config.VaultFlightRecorderEvents.RequestEvent;
+import org.springframework.lang.Nullable;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+
+/**
+ * {@link ExchangeFilterFunction} emitting a {@link VaultFlightRecorderEvents.RequestEvent}
+ * for each request issued through
+ * {@link org.springframework.web.reactive.function.client.WebClient}. The event ends
+ * once response headers are received, the request fails or the subscription is
+ * cancelled before a response was received.
+ *
+ * @author Mark Paluch
+ * @since 5.0.3
+ */
+class FlightRecorderExchangeFilterFunction implements ExchangeFilterFunction {
+
+	static final String OUTCOME_CANCELLED = "CANCELLED";
+
+	@Override
+	public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+
+		return Mono.defer(() -> {
+
+			RequestEvent event = new RequestEvent();
+			AtomicReference<ClientResponse> response = new AtomicReference<>();
+			event.begin();
+
+			return next.exchange(request)
+				.doOnNext(response::set)
+				.doFinally(signal -> commit(event, request, response.get(), signal == SignalType.CANCEL));
+		});
+	}
+
+	private static void commit(RequestEvent event, ClientRequest request, @Nullable ClientResponse response,
+			boolean cancelled) {
+
+		event.end();
+
+		if (!event.shouldCommit()) {
+			return;
+		}
+
+		String path = request.url().getPath();
+
+		event.method = request.method().name();
+		event.path = VaultPathTemplates.toTemplate(path);
+		event.operation = VaultObservationSupport.getOperation(request.method(), path);
+
+		if (response != null) {
+			event.status = response.statusCode().value();
+			event.bytes = response.headers().contentLength().orElse(0);
+			event.outcome = VaultFlightRecorderEvents.getOutcome(response.statusCode());
+		}
+		else if (cancelled) {
+			event.outcome = OUTCOME_CANCELLED;
+		}
+		else {
+			event.outcome = VaultFlightRecorderEvents.getOutcome(null);
+		}
+
+		event.commit();
+	}
+
+}
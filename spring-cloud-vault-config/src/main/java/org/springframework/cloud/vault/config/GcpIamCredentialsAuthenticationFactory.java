@@ -18,18 +18,24 @@ package org.springframework.cloud.vault.config;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.time.Duration;
 import java.util.Base64;
+import java.util.function.Supplier;
 
 import com.google.auth.oauth2.GoogleCredentials;
 
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.cloud.vault.config.VaultProperties.GcpIamProperties;
+import org.springframework.scheduling.TaskScheduler;
 import org.springframework.util.Assert;
 import org.springframework.util.StringUtils;
+import org.springframework.vault.VaultException;
 import org.springframework.vault.authentication.ClientAuthentication;
 import org.springframework.vault.authentication.GcpIamCredentialsAuthentication;
 import org.springframework.vault.authentication.GcpIamCredentialsAuthenticationOptions;
 import org.springframework.vault.authentication.GcpIamCredentialsAuthenticationOptions.GcpIamCredentialsAuthenticationOptionsBuilder;
 import org.springframework.vault.authentication.GoogleCredentialsSupplier;
+import org.springframework.vault.support.VaultToken;
 import org.springframework.web.client.RestOperations;
 
 /**
@@ -44,7 +50,8 @@ final class GcpIamCredentialsAuthenticationFactory {
 	private GcpIamCredentialsAuthenticationFactory() {
 	}
 
-	static ClientAuthentication create(VaultProperties vaultProperties, RestOperations restOperations) {
+	static ClientAuthentication create(VaultProperties vaultProperties, RestOperations restOperations,
+			Supplier<TaskScheduler> taskScheduler) {
 
 		GcpIamProperties gcp = vaultProperties.getGcpIam();
 
@@ -63,6 +70,12 @@ final class GcpIamCredentialsAuthenticationFactory {
 		builder.credentials(supplier.get());
 
 		GcpIamCredentialsAuthenticationOptions options = builder.build();
+		VaultProperties.LoginMaterialCache cache = vaultProperties.getSession().getLoginMaterialCache();
+
+		if (cache.isEnabled()) {
+			return new CachingGcpIamCredentialsAuthentication(options, restOperations, cache.getTimeToLive(),
+					taskScheduler);
+		}
 
 		return new GcpIamCredentialsAuthentication(options, restOperations);
 	}
@@ -82,4 +95,46 @@ final class GcpIamCredentialsAuthenticationFactory {
 		return GoogleCredentials.getApplicationDefault();
 	}
 
+	/**
+	 * {@link GcpIamCredentialsAuthentication} caching the signed JWT within its
+	 * {@code jwtValidity}.
+	 */
+	static class CachingGcpIamCredentialsAuthentication extends GcpIamCredentialsAuthentication
+			implements DisposableBean {
+
+		private final LoginMaterialCache<String> jwt;
+
+		CachingGcpIamCredentialsAuthentication(GcpIamCredentialsAuthenticationOptions options,
+				RestOperations restOperations, Duration timeToLive, Supplier<TaskScheduler> taskScheduler) {
+
+			super(options, restOperations);
+
+			this.jwt = new LoginMaterialCache<>("GCP IAM signed JWT", super::signJwt,
+					WatchedCredentialFile::getJwtExpiry, timeToLive, taskScheduler);
+		}
+
+		@Override
+		public VaultToken login() throws VaultException {
+
+			try {
+				return super.login();
+			}
+			catch (VaultException ex) {
+				this.jwt.evict();
+				throw ex;
+			}
+		}
+
+		@Override
+		protected String signJwt() {
+			return this.jwt.get();
+		}
+
+		@Override
+		public void destroy() {
+			this.jwt.evict();
+		}
+
+	}
+
 }
@@ -0,0 +1,198 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.vault.config;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+import reactor.util.context.Context;
+
+import org.springframework.cloud.vault.config.VaultFlightRecorderEvents.LoginEvent;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.vault.VaultException;
+import org.springframework.vault.authentication.ReactiveLifecycleAwareSessionManager;
+import org.springframework.vault.authentication.VaultTokenSupplier;
+import org.springframework.vault.support.VaultToken;
+import org.springframework.web.reactive.function.client.WebClient;
+
+/**
+ * {@link ReactiveLifecycleAwareSessionManager} reporting login, token renewal and token
+ * wait durations through {@link SessionInstrumentation}.
+ * <p>
+ * Participates in the application context lifecycle: Starting the session manager after
+ * it was stopped (for example after restoring a CRaC checkpoint) replaces the session
+ * token through a new login. The previous token is not revoked as it may be shared with
+ * other instances restored from the same checkpoint.
+ *
+ * @author Mark Paluch
+ * @since 5.0.3
+ */
+class InstrumentedReactiveSessionManager extends ReactiveLifecycleAwareSessionManager
+		implements SessionInstrumentation.Instrumented, SmartLifecycle {
+
+	private static final Log log = LogFactory.getLog(InstrumentedReactiveSessionManager.class);
+
+	/**
+	 * Context key to drop the current token without revoking it.
+	 */
+	private static final String RETAIN_TOKEN = InstrumentedReactiveSessionManager.class.getName() + ".RETAIN_TOKEN";
+
+	private final SessionInstrumentation instrumentation;
+
+	private boolean revokeOnDestroy = true;
+
+	/**
+	 * The session manager is usable once created so it reports running before the
+	 * context lifecycle starts it. Only {@link #start()} after {@link #stop()} replaces
+	 * the session token.
+	 */
+	private volatile boolean running = true;
+
+	private volatile boolean stopped;
+
+	InstrumentedReactiveSessionManager(VaultTokenSupplier vaultTokenSupplier, TaskScheduler taskScheduler,
+			WebClient webClient, RefreshTrigger refreshTrigger, SessionInstrumentation instrumentation) {
+
+		super(instrument(vaultTokenSupplier, instrumentation), taskScheduler, webClient, refreshTrigger);
+
+		this.instrumentation = instrumentation;
+		addAuthenticationListener(instrumentation);
+	}
+
+	private static VaultTokenSupplier instrument(VaultTokenSupplier vaultTokenSupplier,
+			SessionInstrumentation instrumentation) {
+
+		return () -> Mono.defer(() -> {
+
+			LoginEvent event = instrumentation.loginStarted();
+			long start = SessionInstrumentation.start();
+
+			return vaultTokenSupplier.getVaultToken()
+				.doOnSuccess(token -> instrumentation.loginCompleted(event, SessionInstrumentation.since(start), true))
+				.doOnError(e -> instrumentation.loginCompleted(event, SessionInstrumentation.since(start), false));
+		});
+	}
+
+	/**
+	 * Configure whether to revoke the session token when the session manager is
+	 * destroyed. Disabling revocation allows reusing a cached token after restart.
+	 * @param revokeOnDestroy whether to revoke the session token on destroy.
+	 */
+	void setRevokeOnDestroy(boolean revokeOnDestroy) {
+		this.revokeOnDestroy = revokeOnDestroy;
+	}
+
+	@Override
+	protected void revokeNow(Mono<TokenWrapper> token) {
+
+		// only called from destroy()
+		if (this.revokeOnDestroy) {
+			super.revokeNow(token);
+		}
+	}
+
+	/**
+	 * Obtain a new session token through login to pick up changed credentials. The
+	 * current token is dropped locally without revoking it as revocation would also
+	 * revoke all leases obtained with that token. Concurrent callers of
+	 * {@link #getVaultToken()} share the pending login.
+	 * @return the new session token.
+	 */
+	Mono<VaultToken> relogin() {
+		return revoke().contextWrite(Context.of(RETAIN_TOKEN, true)).then(Mono.defer(this::getVaultToken));
+	}
+
+	@Override
+	protected Mono<Void> doRevoke(Mono<TokenWrapper> token) {
+		return Mono.deferContextual(
+				context -> context.getOrDefault(RETAIN_TOKEN, false) ? Mono.empty() : super.doRevoke(token));
+	}
+
+	@Override
+	public void start() {
+
+		this.running = true;
+
+		if (!this.stopped) {
+			return;
+		}
+
+		this.stopped = false;
+
+		try {
+			relogin().block();
+		}
+		catch (RuntimeException e) {
+			log.warn("Cannot obtain a new session token after restart", e);
+		}
+	}
+
+	@Override
+	public void stop() {
+		this.stopped = true;
+		this.running = false;
+	}
+
+	@Override
+	public boolean isRunning() {
+		return this.running;
+	}
+
+	@Override
+	public int getPhase() {
+		return VaultConfiguration.SESSION_MANAGER_PHASE;
+	}
+
+	@Override
+	public SessionInstrumentation getSessionInstrumentation() {
+		return this.instrumentation;
+	}
+
+	@Override
+	public Mono<VaultToken> getVaultToken() throws VaultException {
+
+		if (this.instrumentation.isTokenPresent()) {
+			return super.getVaultToken();
+		}
+
+		return Mono.defer(() -> {
+
+			long start = SessionInstrumentation.start();
+
+			return super.getVaultToken()
+				.doOnSuccess(token -> this.instrumentation.tokenObtained(SessionInstrumentation.since(start)));
+		});
+	}
+
+	@Override
+	public Mono<VaultToken> renewToken() {
+
+		return Mono.defer(() -> {
+
+			long start = SessionInstrumentation.start();
+
+			return super.renewToken().doFinally(signalType -> {
+				if (signalType != SignalType.CANCEL) {
+					this.instrumentation.renewalCompleted(SessionInstrumentation.since(start));
+				}
+			});
+		});
+	}
+
+}
@@ -0,0 +1,479 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.vault.config;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.cloud.vault.config.VaultFlightRecorderEvents.LeaseRenewalEvent;
+import org.springframework.cloud.vault.config.VaultFlightRecorderEvents.SecretRequestEvent;
+import org.springframework.lang.Nullable;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.util.Assert;
+import org.springframework.vault.core.VaultOperations;
+import org.springframework.vault.core.lease.SecretLeaseContainer;
+import org.springframework.vault.core.lease.domain.Lease;
+import org.springframework.vault.core.lease.domain.RequestedSecret;
+import org.springframework.vault.support.LeaseStrategy;
+import org.springframework.vault.support.VaultResponseSupport;
+
+/**
+ * {@link SecretLeaseContainer} that keeps an in-memory view of the lease state of each
+ * {@link RequestedSecret} and reports the duration of secret retrieval and lease renewal
+ * requests to registered {@link LeaseRequestListener listeners}.
+ * <p>
+ * Lease state is tracked from the time the container is created so that
+ * instrumentation attached later on (e.g. once a {@code MeterRegistry} becomes
+ * available) can report leases that were obtained while bootstrapping the application.
+ * <p>
+ * Rotating static role credentials (e.g. {@code database/static-creds/…}) are not
+ * leased. Vault reports the time until the next password rotation through {@code ttl}
+ * instead. This container derives a lease duration from {@code ttl} so that static
+ * credentials are requested again shortly after each predicted rotation.
+ *
+ * @author Mark Paluch
+ * @since 5.0.3
+ * @see SecretLeaseContainerMetrics
+ */
+class InstrumentedSecretLeaseContainer extends SecretLeaseContainer {
+
+	private static final Log log = LogFactory.getLog(InstrumentedSecretLeaseContainer.class);
+
+	/**
+	 * Delay after the predicted rotation of static credentials before requesting them
+	 * again. Vault processes its static role rotation queue every five seconds.
+	 */
+	static final Duration STATIC_CREDENTIALS_ROTATION_DELAY = Duration.ofSeconds(5);
+
+	private final Map<RequestedSecret, LeaseState> leaseStates = new ConcurrentHashMap<>();
+
+	private final List<LeaseRequestListener> requestListeners = new CopyOnWriteArrayList<>();
+
+	private LeaseStrategy leaseStrategy = LeaseStrategy.dropOnError();
+
+	private Clock clock = Clock.systemUTC();
+
+	private boolean flightRecorderEnabled;
+
+	InstrumentedSecretLeaseContainer(VaultOperations operations, TaskScheduler taskScheduler) {
+		super(operations, taskScheduler);
+	}
+
+	@Override
+	public void setLeaseStrategy(LeaseStrategy leaseStrategy) {
+
+		super.setLeaseStrategy(leaseStrategy);
+		this.leaseStrategy = leaseStrategy;
+	}
+
+	/**
+	 * @return the {@link LeaseStrategy} to use.
+	 */
+	LeaseStrategy getLeaseStrategy() {
+		return this.leaseStrategy;
+	}
+
+	/**
+	 * Set the {@link Clock} to compute lease expiry.
+	 * @param clock the clock to use, must not be {@literal null}.
+	 */
+	void setClock(Clock clock) {
+
+		Assert.notNull(clock, "Clock must not be null");
+
+		this.clock = clock;
+	}
+
+	Clock getClock() {
+		return this.clock;
+	}
+
+	/**
+	 * Enable emission of {@link SecretRequestEvent} and {@link LeaseRenewalEvent}
+	 * events.
+	 * @param flightRecorderEnabled whether to emit Java Flight Recorder events.
+	 */
+	void setFlightRecorderEnabled(boolean flightRecorderEnabled) {
+		this.flightRecorderEnabled = flightRecorderEnabled;
+	}
+
+	/**
+	 * Add a {@link LeaseRequestListener}.
+	 * @param listener the listener to add, must not be {@literal null}.
+	 */
+	void addLeaseRequestListener(LeaseRequestListener listener) {
+
+		Assert.notNull(listener, "LeaseRequestListener must not be null");
+
+		this.requestListeners.add(listener);
+	}
+
+	/**
+	 * Remove a {@link LeaseRequestListener}.
+	 * @param listener the listener to remove.
+	 */
+	void removeLeaseRequestListener(LeaseRequestListener listener) {
+		this.requestListeners.remove(listener);
+	}
+
+	/**
+	 * @return a snapshot of the lease state of all {@link RequestedSecret requested
+	 * secrets} that were requested through this container.
+	 */
+	List<LeaseState> getLeaseStates() {
+		return new ArrayList<>(this.leaseStates.values());
+	}
+
+	@Override
+	@Nullable
+	protected VaultResponseSupport<Map<String, Object>> doGetSecrets(RequestedSecret requestedSecret) {
+
+		LeaseState state = this.leaseStates.get(requestedSecret);
+		boolean rotation = state != null && state.isObtained();
+		SecretRequestEvent event = null;
+
+		if (this.flightRecorderEnabled) {
+			event = new SecretRequestEvent();
+			event.begin();
+		}
+
+		long start = System.nanoTime();
+		VaultResponseSupport<Map<String, Object>> secrets = null;
+
+		try {
+			secrets = super.doGetSecrets(requestedSecret);
+
+			if (secrets != null) {
+				applyStaticCredentialsTtl(requestedSecret, secrets);
+			}
+
+			return secrets;
+		}
+		finally {
+
+			Duration duration = Duration.ofNanos(System.nanoTime() - start);
+
+			if (event != null) {
+
+				event.end();
+
+				if (event.shouldCommit()) {
+					event.path = VaultPathTemplates.toTemplate(requestedSecret.getPath());
+					event.rotation = rotation;
+					event.outcome = getOutcome(secrets != null);
+					event.commit();
+				}
+			}
+
+			for (LeaseRequestListener listener : this.requestListeners) {
+				if (rotation) {
+					listener.onRotation(requestedSecret, duration);
+				}
+				else {
+					listener.onSecretsRequested(requestedSecret, duration);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Derive the lease duration of rotating static credentials from the {@code ttl}
+	 * until the next password rotation. Rotation is scheduled
+	 * {@link #getExpiryThreshold() expiry threshold} before a lease expires so the
+	 * threshold is added to the lease duration.
+	 * @param requestedSecret the requested secret.
+	 * @param secrets the obtained secrets.
+	 */
+	private void applyStaticCredentialsTtl(RequestedSecret requestedSecret,
+			VaultResponseSupport<Map<String, Object>> secrets) {
+
+		if (requestedSecret.getMode() != RequestedSecret.Mode.ROTATE || secrets.isRenewable()
+				|| secrets.getLeaseDuration() > 0 || secrets.getData() == null) {
+			return;
+		}
+
+		Map<String, Object> data = secrets.getData();
+
+		if (!data.containsKey("last_vault_rotation") || !(data.get("ttl") instanceof Number ttl)) {
+			return;
+		}
+
+		Duration leaseDuration = Duration.ofSeconds(Math.max(ttl.longValue(), 0))
+			.plus(getExpiryThreshold())
+			.plus(STATIC_CREDENTIALS_ROTATION_DELAY);
+
+		if (log.isDebugEnabled()) {
+			log.debug("Static credentials for %s rotate in %ds".formatted(requestedSecret.getPath(), ttl.longValue()));
+		}
+
+		secrets.setLeaseDuration(leaseDuration.toSeconds());
+	}
+
+	/**
+	 * Revoke a {@link Lease} that was obtained without this container, for example when
+	 * reading a secret before it was known to require lease management.
+	 * @param requestedSecret the secret the lease belongs to.
+	 * @param lease the lease to revoke.
+	 */
+	void revokeLease(RequestedSecret requestedSecret, Lease lease) {
+		doRevokeLease(requestedSecret, lease);
+	}
+
+	@Override
+	protected Lease doRenewLease(RequestedSecret requestedSecret, Lease lease) {
+
+		LeaseRenewalEvent event = null;
+
+		if (this.flightRecorderEnabled) {
+			event = new LeaseRenewalEvent();
+			event.begin();
+		}
+
+		long start = System.nanoTime();
+		boolean success = false;
+
+		try {
+			Lease renewed = super.doRenewLease(requestedSecret, lease);
+			success = renewed.hasLeaseId();
+			return renewed;
+		}
+		finally {
+
+			Duration duration = Duration.ofNanos(System.nanoTime() - start);
+
+			if (event != null) {
+
+				event.end();
+
+				if (event.shouldCommit()) {
+					event.path = VaultPathTemplates.toTemplate(requestedSecret.getPath());
+					event.outcome = getOutcome(success);
+					event.commit();
+				}
+			}
+
+			for (LeaseRequestListener listener : this.requestListeners) {
+				listener.onRenewal(requestedSecret, duration);
+			}
+		}
+	}
+
+	private static String getOutcome(boolean success) {
+		return success ? VaultFlightRecorderEvents.OUTCOME_SUCCESS : VaultFlightRecorderEvents.OUTCOME_ERROR;
+	}
+
+	@Override
+	protected void onSecretsObtained(RequestedSecret requestedSecret, Lease lease, Map<String, Object> body) {
+
+		this.leaseStates.put(requestedSecret, LeaseState.active(requestedSecret, lease, this.clock.instant()));
+		super.onSecretsObtained(requestedSecret, lease, body);
+	}
+
+	@Override
+	protected void onSecretsRotated(RequestedSecret requestedSecret, Lease previousLease, Lease lease,
+			Map<String, Object> body) {
+
+		this.leaseStates.put(requestedSecret, LeaseState.active(requestedSecret, lease, this.clock.instant()));
+		super.onSecretsRotated(requestedSecret, previousLease, lease, body);
+	}
+
+	@Override
+	protected void onAfterLeaseRenewed(RequestedSecret requestedSecret, Lease lease) {
+
+		this.leaseStates.put(requestedSecret, LeaseState.active(requestedSecret, lease, this.clock.instant()));
+		super.onAfterLeaseRenewed(requestedSecret, lease);
+	}
+
+	@Override
+	protected void onLeaseExpired(RequestedSecret requestedSecret, Lease lease) {
+
+		this.leaseStates.computeIfPresent(requestedSecret, (secret, state) -> state.expired());
+		super.onLeaseExpired(requestedSecret, lease);
+	}
+
+	@Override
+	protected void onAfterLeaseRevocation(RequestedSecret requestedSecret, Lease lease) {
+
+		this.leaseStates.remove(requestedSecret);
+		super.onAfterLeaseRevocation(requestedSecret, lease);
+	}
+
+	@Override
+	protected void onError(RequestedSecret requestedSecret, Lease lease, Exception e) {
+
+		this.leaseStates.compute(requestedSecret, (secret, state) -> {
+			return state != null ? state.failed(e) : LeaseState.failed(requestedSecret, lease, e);
+		});
+		super.onError(requestedSecret, lease, e);
+	}
+
+	/**
+	 * Listener interface to receive the duration of requests issued by the
+	 * {@link InstrumentedSecretLeaseContainer}. Listener methods are invoked regardless of
+	 * whether the request was successful. Failures are propagated through
+	 * {@link org.springframework.vault.core.lease.event.LeaseErrorListener}.
+	 */
+	interface LeaseRequestListener {
+
+		/**
+		 * Callback after secrets were requested for the first time.
+		 * @param requestedSecret the requested secret.
+		 * @param duration the request duration.
+		 */
+		default void onSecretsRequested(RequestedSecret requestedSecret, Duration duration) {
+		}
+
+		/**
+		 * Callback after secrets were requested again to rotate previously obtained
+		 * secrets.
+		 * @param requestedSecret the requested secret.
+		 * @param duration the request duration.
+		 */
+		default void onRotation(RequestedSecret requestedSecret, Duration duration) {
+		}
+
+		/**
+		 * Callback after a lease renewal request.
+		 * @param requestedSecret the requested secret.
+		 * @param duration the request duration.
+		 */
+		default void onRenewal(RequestedSecret requestedSecret, Duration duration) {
+		}
+
+	}
+
+	/**
+	 * Immutable value object capturing the lease state of a {@link RequestedSecret}.
+	 */
+	static final class LeaseState {
+
+		private final RequestedSecret requestedSecret;
+
+		private final String pathTemplate;
+
+		private final Lease lease;
+
+		@Nullable
+		private final Instant expiry;
+
+		private final boolean obtained;
+
+		private final boolean expired;
+
+		private final int consecutiveErrors;
+
+		@Nullable
+		private final Exception lastError;
+
+		private LeaseState(RequestedSecret requestedSecret, Lease lease, @Nullable Instant expiry, boolean obtained,
+				boolean expired, int consecutiveErrors, @Nullable Exception lastError) {
+			this.requestedSecret = requestedSecret;
+			this.pathTemplate = VaultPathTemplates.toTemplate(requestedSecret.getPath());
+			this.lease = lease;
+			this.expiry = expiry;
+			this.obtained = obtained;
+			this.expired = expired;
+			this.consecutiveErrors = consecutiveErrors;
+			this.lastError = lastError;
+		}
+
+		static LeaseState active(RequestedSecret requestedSecret, Lease lease, Instant now) {
+
+			Duration leaseDuration = lease.getLeaseDuration();
+			Instant expiry = leaseDuration.isZero() || leaseDuration.isNegative() ? null : now.plus(leaseDuration);
+
+			return new LeaseState(requestedSecret, lease, expiry, true, false, 0, null);
+		}
+
+		static LeaseState failed(RequestedSecret requestedSecret, Lease lease, Exception e) {
+			return new LeaseState(requestedSecret, lease, null, false, false, 1, e);
+		}
+
+		LeaseState expired() {
+			return new LeaseState(this.requestedSecret, this.lease, this.expiry, this.obtained, true,
+					this.consecutiveErrors, this.lastError);
+		}
+
+		LeaseState failed(Exception e) {
+			return new LeaseState(this.requestedSecret, this.lease, this.expiry, this.obtained, this.expired,
+					this.consecutiveErrors + 1, e);
+		}
+
+		RequestedSecret getRequestedSecret() {
+			return this.requestedSecret;
+		}
+
+		String getPathTemplate() {
+			return this.pathTemplate;
+		}
+
+		Lease getLease() {
+			return this.lease;
+		}
+
+		/**
+		 * @return {@literal true} if the secret is associated with an active lease that
+		 * has a lease identifier.
+		 */
+		boolean isActive() {
+			return !this.expired && this.lease.hasLeaseId();
+		}
+
+		/**
+		 * @return {@literal true} if secrets were obtained at least once.
+		 */
+		boolean isObtained() {
+			return this.obtained;
+		}
+
+		boolean isExpired() {
+			return this.expired;
+		}
+
+		/**
+		 * @return the expiry of the current lease or {@literal null} if the lease does
+		 * not expire.
+		 */
+		@Nullable
+		Instant getExpiry() {
+			return this.expiry;
+		}
+
+		/**
+		 * @return number of errors since the last successful lease interaction.
+		 */
+		int getConsecutiveErrors() {
+			return this.consecutiveErrors;
+		}
+
+		@Nullable
+		Exception getLastError() {
+			return this.lastError;
+		}
+
+	}
+
+}
@@ -0,0 +1,211 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.vault.config;
+
+import java.util.Optional;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.cloud.vault.config.VaultFlightRecorderEvents.LoginEvent;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.vault.authentication.ClientAuthentication;
+import org.springframework.vault.authentication.LifecycleAwareSessionManager;
+import org.springframework.vault.support.VaultToken;
+import org.springframework.web.client.RestOperations;
+
+/**
+ * {@link LifecycleAwareSessionManager} reporting login, token renewal and token wait
+ * durations through {@link SessionInstrumentation}.
+ * <p>
+ * Participates in the application context lifecycle: Starting the session manager after
+ * it was stopped (for example after restoring a CRaC checkpoint) replaces the session
+ * token through a new login as the previous token may have expired. The previous token
+ * is not revoked as it may be shared with other instances restored from the same
+ * checkpoint.
+ *
+ * @author Mark Paluch
+ * @since 5.0.3
+ */
+class InstrumentedSessionManager extends LifecycleAwareSessionManager
+		implements SessionInstrumentation.Instrumented, SmartLifecycle {
+
+	private static final Log log = LogFactory.getLog(InstrumentedSessionManager.class);
+
+	private final SessionInstrumentation instrumentation;
+
+	private boolean revokeOnDestroy = true;
+
+	/**
+	 * The session manager is usable once created so it reports running before the
+	 * context lifecycle starts it. Only {@link #start()} after {@link #stop()} replaces
+	 * the session token.
+	 */
+	private volatile boolean running = true;
+
+	private volatile boolean stopped;
+
+	InstrumentedSessionManager(ClientAuthentication clientAuthentication, TaskScheduler taskScheduler,
+			RestOperations restOperations, RefreshTrigger refreshTrigger, SessionInstrumentation instrumentation) {
+
+		super(instrument(clientAuthentication, instrumentation), taskScheduler, restOperations, refreshTrigger);
+
+		this.instrumentation = instrumentation;
+		addAuthenticationListener(instrumentation);
+	}
+
+	private static ClientAuthentication instrument(ClientAuthentication clientAuthentication,
+			SessionInstrumentation instrumentation) {
+
+		return () -> {
+
+			LoginEvent event = instrumentation.loginStarted();
+			long start = SessionInstrumentation.start();
+			boolean success = false;
+
+			try {
+				VaultToken token = clientAuthentication.login();
+				success = true;
+				return token;
+			}
+			finally {
+				instrumentation.loginCompleted(event, SessionInstrumentation.since(start), success);
+			}
+		};
+	}
+
+	/**
+	 * Configure whether to revoke the session token when the session manager is
+	 * destroyed. Disabling revocation allows reusing a cached token after restart.
+	 * @param revokeOnDestroy whether to revoke the session token on destroy.
+	 */
+	void setRevokeOnDestroy(boolean revokeOnDestroy) {
+		this.revokeOnDestroy = revokeOnDestroy;
+	}
+
+	@Override
+	public void destroy() {
+
+		if (this.revokeOnDestroy) {
+			super.destroy();
+		}
+		else {
+			setToken(Optional.empty());
+		}
+	}
+
+	/**
+	 * Obtain a new session token through login to pick up changed credentials. The
+	 * current token is dropped locally without revoking it as revocation would also
+	 * revoke all leases obtained with that token. Concurrent callers of
+	 * {@link #getSessionToken()} wait for the login to complete. The current token is
+	 * retained if the login fails.
+	 */
+	void relogin() {
+
+		Optional<TokenWrapper> previous = getToken();
+		setToken(Optional.empty());
+
+		try {
+			getSessionToken();
+		}
+		catch (RuntimeException e) {
+
+			if (getToken().isEmpty()) {
+				setToken(previous);
+			}
+
+			throw e;
+		}
+	}
+
+	@Override
+	public void start() {
+
+		this.running = true;
+
+		if (!this.stopped) {
+			return;
+		}
+
+		this.stopped = false;
+
+		// the token may be shared with other instances restored from the same checkpoint,
+		// revoking it would revoke their leases.
+		setToken(Optional.empty());
+
+		try {
+			getSessionToken();
+		}
+		catch (RuntimeException e) {
+			log.warn("Cannot obtain a new session token after restart", e);
+		}
+	}
+
+	@Override
+	public void stop() {
+		this.stopped = true;
+		this.running = false;
+	}
+
+	@Override
+	public boolean isRunning() {
+		return this.running;
+	}
+
+	@Override
+	public int getPhase() {
+		return VaultConfiguration.SESSION_MANAGER_PHASE;
+	}
+
+	@Override
+	public SessionInstrumentation getSessionInstrumentation() {
+		return this.instrumentation;
+	}
+
+	@Override
+	public VaultToken getSessionToken() {
+
+		if (getToken().isPresent()) {
+			return super.getSessionToken();
+		}
+
+		long start = SessionInstrumentation.start();
+
+		try {
+			return super.getSessionToken();
+		}
+		finally {
+			this.instrumentation.tokenObtained(SessionInstrumentation.since(start));
+		}
+	}
+
+	@Override
+	public boolean renewToken() {
+
+		long start = SessionInstrumentation.start();
+
+		try {
+			return super.renewToken();
+		}
+		finally {
+			this.instrumentation.renewalCompleted(SessionInstrumentation.since(start));
+		}
+	}
+
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.vault.config;
+
+import org.springframework.context.SmartLifecycle;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.vault.config.AbstractVaultConfiguration.ClientFactoryWrapper;
+
+/**
+ * {@link ClientFactoryWrapper} that participates in the application context lifecycle.
+ * Stopping the context (for example before a CRaC checkpoint) closes pooled connections of
+ * a {@link RestartableClientHttpRequestFactory}.
+ *
+ * @author Mark Paluch
+ * @since 5.0.3
+ */
+class LifecycleClientFactoryWrapper extends ClientFactoryWrapper implements SmartLifecycle {
+
+	/**
+	 * Phase of client lifecycles. Clients are stopped after and started before session
+	 * managers and the secret lease container.
+	 */
+	static final int PHASE = VaultConfiguration.SESSION_MANAGER_PHASE - 100;
+
+	private volatile boolean running = true;
+
+	LifecycleClientFactoryWrapper(ClientHttpRequestFactory clientHttpRequestFactory) {
+		super(clientHttpRequestFactory);
+	}
+
+	@Override
+	public void start() {
+		this.running = true;
+	}
+
+	@Override
+	public void stop() {
+
+		if (getClientHttpRequestFactory() instanceof RestartableClientHttpRequestFactory restartable) {
+			restartable.stop();
+		}
+
+		this.running = false;
+	}
+
+	@Override
+	public boolean isRunning() {
+		return this.running;
+	}
+
+	@Override
+	public int getPhase() {
+		return PHASE;
+	}
+
+}
@@ -0,0 +1,278 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.vault.config;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.ScheduledFuture;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.lang.Nullable;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.util.Assert;
+
+/**
+ * Cache for reusable login material such as identity documents, metadata service access
+ * tokens, signed JWTs or cloud provider credentials. Material is cached within its
+ * validity window and prefetched in the background before it expires so that a login
+ * does not need to obtain the material from the cloud provider.
+ * <p>
+ * Cached material is reloaded in the background after {@literal 80%} of its lifetime and
+ * is no longer handed out during the last {@literal 10%} of its lifetime. Material
+ * without an intrinsic expiry is cached for a configurable time to live.
+ * <p>
+ * Prefetching uses the shared Vault {@link TaskScheduler}. The scheduler is resolved
+ * lazily as it might not be available yet when material is first loaded (for example
+ * during early login). Material is cached without prefetching until a scheduler is
+ * available.
+ *
+ * @param <T> the login material type.
+ * @author Mark Paluch
+ * @since 5.0.3
+ */
+final class LoginMaterialCache<T> {
+
+	private static final Log log = LogFactory.getLog(LoginMaterialCache.class);
+
+	private final String description;
+
+	private final Supplier<T> loader;
+
+	private final Function<T, Instant> expiryFunction;
+
+	private final Duration timeToLive;
+
+	private final Supplier<TaskScheduler> taskScheduler;
+
+	private Clock clock = Clock.systemUTC();
+
+	@Nullable
+	private volatile Entry<T> entry;
+
+	@Nullable
+	private ScheduledFuture<?> prefetch;
+
+	private volatile boolean prefetchScheduled;
+
+	/**
+	 * Create a new {@link LoginMaterialCache}.
+	 * @param description description of the material used for logging.
+	 * @param loader loader to obtain the login material.
+	 * @param expiryFunction function to determine the material expiry. May return
+	 * {@literal null} if the material does not expire on its own.
+	 * @param timeToLive time to live for material without expiry.
+	 * @param taskScheduler scheduler to prefetch material in the background.
+	 */
+	LoginMaterialCache(String description, Supplier<T> loader, Function<T, Instant> expiryFunction,
+			Duration timeToLive, TaskScheduler taskScheduler) {
+		this(description, loader, expiryFunction, timeToLive, () -> taskScheduler);
+	}
+
+	/**
+	 * Create a new {@link LoginMaterialCache}.
+	 * @param description description of the material used for logging.
+	 * @param loader loader to obtain the login material.
+	 * @param expiryFunction function to determine the material expiry. May return
+	 * {@literal null} if the material does not expire on its own.
+	 * @param timeToLive time to live for material without expiry.
+	 * @param taskScheduler supplier of the scheduler to prefetch material in the
+	 * background. May supply {@literal null} if no scheduler is available.
+	 */
+	LoginMaterialCache(String description, Supplier<T> loader, Function<T, Instant> expiryFunction,
+			Duration timeToLive, Supplier<TaskScheduler> taskScheduler) {
+
+		Assert.hasText(description, "Description must not be empty");
+		Assert.notNull(loader, "Loader must not be null");
+		Assert.notNull(expiryFunction, "Expiry function must not be null");
+		Assert.isTrue(!timeToLive.isNegative() && !timeToLive.isZero(), "Time to live must be positive");
+		Assert.notNull(taskScheduler, "TaskScheduler supplier must not be null");
+
+		this.description = description;
+		this.loader = loader;
+		this.expiryFunction = expiryFunction;
+		this.timeToLive = timeToLive;
+		this.taskScheduler = taskScheduler;
+	}
+
+	void setClock(Clock clock) {
+		this.clock = clock;
+	}
+
+	/**
+	 * Return cached login material or load it if no usable material is cached.
+	 * @return the login material.
+	 */
+	T get() {
+
+		Entry<T> entry = this.entry;
+
+		if (entry != null && entry.isUsable(this.clock.instant()) && this.prefetchScheduled) {
+			return entry.value();
+		}
+
+		synchronized (this) {
+
+			entry = this.entry;
+
+			if (entry != null && entry.isUsable(this.clock.instant())) {
+
+				if (!this.prefetchScheduled) {
+					schedulePrefetch(entry.refreshAt());
+				}
+
+				return entry.value();
+			}
+
+			return load().value();
+		}
+	}
+
+	/**
+	 * Drop cached material, e.g. after it was rejected during login or once the
+	 * authentication is destroyed. Cancels a scheduled prefetch.
+	 */
+	synchronized void evict() {
+
+		this.entry = null;
+		cancelPrefetch();
+	}
+
+	private synchronized Entry<T> load() {
+
+		T value = this.loader.get();
+		Instant now = this.clock.instant();
+		Instant expiry = this.expiryFunction.apply(value);
+
+		Entry<T> entry = Entry.of(value, now, expiry != null ? expiry : now.plus(this.timeToLive));
+		this.entry = entry;
+
+		if (entry.isUsable(now)) {
+			schedulePrefetch(entry.refreshAt());
+		}
+
+		return entry;
+	}
+
+	private void schedulePrefetch(Instant refreshAt) {
+
+		cancelPrefetch();
+
+		TaskScheduler taskScheduler = this.taskScheduler.get();
+
+		if (taskScheduler != null) {
+			this.prefetch = taskScheduler.schedule(this::prefetch, refreshAt);
+			this.prefetchScheduled = true;
+		}
+	}
+
+	private void cancelPrefetch() {
+
+		this.prefetchScheduled = false;
+
+		if (this.prefetch != null) {
+			this.prefetch.cancel(false);
+			this.prefetch = null;
+		}
+	}
+
+	synchronized void prefetch() {
+
+		Entry<T> current = this.entry;
+
+		if (current == null) {
+			return;
+		}
+
+		try {
+			load();
+			log.debug("Prefetched %s".formatted(this.description));
+		}
+		catch (RuntimeException ex) {
+
+			Instant now = this.clock.instant();
+			Instant retryAt = now.plus(current.retryInterval());
+
+			if (retryAt.isBefore(current.usableUntil())) {
+				log.warn("Cannot prefetch %s, retrying at %s".formatted(this.description, retryAt), ex);
+				schedulePrefetch(retryAt);
+			}
+			else {
+				log.warn("Cannot prefetch %s, loading on next login".formatted(this.description), ex);
+			}
+		}
+	}
+
+	/**
+	 * Cached login material.
+	 */
+	static final class Entry<T> {
+
+		private final T value;
+
+		private final Instant refreshAt;
+
+		private final Instant usableUntil;
+
+		private final Duration lifetime;
+
+		private Entry(T value, Instant refreshAt, Instant usableUntil, Duration lifetime) {
+			this.value = value;
+			this.refreshAt = refreshAt;
+			this.usableUntil = usableUntil;
+			this.lifetime = lifetime;
+		}
+
+		static <T> Entry<T> of(T value, Instant loadedAt, Instant expiry) {
+
+			Duration lifetime = Duration.between(loadedAt, expiry);
+
+			if (lifetime.isNegative()) {
+				lifetime = Duration.ZERO;
+			}
+
+			return new Entry<>(value, loadedAt.plus(lifetime.multipliedBy(8).dividedBy(10)),
+					expiry.minus(lifetime.dividedBy(10)), lifetime);
+		}
+
+		T value() {
+			return this.value;
+		}
+
+		Instant refreshAt() {
+			return this.refreshAt;
+		}
+
+		Instant usableUntil() {
+			return this.usableUntil;
+		}
+
+		Duration retryInterval() {
+			return this.lifetime.dividedBy(20);
+		}
+
+		boolean isUsable(Instant now) {
+			return now.isBefore(this.usableUntil);
+		}
+
+	}
+
+}
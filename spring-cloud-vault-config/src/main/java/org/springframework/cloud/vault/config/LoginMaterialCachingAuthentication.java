@@ -0,0 +1,344 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.vault.config;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.lang.Nullable;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.util.Assert;
+import org.springframework.vault.VaultException;
+import org.springframework.vault.authentication.AwsEc2Authentication;
+import org.springframework.vault.authentication.AwsEc2AuthenticationOptions;
+import org.springframework.vault.authentication.AzureMsiAuthentication;
+import org.springframework.vault.authentication.AzureMsiAuthenticationOptions;
+import org.springframework.vault.authentication.GcpComputeAuthentication;
+import org.springframework.vault.authentication.GcpComputeAuthenticationOptions;
+import org.springframework.vault.support.VaultToken;
+import org.springframework.web.client.RestOperations;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * {@link org.springframework.vault.authentication.ClientAuthentication} variants for
+ * cloud authentication methods that keep their login material in a
+ * {@link LoginMaterialCache} so that a login only requires a single request to Vault.
+ * Cached material is evicted if the login fails.
+ * <p>
+ * Caching applies to {@link #login()} only, reactive authentication steps obtain their
+ * login material on each login. AWS IAM authentication is not covered as the AWS SDK
+ * credentials provider caches and refreshes credentials on its own.
+ *
+ * @author Mark Paluch
+ * @since 5.0.3
+ */
+final class LoginMaterialCachingAuthentication {
+
+	private LoginMaterialCachingAuthentication() {
+	}
+
+	/**
+	 * {@link AwsEc2Authentication} caching the EC2 identity document along with the
+	 * nonce.
+	 */
+	static class AwsEc2 extends AwsEc2Authentication implements DisposableBean {
+
+		private final LoginMaterialCache<Map<String, String>> identityDocument;
+
+		AwsEc2(AwsEc2AuthenticationOptions options, RestOperations vaultRestOperations,
+				RestOperations awsMetadataRestOperations, Duration timeToLive, Supplier<TaskScheduler> taskScheduler) {
+
+			super(options, vaultRestOperations, awsMetadataRestOperations);
+
+			this.identityDocument = new LoginMaterialCache<>("EC2 identity document", super::getEc2Login,
+					login -> null, timeToLive, taskScheduler);
+		}
+
+		@Override
+		public VaultToken login() throws VaultException {
+
+			try {
+				return super.login();
+			}
+			catch (VaultException ex) {
+				this.identityDocument.evict();
+				throw ex;
+			}
+		}
+
+		@Override
+		protected Map<String, String> getEc2Login() {
+			return this.identityDocument.get();
+		}
+
+		@Override
+		public void destroy() {
+			this.identityDocument.evict();
+		}
+
+	}
+
+	/**
+	 * {@link AzureMsiAuthentication} caching the managed identity access token until
+	 * its expiry and the instance metadata for the configured time to live.
+	 * {@link AzureMsiAuthentication} does not expose a hook to obtain the access token.
+	 * Therefore, metadata service responses are cached by a
+	 * {@link ClientHttpRequestInterceptor} of the metadata service client while the
+	 * login itself is left to {@link AzureMsiAuthentication}.
+	 */
+	static class AzureMsi extends AzureMsiAuthentication implements DisposableBean {
+
+		private final AzureMetadataCache metadata;
+
+		AzureMsi(AzureMsiAuthenticationOptions options, RestOperations vaultRestOperations,
+				RestTemplate azureMetadataRestTemplate, Duration timeToLive, Supplier<TaskScheduler> taskScheduler) {
+			this(options, vaultRestOperations,
+					new AzureMetadataCache(options, azureMetadataRestTemplate, timeToLive, taskScheduler));
+		}
+
+		private AzureMsi(AzureMsiAuthenticationOptions options, RestOperations vaultRestOperations,
+				AzureMetadataCache metadata) {
+
+			super(options, vaultRestOperations, metadata.createRestTemplate());
+
+			this.metadata = metadata;
+		}
+
+		@Override
+		public VaultToken login() throws VaultException {
+
+			try {
+				return super.login();
+			}
+			catch (VaultException ex) {
+				this.metadata.evict();
+				throw ex;
+			}
+		}
+
+		@Override
+		public void destroy() {
+			this.metadata.evict();
+		}
+
+	}
+
+	/**
+	 * {@link ClientHttpRequestInterceptor} serving Azure Instance Metadata Service
+	 * responses from a {@link LoginMaterialCache}. Requests to other URIs are passed
+	 * through.
+	 */
+	static class AzureMetadataCache implements ClientHttpRequestInterceptor {
+
+		private static final HttpEntity<Void> METADATA_HEADERS;
+
+		static {
+
+			HttpHeaders headers = new HttpHeaders();
+			headers.add("Metadata", "true");
+			METADATA_HEADERS = new HttpEntity<>(headers);
+		}
+
+		private final RestTemplate restTemplate;
+
+		private final Map<URI, LoginMaterialCache<CachedResponse>> responses = new LinkedHashMap<>();
+
+		AzureMetadataCache(AzureMsiAuthenticationOptions options, RestTemplate restTemplate, Duration timeToLive,
+				Supplier<TaskScheduler> taskScheduler) {
+
+			this.restTemplate = restTemplate;
+
+			URI accessToken = options.getIdentityTokenServiceUri();
+			URI instanceMetadata = options.getInstanceMetadataServiceUri();
+
+			this.responses.put(accessToken, new LoginMaterialCache<>("Azure managed identity access token",
+					() -> fetch(accessToken), AzureMetadataCache::getAccessTokenExpiry, timeToLive, taskScheduler));
+			this.responses.put(instanceMetadata, new LoginMaterialCache<>("Azure instance metadata",
+					() -> fetch(instanceMetadata), response -> null, timeToLive, taskScheduler));
+		}
+
+		/**
+		 * Create a copy of the metadata service {@link RestTemplate} that uses this
+		 * interceptor.
+		 * @return the caching {@link RestTemplate}.
+		 */
+		RestTemplate createRestTemplate() {
+
+			RestTemplate restTemplate = new RestTemplate(this.restTemplate.getMessageConverters());
+			restTemplate.setRequestFactory(this.restTemplate.getRequestFactory());
+			restTemplate.setErrorHandler(this.restTemplate.getErrorHandler());
+			restTemplate.setUriTemplateHandler(this.restTemplate.getUriTemplateHandler());
+			restTemplate.getInterceptors().add(this);
+
+			return restTemplate;
+		}
+
+		void evict() {
+			this.responses.values().forEach(LoginMaterialCache::evict);
+		}
+
+		@Override
+		public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+				throws IOException {
+
+			LoginMaterialCache<CachedResponse> cache = request.getMethod() == HttpMethod.GET
+					? this.responses.get(request.getURI()) : null;
+
+			return cache != null ? cache.get().toResponse() : execution.execute(request, body);
+		}
+
+		private CachedResponse fetch(URI uri) {
+
+			ResponseEntity<byte[]> response = this.restTemplate.exchange(uri, HttpMethod.GET, METADATA_HEADERS,
+					byte[].class);
+
+			Assert.state(response.getBody() != null, "Response body must not be null");
+
+			return new CachedResponse(response.getBody(), response.getHeaders().getContentType());
+		}
+
+		@Nullable
+		static Instant getAccessTokenExpiry(CachedResponse response) {
+
+			try {
+				JsonNode accessToken = JsonMapper.shared().readTree(response.body).path("access_token");
+				return accessToken.isString() ? WatchedCredentialFile.getJwtExpiry(accessToken.asString()) : null;
+			}
+			catch (RuntimeException ex) {
+				return null;
+			}
+		}
+
+	}
+
+	/**
+	 * Successful metadata service response.
+	 */
+	static final class CachedResponse {
+
+		private final byte[] body;
+
+		@Nullable
+		private final MediaType contentType;
+
+		CachedResponse(byte[] body, @Nullable MediaType contentType) {
+			this.body = body;
+			this.contentType = contentType;
+		}
+
+		ClientHttpResponse toResponse() {
+
+			HttpHeaders headers = new HttpHeaders();
+			headers.setContentType(this.contentType);
+			headers.setContentLength(this.body.length);
+
+			return new ClientHttpResponse() {
+
+				@Override
+				public HttpStatusCode getStatusCode() {
+					return HttpStatus.OK;
+				}
+
+				@Override
+				public String getStatusText() {
+					return HttpStatus.OK.getReasonPhrase();
+				}
+
+				@Override
+				public HttpHeaders getHeaders() {
+					return headers;
+				}
+
+				@Override
+				public InputStream getBody() {
+					return new ByteArrayInputStream(CachedResponse.this.body);
+				}
+
+				@Override
+				public void close() {
+				}
+
+			};
+		}
+
+	}
+
+	/**
+	 * {@link GcpComputeAuthentication} caching the signed JWT obtained from the metadata
+	 * server until its expiry.
+	 */
+	static class GcpCompute extends GcpComputeAuthentication implements DisposableBean {
+
+		private final LoginMaterialCache<String> jwt;
+
+		GcpCompute(GcpComputeAuthenticationOptions options, RestOperations vaultRestOperations,
+				RestOperations googleMetadataRestOperations, Duration timeToLive,
+				Supplier<TaskScheduler> taskScheduler) {
+
+			super(options, vaultRestOperations, googleMetadataRestOperations);
+
+			this.jwt = new LoginMaterialCache<>("GCE identity JWT", super::signJwt, WatchedCredentialFile::getJwtExpiry,
+					timeToLive, taskScheduler);
+		}
+
+		@Override
+		public VaultToken login() throws VaultException {
+
+			try {
+				return super.login();
+			}
+			catch (VaultException ex) {
+				this.jwt.evict();
+				throw ex;
+			}
+		}
+
+		@Override
+		protected String signJwt() {
+			return this.jwt.get();
+		}
+
+		@Override
+		public void destroy() {
+			this.jwt.evict();
+		}
+
+	}
+
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.vault.config;
+
+import java.net.URI;
+import java.util.function.Function;
+
+import reactor.core.publisher.Mono;
+
+import org.springframework.context.Lifecycle;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.reactive.ClientHttpConnector;
+import org.springframework.http.client.reactive.ClientHttpRequest;
+import org.springframework.http.client.reactive.ClientHttpResponse;
+
+/**
+ * {@link ClientHttpConnector} delegating to a connector that can be replaced. Allows
+ * moving a connector created during bootstrap onto the resources of the application
+ * context once the context is available. Requests in flight complete on the previous
+ * connector.
+ *
+ * @author Mark Paluch
+ * @since 5.0.3
+ */
+class RebindableClientHttpConnector implements ClientHttpConnector, Lifecycle {
+
+	private volatile ClientHttpConnector delegate;
+
+	private volatile boolean rebound;
+
+	RebindableClientHttpConnector(ClientHttpConnector delegate) {
+		this.delegate = delegate;
+	}
+
+	@Override
+	public Mono<ClientHttpResponse> connect(HttpMethod method, URI uri,
+			Function<? super ClientHttpRequest, Mono<Void>> requestCallback) {
+		return this.delegate.connect(method, uri, requestCallback);
+	}
+
+	/**
+	 * Replace the delegate connector.
+	 * @param connector the new connector.
+	 */
+	void rebind(ClientHttpConnector connector) {
+		this.delegate = connector;
+		this.rebound = true;
+	}
+
+	/**
+	 * @return {@literal true} if the delegate was replaced.
+	 */
+	boolean isRebound() {
+		return this.rebound;
+	}
+
+	ClientHttpConnector getDelegate() {
+		return this.delegate;
+	}
+
+	@Override
+	public void start() {
+
+		if (this.delegate instanceof Lifecycle lifecycle && !lifecycle.isRunning()) {
+			lifecycle.start();
+		}
+	}
+
+	@Override
+	public void stop() {
+
+		if (this.delegate instanceof Lifecycle lifecycle && lifecycle.isRunning()) {
+			lifecycle.stop();
+		}
+	}
+
+	@Override
+	public boolean isRunning() {
+		return !(this.delegate instanceof Lifecycle lifecycle) || lifecycle.isRunning();
+	}
+
+}
@@ -0,0 +1,218 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.vault.config;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.context.Lifecycle;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.lang.Nullable;
+
+/**
+ * {@link ClientHttpRequestFactory} that disposes its delegate when stopped and creates a
+ * new delegate on the next request. Stopping closes pooled connections so that a JVM
+ * checkpoint (CRaC) does not capture open sockets. Connections are established again
+ * after restore.
+ * <p>
+ * Delegates that implement {@link Lifecycle} are stopped, delegates that implement
+ * {@link DisposableBean} are destroyed. Connections of the JDK {@code HttpClient} cannot
+ * be closed without discarding the client and are closed once they exceed the keep-alive
+ * timeout.
+ * <p>
+ * Requests are created while holding a read lock, stopping acquires the write lock so
+ * that a delegate is not disposed while a request is being created.
+ *
+ * @author Mark Paluch
+ * @since 5.0.3
+ * @see LifecycleClientFactoryWrapper
+ */
+class RestartableClientHttpRequestFactory implements ClientHttpRequestFactory, InitializingBean, DisposableBean {
+
+	private static final Log log = LogFactory.getLog(RestartableClientHttpRequestFactory.class);
+
+	private final Supplier<ClientHttpRequestFactory> factorySupplier;
+
+	private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+	@Nullable
+	private volatile ClientHttpRequestFactory delegate;
+
+	RestartableClientHttpRequestFactory(Supplier<ClientHttpRequestFactory> factorySupplier) {
+		this.factorySupplier = factorySupplier;
+		this.delegate = factorySupplier.get();
+	}
+
+	@Override
+	public ClientHttpRequest createRequest(URI uri, HttpMethod httpMethod) throws IOException {
+
+		Lock readLock = this.lock.readLock();
+		readLock.lock();
+
+		try {
+
+			ClientHttpRequestFactory delegate = this.delegate;
+
+			if (delegate != null) {
+				return delegate.createRequest(uri, httpMethod);
+			}
+		}
+		finally {
+			readLock.unlock();
+		}
+
+		Lock writeLock = this.lock.writeLock();
+		writeLock.lock();
+
+		ClientHttpRequestFactory delegate;
+		try {
+			delegate = getDelegate();
+
+			// downgrade so that stop() cannot dispose the delegate while creating the request
+			readLock.lock();
+		}
+		finally {
+			writeLock.unlock();
+		}
+
+		try {
+			return delegate.createRequest(uri, httpMethod);
+		}
+		finally {
+			readLock.unlock();
+		}
+	}
+
+	/**
+	 * Return the current delegate or create a new one if the factory was stopped.
+	 * @return the delegate.
+	 */
+	ClientHttpRequestFactory getDelegate() {
+
+		ClientHttpRequestFactory delegate = this.delegate;
+
+		if (delegate != null) {
+			return delegate;
+		}
+
+		Lock writeLock = this.lock.writeLock();
+		writeLock.lock();
+
+		try {
+
+			if (this.delegate == null) {
+				ClientHttpRequestFactory factory = this.factorySupplier.get();
+				initialize(factory);
+				this.delegate = factory;
+			}
+
+			return this.delegate;
+		}
+		finally {
+			writeLock.unlock();
+		}
+	}
+
+	/**
+	 * Dispose the current delegate. A new delegate is created on the next request.
+	 * Disposal waits for requests that are being created.
+	 */
+	void stop() {
+
+		Lock writeLock = this.lock.writeLock();
+		writeLock.lock();
+
+		try {
+
+			ClientHttpRequestFactory delegate = this.delegate;
+			this.delegate = null;
+
+			if (delegate != null) {
+				dispose(delegate);
+			}
+		}
+		finally {
+			writeLock.unlock();
+		}
+	}
+
+	/**
+	 * @return {@literal true} if a delegate is active.
+	 */
+	boolean isActive() {
+		return this.delegate != null;
+	}
+
+	@Override
+	public void afterPropertiesSet() {
+
+		ClientHttpRequestFactory delegate = this.delegate;
+
+		if (delegate != null) {
+			initialize(delegate);
+		}
+	}
+
+	@Override
+	public void destroy() {
+		stop();
+	}
+
+	private static void initialize(ClientHttpRequestFactory factory) {
+
+		try {
+			if (factory instanceof InitializingBean initializingBean) {
+				initializingBean.afterPropertiesSet();
+			}
+
+			if (factory instanceof Lifecycle lifecycle && !lifecycle.isRunning()) {
+				lifecycle.start();
+			}
+		}
+		catch (Exception e) {
+			throw new IllegalStateException("Cannot initialize ClientHttpRequestFactory", e);
+		}
+	}
+
+	private static void dispose(ClientHttpRequestFactory factory) {
+
+		try {
+			if (factory instanceof Lifecycle lifecycle && lifecycle.isRunning()) {
+				lifecycle.stop();
+			}
+
+			if (factory instanceof DisposableBean disposableBean) {
+				disposableBean.destroy();
+			}
+		}
+		catch (Exception e) {
+			log.warn("Cannot dispose ClientHttpRequestFactory", e);
+		}
+	}
+
+}
@@ -0,0 +1,216 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.vault.config;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+import org.springframework.aot.AotDetector;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.core.annotation.MergedAnnotations;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.SpringFactoriesLoader;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ConcurrentReferenceHashMap;
+import org.springframework.util.StringUtils;
+
+/**
+ * Pluggable {@link VaultSecretBackendDescriptor} and
+ * {@link VaultSecretBackendDescriptorFactory} types along with their
+ * {@link ConfigurationProperties#prefix() configuration property prefix}.
+ * <p>
+ * Types are discovered through {@link SpringFactoriesLoader} and introspected once per
+ * {@link ClassLoader}. When running with AOT-generated artifacts, types and prefixes are
+ * read from the {@link #INDEX_LOCATION index} that was written during build-time
+ * processing by {@link SecretBackendDescriptorsAotProcessor}.
+ *
+ * @author Mark Paluch
+ * @since 5.0.3
+ */
+final class SecretBackendDescriptors {
+
+	/**
+	 * Location of the descriptor index generated during AOT processing.
+	 */
+	static final String INDEX_LOCATION = "META-INF/spring-cloud-vault/secret-backend-descriptors.properties";
+
+	private static final String TYPES_KEY = "types";
+
+	private static final Map<ClassLoader, SecretBackendDescriptors> CACHE = new ConcurrentReferenceHashMap<>();
+
+	private final Map<Class<?>, String> prefixes;
+
+	SecretBackendDescriptors(Map<Class<?>, String> prefixes) {
+		this.prefixes = Collections.unmodifiableMap(new LinkedHashMap<>(prefixes));
+	}
+
+	/**
+	 * Obtain the descriptor types for the given {@link ClassLoader}.
+	 * @param classLoader the class loader to use.
+	 * @return the descriptor types.
+	 */
+	static SecretBackendDescriptors get(ClassLoader classLoader) {
+		return CACHE.computeIfAbsent(classLoader, it -> {
+
+			if (AotDetector.useGeneratedArtifacts()) {
+
+				ClassPathResource index = new ClassPathResource(INDEX_LOCATION, it);
+
+				if (index.exists()) {
+					return fromIndex(index, it);
+				}
+			}
+
+			return discover(it);
+		});
+	}
+
+	/**
+	 * Discover descriptor types through {@link SpringFactoriesLoader} and introspect
+	 * their {@link ConfigurationProperties} prefix.
+	 * @param classLoader the class loader to use.
+	 * @return the descriptor types.
+	 */
+	static SecretBackendDescriptors discover(ClassLoader classLoader) {
+
+		List<Object> descriptorsOrFactories = new ArrayList<>();
+		descriptorsOrFactories.addAll(SpringFactoriesLoader.loadFactories(VaultSecretBackendDescriptor.class, classLoader));
+		descriptorsOrFactories
+			.addAll(SpringFactoriesLoader.loadFactories(VaultSecretBackendDescriptorFactory.class, classLoader));
+
+		Map<Class<?>, String> prefixes = new LinkedHashMap<>();
+
+		for (Object descriptorOrFactory : descriptorsOrFactories) {
+
+			Class<?> descriptorClass = descriptorOrFactory.getClass();
+
+			MergedAnnotations annotations = MergedAnnotations.from(descriptorClass);
+			if (!annotations.isPresent(ConfigurationProperties.class)) {
+				throw new IllegalStateException(
+						String.format("VaultSecretBackendDescriptor %s is not annotated with @ConfigurationProperties",
+								ClassUtils.getQualifiedName(descriptorClass)));
+			}
+
+			if (!(descriptorOrFactory instanceof VaultSecretBackendDescriptorFactory)
+					&& !(descriptorOrFactory instanceof VaultSecretBackendDescriptor)) {
+				throw new IllegalStateException(String.format(
+						"Descriptor %s is neither implements VaultSecretBackendDescriptorFactory nor VaultSecretBackendDescriptor",
+						ClassUtils.getQualifiedName(descriptorClass)));
+			}
+
+			prefixes.put(descriptorClass, annotations.get(ConfigurationProperties.class).getString("prefix"));
+		}
+
+		return new SecretBackendDescriptors(prefixes);
+	}
+
+	/**
+	 * Read descriptor types from an index.
+	 * @param index the index resource.
+	 * @param classLoader the class loader to load descriptor types.
+	 * @return the descriptor types.
+	 */
+	static SecretBackendDescriptors fromIndex(Resource index, ClassLoader classLoader) {
+
+		Properties properties = new Properties();
+
+		try (InputStream stream = index.getInputStream()) {
+			properties.load(stream);
+		}
+		catch (IOException e) {
+			throw new IllegalStateException("Cannot read secret backend descriptor index %s".formatted(index), e);
+		}
+
+		Map<Class<?>, String> prefixes = new LinkedHashMap<>();
+
+		for (String typeName : StringUtils.commaDelimitedListToStringArray(properties.getProperty(TYPES_KEY, ""))) {
+			prefixes.put(ClassUtils.resolveClassName(typeName, classLoader), properties.getProperty(typeName));
+		}
+
+		return new SecretBackendDescriptors(prefixes);
+	}
+
+	/**
+	 * @return descriptor types in their discovery order.
+	 */
+	List<Class<?>> getTypes() {
+		return new ArrayList<>(this.prefixes.keySet());
+	}
+
+	/**
+	 * Bind descriptors and descriptor factories from the {@link Binder} and return the
+	 * resulting descriptors.
+	 * @param binder the binder to use.
+	 * @return the bound descriptors.
+	 */
+	List<VaultSecretBackendDescriptor> bind(Binder binder) {
+
+		List<VaultSecretBackendDescriptor> descriptors = new ArrayList<>(this.prefixes.size());
+
+		this.prefixes.forEach((type, prefix) -> {
+
+			Object hydratedDescriptor = binder.bindOrCreate(prefix, type);
+
+			if (hydratedDescriptor instanceof VaultSecretBackendDescriptorFactory factory) {
+				descriptors.addAll(factory.create());
+			}
+			else {
+				descriptors.add((VaultSecretBackendDescriptor) hydratedDescriptor);
+			}
+		});
+
+		return descriptors;
+	}
+
+	/**
+	 * Render the index that is read when running with AOT-generated artifacts.
+	 * @return the index contents.
+	 */
+	String toIndex() {
+
+		Properties properties = new Properties();
+		List<String> typeNames = new ArrayList<>();
+
+		this.prefixes.forEach((type, prefix) -> {
+			typeNames.add(type.getName());
+			properties.setProperty(type.getName(), prefix);
+		});
+
+		properties.setProperty(TYPES_KEY, StringUtils.collectionToCommaDelimitedString(typeNames));
+
+		StringWriter writer = new StringWriter();
+
+		try {
+			properties.store(writer, "Generated by Spring Cloud Vault AOT processing");
+		}
+		catch (IOException e) {
+			throw new IllegalStateException(e);
+		}
+
+		return writer.toString();
+	}
+
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.vault.config;
+
+import java.util.List;
+
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationAotContribution;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationAotProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.boot.context.properties.bind.BindableRuntimeHintsRegistrar;
+import org.springframework.lang.Nullable;
+import org.springframework.util.ClassUtils;
+
+/**
+ * {@link BeanFactoryInitializationAotProcessor} resolving pluggable
+ * {@link VaultSecretBackendDescriptor secret backend descriptors} and their property
+ * prefixes at build time. The resolved set is written to
+ * {@link SecretBackendDescriptors#INDEX_LOCATION} so that config data resolution does not
+ * need to scan {@code spring.factories} and introspect annotations at runtime. Registers
+ * binding hints for the resolved types only.
+ *
+ * @author Mark Paluch
+ * @since 5.0.3
+ */
+class SecretBackendDescriptorsAotProcessor implements BeanFactoryInitializationAotProcessor {
+
+	@Override
+	@Nullable
+	public BeanFactoryInitializationAotContribution processAheadOfTime(ConfigurableListableBeanFactory beanFactory) {
+
+		ClassLoader classLoader = beanFactory.getBeanClassLoader() != null ? beanFactory.getBeanClassLoader()
+				: ClassUtils.getDefaultClassLoader();
+		SecretBackendDescriptors descriptors = SecretBackendDescriptors.discover(classLoader);
+		List<Class<?>> types = descriptors.getTypes();
+
+		if (types.isEmpty()) {
+			return null;
+		}
+
+		return (generationContext, beanFactoryInitializationCode) -> {
+
+			generationContext.getGeneratedFiles()
+				.addResourceFile(SecretBackendDescriptors.INDEX_LOCATION, descriptors.toIndex());
+
+			RuntimeHints hints = generationContext.getRuntimeHints();
+			hints.resources().registerPattern(SecretBackendDescriptors.INDEX_LOCATION);
+
+			for (Class<?> type : types) {
+				hints.reflection().registerType(TypeReference.of(type), MemberCategory.INVOKE_DECLARED_CONSTRUCTORS);
+			}
+
+			BindableRuntimeHintsRegistrar.forTypes(types).registerHints(hints, classLoader);
+		};
+	}
+
+}
@@ -0,0 +1,311 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.vault.config;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import org.springframework.cloud.vault.config.InstrumentedSecretLeaseContainer.LeaseRequestListener;
+import org.springframework.cloud.vault.config.InstrumentedSecretLeaseContainer.LeaseState;
+import org.springframework.util.Assert;
+import org.springframework.vault.core.lease.SecretLeaseContainer;
+import org.springframework.vault.core.lease.domain.RequestedSecret;
+import org.springframework.vault.core.lease.event.AfterSecretLeaseRenewedEvent;
+import org.springframework.vault.core.lease.event.LeaseErrorListener;
+import org.springframework.vault.core.lease.event.LeaseListener;
+import org.springframework.vault.core.lease.event.SecretLeaseCreatedEvent;
+import org.springframework.vault.core.lease.event.SecretLeaseEvent;
+import org.springframework.vault.core.lease.event.SecretLeaseExpiredEvent;
+import org.springframework.vault.core.lease.event.SecretLeaseRotatedEvent;
+import org.springframework.vault.support.LeaseStrategy;
+
+/**
+ * {@link MeterBinder} for {@link SecretLeaseContainer} lease lifecycle metrics. Meters
+ * are tagged with a low-cardinality {@code path} template (e.g.
+ * {@code database/creds/{role}}) derived from the requested secret path. Metrics for
+ * multiple containers are additionally tagged with the {@code container} name.
+ * <p>
+ * The following meters are registered:
+ * <ul>
+ * <li>{@code vault.lease.renewals}: Number of lease renewals.</li>
+ * <li>{@code vault.lease.rotations}: Number of secret rotations.</li>
+ * <li>{@code vault.lease.expirations}: Number of expired leases.</li>
+ * <li>{@code vault.lease.errors}: Number of lease errors tagged with the
+ * {@link LeaseStrategy} {@code outcome} ({@code dropped} or {@code retained}).</li>
+ * </ul>
+ * Containers created by Spring Cloud Vault additionally report:
+ * <ul>
+ * <li>{@code vault.lease.active}: Number of active leases.</li>
+ * <li>{@code vault.lease.expiry}: Time until the earliest lease expires.</li>
+ * <li>{@code vault.lease.renewal}: Lease renewal request duration.</li>
+ * <li>{@code vault.lease.rotation}: Secret rotation request duration.</li>
+ * </ul>
+ *
+ * @author Mark Paluch
+ * @since 5.0.3
+ */
+public class SecretLeaseContainerMetrics implements MeterBinder {
+
+	private final List<Binding> bindings;
+
+	/**
+	 * Create a new {@link SecretLeaseContainerMetrics} instance.
+	 * @param container the container to instrument, must not be {@literal null}.
+	 * @param leaseStrategy the {@link LeaseStrategy} used by the container to determine
+	 * the outcome of lease errors, must not be {@literal null}.
+	 */
+	public SecretLeaseContainerMetrics(SecretLeaseContainer container, LeaseStrategy leaseStrategy) {
+		this(container, leaseStrategy, Collections.emptyList());
+	}
+
+	/**
+	 * Create a new {@link SecretLeaseContainerMetrics} instance.
+	 * @param container the container to instrument, must not be {@literal null}.
+	 * @param leaseStrategy the {@link LeaseStrategy} used by the container to determine
+	 * the outcome of lease errors, must not be {@literal null}.
+	 * @param tags additional tags to apply to all meters, must not be {@literal null}.
+	 */
+	public SecretLeaseContainerMetrics(SecretLeaseContainer container, LeaseStrategy leaseStrategy,
+			Iterable<Tag> tags) {
+
+		Assert.notNull(container, "SecretLeaseContainer must not be null");
+		Assert.notNull(leaseStrategy, "LeaseStrategy must not be null");
+		Assert.notNull(tags, "Tags must not be null");
+
+		this.bindings = List.of(new Binding(container, leaseStrategy, Tags.of(tags)));
+	}
+
+	/**
+	 * Create a new {@link SecretLeaseContainerMetrics} instance for multiple containers.
+	 * Meters of each container are tagged with its {@code container} name.
+	 * @param containers the containers to instrument keyed by their name, must not be
+	 * {@literal null}.
+	 * @param leaseStrategy function returning the {@link LeaseStrategy} used by a
+	 * container to determine the outcome of lease errors, must not be {@literal null}.
+	 */
+	public SecretLeaseContainerMetrics(Map<String, SecretLeaseContainer> containers,
+			Function<SecretLeaseContainer, LeaseStrategy> leaseStrategy) {
+
+		Assert.notNull(containers, "SecretLeaseContainers must not be null");
+		Assert.notNull(leaseStrategy, "LeaseStrategy function must not be null");
+
+		List<Binding> bindings = new ArrayList<>(containers.size());
+
+		containers.forEach((name, container) -> bindings
+			.add(new Binding(container, leaseStrategy.apply(container), Tags.of("container", name))));
+
+		this.bindings = List.copyOf(bindings);
+	}
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+
+		for (Binding binding : this.bindings) {
+
+			MetricsListener listener = new MetricsListener(registry, binding);
+			SecretLeaseContainer container = binding.container;
+
+			container.addLeaseListener(listener);
+			container.addErrorListener(listener);
+
+			if (container instanceof InstrumentedSecretLeaseContainer instrumented) {
+
+				instrumented.addLeaseRequestListener(listener);
+
+				for (LeaseState state : instrumented.getLeaseStates()) {
+					listener.registerGauges(state.getPathTemplate());
+				}
+			}
+		}
+	}
+
+	private static String getPathTemplate(RequestedSecret requestedSecret) {
+		return VaultPathTemplates.toTemplate(requestedSecret.getPath());
+	}
+
+	static long countActive(InstrumentedSecretLeaseContainer container, String pathTemplate) {
+
+		long count = 0;
+
+		for (LeaseState state : container.getLeaseStates()) {
+			if (state.getPathTemplate().equals(pathTemplate) && state.isActive()) {
+				count++;
+			}
+		}
+
+		return count;
+	}
+
+	static double secondsToExpiry(InstrumentedSecretLeaseContainer container, String pathTemplate) {
+
+		Instant earliest = null;
+
+		for (LeaseState state : container.getLeaseStates()) {
+
+			if (!state.getPathTemplate().equals(pathTemplate) || !state.isActive() || state.getExpiry() == null) {
+				continue;
+			}
+
+			if (earliest == null || state.getExpiry().isBefore(earliest)) {
+				earliest = state.getExpiry();
+			}
+		}
+
+		if (earliest == null) {
+			return Double.NaN;
+		}
+
+		Duration remaining = Duration.between(container.getClock().instant(), earliest);
+
+		return Math.max(0, remaining.toMillis()) / 1000d;
+	}
+
+	/**
+	 * A container along with its {@link LeaseStrategy} and tags.
+	 */
+	private static final class Binding {
+
+		private final SecretLeaseContainer container;
+
+		private final LeaseStrategy leaseStrategy;
+
+		private final Tags tags;
+
+		private Binding(SecretLeaseContainer container, LeaseStrategy leaseStrategy, Tags tags) {
+
+			Assert.notNull(container, "SecretLeaseContainer must not be null");
+			Assert.notNull(leaseStrategy, "LeaseStrategy must not be null");
+
+			this.container = container;
+			this.leaseStrategy = leaseStrategy;
+			this.tags = tags;
+		}
+
+	}
+
+	/**
+	 * Listener translating lease events and request timings into meters.
+	 */
+	static final class MetricsListener implements LeaseListener, LeaseErrorListener, LeaseRequestListener {
+
+		private final MeterRegistry registry;
+
+		private final Binding binding;
+
+		private final Set<String> gaugeTemplates = ConcurrentHashMap.newKeySet();
+
+		private MetricsListener(MeterRegistry registry, Binding binding) {
+			this.registry = registry;
+			this.binding = binding;
+		}
+
+		@Override
+		public void onLeaseEvent(SecretLeaseEvent leaseEvent) {
+
+			String pathTemplate = getPathTemplate(leaseEvent.getSource());
+
+			if (leaseEvent instanceof SecretLeaseRotatedEvent) {
+				counter("vault.lease.rotations", "Number of secret rotations", pathTemplate).increment();
+			}
+			else if (leaseEvent instanceof AfterSecretLeaseRenewedEvent) {
+				counter("vault.lease.renewals", "Number of lease renewals", pathTemplate).increment();
+			}
+			else if (leaseEvent instanceof SecretLeaseExpiredEvent) {
+				counter("vault.lease.expirations", "Number of expired leases", pathTemplate).increment();
+			}
+
+			if (leaseEvent instanceof SecretLeaseCreatedEvent) {
+				registerGauges(pathTemplate);
+			}
+		}
+
+		@Override
+		public void onLeaseError(SecretLeaseEvent leaseEvent, Exception exception) {
+
+			String outcome = this.binding.leaseStrategy.shouldDrop(exception) ? "dropped" : "retained";
+
+			Counter.builder("vault.lease.errors")
+				.description("Number of lease errors")
+				.tags(tags(getPathTemplate(leaseEvent.getSource())))
+				.tag("outcome", outcome)
+				.register(this.registry)
+				.increment();
+		}
+
+		@Override
+		public void onRotation(RequestedSecret requestedSecret, Duration duration) {
+			timer("vault.lease.rotation", "Secret rotation request duration", getPathTemplate(requestedSecret))
+				.record(duration);
+		}
+
+		@Override
+		public void onRenewal(RequestedSecret requestedSecret, Duration duration) {
+			timer("vault.lease.renewal", "Lease renewal request duration", getPathTemplate(requestedSecret))
+				.record(duration);
+		}
+
+		void registerGauges(String pathTemplate) {
+
+			if (!(this.binding.container instanceof InstrumentedSecretLeaseContainer container)
+					|| !this.gaugeTemplates.add(pathTemplate)) {
+				return;
+			}
+
+			Gauge.builder("vault.lease.active", container, it -> countActive(it, pathTemplate))
+				.description("Number of active leases")
+				.tags(tags(pathTemplate))
+				.register(this.registry);
+
+			TimeGauge
+				.builder("vault.lease.expiry", container, TimeUnit.SECONDS, it -> secondsToExpiry(it, pathTemplate))
+				.description("Time until the earliest lease expires")
+				.tags(tags(pathTemplate))
+				.register(this.registry);
+		}
+
+		private Counter counter(String name, String description, String pathTemplate) {
+			return Counter.builder(name).description(description).tags(tags(pathTemplate)).register(this.registry);
+		}
+
+		private Timer timer(String name, String description, String pathTemplate) {
+			return Timer.builder(name).description(description).tags(tags(pathTemplate)).register(this.registry);
+		}
+
+		private Tags tags(String pathTemplate) {
+			return this.binding.tags.and("path", pathTemplate);
+		}
+
+	}
+
+}
@@ -0,0 +1,339 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.vault.config;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.springframework.cloud.vault.config.VaultFlightRecorderEvents.LoginEvent;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.vault.authentication.LoginToken;
+import org.springframework.vault.authentication.event.AfterLoginEvent;
+import org.springframework.vault.authentication.event.AfterLoginTokenRenewedEvent;
+import org.springframework.vault.authentication.event.AfterLoginTokenRevocationEvent;
+import org.springframework.vault.authentication.event.AuthenticationEvent;
+import org.springframework.vault.authentication.event.AuthenticationListener;
+import org.springframework.vault.authentication.event.LoginTokenExpiredEvent;
+import org.springframework.vault.support.VaultToken;
+
+/**
+ * Tracks the session token state of a session manager and reports login, token renewal
+ * and token wait durations to registered {@link SessionListener listeners}. Session
+ * managers created by Spring Cloud Vault expose their instrumentation through
+ * {@link Instrumented}. The authentication method can be resolved lazily to report the
+ * method of an {@link ChainedClientAuthentication authentication chain} that actually
+ * logged in.
+ *
+ * @author Mark Paluch
+ * @since 5.0.3
+ * @see SessionManagerMetrics
+ */
+final class SessionInstrumentation implements AuthenticationListener {
+
+	private final Supplier<String> authenticationMethod;
+
+	private final List<SessionListener> listeners = new CopyOnWriteArrayList<>();
+
+	private final AtomicLong logins = new AtomicLong();
+
+	private Clock clock = Clock.systemUTC();
+
+	private boolean flightRecorderEnabled;
+
+	private volatile boolean tokenPresent;
+
+	@Nullable
+	private volatile Instant tokenExpiry;
+
+	SessionInstrumentation(VaultProperties.AuthenticationMethod authenticationMethod) {
+		this(authenticationMethod.name().toLowerCase(Locale.ROOT));
+	}
+
+	SessionInstrumentation(String authenticationMethod) {
+
+		Assert.hasText(authenticationMethod, "Authentication method must not be empty");
+
+		this.authenticationMethod = () -> authenticationMethod;
+	}
+
+	/**
+	 * Create a new {@link SessionInstrumentation} resolving the authentication method
+	 * each time it is reported.
+	 * @param authenticationMethod supplier of the current authentication method, must
+	 * not be {@literal null}.
+	 */
+	SessionInstrumentation(Supplier<String> authenticationMethod) {
+
+		Assert.notNull(authenticationMethod, "Authentication method supplier must not be null");
+
+		this.authenticationMethod = authenticationMethod;
+	}
+
+	/**
+	 * Set the {@link Clock} to compute the token expiry.
+	 * @param clock the clock to use, must not be {@literal null}.
+	 */
+	void setClock(Clock clock) {
+
+		Assert.notNull(clock, "Clock must not be null");
+
+		this.clock = clock;
+	}
+
+	/**
+	 * Enable emission of {@link VaultFlightRecorderEvents.LoginEvent login events}.
+	 * @param flightRecorderEnabled whether to emit Java Flight Recorder events.
+	 */
+	void setFlightRecorderEnabled(boolean flightRecorderEnabled) {
+		this.flightRecorderEnabled = flightRecorderEnabled;
+	}
+
+	/**
+	 * Add a {@link SessionListener}.
+	 * @param listener the listener to add, must not be {@literal null}.
+	 */
+	void addSessionListener(SessionListener listener) {
+
+		Assert.notNull(listener, "SessionListener must not be null");
+
+		this.listeners.add(listener);
+	}
+
+	/**
+	 * Remove a {@link SessionListener}.
+	 * @param listener the listener to remove.
+	 */
+	void removeSessionListener(SessionListener listener) {
+		this.listeners.remove(listener);
+	}
+
+	/**
+	 * @return the current authentication method.
+	 */
+	String getAuthenticationMethod() {
+		return this.authenticationMethod.get();
+	}
+
+	/**
+	 * @return {@literal true} if the session manager holds a session token.
+	 */
+	boolean isTokenPresent() {
+		return this.tokenPresent;
+	}
+
+	/**
+	 * @return the remaining time to live of the current session token or
+	 * {@literal null} if there is no token or the token does not expire.
+	 */
+	@Nullable
+	Duration getRemainingTtl() {
+
+		Instant expiry = this.tokenExpiry;
+
+		if (!this.tokenPresent || expiry == null) {
+			return null;
+		}
+
+		Duration remaining = Duration.between(this.clock.instant(), expiry);
+		return remaining.isNegative() ? Duration.ZERO : remaining;
+	}
+
+	/**
+	 * @return number of logins performed by the session manager.
+	 */
+	long getLoginCount() {
+		return this.logins.get();
+	}
+
+	/**
+	 * Begin a {@link VaultFlightRecorderEvents.LoginEvent} if Java Flight Recorder events
+	 * are enabled.
+	 * @return the started event or {@literal null} if events are disabled.
+	 */
+	@Nullable
+	LoginEvent loginStarted() {
+
+		if (!this.flightRecorderEnabled) {
+			return null;
+		}
+
+		LoginEvent event = new LoginEvent();
+		event.begin();
+		return event;
+	}
+
+	/**
+	 * Report a login attempt and commit the {@link #loginStarted() login event}.
+	 * @param event the event returned from {@link #loginStarted()}, can be
+	 * {@literal null}.
+	 * @param duration the login duration.
+	 * @param success whether the login was successful.
+	 */
+	void loginCompleted(@Nullable LoginEvent event, Duration duration, boolean success) {
+
+		if (event != null) {
+
+			event.end();
+
+			if (event.shouldCommit()) {
+				event.authenticationMethod = getAuthenticationMethod();
+				event.outcome = success ? VaultFlightRecorderEvents.OUTCOME_SUCCESS
+						: VaultFlightRecorderEvents.OUTCOME_ERROR;
+				event.commit();
+			}
+		}
+
+		loginCompleted(duration, success);
+	}
+
+	/**
+	 * Report a login attempt.
+	 * @param duration the login duration.
+	 * @param success whether the login was successful.
+	 */
+	void loginCompleted(Duration duration, boolean success) {
+
+		boolean relogin = success && this.logins.incrementAndGet() > 1;
+		String authenticationMethod = getAuthenticationMethod();
+
+		for (SessionListener listener : this.listeners) {
+
+			listener.onLogin(authenticationMethod, duration, success);
+
+			if (relogin) {
+				listener.onRelogin(authenticationMethod);
+			}
+		}
+	}
+
+	/**
+	 * Report a token renewal ({@code renew-self}) attempt.
+	 * @param duration the renewal duration.
+	 */
+	void renewalCompleted(Duration duration) {
+		for (SessionListener listener : this.listeners) {
+			listener.onRenewal(duration);
+		}
+	}
+
+	/**
+	 * Report the time a caller was waiting to obtain a session token.
+	 * @param duration the wait duration.
+	 */
+	void tokenObtained(Duration duration) {
+		for (SessionListener listener : this.listeners) {
+			listener.onTokenWait(duration);
+		}
+	}
+
+	@Override
+	public void onAuthenticationEvent(AuthenticationEvent event) {
+
+		if (event instanceof AfterLoginEvent || event instanceof AfterLoginTokenRenewedEvent) {
+
+			this.tokenExpiry = getExpiry(event.getSource());
+			this.tokenPresent = true;
+		}
+		else if (event instanceof LoginTokenExpiredEvent || event instanceof AfterLoginTokenRevocationEvent) {
+
+			this.tokenPresent = false;
+			this.tokenExpiry = null;
+		}
+	}
+
+	@Nullable
+	private Instant getExpiry(VaultToken token) {
+
+		if (token instanceof LoginToken loginToken) {
+
+			Duration leaseDuration = loginToken.getLeaseDuration();
+
+			if (!leaseDuration.isZero() && !leaseDuration.isNegative()) {
+				return this.clock.instant().plus(leaseDuration);
+			}
+		}
+
+		return null;
+	}
+
+	static long start() {
+		return System.nanoTime();
+	}
+
+	static Duration since(long start) {
+		return Duration.ofNanos(System.nanoTime() - start);
+	}
+
+	/**
+	 * Interface implemented by session managers that expose
+	 * {@link SessionInstrumentation}.
+	 */
+	interface Instrumented {
+
+		/**
+		 * @return the {@link SessionInstrumentation} of this session manager.
+		 */
+		SessionInstrumentation getSessionInstrumentation();
+
+	}
+
+	/**
+	 * Listener interface to receive session manager telemetry.
+	 */
+	interface SessionListener {
+
+		/**
+		 * Callback after a login attempt.
+		 * @param authenticationMethod the authentication method.
+		 * @param duration the login duration.
+		 * @param success whether the login was successful.
+		 */
+		default void onLogin(String authenticationMethod, Duration duration, boolean success) {
+		}
+
+		/**
+		 * Callback after a successful login that replaced a previously obtained token.
+		 * @param authenticationMethod the authentication method.
+		 */
+		default void onRelogin(String authenticationMethod) {
+		}
+
+		/**
+		 * Callback after a token renewal attempt.
+		 * @param duration the renewal duration.
+		 */
+		default void onRenewal(Duration duration) {
+		}
+
+		/**
+		 * Callback after a caller obtained a session token that was not available
+		 * immediately.
+		 * @param duration time spent waiting for the token.
+		 */
+		default void onTokenWait(Duration duration) {
+		}
+
+	}
+
+}
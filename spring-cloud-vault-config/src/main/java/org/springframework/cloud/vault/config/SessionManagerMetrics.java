@@ -0,0 +1,199 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.vault.config;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import org.springframework.cloud.vault.config.SessionInstrumentation.SessionListener;
+import org.springframework.util.Assert;
+
+/**
+ * {@link MeterBinder} for session token metrics of session managers created by Spring
+ * Cloud Vault. Meters are tagged with the {@code method} of authentication. With an
+ * authentication chain, the {@code method} tag reports the chained method that logged
+ * in.
+ * <p>
+ * The following meters are registered:
+ * <ul>
+ * <li>{@code vault.session.token.ttl}: Remaining time to live of the session token.</li>
+ * <li>{@code vault.session.login}: Login duration tagged with the {@code outcome}
+ * ({@code success} or {@code failure}).</li>
+ * <li>{@code vault.session.relogins}: Number of logins that replaced a previously
+ * obtained session token.</li>
+ * <li>{@code vault.session.renewal}: Token renewal ({@code renew-self}) duration.</li>
+ * <li>{@code vault.session.token.wait}: Time callers spent waiting for a session token
+ * that was not immediately available.</li>
+ * </ul>
+ *
+ * @author Mark Paluch
+ * @since 5.0.3
+ */
+public class SessionManagerMetrics implements MeterBinder {
+
+	private final List<SessionInstrumentation> instrumentations;
+
+	private final Iterable<Tag> tags;
+
+	SessionManagerMetrics(List<SessionInstrumentation> instrumentations) {
+		this(instrumentations, Collections.emptyList());
+	}
+
+	SessionManagerMetrics(List<SessionInstrumentation> instrumentations, Iterable<Tag> tags) {
+
+		Assert.notNull(instrumentations, "SessionInstrumentation must not be null");
+		Assert.notNull(tags, "Tags must not be null");
+
+		this.instrumentations = new ArrayList<>(instrumentations);
+		this.tags = tags;
+	}
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+
+		for (SessionInstrumentation instrumentation : this.instrumentations) {
+
+			MetricsListener listener = new MetricsListener(registry, Tags.of(this.tags), instrumentation);
+			listener.register(instrumentation.getAuthenticationMethod());
+			instrumentation.addSessionListener(listener);
+		}
+	}
+
+	static double remainingTtlSeconds(SessionInstrumentation instrumentation) {
+
+		Duration ttl = instrumentation.getRemainingTtl();
+		return ttl != null ? ttl.toMillis() / 1000d : Double.NaN;
+	}
+
+	/**
+	 * Listener translating session telemetry into meters. Meters are tagged with the
+	 * authentication method at the time of recording as the method of an authentication
+	 * chain is determined by the login.
+	 */
+	static class MetricsListener implements SessionListener {
+
+		private final MeterRegistry registry;
+
+		private final Tags tags;
+
+		private final SessionInstrumentation instrumentation;
+
+		private final Set<String> methods = ConcurrentHashMap.newKeySet();
+
+		MetricsListener(MeterRegistry registry, Tags tags, SessionInstrumentation instrumentation) {
+			this.registry = registry;
+			this.tags = tags;
+			this.instrumentation = instrumentation;
+		}
+
+		/**
+		 * Register meters for the given method. The {@code vault.session.token.ttl}
+		 * gauge reports the remaining time to live only while the method is the current
+		 * authentication method.
+		 */
+		void register(String authenticationMethod) {
+
+			if (!this.methods.add(authenticationMethod)) {
+				return;
+			}
+
+			TimeGauge
+				.builder("vault.session.token.ttl", this.instrumentation, TimeUnit.SECONDS,
+						it -> authenticationMethod.equals(it.getAuthenticationMethod()) ? remainingTtlSeconds(it)
+								: Double.NaN)
+				.description("Remaining time to live of the session token")
+				.tags(tags(authenticationMethod))
+				.register(this.registry);
+
+			login(authenticationMethod, true);
+			login(authenticationMethod, false);
+			relogins(authenticationMethod);
+			renewal(authenticationMethod);
+			tokenWait(authenticationMethod);
+		}
+
+		@Override
+		public void onLogin(String authenticationMethod, Duration duration, boolean success) {
+
+			register(authenticationMethod);
+			login(authenticationMethod, success).record(duration);
+		}
+
+		@Override
+		public void onRelogin(String authenticationMethod) {
+			relogins(authenticationMethod).increment();
+		}
+
+		@Override
+		public void onRenewal(Duration duration) {
+			renewal(this.instrumentation.getAuthenticationMethod()).record(duration);
+		}
+
+		@Override
+		public void onTokenWait(Duration duration) {
+			tokenWait(this.instrumentation.getAuthenticationMethod()).record(duration);
+		}
+
+		private Timer login(String authenticationMethod, boolean success) {
+			return Timer.builder("vault.session.login")
+				.description("Login duration")
+				.tags(tags(authenticationMethod))
+				.tag("outcome", success ? "success" : "failure")
+				.register(this.registry);
+		}
+
+		private Counter relogins(String authenticationMethod) {
+			return Counter.builder("vault.session.relogins")
+				.description("Number of logins that replaced a previously obtained session token")
+				.tags(tags(authenticationMethod))
+				.register(this.registry);
+		}
+
+		private Timer renewal(String authenticationMethod) {
+			return Timer.builder("vault.session.renewal")
+				.description("Session token renewal duration")
+				.tags(tags(authenticationMethod))
+				.register(this.registry);
+		}
+
+		private Timer tokenWait(String authenticationMethod) {
+			return Timer.builder("vault.session.token.wait")
+				.description("Time spent waiting for a session token")
+				.tags(tags(authenticationMethod))
+				.register(this.registry);
+		}
+
+		private Tags tags(String authenticationMethod) {
+			return this.tags.and("method", authenticationMethod);
+		}
+
+	}
+
+}
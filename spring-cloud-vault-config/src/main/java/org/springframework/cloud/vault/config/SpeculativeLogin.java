@@ -0,0 +1,341 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.vault.config;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.http.HttpEntity;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.lang.Nullable;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.vault.authentication.ClientAuthentication;
+import org.springframework.vault.authentication.LoginToken;
+import org.springframework.vault.client.SimpleVaultEndpointProvider;
+import org.springframework.vault.client.VaultEndpointProvider;
+import org.springframework.vault.client.VaultHttpHeaders;
+import org.springframework.vault.config.AbstractVaultConfiguration.ClientFactoryWrapper;
+import org.springframework.vault.support.VaultToken;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * Speculative creation of the {@link ClientHttpRequestFactory} (including TLS
+ * initialization), the {@link ClientAuthentication} and the login that runs in the
+ * background while the {@link org.springframework.core.env.Environment} is being
+ * prepared. {@link VaultConfigDataLoader} picks up the prepared components so that the
+ * first config data location finds a session token ready.
+ * <p>
+ * Failures are not propagated. Components that could not be prepared are created on
+ * demand the regular way, so failures surface at the same point as without speculative
+ * login.
+ * <p>
+ * Initialization runs on a single daemon thread that terminates once all steps have
+ * completed.
+ *
+ * @author Mark Paluch
+ * @since 5.0.3
+ * @see VaultProperties.EarlyLogin
+ */
+final class SpeculativeLogin {
+
+	private static final Log log = LogFactory.getLog(SpeculativeLogin.class);
+
+	private final CompletableFuture<ClientHttpRequestFactory> requestFactory;
+
+	private final CompletableFuture<RestTemplate> restTemplate;
+
+	private final CompletableFuture<ConnectionPrewarmer> connectionPrewarmer;
+
+	@Nullable
+	private final CompletableFuture<ClientAuthentication> clientAuthentication;
+
+	@Nullable
+	private final CompletableFuture<VaultToken> token;
+
+	private final AtomicReference<TaskScheduler> taskScheduler;
+
+	private final AtomicBoolean tokenClaimed = new AtomicBoolean();
+
+	SpeculativeLogin(CompletableFuture<ClientHttpRequestFactory> requestFactory,
+			CompletableFuture<RestTemplate> restTemplate, CompletableFuture<ConnectionPrewarmer> connectionPrewarmer,
+			@Nullable CompletableFuture<ClientAuthentication> clientAuthentication,
+			@Nullable CompletableFuture<VaultToken> token) {
+		this(requestFactory, restTemplate, connectionPrewarmer, clientAuthentication, token, new AtomicReference<>());
+	}
+
+	SpeculativeLogin(CompletableFuture<ClientHttpRequestFactory> requestFactory,
+			CompletableFuture<RestTemplate> restTemplate, CompletableFuture<ConnectionPrewarmer> connectionPrewarmer,
+			@Nullable CompletableFuture<ClientAuthentication> clientAuthentication,
+			@Nullable CompletableFuture<VaultToken> token, AtomicReference<TaskScheduler> taskScheduler) {
+		this.requestFactory = requestFactory;
+		this.restTemplate = restTemplate;
+		this.connectionPrewarmer = connectionPrewarmer;
+		this.clientAuthentication = clientAuthentication;
+		this.token = token;
+		this.taskScheduler = taskScheduler;
+	}
+
+	/**
+	 * Check whether speculative login is enabled.
+	 * @param vaultProperties the Vault properties.
+	 * @return {@literal true} if Vault and speculative login are enabled.
+	 */
+	static boolean isEnabled(VaultProperties vaultProperties) {
+		return vaultProperties.isEnabled() && vaultProperties.getSession().getEarlyLogin().isEnabled();
+	}
+
+	/**
+	 * Check whether the login itself can be performed speculatively. Login is not
+	 * performed if there is no authentication, if the token cache may already hold a
+	 * token or if the session is managed by the reactive session manager.
+	 * @param vaultProperties the Vault properties.
+	 * @return {@literal true} if the login can be performed speculatively.
+	 */
+	static boolean isLoginEnabled(VaultProperties vaultProperties) {
+
+		if (vaultProperties.getAuthentication() == VaultProperties.AuthenticationMethod.NONE
+				|| vaultProperties.getSession().getTokenCache().isEnabled()) {
+			return false;
+		}
+
+		return !VaultConfigDataLoader.isRegisterReactiveInfrastructure(vaultProperties);
+	}
+
+	/**
+	 * Start the speculative initialization in the background.
+	 * @param vaultProperties the Vault properties.
+	 * @return the {@link SpeculativeLogin} handle.
+	 */
+	static SpeculativeLogin start(VaultProperties vaultProperties) {
+
+		CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("vault-early-login-");
+		threadFactory.setDaemon(true);
+		ExecutorService executor = Executors.newSingleThreadExecutor(threadFactory);
+
+		VaultConfiguration configuration = new VaultConfiguration(vaultProperties);
+		VaultEndpointProvider endpointProvider = SimpleVaultEndpointProvider.of(configuration.createVaultEndpoint());
+
+		CompletableFuture<ClientHttpRequestFactory> requestFactory = CompletableFuture.supplyAsync(() -> {
+
+			ClientHttpRequestFactory factory = configuration.createClientHttpRequestFactory();
+
+			try {
+				new ClientFactoryWrapper(factory).afterPropertiesSet();
+			}
+			catch (Exception e) {
+				throw new IllegalStateException("Cannot initialize ClientHttpRequestFactory", e);
+			}
+
+			return factory;
+		}, executor);
+
+		CompletableFuture<RestTemplate> restTemplate = requestFactory
+			.thenApply(factory -> new DefaultRestTemplateFactory(factory,
+					it -> configuration.createRestTemplateBuilder(it, endpointProvider, Collections.emptyList(),
+							Collections.emptyList()))
+				.create());
+
+		CompletableFuture<ConnectionPrewarmer> connectionPrewarmer = requestFactory.thenApply(factory -> {
+
+			ConnectionPrewarmer prewarmer = configuration.createConnectionPrewarmer(factory);
+
+			if (prewarmer != null) {
+				prewarmer.start();
+			}
+
+			return prewarmer;
+		});
+
+		if (!isLoginEnabled(vaultProperties)) {
+			CompletableFuture.allOf(restTemplate, connectionPrewarmer).whenComplete((v, e) -> executor.shutdown());
+			return new SpeculativeLogin(requestFactory, restTemplate, connectionPrewarmer, null, null);
+		}
+
+		// the Vault task scheduler is not available yet, login material is prefetched once
+		// it is provided through setTaskScheduler(…)
+		AtomicReference<TaskScheduler> taskScheduler = new AtomicReference<>();
+		CompletableFuture<ClientAuthentication> clientAuthentication = restTemplate
+			.thenCombine(requestFactory, (vaultRestTemplate, factory) -> new ClientAuthenticationFactory(
+					vaultProperties, vaultRestTemplate, new RestTemplate(factory), taskScheduler::get)
+				.createClientAuthentication());
+
+		CompletableFuture<VaultToken> token = clientAuthentication.thenApplyAsync(ClientAuthentication::login,
+				executor);
+		CompletableFuture.allOf(connectionPrewarmer, token).whenComplete((v, e) -> executor.shutdown());
+
+		return new SpeculativeLogin(requestFactory, restTemplate, connectionPrewarmer, clientAuthentication, token,
+				taskScheduler);
+	}
+
+	/**
+	 * Return the initialized {@link ClientHttpRequestFactory}. Awaits initialization if
+	 * it is still in progress.
+	 * @return the {@link ClientHttpRequestFactory} or {@literal null} if initialization
+	 * failed.
+	 */
+	@Nullable
+	ClientHttpRequestFactory getRequestFactory() {
+		return await(this.requestFactory, "ClientHttpRequestFactory");
+	}
+
+	/**
+	 * Return the {@link ConnectionPrewarmer} that was started after initializing the
+	 * {@link ClientHttpRequestFactory}.
+	 * @return the {@link ConnectionPrewarmer} or {@literal null} if pre-warming is
+	 * disabled or initialization failed.
+	 */
+	@Nullable
+	ConnectionPrewarmer getConnectionPrewarmer() {
+		return await(this.connectionPrewarmer, "connection pre-warming");
+	}
+
+	/**
+	 * Return the {@link ClientAuthentication}. Awaits creation if it is still in
+	 * progress.
+	 * @return the {@link ClientAuthentication} or {@literal null} if login is not
+	 * performed speculatively or if creation failed.
+	 */
+	@Nullable
+	ClientAuthentication getClientAuthentication() {
+		return this.clientAuthentication != null ? await(this.clientAuthentication, "ClientAuthentication") : null;
+	}
+
+	/**
+	 * Provide the {@link TaskScheduler} to prefetch login material cached by the
+	 * speculatively created {@link ClientAuthentication}.
+	 * @param taskScheduler the Vault task scheduler.
+	 */
+	void setTaskScheduler(TaskScheduler taskScheduler) {
+		this.taskScheduler.set(taskScheduler);
+	}
+
+	/**
+	 * Decorate {@link ClientAuthentication} so that its first login returns the
+	 * speculatively obtained token. Subsequent logins are routed to
+	 * {@code clientAuthentication}.
+	 * @param clientAuthentication the {@link ClientAuthentication} to decorate. Must be
+	 * the one obtained from {@link #getClientAuthentication()} to use the token.
+	 * @return the decorated {@link ClientAuthentication}.
+	 */
+	ClientAuthentication decorate(ClientAuthentication clientAuthentication) {
+
+		if (this.clientAuthentication == null
+				|| clientAuthentication != this.clientAuthentication.getNow(null)) {
+			return clientAuthentication;
+		}
+
+		return new PrefetchedAuthentication(this, clientAuthentication);
+	}
+
+	/**
+	 * Claim the speculatively obtained token. The token can be claimed only once.
+	 * @return the token or {@literal null} if the token was already claimed or login
+	 * failed.
+	 */
+	@Nullable
+	VaultToken claimToken() {
+
+		if (this.token == null || !this.tokenClaimed.compareAndSet(false, true)) {
+			return null;
+		}
+
+		return await(this.token, "login");
+	}
+
+	/**
+	 * Revoke the speculatively obtained token if it was not claimed.
+	 */
+	void discard() {
+
+		if (this.token == null || !this.tokenClaimed.compareAndSet(false, true)) {
+			return;
+		}
+
+		VaultToken token = await(this.token, "login");
+		RestTemplate restTemplate = this.restTemplate.getNow(null);
+
+		if (!(token instanceof LoginToken) || restTemplate == null) {
+			return;
+		}
+
+		try {
+			restTemplate.postForObject("auth/token/revoke-self", new HttpEntity<>(VaultHttpHeaders.from(token)),
+					Map.class);
+		}
+		catch (RestClientException ex) {
+			log.warn("Cannot revoke unused token obtained through early login", ex);
+		}
+	}
+
+	@Nullable
+	private static <T> T await(CompletableFuture<T> future, String description) {
+
+		try {
+			return future.join();
+		}
+		catch (RuntimeException ex) {
+			log.debug("Early %s failed, falling back to regular initialization".formatted(description), ex);
+			return null;
+		}
+	}
+
+	/**
+	 * {@link ClientAuthentication} returning the speculatively obtained token on its
+	 * first login.
+	 */
+	static class PrefetchedAuthentication implements ClientAuthentication {
+
+		private final SpeculativeLogin speculativeLogin;
+
+		private final ClientAuthentication delegate;
+
+		PrefetchedAuthentication(SpeculativeLogin speculativeLogin, ClientAuthentication delegate) {
+			this.speculativeLogin = speculativeLogin;
+			this.delegate = delegate;
+		}
+
+		/**
+		 * Return the underlying {@link ClientAuthentication}.
+		 * @param clientAuthentication the {@link ClientAuthentication}, can be
+		 * decorated.
+		 * @return the underlying {@link ClientAuthentication}.
+		 */
+		static ClientAuthentication unwrap(ClientAuthentication clientAuthentication) {
+			return clientAuthentication instanceof PrefetchedAuthentication prefetched ? prefetched.delegate
+					: clientAuthentication;
+		}
+
+		@Override
+		public VaultToken login() {
+
+			VaultToken token = this.speculativeLogin.claimToken();
+			return token != null ? token : this.delegate.login();
+		}
+
+	}
+
+}
@@ -0,0 +1,299 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.vault.config;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import org.springframework.cloud.vault.config.VaultTokenCache.CachedToken;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.vault.VaultException;
+import org.springframework.vault.authentication.ClientAuthentication;
+import org.springframework.vault.authentication.LoginToken;
+import org.springframework.vault.authentication.VaultTokenSupplier;
+import org.springframework.vault.authentication.event.AfterLoginEvent;
+import org.springframework.vault.authentication.event.AfterLoginTokenRenewedEvent;
+import org.springframework.vault.authentication.event.AfterLoginTokenRevocationEvent;
+import org.springframework.vault.authentication.event.AuthenticationEvent;
+import org.springframework.vault.authentication.event.AuthenticationListener;
+import org.springframework.vault.authentication.event.LoginTokenExpiredEvent;
+import org.springframework.vault.client.VaultHttpHeaders;
+import org.springframework.vault.support.VaultResponse;
+import org.springframework.vault.support.VaultToken;
+import org.springframework.web.client.RestOperations;
+import org.springframework.web.reactive.function.client.WebClient;
+
+/**
+ * Authentication support reusing a session token from a {@link VaultTokenCache}. Login
+ * attempts use the cached token if it is still valid according to a {@code lookup-self}
+ * request and fall back to the actual login otherwise. The cache is kept up to date by
+ * listening to {@link AuthenticationEvent authentication events} of the session manager.
+ * <p>
+ * A re-login caused by changed credentials must not reuse the cached token. Call
+ * {@link #bypassNextLogin()} before re-login to obtain a new token from the actual
+ * authentication.
+ *
+ * @author Mark Paluch
+ * @since 5.0.3
+ */
+final class TokenCachingAuthentication implements AuthenticationListener {
+
+	private static final Log log = LogFactory.getLog(TokenCachingAuthentication.class);
+
+	private final VaultTokenCache cache;
+
+	private final Duration minTtl;
+
+	private final AtomicBoolean bypass = new AtomicBoolean();
+
+	private Clock clock = Clock.systemUTC();
+
+	private Consumer<String> scopeListener = scope -> {
+	};
+
+	/**
+	 * Create a new {@link TokenCachingAuthentication}.
+	 * @param cache the token cache, must not be {@literal null}.
+	 * @param minTtl minimum remaining time to live of a cached token to be reused, must
+	 * not be {@literal null}.
+	 */
+	TokenCachingAuthentication(VaultTokenCache cache, Duration minTtl) {
+
+		Assert.notNull(cache, "VaultTokenCache must not be null");
+		Assert.notNull(minTtl, "Minimum TTL must not be null");
+
+		this.cache = cache;
+		this.minTtl = minTtl;
+	}
+
+	/**
+	 * Set the {@link Clock} to compute the token expiry.
+	 * @param clock the clock to use, must not be {@literal null}.
+	 */
+	void setClock(Clock clock) {
+
+		Assert.notNull(clock, "Clock must not be null");
+
+		this.clock = clock;
+	}
+
+	/**
+	 * Set a listener that is notified with the {@link VaultTokenCache scope} of a cached
+	 * token once it is reused.
+	 * @param scopeListener the listener, must not be {@literal null}.
+	 */
+	void setScopeListener(Consumer<String> scopeListener) {
+
+		Assert.notNull(scopeListener, "Scope listener must not be null");
+
+		this.scopeListener = scopeListener;
+	}
+
+	/**
+	 * Skip the cache on the next login so that it obtains a new token from the actual
+	 * authentication.
+	 */
+	void bypassNextLogin() {
+		this.bypass.set(true);
+	}
+
+	/**
+	 * Create a {@link ClientAuthentication} that reuses a cached token before falling
+	 * back to {@code clientAuthentication}.
+	 * @param clientAuthentication the actual authentication.
+	 * @param restOperations the client to look up the cached token.
+	 * @return the caching {@link ClientAuthentication}.
+	 */
+	ClientAuthentication createClientAuthentication(ClientAuthentication clientAuthentication,
+			RestOperations restOperations) {
+
+		return () -> {
+
+			CachedToken cached = readCache();
+
+			if (cached != null) {
+				try {
+					LoginToken token = lookupSelf(cached.getToken(), restOperations);
+					this.scopeListener.accept(cached.getScope());
+					return token;
+				}
+				catch (RuntimeException e) {
+					onLookupFailed(e);
+				}
+			}
+
+			return clientAuthentication.login();
+		};
+	}
+
+	/**
+	 * Create a {@link VaultTokenSupplier} that reuses a cached token before falling back
+	 * to {@code tokenSupplier}.
+	 * @param tokenSupplier the actual token supplier.
+	 * @param webClient the client to look up the cached token.
+	 * @return the caching {@link VaultTokenSupplier}.
+	 */
+	VaultTokenSupplier createTokenSupplier(VaultTokenSupplier tokenSupplier, WebClient webClient) {
+		return new CachingVaultTokenSupplier(this, tokenSupplier, webClient);
+	}
+
+	@Nullable
+	private CachedToken readCache() {
+
+		if (this.bypass.getAndSet(false)) {
+			log.debug("Bypassing Vault token cache");
+			return null;
+		}
+
+		CachedToken cached = this.cache.read(this.clock.instant().plus(this.minTtl));
+
+		if (cached != null) {
+			log.debug("Found cached Vault token, performing self-lookup");
+		}
+
+		return cached;
+	}
+
+	private void onLookupFailed(Exception e) {
+
+		log.info("Cached Vault token is no longer valid, falling back to login: " + e.getMessage());
+		this.cache.clear();
+	}
+
+	private static LoginToken lookupSelf(VaultToken token, RestOperations restOperations) {
+
+		VaultResponse response = restOperations
+			.exchange("auth/token/lookup-self", HttpMethod.GET, new HttpEntity<>(VaultHttpHeaders.from(token)),
+					VaultResponse.class)
+			.getBody();
+
+		if (response == null || response.getData() == null) {
+			throw new VaultException("Token self-lookup returned no data");
+		}
+
+		return toLoginToken(token, response.getData());
+	}
+
+	static LoginToken toLoginToken(VaultToken token, Map<String, Object> data) {
+
+		LoginToken.LoginTokenBuilder builder = LoginToken.builder().token(token.toCharArray());
+
+		if (data.get("ttl") instanceof Number ttl) {
+			builder.leaseDuration(Duration.ofSeconds(ttl.longValue()));
+		}
+
+		if (data.get("renewable") instanceof Boolean renewable) {
+			builder.renewable(renewable);
+		}
+
+		if (data.get("accessor") instanceof String accessor) {
+			builder.accessor(accessor);
+		}
+
+		if (data.get("type") instanceof String type) {
+			builder.type(type);
+		}
+
+		return builder.build();
+	}
+
+	@Override
+	public void onAuthenticationEvent(AuthenticationEvent event) {
+
+		if (event instanceof AfterLoginEvent || event instanceof AfterLoginTokenRenewedEvent) {
+			this.cache.write(event.getSource(), getExpiry(event.getSource()));
+		}
+		else if (event instanceof LoginTokenExpiredEvent || event instanceof AfterLoginTokenRevocationEvent) {
+			this.cache.clear();
+		}
+	}
+
+	@Nullable
+	private Instant getExpiry(VaultToken token) {
+
+		if (token instanceof LoginToken loginToken) {
+
+			Duration leaseDuration = loginToken.getLeaseDuration();
+
+			if (!leaseDuration.isZero() && !leaseDuration.isNegative()) {
+				return this.clock.instant().plus(leaseDuration);
+			}
+		}
+
+		return null;
+	}
+
+	/**
+	 * {@link VaultTokenSupplier} using a cached token. Isolated into its own class to
+	 * not require Project Reactor for imperative usage.
+	 */
+	private static final class CachingVaultTokenSupplier implements VaultTokenSupplier {
+
+		private final TokenCachingAuthentication authentication;
+
+		private final VaultTokenSupplier delegate;
+
+		private final WebClient webClient;
+
+		private CachingVaultTokenSupplier(TokenCachingAuthentication authentication, VaultTokenSupplier delegate,
+				WebClient webClient) {
+			this.authentication = authentication;
+			this.delegate = delegate;
+			this.webClient = webClient;
+		}
+
+		@Override
+		public Mono<VaultToken> getVaultToken() {
+
+			return Mono.fromCallable(this.authentication::readCache)
+				.subscribeOn(Schedulers.boundedElastic())
+				.flatMap(cached -> lookupSelf(cached.getToken())
+					.doOnNext(token -> this.authentication.scopeListener.accept(cached.getScope()))
+					.onErrorResume(RuntimeException.class, e -> {
+						this.authentication.onLookupFailed(e);
+						return Mono.empty();
+					}))
+				.cast(VaultToken.class)
+				.switchIfEmpty(Mono.defer(this.delegate::getVaultToken));
+		}
+
+		private Mono<LoginToken> lookupSelf(VaultToken token) {
+
+			return this.webClient.get()
+				.uri("auth/token/lookup-self")
+				.headers(headers -> headers.addAll(VaultHttpHeaders.from(token)))
+				.retrieve()
+				.bodyToMono(VaultResponse.class)
+				.flatMap(response -> response.getData() != null ? Mono.just(toLoginToken(token, response.getData()))
+						: Mono.error(new VaultException("Token self-lookup returned no data")));
+		}
+
+	}
+
+}
@@ -29,6 +29,7 @@ import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.SmartLifecycle;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Lazy;
@@ -129,7 +130,7 @@ public class VaultAutoConfiguration {
 	@Bean
 	@ConditionalOnMissingBean
 	public ClientFactoryWrapper clientHttpRequestFactoryWrapper() {
-		return new ClientFactoryWrapper(this.configuration.createClientHttpRequestFactory());
+		return new LifecycleClientFactoryWrapper(this.configuration.createClientHttpRequestFactory());
 	}
 
 	/**
@@ -210,6 +211,8 @@ public class VaultAutoConfiguration {
 	/**
 	 * @param clientFactoryWrapper the {@link ClientFactoryWrapper}.
 	 * @param restTemplateFactory the {@link RestTemplateFactory}.
+	 * @param taskSchedulerWrapper the {@link TaskSchedulerWrapper} to prefetch cached
+	 * login material.
 	 * @return the {@link ClientAuthentication} to obtain a
 	 * {@link org.springframework.vault.support.VaultToken}.
 	 * @see SessionManager
@@ -219,7 +222,7 @@ public class VaultAutoConfiguration {
 	@ConditionalOnMissingBean
 	@ConditionalOnAuthentication
 	public ClientAuthentication clientAuthentication(ClientFactoryWrapper clientFactoryWrapper,
-			RestTemplateFactory restTemplateFactory) {
+			RestTemplateFactory restTemplateFactory, ObjectProvider<TaskSchedulerWrapper> taskSchedulerWrapper) {
 
 		RestTemplate externalRestOperations = new RestTemplate(clientFactoryWrapper.getClientHttpRequestFactory());
 
@@ -227,15 +230,20 @@ public class VaultAutoConfiguration {
 
 		RestTemplate restTemplate = restTemplateFactory.create();
 		ClientAuthenticationFactory factory = new ClientAuthenticationFactory(this.vaultProperties, restTemplate,
-				externalRestOperations);
+				externalRestOperations, () -> {
+					TaskSchedulerWrapper wrapper = taskSchedulerWrapper.getIfAvailable();
+					return wrapper != null ? wrapper.getTaskScheduler() : null;
+				});
 
 		return factory.createClientAuthentication();
 	}
 
 	/**
-	 * Wrapper to keep {@link TaskScheduler} local to Spring Cloud Vault.
+	 * Wrapper to keep {@link TaskScheduler} local to Spring Cloud Vault. Propagates
+	 * lifecycle stop and start to the scheduler to pause and resume scheduled tasks, for
+	 * example around a CRaC checkpoint.
 	 */
-	public static class TaskSchedulerWrapper implements InitializingBean, DisposableBean {
+	public static class TaskSchedulerWrapper implements InitializingBean, DisposableBean, SmartLifecycle {
 
 		private final ThreadPoolTaskScheduler taskScheduler;
 
@@ -267,6 +275,31 @@ public class VaultAutoConfiguration {
 			}
 		}
 
+		@Override
+		public void start() {
+			this.taskScheduler.start();
+		}
+
+		@Override
+		public void stop() {
+			this.taskScheduler.stop();
+		}
+
+		@Override
+		public void stop(Runnable callback) {
+			this.taskScheduler.stop(callback);
+		}
+
+		@Override
+		public boolean isRunning() {
+			return this.taskScheduler.isRunning();
+		}
+
+		@Override
+		public int getPhase() {
+			return this.taskScheduler.getPhase();
+		}
+
 	}
 
 }
@@ -43,13 +43,17 @@ import org.springframework.boot.context.config.ConfigDataLoaderContext;
 import org.springframework.boot.context.config.ConfigDataLocationNotFoundException;
 import org.springframework.boot.logging.DeferredLogFactory;
 import org.springframework.cloud.vault.config.VaultAutoConfiguration.TaskSchedulerWrapper;
+import org.springframework.cloud.vault.config.VaultFlightRecorderEvents.ConfigDataLoadEvent;
 import org.springframework.cloud.vault.config.VaultReactiveAutoConfiguration.ClientHttpConnectorWrapper;
 import org.springframework.context.ApplicationEventPublisherAware;
 import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.core.env.EnumerablePropertySource;
 import org.springframework.core.env.PropertySource;
 import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.reactive.ClientHttpConnector;
 import org.springframework.lang.Nullable;
+import org.springframework.scheduling.TaskScheduler;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 import org.springframework.util.ClassUtils;
 import org.springframework.util.ReflectionUtils;
@@ -71,6 +75,7 @@ import org.springframework.vault.core.ReactiveVaultTemplate;
 import org.springframework.vault.core.VaultTemplate;
 import org.springframework.vault.core.env.LeaseAwareVaultPropertySource;
 import org.springframework.vault.core.lease.SecretLeaseContainer;
+import org.springframework.vault.core.lease.domain.Lease;
 import org.springframework.vault.core.lease.domain.RequestedSecret;
 import org.springframework.vault.core.lease.event.LeaseErrorListener;
 import org.springframework.web.client.RestTemplate;
@@ -103,7 +108,7 @@ public class VaultConfigDataLoader implements ConfigDataLoader<VaultConfigLocati
 	final static boolean webclientPresent = ClassUtils.isPresent(
 			"org.springframework.web.reactive.function.client.WebClient", VaultConfigDataLoader.class.getClassLoader());
 
-	private final static boolean REGISTER_REACTIVE_INFRASTRUCTURE = reactorPresent && webclientPresent;
+	final static boolean REGISTER_REACTIVE_INFRASTRUCTURE = reactorPresent && webclientPresent;
 
 	private final DeferredLogFactory logFactory;
 
@@ -123,26 +128,72 @@ public class VaultConfigDataLoader implements ConfigDataLoader<VaultConfigLocati
 			return SKIP_LOCATION;
 		}
 
-		if (vaultProperties.getSession().getLifecycle().isEnabled()
-				|| vaultProperties.getConfig().getLifecycle().isEnabled()) {
+		if (vaultProperties.getSession().getLifecycle().isEnabled() || isLeaseManagementEager(vaultProperties)) {
 			registerVaultTaskScheduler(bootstrap);
 		}
 
 		registerImperativeInfrastructure(bootstrap, vaultProperties);
 
-		if (REGISTER_REACTIVE_INFRASTRUCTURE && vaultProperties.getReactive().isEnabled()) {
+		if (isRegisterReactiveInfrastructure(vaultProperties)) {
 			registerReactiveInfrastructure(bootstrap, vaultProperties);
 		}
 
 		registerVaultConfigTemplate(bootstrap, vaultProperties);
 
-		if (vaultProperties.getConfig().getLifecycle().isEnabled()) {
+		if (isLeaseManagementEager(vaultProperties)) {
 			registerSecretLeaseContainer(bootstrap, new VaultConfiguration(vaultProperties));
 		}
 
+		if (VaultFlightRecorderEvents.isEnabled(vaultProperties)) {
+			return loadConfigDataRecorded(location, bootstrap, vaultProperties);
+		}
+
 		return loadConfigData(location, bootstrap, vaultProperties);
 	}
 
+	private ConfigData loadConfigDataRecorded(VaultConfigLocation location, ConfigurableBootstrapContext bootstrap,
+			VaultProperties vaultProperties) {
+
+		ConfigDataLoadEvent event = new ConfigDataLoadEvent();
+		event.begin();
+
+		ConfigData configData = null;
+
+		try {
+			configData = loadConfigData(location, bootstrap, vaultProperties);
+			return configData;
+		}
+		finally {
+
+			event.end();
+
+			if (event.shouldCommit()) {
+
+				SecretBackendMetadata metadata = location.getSecretBackendMetadata();
+
+				event.location = metadata.getName();
+				event.path = VaultPathTemplates.toTemplate(metadata.getPath());
+				event.properties = configData != null ? getPropertyCount(configData) : 0;
+				event.outcome = configData != null ? VaultFlightRecorderEvents.OUTCOME_SUCCESS
+						: VaultFlightRecorderEvents.OUTCOME_ERROR;
+				event.commit();
+			}
+		}
+	}
+
+	private static int getPropertyCount(ConfigData configData) {
+
+		int count = 0;
+
+		for (PropertySource<?> propertySource : configData.getPropertySources()) {
+			if (propertySource instanceof EnumerablePropertySource<?> enumerable) {
+				count += enumerable.getPropertyNames().length;
+			}
+		}
+
+		return count;
+	}
+
 	private ConfigData loadConfigData(VaultConfigLocation location, ConfigurableBootstrapContext bootstrap,
 			VaultProperties vaultProperties) {
 
@@ -154,19 +205,20 @@ public class VaultConfigDataLoader implements ConfigDataLoader<VaultConfigLocati
 			});
 		}
 
-		if (vaultProperties.getConfig().getLifecycle().isEnabled()) {
-
-			RequestedSecret secret = getRequestedSecret(location.getSecretBackendMetadata());
+		VaultProperties.ConfigLifecycle lifecycle = vaultProperties.getConfig().getLifecycle();
 
-			if (vaultProperties.isFailFast()) {
-				return new ConfigData(Collections.singleton(createLeasingPropertySourceFailFast(
-						bootstrap.get(SecretLeaseContainer.class), secret, location.getSecretBackendMetadata())));
-			}
-
-			return createConfigData(() -> createLeasingPropertySource(bootstrap.get(SecretLeaseContainer.class), secret,
+		if (lifecycle.isEnabled() && lifecycle.getMode() == VaultProperties.ConfigLifecycle.Mode.AUTO
+				&& !(location.getSecretBackendMetadata() instanceof LeasingSecretBackendMetadata)) {
+			return createConfigData(() -> createLeaseDetectingPropertySource(bootstrap, vaultProperties,
 					location.getSecretBackendMetadata()));
 		}
 
+		if (lifecycle.isEnabled()) {
+			registerLeaseInfrastructure(bootstrap, vaultProperties);
+			return createConfigData(
+					() -> createLeasingPropertySource(bootstrap, vaultProperties, location.getSecretBackendMetadata()));
+		}
+
 		return createConfigData(() -> {
 			VaultConfigTemplate configTemplate = bootstrap.get(VaultConfigTemplate.class);
 
@@ -175,6 +227,68 @@ public class VaultConfigDataLoader implements ConfigDataLoader<VaultConfigLocati
 		});
 	}
 
+	/**
+	 * Read secrets without lease management and switch to lease management only if the
+	 * secret was returned with a lease. The lease container requests the secret again so
+	 * the lease of the initial read is revoked.
+	 */
+	private PropertySource<?> createLeaseDetectingPropertySource(ConfigurableBootstrapContext bootstrap,
+			VaultProperties vaultProperties, SecretBackendMetadata accessor) {
+
+		VaultPropertySource propertySource = createVaultPropertySource(bootstrap.get(VaultConfigTemplate.class),
+				vaultProperties.isFailFast(), accessor);
+
+		if (!propertySource.hasLease()) {
+			return propertySource;
+		}
+
+		registerLeaseInfrastructure(bootstrap, vaultProperties);
+
+		Lease lease = propertySource.getLease();
+		if (lease != null
+				&& bootstrap.get(SecretLeaseContainer.class) instanceof InstrumentedSecretLeaseContainer container) {
+			container.revokeLease(getRequestedSecret(accessor), lease);
+		}
+
+		return createLeasingPropertySource(bootstrap, vaultProperties, accessor);
+	}
+
+	private PropertySource<?> createLeasingPropertySource(ConfigurableBootstrapContext bootstrap,
+			VaultProperties vaultProperties, SecretBackendMetadata accessor) {
+
+		RequestedSecret secret = getRequestedSecret(accessor);
+		SecretLeaseContainer container = bootstrap.get(SecretLeaseContainer.class);
+
+		if (vaultProperties.isFailFast()) {
+			return createLeasingPropertySourceFailFast(container, secret, accessor);
+		}
+
+		return createLeasingPropertySource(container, secret, accessor);
+	}
+
+	/**
+	 * Determine whether to register the secret lease container upfront. Auto mode
+	 * registers the container only once a secret requires lease management.
+	 * @param vaultProperties the Vault properties.
+	 * @return {@literal true} to register the secret lease container upfront.
+	 */
+	static boolean isLeaseManagementEager(VaultProperties vaultProperties) {
+
+		VaultProperties.ConfigLifecycle lifecycle = vaultProperties.getConfig().getLifecycle();
+
+		return lifecycle.isEnabled() && lifecycle.getMode() == VaultProperties.ConfigLifecycle.Mode.ALWAYS;
+	}
+
+	private void registerLeaseInfrastructure(ConfigurableBootstrapContext bootstrap, VaultProperties vaultProperties) {
+
+		if (bootstrap.isRegistered(SecretLeaseContainer.class)) {
+			return;
+		}
+
+		registerVaultTaskScheduler(bootstrap);
+		registerSecretLeaseContainer(bootstrap, new VaultConfiguration(vaultProperties));
+	}
+
 	private void registerImperativeInfrastructure(ConfigurableBootstrapContext bootstrap,
 			VaultProperties vaultProperties) {
 
@@ -192,9 +306,13 @@ public class VaultConfigDataLoader implements ConfigDataLoader<VaultConfigLocati
 		}
 		else {
 
+			if (vaultProperties.getPrewarmConnections() > 0) {
+				infra.registerConnectionPrewarmer();
+			}
+
 			infra.registerClientAuthentication();
 
-			if (!REGISTER_REACTIVE_INFRASTRUCTURE || !vaultProperties.getReactive().isEnabled()) {
+			if (!isRegisterReactiveInfrastructure(vaultProperties)) {
 				infra.registerVaultSessionManager();
 			}
 
@@ -204,6 +322,19 @@ public class VaultConfigDataLoader implements ConfigDataLoader<VaultConfigLocati
 		}
 	}
 
+	/**
+	 * Determine whether to register the reactive infrastructure with the bootstrap
+	 * context. On-demand mode leaves reactive infrastructure to
+	 * {@link VaultReactiveAutoConfiguration} so that config data loading does not
+	 * initialize the reactive HTTP client.
+	 * @param vaultProperties the Vault properties.
+	 * @return {@literal true} to register reactive infrastructure.
+	 */
+	static boolean isRegisterReactiveInfrastructure(VaultProperties vaultProperties) {
+		return REGISTER_REACTIVE_INFRASTRUCTURE && vaultProperties.getReactive().isEnabled()
+				&& !vaultProperties.getReactive().isOnDemand();
+	}
+
 	private void registerReactiveInfrastructure(ConfigurableBootstrapContext bootstrap,
 			VaultProperties vaultProperties) {
 
@@ -274,7 +405,7 @@ public class VaultConfigDataLoader implements ConfigDataLoader<VaultConfigLocati
 				List.of("vaultTaskScheduler", "vaultSessionManager", "reactiveVaultSessionManager"));
 	}
 
-	private PropertySource<?> createVaultPropertySource(VaultConfigOperations configOperations, boolean failFast,
+	private VaultPropertySource createVaultPropertySource(VaultConfigOperations configOperations, boolean failFast,
 			SecretBackendMetadata accessor) {
 
 		VaultPropertySource vaultPropertySource = new VaultPropertySource(configOperations, failFast, accessor);
@@ -468,6 +599,14 @@ public class VaultConfigDataLoader implements ConfigDataLoader<VaultConfigLocati
 		void registerClientHttpRequestFactoryWrapper() {
 			registerIfAbsent(this.bootstrap, "clientHttpRequestFactoryWrapper", ClientFactoryWrapper.class, () -> {
 
+				SpeculativeLogin speculativeLogin = getSpeculativeLogin();
+				ClientHttpRequestFactory prepared = speculativeLogin != null ? speculativeLogin.getRequestFactory()
+						: null;
+
+				if (prepared != null) {
+					return new NonInitializingClientFactoryWrapper(prepared);
+				}
+
 				ClientHttpRequestFactory factory = this.configuration.createClientHttpRequestFactory();
 
 				// early initialization
@@ -498,9 +637,48 @@ public class VaultConfigDataLoader implements ConfigDataLoader<VaultConfigLocati
 									this.endpointProvider, Collections.emptyList(), Collections.emptyList())));
 		}
 
+		void registerConnectionPrewarmer() {
+			registerIfAbsent(this.bootstrap, "vaultConnectionPrewarmer", ConnectionPrewarmer.class, ctx -> {
+
+				SpeculativeLogin speculativeLogin = getSpeculativeLogin();
+				ConnectionPrewarmer prewarmer = speculativeLogin != null ? speculativeLogin.getConnectionPrewarmer()
+						: null;
+
+				if (prewarmer != null) {
+					return prewarmer;
+				}
+
+				prewarmer = new ConnectionPrewarmer(ctx.get(ClientFactoryWrapper.class).getClientHttpRequestFactory(),
+						this.configuration.createVaultEndpoint(), this.vaultProperties.getPrewarmConnections());
+				prewarmer.start();
+				return prewarmer;
+			});
+		}
+
 		void registerClientAuthentication() {
 			registerIfAbsent(this.bootstrap, "clientAuthentication", ClientAuthentication.class, ctx -> {
 
+				if (ctx.isRegistered(ConnectionPrewarmer.class)) {
+					// open connections while the login is in progress
+					ctx.get(ConnectionPrewarmer.class);
+				}
+
+				SpeculativeLogin speculativeLogin = getSpeculativeLogin();
+				ClientAuthentication prepared = speculativeLogin != null ? speculativeLogin.getClientAuthentication()
+						: null;
+
+				TaskScheduler taskScheduler = ctx.isRegistered(TaskSchedulerWrapper.class)
+						? ctx.get(TaskSchedulerWrapper.class).getTaskScheduler() : null;
+
+				if (prepared != null) {
+
+					if (taskScheduler != null) {
+						speculativeLogin.setTaskScheduler(taskScheduler);
+					}
+
+					return prepared;
+				}
+
 				ClientHttpRequestFactory factory = this.bootstrap.get(ClientFactoryWrapper.class)
 					.getClientHttpRequestFactory();
 
@@ -508,15 +686,21 @@ public class VaultConfigDataLoader implements ConfigDataLoader<VaultConfigLocati
 
 				ClientAuthenticationFactory authenticationFactory = new ClientAuthenticationFactory(
 						this.vaultProperties, this.bootstrap.get(RestTemplateFactory.class).create(),
-						externalRestTemplate);
+						externalRestTemplate, () -> taskScheduler);
 				return authenticationFactory.createClientAuthentication();
 			});
 		}
 
 		void registerVaultSessionManager() {
 			registerIfAbsent(this.bootstrap, "vaultSessionManager", SessionManager.class, ctx -> {
-				SessionManager sessionManager = this.configuration.createSessionManager(
-						ctx.get(ClientAuthentication.class),
+				ClientAuthentication clientAuthentication = ctx.get(ClientAuthentication.class);
+				SpeculativeLogin speculativeLogin = getSpeculativeLogin();
+
+				if (speculativeLogin != null) {
+					clientAuthentication = speculativeLogin.decorate(clientAuthentication);
+				}
+
+				SessionManager sessionManager = this.configuration.createSessionManager(clientAuthentication,
 						() -> ctx.get(TaskSchedulerWrapper.class).getTaskScheduler(),
 						ctx.get(RestTemplateFactory.class));
 				reconfigureLogger(sessionManager, this.logFactory);
@@ -525,6 +709,12 @@ public class VaultConfigDataLoader implements ConfigDataLoader<VaultConfigLocati
 			}, List.of("clientHttpRequestFactoryWrapper"));
 		}
 
+		@Nullable
+		private SpeculativeLogin getSpeculativeLogin() {
+			return this.bootstrap.isRegistered(SpeculativeLogin.class) ? this.bootstrap.get(SpeculativeLogin.class)
+					: null;
+		}
+
 	}
 
 	/**
@@ -535,6 +725,8 @@ public class VaultConfigDataLoader implements ConfigDataLoader<VaultConfigLocati
 
 		private final ConfigurableBootstrapContext bootstrap;
 
+		private final VaultProperties vaultProperties;
+
 		private final VaultReactiveConfiguration configuration;
 
 		private final VaultEndpointProvider endpointProvider;
@@ -544,6 +736,7 @@ public class VaultConfigDataLoader implements ConfigDataLoader<VaultConfigLocati
 		ReactiveInfrastructure(ConfigurableBootstrapContext bootstrap, VaultProperties vaultProperties,
 				DeferredLogFactory logFactory) {
 			this.bootstrap = bootstrap;
+			this.vaultProperties = vaultProperties;
 			this.configuration = new VaultReactiveConfiguration(vaultProperties);
 			this.endpointProvider = SimpleVaultEndpointProvider
 				.of(new VaultConfiguration(vaultProperties).createVaultEndpoint());
@@ -552,7 +745,19 @@ public class VaultConfigDataLoader implements ConfigDataLoader<VaultConfigLocati
 
 		void registerClientHttpConnectorWrapper() {
 			registerIfAbsent(this.bootstrap, "clientHttpConnectorWrapper", ClientHttpConnectorWrapper.class,
-					() -> new ClientHttpConnectorWrapper(this.configuration.createClientHttpConnector()));
+					() -> new ClientHttpConnectorWrapper(createClientHttpConnector()));
+		}
+
+		private ClientHttpConnector createClientHttpConnector() {
+
+			ClientHttpConnector connector = this.configuration.createClientHttpConnector();
+
+			if (this.vaultProperties.getReactive().isShareResources()) {
+				// moved to the application's ReactorResourceFactory by VaultReactiveAutoConfiguration
+				return new RebindableClientHttpConnector(connector);
+			}
+
+			return connector;
 		}
 
 		public void registerWebClientBuilder() {
@@ -613,7 +818,7 @@ public class VaultConfigDataLoader implements ConfigDataLoader<VaultConfigLocati
 	 * Wrapper for {@link ClientHttpRequestFactory} that suppresses
 	 * {@link #afterPropertiesSet()} to avoid double-initialization.
 	 */
-	private static class NonInitializingClientFactoryWrapper extends ClientFactoryWrapper {
+	private static class NonInitializingClientFactoryWrapper extends LifecycleClientFactoryWrapper {
 
 		NonInitializingClientFactoryWrapper(ClientHttpRequestFactory clientHttpRequestFactory) {
 			super(clientHttpRequestFactory);
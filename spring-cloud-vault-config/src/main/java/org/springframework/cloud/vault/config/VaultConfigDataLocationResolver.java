@@ -23,6 +23,7 @@ import java.util.List;
 import java.util.stream.Collectors;
 
 import org.springframework.boot.bootstrap.BootstrapRegistry;
+import org.springframework.boot.bootstrap.BootstrapRegistry.InstanceSupplier;
 import org.springframework.boot.bootstrap.ConfigurableBootstrapContext;
 import org.springframework.boot.context.config.ConfigDataLocation;
 import org.springframework.boot.context.config.ConfigDataLocationNotFoundException;
@@ -30,14 +31,13 @@ import org.springframework.boot.context.config.ConfigDataLocationResolver;
 import org.springframework.boot.context.config.ConfigDataLocationResolverContext;
 import org.springframework.boot.context.config.ConfigDataResourceNotFoundException;
 import org.springframework.boot.context.config.Profiles;
-import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.boot.context.properties.bind.Bindable;
 import org.springframework.boot.context.properties.bind.Binder;
 import org.springframework.core.annotation.AnnotationAwareOrderComparator;
-import org.springframework.core.annotation.MergedAnnotations;
 import org.springframework.core.io.support.SpringFactoriesLoader;
-import org.springframework.util.ClassUtils;
 import org.springframework.util.StringUtils;
+import org.springframework.vault.authentication.ClientAuthentication;
+import org.springframework.vault.config.AbstractVaultConfiguration.ClientFactoryWrapper;
 import org.springframework.vault.core.util.PropertyTransformer;
 import org.springframework.vault.core.util.PropertyTransformers;
 import org.springframework.web.util.UriComponents;
@@ -105,6 +105,7 @@ public class VaultConfigDataLocationResolver implements ConfigDataLocationResolv
 		}
 
 		registerVaultProperties(context);
+		startSpeculativeLogin(context.getBootstrapContext());
 
 		if (location.getValue().equals(VaultConfigLocation.VAULT_PREFIX)
 				|| location.getValue().equals(VaultConfigLocation.VAULT_PREFIX + "//")) {
@@ -151,6 +152,29 @@ public class VaultConfigDataLocationResolver implements ConfigDataLocationResolv
 		});
 	}
 
+	/**
+	 * Start client initialization and login in the background if early login is
+	 * enabled and the infrastructure is not provided through the bootstrap context.
+	 * @param bootstrap the bootstrap context.
+	 */
+	private static void startSpeculativeLogin(ConfigurableBootstrapContext bootstrap) {
+
+		if (bootstrap.isRegistered(SpeculativeLogin.class) || bootstrap.isRegistered(ClientFactoryWrapper.class)
+				|| bootstrap.isRegistered(ClientAuthentication.class)) {
+			return;
+		}
+
+		VaultProperties vaultProperties = bootstrap.get(VaultProperties.class);
+
+		if (!SpeculativeLogin.isEnabled(vaultProperties)) {
+			return;
+		}
+
+		SpeculativeLogin speculativeLogin = SpeculativeLogin.start(vaultProperties);
+		bootstrap.register(SpeculativeLogin.class, InstanceSupplier.of(speculativeLogin));
+		bootstrap.addCloseListener(event -> speculativeLogin.discard());
+	}
+
 	private List<SecretBackendMetadata> getSecretBackends(ConfigDataLocationResolverContext context,
 			Profiles profiles) {
 
@@ -203,45 +227,7 @@ public class VaultConfigDataLocationResolver implements ConfigDataLocationResolv
 	}
 
 	private static List<VaultSecretBackendDescriptor> findDescriptors(Binder binder) {
-
-		List<Object> descriptorsOrFactories = new ArrayList<>();
-		descriptorsOrFactories.addAll(SpringFactoriesLoader.loadFactories(VaultSecretBackendDescriptor.class,
-				VaultConfigDataLocationResolver.class.getClassLoader()));
-		descriptorsOrFactories.addAll(SpringFactoriesLoader.loadFactories(VaultSecretBackendDescriptorFactory.class,
-				VaultConfigDataLocationResolver.class.getClassLoader()));
-
-		List<VaultSecretBackendDescriptor> descriptors = new ArrayList<>(descriptorsOrFactories.size());
-
-		for (Object descriptorOrFactory : descriptorsOrFactories) {
-
-			Class<?> descriptorClass = descriptorOrFactory.getClass();
-
-			MergedAnnotations annotations = MergedAnnotations.from(descriptorClass);
-			if (annotations.isPresent(ConfigurationProperties.class)) {
-
-				String prefix = annotations.get(ConfigurationProperties.class).getString("prefix");
-				Object hydratedDescriptor = binder.bindOrCreate(prefix, descriptorClass);
-
-				if (hydratedDescriptor instanceof VaultSecretBackendDescriptorFactory) {
-					descriptors.addAll(((VaultSecretBackendDescriptorFactory) hydratedDescriptor).create());
-				}
-				else if (hydratedDescriptor instanceof VaultSecretBackendDescriptor) {
-					descriptors.add((VaultSecretBackendDescriptor) hydratedDescriptor);
-				}
-				else {
-					throw new IllegalStateException(String.format(
-							"Descriptor %s is neither implements VaultSecretBackendDescriptorFactory nor VaultSecretBackendDescriptor",
-							ClassUtils.getQualifiedName(descriptorOrFactory.getClass())));
-				}
-			}
-			else {
-				throw new IllegalStateException(
-						String.format("VaultSecretBackendDescriptor %s is not annotated with @ConfigurationProperties",
-								ClassUtils.getQualifiedName(descriptorOrFactory.getClass())));
-			}
-		}
-
-		return descriptors;
+		return SecretBackendDescriptors.get(VaultConfigDataLocationResolver.class.getClassLoader()).bind(binder);
 	}
 
 	@SuppressWarnings({ "unchecked", "rawtypes" })
@@ -17,19 +17,26 @@
 package org.springframework.cloud.vault.config;
 
 import java.net.URI;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.time.Duration;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.function.Supplier;
 
+import org.springframework.boot.system.SystemProperties;
 import org.springframework.cloud.client.ServiceInstance;
 import org.springframework.cloud.vault.config.VaultProperties.Ssl;
 import org.springframework.http.client.ClientHttpRequestFactory;
 import org.springframework.lang.Nullable;
 import org.springframework.scheduling.TaskScheduler;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
 import org.springframework.util.StringUtils;
 import org.springframework.vault.authentication.ClientAuthentication;
-import org.springframework.vault.authentication.LifecycleAwareSessionManager;
 import org.springframework.vault.authentication.LifecycleAwareSessionManagerSupport;
 import org.springframework.vault.authentication.SessionManager;
 import org.springframework.vault.authentication.SimpleSessionManager;
@@ -58,6 +65,20 @@ import org.springframework.web.client.RestTemplate;
  */
 final class VaultConfiguration {
 
+	/**
+	 * Lifecycle phase of session managers. Session managers are started before the
+	 * {@link SecretLeaseContainer} (phase {@code 200}) to obtain a session token before
+	 * secrets are requested again.
+	 */
+	static final int SESSION_MANAGER_PHASE = 100;
+
+	/**
+	 * Whether checkpoint/restore support through CRaC ({@code org.crac}) is available.
+	 * Spring Framework participates in CRaC checkpoints only if {@code org.crac} is on the
+	 * class path.
+	 */
+	static final boolean CRAC_PRESENT = ClassUtils.isPresent("org.crac.Core", VaultConfiguration.class.getClassLoader());
+
 	private final VaultProperties vaultProperties;
 
 	VaultConfiguration(VaultProperties vaultProperties) {
@@ -104,14 +125,29 @@ final class VaultConfiguration {
 		return new SslConfiguration(keyStore, trustStore, ssl.getEnabledProtocols(), ssl.getEnabledCipherSuites());
 	}
 
+	/**
+	 * Create a {@link ClientHttpRequestFactory} from {@link VaultProperties}. The factory
+	 * is restartable to close pooled connections before a checkpoint if
+	 * {@link #CRAC_PRESENT CRaC support} is available.
+	 * @return the client HTTP request factory.
+	 */
 	ClientHttpRequestFactory createClientHttpRequestFactory() {
+		return createClientHttpRequestFactory(CRAC_PRESENT);
+	}
+
+	ClientHttpRequestFactory createClientHttpRequestFactory(boolean restartable) {
 
 		ClientOptions clientOptions = new ClientOptions(Duration.ofMillis(this.vaultProperties.getConnectionTimeout()),
 				Duration.ofMillis(this.vaultProperties.getReadTimeout()));
 
 		SslConfiguration sslConfiguration = VaultConfiguration.createSslConfiguration(this.vaultProperties.getSsl());
 
-		return ClientHttpRequestFactoryFactory.create(clientOptions, sslConfiguration);
+		if (!restartable) {
+			return ClientHttpRequestFactoryFactory.create(clientOptions, sslConfiguration);
+		}
+
+		return new RestartableClientHttpRequestFactory(
+				() -> ClientHttpRequestFactoryFactory.create(clientOptions, sslConfiguration));
 	}
 
 	/**
@@ -163,6 +199,11 @@ final class VaultConfiguration {
 		customizers.forEach(builder::customizers);
 		requestCustomizers.forEach(builder::requestCustomizers);
 
+		if (VaultFlightRecorderEvents.isEnabled(this.vaultProperties)) {
+			builder.customizers(
+					restTemplate -> restTemplate.getInterceptors().add(new FlightRecorderClientHttpRequestInterceptor()));
+		}
+
 		if (StringUtils.hasText(this.vaultProperties.getNamespace())) {
 			builder.defaultHeader(VaultHttpHeaders.VAULT_NAMESPACE, this.vaultProperties.getNamespace());
 		}
@@ -177,19 +218,124 @@ final class VaultConfiguration {
 			RestTemplate restTemplate = restTemplateFactory.create();
 			LifecycleAwareSessionManagerSupport.RefreshTrigger trigger = new LifecycleAwareSessionManagerSupport.FixedTimeoutRefreshTrigger(
 					lifecycle.getRefreshBeforeExpiry(), lifecycle.getExpiryThreshold());
-			return new LifecycleAwareSessionManager(clientAuthentication, taskSchedulerSupplier.get(), restTemplate,
-					trigger);
+			ChainedClientAuthentication chain = ChainedClientAuthentication.unwrap(clientAuthentication);
+			TokenCachingAuthentication tokenCache = createTokenCachingAuthentication(chain);
+			InstrumentedSessionManager sessionManager;
+
+			if (tokenCache == null) {
+				sessionManager = new InstrumentedSessionManager(clientAuthentication, taskSchedulerSupplier.get(),
+						restTemplate, trigger, createSessionInstrumentation(this.vaultProperties, chain));
+			}
+			else {
+				sessionManager = new InstrumentedSessionManager(
+						tokenCache.createClientAuthentication(clientAuthentication, restTemplate),
+						taskSchedulerSupplier.get(), restTemplate, trigger,
+						createSessionInstrumentation(this.vaultProperties, chain));
+				sessionManager.addAuthenticationListener(tokenCache);
+				sessionManager.setRevokeOnDestroy(false);
+			}
+
+			if (SpeculativeLogin.PrefetchedAuthentication
+				.unwrap(clientAuthentication) instanceof WatchedCredentialFile.Source source) {
+				source.getCredentialFile().addChangeListener(() -> {
+
+					if (tokenCache != null) {
+						tokenCache.bypassNextLogin();
+					}
+
+					sessionManager.relogin();
+				});
+			}
+
+			return sessionManager;
 		}
 
 		return new SimpleSessionManager(clientAuthentication);
 	}
 
+	/**
+	 * Create the {@link TokenCachingAuthentication} if the token cache is enabled and the
+	 * authentication method performs a login. Tokens obtained through an authentication
+	 * chain are bound to the chained method that obtained them.
+	 * @param chain the authentication chain, can be {@literal null} if not using an
+	 * authentication chain.
+	 * @return the {@link TokenCachingAuthentication} or {@literal null} if token caching
+	 * is disabled.
+	 */
+	@Nullable
+	TokenCachingAuthentication createTokenCachingAuthentication(@Nullable ChainedClientAuthentication chain) {
+
+		VaultProperties.TokenCache tokenCache = this.vaultProperties.getSession().getTokenCache();
+		VaultProperties.AuthenticationMethod authentication = this.vaultProperties.getAuthentication();
+
+		if (!tokenCache.isEnabled() || (chain == null && (authentication == VaultProperties.AuthenticationMethod.TOKEN
+				|| authentication == VaultProperties.AuthenticationMethod.NONE))) {
+			return null;
+		}
+
+		Assert.hasText(tokenCache.getPassword(),
+				"Token cache password (spring.cloud.vault.session.token-cache.password) must not be empty");
+
+		Path location = StringUtils.hasText(tokenCache.getLocation()) ? Paths.get(tokenCache.getLocation())
+				: Paths.get(SystemProperties.get("user.home"), ".spring-cloud-vault",
+						this.vaultProperties.getApplicationName() + ".token");
+
+		String endpoint = createVaultEndpoint().createUriString(
+				StringUtils.hasText(this.vaultProperties.getNamespace()) ? this.vaultProperties.getNamespace() : "");
+		Duration minTtl = this.vaultProperties.getSession().getLifecycle().getExpiryThreshold();
+
+		if (chain == null) {
+			return new TokenCachingAuthentication(
+					new VaultTokenCache(location, tokenCache.getPassword(), getTokenCacheScope(authentication, endpoint)),
+					minTtl);
+		}
+
+		// the method that logged in last is ordered first and used to write the cache
+		Map<String, VaultProperties.AuthenticationMethod> methods = new LinkedHashMap<>();
+		for (VaultProperties.AuthenticationMethod method : chain.getMethods()) {
+			methods.put(getTokenCacheScope(method, endpoint), method);
+		}
+
+		TokenCachingAuthentication authenticationCache = new TokenCachingAuthentication(
+				new VaultTokenCache(location, tokenCache.getPassword(),
+						() -> chain.getOrder().stream().map(method -> getTokenCacheScope(method, endpoint)).toList()),
+				minTtl);
+		authenticationCache.setScopeListener(scope -> chain.setPreferred(methods.get(scope)));
+
+		return authenticationCache;
+	}
+
+	private static String getTokenCacheScope(VaultProperties.AuthenticationMethod method, String endpoint) {
+		return "%s@%s".formatted(method.name(), endpoint);
+	}
+
+	/**
+	 * Create {@link SessionInstrumentation} reporting the configured authentication
+	 * method or, when using an authentication chain, the chained method that logged in.
+	 * @param vaultProperties the Vault properties.
+	 * @param chain the authentication chain, can be {@literal null} if not using an
+	 * authentication chain.
+	 * @return the {@link SessionInstrumentation}.
+	 */
+	static SessionInstrumentation createSessionInstrumentation(VaultProperties vaultProperties,
+			@Nullable ChainedClientAuthentication chain) {
+
+		SessionInstrumentation instrumentation = chain != null ? new SessionInstrumentation(() -> {
+			VaultProperties.AuthenticationMethod method = chain.getPreferred();
+			return method != null ? method.name().toLowerCase(Locale.ROOT) : "chain";
+		}) : new SessionInstrumentation(vaultProperties.getAuthentication());
+		instrumentation.setFlightRecorderEnabled(VaultFlightRecorderEvents.isEnabled(vaultProperties));
+		return instrumentation;
+	}
+
 	SecretLeaseContainer createSecretLeaseContainer(VaultOperations vaultOperations,
 			Supplier<TaskScheduler> taskSchedulerSupplier, @Nullable SessionManager sessionManager) {
 
 		VaultProperties.ConfigLifecycle lifecycle = this.vaultProperties.getConfig().getLifecycle();
 
-		SecretLeaseContainer container = new SecretLeaseContainer(vaultOperations, taskSchedulerSupplier.get());
+		InstrumentedSecretLeaseContainer container = new InstrumentedSecretLeaseContainer(vaultOperations,
+				taskSchedulerSupplier.get());
+		container.setFlightRecorderEnabled(VaultFlightRecorderEvents.isEnabled(this.vaultProperties));
 
 		if (sessionManager instanceof AuthenticationEventMulticaster am) {
 			am.addAuthenticationListener(container.getAuthenticationListener());
@@ -209,6 +355,23 @@ final class VaultConfiguration {
 		return threadPoolTaskScheduler;
 	}
 
+	/**
+	 * Create a {@link ConnectionPrewarmer} if pre-warming is enabled.
+	 * @param requestFactory the request factory to open connections with.
+	 * @return the {@link ConnectionPrewarmer} or {@literal null} if pre-warming is
+	 * disabled.
+	 */
+	@Nullable
+	ConnectionPrewarmer createConnectionPrewarmer(ClientHttpRequestFactory requestFactory) {
+
+		if (this.vaultProperties.getPrewarmConnections() <= 0) {
+			return null;
+		}
+
+		return new ConnectionPrewarmer(requestFactory, createVaultEndpoint(),
+				this.vaultProperties.getPrewarmConnections());
+	}
+
 	static void customizeContainer(VaultProperties.ConfigLifecycle lifecycle, SecretLeaseContainer container) {
 
 		if (lifecycle.isEnabled()) {
@@ -226,14 +389,28 @@ final class VaultConfiguration {
 			}
 
 			if (lifecycle.getLeaseStrategy() != null) {
-
-				switch (lifecycle.getLeaseStrategy()) {
-					case DropOnError -> container.setLeaseStrategy(LeaseStrategy.dropOnError());
-					case RetainOnError -> container.setLeaseStrategy(LeaseStrategy.retainOnError());
-					case RetainOnIoError -> container.setLeaseStrategy(LeaseStrategy.retainOnIoError());
-				}
+				container.setLeaseStrategy(getLeaseStrategy(lifecycle));
 			}
 		}
 	}
 
+	/**
+	 * Resolve the {@link LeaseStrategy} from {@link VaultProperties.ConfigLifecycle}.
+	 * @param lifecycle the lifecycle configuration.
+	 * @return the configured {@link LeaseStrategy}. Defaults to
+	 * {@link LeaseStrategy#dropOnError()}.
+	 */
+	static LeaseStrategy getLeaseStrategy(VaultProperties.ConfigLifecycle lifecycle) {
+
+		if (lifecycle.getLeaseStrategy() == null) {
+			return LeaseStrategy.dropOnError();
+		}
+
+		return switch (lifecycle.getLeaseStrategy()) {
+			case DropOnError -> LeaseStrategy.dropOnError();
+			case RetainOnError -> LeaseStrategy.retainOnError();
+			case RetainOnIoError -> LeaseStrategy.retainOnIoError();
+		};
+	}
+
 }
@@ -0,0 +1,196 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.vault.config;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.boot.health.contributor.AbstractHealthIndicator;
+import org.springframework.boot.health.contributor.Health.Builder;
+import org.springframework.cloud.vault.config.InstrumentedSecretLeaseContainer.LeaseState;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Health indicator reporting whether the credentials held by this application are
+ * usable. The indicator is computed from the in-memory session and lease state and does
+ * not issue requests to Vault so that it can back high-frequency probes.
+ * <p>
+ * Credentials are reported as down if:
+ * <ul>
+ * <li>a session token expired or its remaining time to live is below the configured
+ * minimum time to live.</li>
+ * <li>a lease expired, could not be obtained or a lease renewal or rotation is retried
+ * after errors.</li>
+ * </ul>
+ *
+ * @author Mark Paluch
+ * @since 5.0.3
+ * @see SessionInstrumentation
+ * @see InstrumentedSecretLeaseContainer
+ */
+public class VaultCredentialsHealthIndicator extends AbstractHealthIndicator {
+
+	private final List<SessionInstrumentation> sessions;
+
+	private final List<InstrumentedSecretLeaseContainer> containers;
+
+	private final Duration minTokenTtl;
+
+	private Clock clock = Clock.systemUTC();
+
+	VaultCredentialsHealthIndicator(List<SessionInstrumentation> sessions,
+			List<InstrumentedSecretLeaseContainer> containers, Duration minTokenTtl) {
+
+		super("Vault credentials health check failed");
+
+		Assert.notNull(sessions, "SessionInstrumentation must not be null");
+		Assert.notNull(containers, "SecretLeaseContainers must not be null");
+		Assert.notNull(minTokenTtl, "Minimum token TTL must not be null");
+
+		this.sessions = new ArrayList<>(sessions);
+		this.containers = new ArrayList<>(containers);
+		this.minTokenTtl = minTokenTtl;
+	}
+
+	/**
+	 * Set the {@link Clock} to compute the remaining lease time to live.
+	 * @param clock the clock to use, must not be {@literal null}.
+	 */
+	void setClock(Clock clock) {
+
+		Assert.notNull(clock, "Clock must not be null");
+
+		this.clock = clock;
+	}
+
+	@Override
+	protected void doHealthCheck(Builder builder) {
+
+		boolean healthy = true;
+
+		Map<String, Object> sessions = new LinkedHashMap<>();
+		for (SessionInstrumentation session : this.sessions) {
+
+			Map<String, Object> details = new LinkedHashMap<>();
+			healthy &= contributeSession(session, details);
+			sessions.put(session.getAuthenticationMethod(), details);
+		}
+
+		Map<String, Object> leases = new LinkedHashMap<>();
+		Instant now = this.clock.instant();
+		for (InstrumentedSecretLeaseContainer container : this.containers) {
+			for (LeaseState state : container.getLeaseStates()) {
+
+				Map<String, Object> details = new LinkedHashMap<>();
+				healthy &= contributeLease(state, now, details);
+				leases.put(state.getRequestedSecret().getPath(), details);
+			}
+		}
+
+		if (healthy) {
+			builder.up();
+		}
+		else {
+			builder.down();
+		}
+
+		if (!sessions.isEmpty()) {
+			builder.withDetail("session", sessions);
+		}
+
+		if (!leases.isEmpty()) {
+			builder.withDetail("leases", leases);
+		}
+	}
+
+	private boolean contributeSession(SessionInstrumentation session, Map<String, Object> details) {
+
+		if (!session.isTokenPresent()) {
+
+			if (session.getLoginCount() == 0) {
+				details.put("state", "pending");
+				return true;
+			}
+
+			details.put("state", "expired");
+			return false;
+		}
+
+		Duration ttl = session.getRemainingTtl();
+
+		if (ttl == null) {
+			details.put("state", "valid");
+			return true;
+		}
+
+		details.put("ttl", ttl);
+
+		if (ttl.compareTo(this.minTokenTtl) < 0) {
+			details.put("state", "expiring");
+			return false;
+		}
+
+		details.put("state", "valid");
+		return true;
+	}
+
+	private static boolean contributeLease(LeaseState state, Instant now, Map<String, Object> details) {
+
+		Instant expiry = state.getExpiry();
+
+		if (expiry != null && !state.isExpired()) {
+			Duration ttl = Duration.between(now, expiry);
+			details.put("ttl", ttl.isNegative() ? Duration.ZERO : ttl);
+		}
+
+		if (state.getConsecutiveErrors() > 0) {
+			details.put("errors", state.getConsecutiveErrors());
+			contributeError(state.getLastError(), details);
+		}
+
+		if (state.isExpired()) {
+			details.put("state", "expired");
+			return false;
+		}
+
+		if (!state.isObtained()) {
+			details.put("state", "failed");
+			return false;
+		}
+
+		if (state.getConsecutiveErrors() > 0) {
+			details.put("state", "retrying");
+			return false;
+		}
+
+		details.put("state", "active");
+		return true;
+	}
+
+	private static void contributeError(@Nullable Exception error, Map<String, Object> details) {
+		if (error != null) {
+			details.put("error", error.getClass().getName() + ": " + error.getMessage());
+		}
+	}
+
+}
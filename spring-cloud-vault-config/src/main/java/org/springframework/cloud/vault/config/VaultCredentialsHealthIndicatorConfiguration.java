@@ -0,0 +1,61 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.vault.config;
+
+import java.util.List;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.vault.core.lease.SecretLeaseContainer;
+
+/**
+ * Configuration for {@link VaultCredentialsHealthIndicator}.
+ *
+ * @author Mark Paluch
+ * @since 5.0.3
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty("spring.cloud.vault.health.credentials.enabled")
+class VaultCredentialsHealthIndicatorConfiguration {
+
+	@Bean
+	@ConditionalOnMissingBean(name = { "vaultCredentialsHealthIndicator" })
+	VaultCredentialsHealthIndicator vaultCredentialsHealthIndicator(ObjectProvider<VaultProperties> vaultProperties,
+			ObjectProvider<SessionInstrumentation.Instrumented> sessionManagers,
+			ObjectProvider<SecretLeaseContainer> secretLeaseContainers) {
+
+		List<SessionInstrumentation> sessions = sessionManagers.orderedStream()
+			.map(SessionInstrumentation.Instrumented::getSessionInstrumentation)
+			.distinct()
+			.toList();
+
+		List<InstrumentedSecretLeaseContainer> containers = secretLeaseContainers.orderedStream()
+			.filter(InstrumentedSecretLeaseContainer.class::isInstance)
+			.map(InstrumentedSecretLeaseContainer.class::cast)
+			.distinct()
+			.toList();
+
+		VaultProperties properties = vaultProperties.getIfAvailable(VaultProperties::new);
+
+		return new VaultCredentialsHealthIndicator(sessions, containers,
+				properties.getHealth().getCredentials().getMinTokenTtl());
+	}
+
+}
@@ -0,0 +1,218 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.vault.config;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+import org.springframework.http.HttpStatusCode;
+import org.springframework.lang.Nullable;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Java Flight Recorder {@link Event events} emitted by Spring Cloud Vault. Events are
+ * only created if enabled through {@code spring.cloud.vault.jfr.enabled} and if the JFR
+ * API is available.
+ * <p>
+ * Instrumented components such as {@link InstrumentedSecretLeaseContainer},
+ * {@link SessionInstrumentation} and {@link VaultConfigDataLoader} reference event
+ * classes directly and only instantiate them if events are enabled. Running without the
+ * {@code jdk.jfr} module relies on the JVM resolving these references lazily, as
+ * HotSpot does.
+ * <p>
+ * Events follow the {@code begin()}/{@code shouldCommit()} pattern so that event
+ * creation is optimized away by the JVM when no recording is active.
+ *
+ * @author Mark Paluch
+ * @since 5.0.3
+ */
+final class VaultFlightRecorderEvents {
+
+	/**
+	 * Whether the Java Flight Recorder API is available.
+	 */
+	static final boolean JFR_PRESENT = ClassUtils.isPresent("jdk.jfr.Event",
+			VaultFlightRecorderEvents.class.getClassLoader());
+
+	static final String OUTCOME_SUCCESS = "SUCCESS";
+
+	static final String OUTCOME_ERROR = "ERROR";
+
+	private VaultFlightRecorderEvents() {
+	}
+
+	/**
+	 * Check whether events should be emitted.
+	 * @param properties the Vault properties.
+	 * @return {@literal true} if events are enabled and the JFR API is available.
+	 */
+	static boolean isEnabled(VaultProperties properties) {
+		return JFR_PRESENT && properties.getJfr().isEnabled();
+	}
+
+	/**
+	 * Determine the HTTP outcome for a status code.
+	 * @param statusCode the status code, can be {@literal null} if the request failed.
+	 * @return the outcome.
+	 */
+	static String getOutcome(@Nullable HttpStatusCode statusCode) {
+
+		if (statusCode == null) {
+			return "IO_ERROR";
+		}
+
+		if (statusCode.is2xxSuccessful()) {
+			return OUTCOME_SUCCESS;
+		}
+
+		if (statusCode.is3xxRedirection()) {
+			return "REDIRECTION";
+		}
+
+		if (statusCode.is4xxClientError()) {
+			return "CLIENT_ERROR";
+		}
+
+		if (statusCode.is5xxServerError()) {
+			return "SERVER_ERROR";
+		}
+
+		return "UNKNOWN";
+	}
+
+	/**
+	 * Event for HTTP requests to Vault.
+	 */
+	@Name("org.springframework.cloud.vault.Request")
+	@Label("Vault Request")
+	@Description("HTTP request to Vault")
+	@Category({ "Spring Cloud Vault" })
+	@StackTrace(false)
+	static class RequestEvent extends Event {
+
+		@Label("Method")
+		String method;
+
+		@Label("Path")
+		@Description("Request path template")
+		String path;
+
+		@Label("Operation")
+		String operation;
+
+		@Label("Status")
+		int status;
+
+		@Label("Response Size")
+		@DataAmount
+		long bytes;
+
+		@Label("Outcome")
+		String outcome;
+
+	}
+
+	/**
+	 * Event for logins.
+	 */
+	@Name("org.springframework.cloud.vault.Login")
+	@Label("Vault Login")
+	@Description("Login to obtain a Vault session token")
+	@Category({ "Spring Cloud Vault" })
+	@StackTrace(false)
+	static class LoginEvent extends Event {
+
+		@Label("Authentication Method")
+		String authenticationMethod;
+
+		@Label("Outcome")
+		String outcome;
+
+	}
+
+	/**
+	 * Event for lease renewals.
+	 */
+	@Name("org.springframework.cloud.vault.LeaseRenewal")
+	@Label("Vault Lease Renewal")
+	@Description("Renewal of a secret lease")
+	@Category({ "Spring Cloud Vault" })
+	@StackTrace(false)
+	static class LeaseRenewalEvent extends Event {
+
+		@Label("Path")
+		@Description("Secret path template")
+		String path;
+
+		@Label("Outcome")
+		String outcome;
+
+	}
+
+	/**
+	 * Event for secret retrieval and rotation.
+	 */
+	@Name("org.springframework.cloud.vault.SecretRequest")
+	@Label("Vault Secret Request")
+	@Description("Retrieval or rotation of a leased secret")
+	@Category({ "Spring Cloud Vault" })
+	@StackTrace(false)
+	static class SecretRequestEvent extends Event {
+
+		@Label("Path")
+		@Description("Secret path template")
+		String path;
+
+		@Label("Rotation")
+		boolean rotation;
+
+		@Label("Outcome")
+		String outcome;
+
+	}
+
+	/**
+	 * Event for loading a config data location.
+	 */
+	@Name("org.springframework.cloud.vault.ConfigDataLoad")
+	@Label("Vault Config Data Load")
+	@Description("Loading of a Vault config data location")
+	@Category({ "Spring Cloud Vault" })
+	@StackTrace(false)
+	static class ConfigDataLoadEvent extends Event {
+
+		@Label("Location")
+		String location;
+
+		@Label("Path")
+		@Description("Secret path template")
+		String path;
+
+		@Label("Properties")
+		int properties;
+
+		@Label("Outcome")
+		String outcome;
+
+	}
+
+}
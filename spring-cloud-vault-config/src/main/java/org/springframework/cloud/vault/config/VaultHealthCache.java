@@ -0,0 +1,217 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.vault.config;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.vault.VaultException;
+import org.springframework.vault.support.VaultHealth;
+
+/**
+ * Cache for {@link VaultHealth} results. Cached results are reported until their time
+ * to live expires. Expired results are refreshed asynchronously while the previous
+ * result is still reported so callers do not wait for Vault. Only the very first
+ * health check is awaited.
+ * <p>
+ * Each health check is bounded by a timeout. A health check that does not complete
+ * within the timeout is reported as failed so that a hung Vault server cannot block
+ * health probes. Only one health check is in flight at a time. A health check that
+ * timed out is not started again before it completes.
+ * <p>
+ * Failures are cached like successful results, so a failed or timed out health check
+ * is reported until its time to live expires.
+ *
+ * @author Mark Paluch
+ * @since 5.0.3
+ * @see VaultHealthIndicator
+ * @see VaultReactiveHealthIndicator
+ */
+final class VaultHealthCache {
+
+	private final Supplier<CompletableFuture<VaultHealth>> healthCheck;
+
+	private final Duration timeToLive;
+
+	private final Duration timeout;
+
+	private Clock clock = Clock.systemUTC();
+
+	@Nullable
+	private volatile CachedHealth cached;
+
+	@Nullable
+	private CompletableFuture<VaultHealth> refresh;
+
+	@Nullable
+	private CompletableFuture<VaultHealth> inFlight;
+
+	/**
+	 * Create a new {@link VaultHealthCache}.
+	 * @param healthCheck supplier starting a health check, must not be {@literal null}.
+	 * @param timeToLive time to live of cached results, must not be {@literal null}.
+	 * @param timeout timeout for a health check, must not be {@literal null}.
+	 */
+	VaultHealthCache(Supplier<CompletableFuture<VaultHealth>> healthCheck, Duration timeToLive, Duration timeout) {
+
+		Assert.notNull(healthCheck, "Health check must not be null");
+		Assert.notNull(timeToLive, "Time to live must not be null");
+		Assert.isTrue(!timeout.isNegative() && !timeout.isZero(), "Timeout must be greater than zero");
+
+		this.healthCheck = healthCheck;
+		this.timeToLive = timeToLive;
+		this.timeout = timeout;
+	}
+
+	/**
+	 * Set the {@link Clock} to determine the age of cached results.
+	 * @param clock the clock to use, must not be {@literal null}.
+	 */
+	void setClock(Clock clock) {
+
+		Assert.notNull(clock, "Clock must not be null");
+
+		this.clock = clock;
+	}
+
+	/**
+	 * Obtain the {@link VaultHealth}. Returns a completed future if a result is cached.
+	 * Triggers a refresh if the cached result is expired.
+	 * @return future completing with the cached or initial {@link VaultHealth}.
+	 */
+	CompletableFuture<VaultHealth> getHealth() {
+
+		CachedHealth cached = this.cached;
+
+		if (cached == null) {
+			return refresh();
+		}
+
+		if (cached.isExpired(this.clock.instant(), this.timeToLive)) {
+			refresh();
+		}
+
+		return cached.toFuture();
+	}
+
+	/**
+	 * Obtain the {@link VaultHealth} and await its completion if no result is cached.
+	 * @return the {@link VaultHealth}.
+	 * @throws VaultException if the health check timed out or was interrupted.
+	 */
+	VaultHealth awaitHealth() {
+
+		try {
+			return getHealth().get();
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new VaultException("Interrupted while awaiting Vault health check", e);
+		}
+		catch (ExecutionException e) {
+
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+
+			throw new VaultException("Vault health check failed", e.getCause());
+		}
+	}
+
+	private synchronized CompletableFuture<VaultHealth> refresh() {
+
+		CompletableFuture<VaultHealth> refresh = this.refresh;
+		CompletableFuture<VaultHealth> inFlight = this.inFlight;
+
+		if (refresh != null && (!refresh.isDone() || (inFlight != null && !inFlight.isDone()))) {
+			return refresh;
+		}
+
+		CompletableFuture<VaultHealth> future;
+
+		try {
+			inFlight = this.healthCheck.get();
+			this.inFlight = inFlight;
+
+			// time out a copy to keep track of the health check itself
+			future = inFlight.copy().orTimeout(this.timeout.toMillis(), TimeUnit.MILLISECONDS);
+		}
+		catch (RuntimeException e) {
+			future = CompletableFuture.failedFuture(e);
+		}
+
+		CompletableFuture<VaultHealth> result = future.handle((health, error) -> {
+
+			CachedHealth cached = new CachedHealth(health, translate(error), this.clock.instant());
+			this.cached = cached;
+			return cached;
+		}).thenCompose(CachedHealth::toFuture);
+
+		this.refresh = result;
+		return result;
+	}
+
+	@Nullable
+	private Throwable translate(@Nullable Throwable error) {
+
+		Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+
+		if (cause instanceof TimeoutException) {
+			return new VaultException(String.format("Vault health check did not complete within %s", this.timeout),
+					cause);
+		}
+
+		return cause;
+	}
+
+	private static final class CachedHealth {
+
+		@Nullable
+		private final VaultHealth health;
+
+		@Nullable
+		private final Throwable error;
+
+		private final Instant timestamp;
+
+		private CachedHealth(@Nullable VaultHealth health, @Nullable Throwable error, Instant timestamp) {
+			this.health = health;
+			this.error = error;
+			this.timestamp = timestamp;
+		}
+
+		boolean isExpired(Instant now, Duration timeToLive) {
+			return !this.timestamp.plus(timeToLive).isAfter(now);
+		}
+
+		CompletableFuture<VaultHealth> toFuture() {
+			return this.error != null ? CompletableFuture.failedFuture(this.error)
+					: CompletableFuture.completedFuture(this.health);
+		}
+
+	}
+
+}
@@ -16,13 +16,21 @@
 
 package org.springframework.cloud.vault.config;
 
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
 import org.springframework.boot.health.contributor.AbstractHealthIndicator;
 import org.springframework.boot.health.contributor.Health.Builder;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
 import org.springframework.vault.core.VaultOperations;
 import org.springframework.vault.support.VaultHealth;
 
 /**
- * Simple health indicator reporting Vault's availability.
+ * Simple health indicator reporting Vault's availability. The indicator can optionally
+ * cache health check results and refresh these in the background, see
+ * {@link #VaultHealthIndicator(VaultOperations, Duration, Duration, Executor)}.
  *
  * @author Stuart Ingram
  * @author Mark Paluch
@@ -31,14 +39,42 @@ public class VaultHealthIndicator extends AbstractHealthIndicator {
 
 	private final VaultOperations vaultOperations;
 
+	@Nullable
+	private final VaultHealthCache cache;
+
 	public VaultHealthIndicator(VaultOperations vaultOperations) {
 		this.vaultOperations = vaultOperations;
+		this.cache = null;
+	}
+
+	/**
+	 * Create a new {@link VaultHealthIndicator} caching health check results for
+	 * {@code timeToLive}. Expired results are refreshed using the given {@link Executor}
+	 * while the previous result is reported. Health checks exceeding {@code timeout}
+	 * report Vault as down.
+	 * @param vaultOperations the Vault operations, must not be {@literal null}.
+	 * @param timeToLive time to live of cached results, must not be {@literal null}.
+	 * @param timeout timeout for a health check, must not be {@literal null}.
+	 * @param executor the executor to run health checks, must not be {@literal null}.
+	 * @since 5.0.3
+	 */
+	public VaultHealthIndicator(VaultOperations vaultOperations, Duration timeToLive, Duration timeout,
+			Executor executor) {
+
+		Assert.notNull(vaultOperations, "VaultOperations must not be null");
+		Assert.notNull(executor, "Executor must not be null");
+
+		this.vaultOperations = vaultOperations;
+		this.cache = new VaultHealthCache(
+				() -> CompletableFuture.supplyAsync(() -> vaultOperations.opsForSys().health(), executor), timeToLive,
+				timeout);
 	}
 
 	@Override
 	protected void doHealthCheck(Builder builder) {
 
-		VaultHealth vaultHealthResponse = this.vaultOperations.opsForSys().health();
+		VaultHealth vaultHealthResponse = this.cache != null ? this.cache.awaitHealth()
+				: this.vaultOperations.opsForSys().health();
 		HealthBuilderDelegate.contributeToHealth(vaultHealthResponse, builder);
 	}
 
@@ -40,7 +40,8 @@ import org.springframework.context.annotation.Import;
 @AutoConfigureBefore(
 		name = "org.springframework.boot.health.autoconfigure.contributor.HealthContributorAutoConfiguration")
 @AutoConfigureAfter({ VaultAutoConfiguration.class, VaultReactiveAutoConfiguration.class })
-@Import({ VaultReactiveHealthIndicatorConfiguration.class, VaultHealthIndicatorConfiguration.class })
+@Import({ VaultReactiveHealthIndicatorConfiguration.class, VaultHealthIndicatorConfiguration.class,
+		VaultCredentialsHealthIndicatorConfiguration.class })
 public class VaultHealthIndicatorAutoConfiguration {
 
 }
@@ -17,13 +17,21 @@
 package org.springframework.cloud.vault.config;
 
 import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.health.autoconfigure.contributor.CompositeHealthContributorConfiguration;
 import org.springframework.boot.health.contributor.HealthContributor;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.lang.Nullable;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.vault.core.VaultOperations;
 
 /**
@@ -40,11 +48,43 @@ class VaultHealthIndicatorConfiguration
 
 	private final Map<String, VaultOperations> vaultTemplates;
 
-	VaultHealthIndicatorConfiguration(Map<String, VaultOperations> vaultTemplates) {
-		super(VaultHealthIndicator::new);
+	VaultHealthIndicatorConfiguration(Map<String, VaultOperations> vaultTemplates,
+			ObjectProvider<VaultProperties> vaultProperties) {
+		super(createIndicatorFactory(vaultProperties.getIfAvailable()));
 		this.vaultTemplates = vaultTemplates;
 	}
 
+	private static Function<VaultOperations, VaultHealthIndicator> createIndicatorFactory(
+			@Nullable VaultProperties vaultProperties) {
+
+		if (vaultProperties == null || !vaultProperties.getHealth().getCache().isEnabled()) {
+			return VaultHealthIndicator::new;
+		}
+
+		VaultProperties.Health.Cache cache = vaultProperties.getHealth().getCache();
+		Executor executor = createExecutor();
+
+		return vaultOperations -> new VaultHealthIndicator(vaultOperations, cache.getTimeToLive(), cache.getTimeout(),
+				executor);
+	}
+
+	/**
+	 * Create a single-threaded {@link Executor} for health checks. Each health indicator
+	 * runs at most one health check at a time so the queue is bounded by the number of
+	 * indicators. The thread terminates when idle.
+	 * @return the {@link Executor}.
+	 */
+	private static Executor createExecutor() {
+
+		CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("vault-health-");
+		threadFactory.setDaemon(true);
+
+		ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+				threadFactory);
+		executor.allowCoreThreadTimeOut(true);
+		return executor;
+	}
+
 	@Bean
 	@ConditionalOnMissingBean(name = { "vaultHealthIndicator" })
 	public HealthContributor vaultHealthIndicator() {
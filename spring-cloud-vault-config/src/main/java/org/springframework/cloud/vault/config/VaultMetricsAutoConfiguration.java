@@ -0,0 +1,88 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.vault.config;
+
+import java.util.List;
+import java.util.Map;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfigureAfter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnSingleCandidate;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.vault.core.lease.SecretLeaseContainer;
+import org.springframework.vault.support.LeaseStrategy;
+
+/**
+ * {@link org.springframework.boot.autoconfigure.EnableAutoConfiguration
+ * Auto-configuration} for Micrometer metrics of Vault components.
+ *
+ * @author Mark Paluch
+ * @since 5.0.3
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnClass(MeterRegistry.class)
+@ConditionalOnProperty(name = "spring.cloud.vault.enabled", matchIfMissing = true)
+@AutoConfigureAfter({ VaultAutoConfiguration.class, VaultReactiveAutoConfiguration.class })
+public class VaultMetricsAutoConfiguration {
+
+	@Bean
+	@ConditionalOnMissingBean
+	@ConditionalOnBean(SecretLeaseContainer.class)
+	public SecretLeaseContainerMetrics vaultSecretLeaseContainerMetrics(
+			Map<String, SecretLeaseContainer> secretLeaseContainers, ObjectProvider<VaultProperties> vaultProperties) {
+
+		return new SecretLeaseContainerMetrics(secretLeaseContainers, secretLeaseContainer -> {
+
+			if (secretLeaseContainer instanceof InstrumentedSecretLeaseContainer instrumented) {
+				return instrumented.getLeaseStrategy();
+			}
+
+			VaultProperties properties = vaultProperties.getIfAvailable();
+			return properties != null ? VaultConfiguration.getLeaseStrategy(properties.getConfig().getLifecycle())
+					: LeaseStrategy.dropOnError();
+		});
+	}
+
+	@Bean
+	@ConditionalOnMissingBean
+	@ConditionalOnBean(SessionInstrumentation.Instrumented.class)
+	public SessionManagerMetrics vaultSessionManagerMetrics(
+			ObjectProvider<SessionInstrumentation.Instrumented> sessionManagers) {
+
+		List<SessionInstrumentation> instrumentations = sessionManagers.orderedStream()
+			.map(SessionInstrumentation.Instrumented::getSessionInstrumentation)
+			.distinct()
+			.toList();
+
+		return new SessionManagerMetrics(instrumentations);
+	}
+
+	@Bean
+	@ConditionalOnMissingBean
+	@ConditionalOnSingleCandidate(ConnectionPrewarmer.class)
+	public ConnectionPrewarmerMetrics vaultConnectionPrewarmerMetrics(ConnectionPrewarmer connectionPrewarmer) {
+		return new ConnectionPrewarmerMetrics(connectionPrewarmer);
+	}
+
+}
@@ -25,7 +25,6 @@ import org.springframework.boot.autoconfigure.condition.ConditionalOnSingleCandi
 import org.springframework.boot.restclient.observation.ObservationRestTemplateCustomizer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.http.client.observation.DefaultClientRequestObservationConvention;
 import org.springframework.vault.client.RestTemplateCustomizer;
 
 /**
@@ -44,7 +43,7 @@ public class VaultObservationAutoConfiguration {
 	@ConditionalOnSingleCandidate(ObservationRegistry.class)
 	public RestTemplateCustomizer observationVaultRestTemplateCustomizer(ObservationRegistry observationRegistry) {
 		return restTemplate -> new ObservationRestTemplateCustomizer(observationRegistry,
-				new DefaultClientRequestObservationConvention())
+				new VaultClientRequestObservationConvention())
 			.customize(restTemplate);
 	}
 
@@ -0,0 +1,144 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.vault.config;
+
+import io.micrometer.common.KeyValue;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.lang.Nullable;
+
+/**
+ * Support class to derive low-cardinality observation key values for Vault requests.
+ * Request paths are reported as {@link VaultPathTemplates path templates} and requests
+ * are classified by their {@link #getOperation(HttpMethod, String) operation}.
+ *
+ * @author Mark Paluch
+ * @since 5.0.3
+ */
+final class VaultObservationSupport {
+
+	/**
+	 * Key name for the Vault operation.
+	 */
+	static final String OPERATION = "vault.operation";
+
+	/**
+	 * Key name for the request URI.
+	 */
+	static final String URI = "uri";
+
+	private VaultObservationSupport() {
+	}
+
+	/**
+	 * Create the {@code uri} key value from the request path.
+	 * @param path the request path.
+	 * @return the {@code uri} key value using the path template.
+	 */
+	static KeyValue uri(String path) {
+		return KeyValue.of(URI, VaultPathTemplates.toTemplate(path));
+	}
+
+	/**
+	 * Create the {@code vault.operation} key value.
+	 * @param method the HTTP method, can be {@literal null}.
+	 * @param path the request path.
+	 * @return the {@code vault.operation} key value.
+	 */
+	static KeyValue operation(@Nullable HttpMethod method, String path) {
+		return KeyValue.of(OPERATION, getOperation(method, path));
+	}
+
+	/**
+	 * Create the contextual name for a Vault request.
+	 * @param method the HTTP method, can be {@literal null}.
+	 * @param path the request path.
+	 * @return the contextual name.
+	 */
+	static String getContextualName(@Nullable HttpMethod method, String path) {
+		return "vault " + getOperation(method, path);
+	}
+
+	/**
+	 * Classify a request into a Vault operation such as {@code login},
+	 * {@code token-renew}, {@code lease-renew}, {@code lease-revoke}, {@code kv-read} or
+	 * {@code health}.
+	 * @param method the HTTP method, can be {@literal null}.
+	 * @param path the request path.
+	 * @return the operation name.
+	 */
+	static String getOperation(@Nullable HttpMethod method, String path) {
+
+		String template = VaultPathTemplates.toTemplate(path);
+
+		if (template.startsWith("auth/token/")) {
+
+			String operation = template.substring("auth/token/".length());
+
+			if (operation.startsWith("renew")) {
+				return "token-renew";
+			}
+
+			if (operation.startsWith("lookup")) {
+				return "token-lookup";
+			}
+
+			if (operation.startsWith("revoke")) {
+				return "token-revoke";
+			}
+
+			if (operation.startsWith("create")) {
+				return "token-create";
+			}
+		}
+
+		if (template.startsWith("auth/") && (template.endsWith("/login") || template.contains("/login/"))) {
+			return "login";
+		}
+
+		if (template.startsWith("sys/renew") || template.startsWith("sys/leases/renew")) {
+			return "lease-renew";
+		}
+
+		if (template.startsWith("sys/revoke") || template.startsWith("sys/leases/revoke")) {
+			return "lease-revoke";
+		}
+
+		if (template.equals("sys/health")) {
+			return "health";
+		}
+
+		if (template.startsWith("sys/") || template.startsWith("auth/")) {
+			return template.substring(0, template.indexOf('/'));
+		}
+
+		if (method == null || HttpMethod.GET.equals(method)) {
+			return template.contains("{role}") ? "credentials" : "kv-read";
+		}
+
+		if (HttpMethod.DELETE.equals(method)) {
+			return "delete";
+		}
+
+		if (method.name().equals("LIST")) {
+			return "list";
+		}
+
+		return "write";
+	}
+
+}
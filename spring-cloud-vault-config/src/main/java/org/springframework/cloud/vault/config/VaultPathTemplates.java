@@ -0,0 +1,195 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.vault.config;
+
+import java.util.Set;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.StringUtils;
+
+/**
+ * Utility to derive low-cardinality path templates from concrete Vault paths. Path
+ * templates replace variable path segments such as role names, lease identifiers or
+ * secret paths with placeholders (e.g. {@code database/creds/my-role} becomes
+ * {@code database/creds/{role}}) so they can be used as metric tag values.
+ *
+ * @author Mark Paluch
+ * @since 5.0.3
+ */
+final class VaultPathTemplates {
+
+	/**
+	 * Path segments that are followed by a role name.
+	 */
+	private static final Set<String> ROLE_SEGMENTS = Set.of("creds", "static-creds", "sts", "issue", "sign", "role",
+			"roles", "static-roles");
+
+	/**
+	 * Key-Value version 2 path segments that are followed by the secret path.
+	 */
+	private static final Set<String> KV_SEGMENTS = Set.of("data", "metadata", "delete", "undelete", "destroy",
+			"subkeys");
+
+	/**
+	 * System backend path segments that are followed by a lease identifier.
+	 */
+	private static final Set<String> LEASE_SEGMENTS = Set.of("renew", "revoke", "revoke-prefix", "revoke-force",
+			"lookup");
+
+	private VaultPathTemplates() {
+	}
+
+	/**
+	 * Create a path template for the given Vault {@code path}. Leading slashes, an API
+	 * version prefix ({@code v1/}) and query strings are removed.
+	 * @param path the Vault path, must not be {@literal null}.
+	 * @return the path template.
+	 */
+	static String toTemplate(String path) {
+
+		String pathToUse = normalize(path);
+
+		if (!StringUtils.hasText(pathToUse)) {
+			return "/";
+		}
+
+		String[] segments = pathToUse.split("/");
+
+		if (segments.length == 1) {
+			return pathToUse;
+		}
+
+		return switch (segments[0]) {
+			case "sys" -> sysTemplate(segments);
+			case "auth" -> authTemplate(segments);
+			case "cubbyhole" -> "cubbyhole/{path}";
+			default -> secretTemplate(segments);
+		};
+	}
+
+	private static String normalize(String path) {
+
+		String pathToUse = path;
+
+		int query = pathToUse.indexOf('?');
+		if (query != -1) {
+			pathToUse = pathToUse.substring(0, query);
+		}
+
+		while (pathToUse.startsWith("/")) {
+			pathToUse = pathToUse.substring(1);
+		}
+
+		if (pathToUse.startsWith("v1/")) {
+			pathToUse = pathToUse.substring(3);
+		}
+
+		while (pathToUse.endsWith("/")) {
+			pathToUse = pathToUse.substring(0, pathToUse.length() - 1);
+		}
+
+		return pathToUse;
+	}
+
+	private static String sysTemplate(String[] segments) {
+
+		// sys/renew/{lease_id}, sys/revoke/{lease_id}
+		if (segments.length > 2 && LEASE_SEGMENTS.contains(segments[1])) {
+			return join(segments, 2, "{lease_id}");
+		}
+
+		// sys/leases/revoke/{lease_id}
+		if (segments.length > 3 && segments[1].equals("leases") && LEASE_SEGMENTS.contains(segments[2])) {
+			return join(segments, 3, "{lease_id}");
+		}
+
+		if (segments.length > 3) {
+			return join(segments, 3, "{path}");
+		}
+
+		return String.join("/", segments);
+	}
+
+	private static String authTemplate(String[] segments) {
+
+		for (int i = 1; i < segments.length; i++) {
+
+			// auth/userpass/login/{username}
+			if (segments[i].equals("login")) {
+				return i + 1 < segments.length ? join(segments, i + 1, "{username}") : join(segments, i + 1, null);
+			}
+
+			// auth/approle/role/{role}/secret-id
+			if (ROLE_SEGMENTS.contains(segments[i]) && i + 1 < segments.length) {
+				return replace(segments, i + 1, "{role}");
+			}
+		}
+
+		// auth/token/lookup-self and friends
+		if (segments.length > 3 && segments[1].equals("token")) {
+			return join(segments, 3, "{token}");
+		}
+
+		return String.join("/", segments);
+	}
+
+	private static String secretTemplate(String[] segments) {
+
+		for (int i = 1; i < segments.length; i++) {
+
+			// secret/data/{path}
+			if (KV_SEGMENTS.contains(segments[i])) {
+				return i + 1 < segments.length ? join(segments, i + 1, "{path}") : join(segments, i + 1, null);
+			}
+
+			// database/creds/{role}
+			if (ROLE_SEGMENTS.contains(segments[i]) && i + 1 < segments.length) {
+				return join(segments, i + 1, "{role}");
+			}
+		}
+
+		// Key-Value version 1: secret/{path}
+		return segments[0] + "/{path}";
+	}
+
+	private static String join(String[] segments, int length, @Nullable String placeholder) {
+
+		StringBuilder builder = new StringBuilder();
+
+		for (int i = 0; i < length; i++) {
+			if (i != 0) {
+				builder.append('/');
+			}
+			builder.append(segments[i]);
+		}
+
+		if (placeholder != null) {
+			builder.append('/').append(placeholder);
+		}
+
+		return builder.toString();
+	}
+
+	private static String replace(String[] segments, int index, String placeholder) {
+
+		String[] copy = segments.clone();
+		copy[index] = placeholder;
+
+		return String.join("/", copy);
+	}
+
+}
@@ -104,6 +104,14 @@ public class VaultProperties implements EnvironmentAware {
 	 */
 	private int readTimeout = 15000;
 
+	/**
+	 * Number of connections to open while authentication runs during config data
+	 * loading. The first connection is opened on its own, further connections are opened
+	 * concurrently afterwards. Concurrent requests may reuse connections so fewer
+	 * connections can be opened. Pre-warming is disabled if set to zero.
+	 */
+	private int prewarmConnections = 0;
+
 	/**
 	 * Fail fast if data cannot be obtained from Vault.
 	 */
@@ -141,6 +149,16 @@ public class VaultProperties implements EnvironmentAware {
 
 	private Session session = new Session();
 
+	/**
+	 * Java Flight Recorder properties.
+	 */
+	private Jfr jfr = new Jfr();
+
+	/**
+	 * Health indicator properties.
+	 */
+	private Health health = new Health();
+
 	/**
 	 * Application name for AppId authentication.
 	 */
@@ -148,6 +166,8 @@ public class VaultProperties implements EnvironmentAware {
 
 	private AuthenticationMethod authentication = AuthenticationMethod.TOKEN;
 
+	private AuthenticationChain authenticationChain = new AuthenticationChain();
+
 	@Override
 	public void setEnvironment(Environment environment) {
 
@@ -240,6 +260,14 @@ public class VaultProperties implements EnvironmentAware {
 		this.readTimeout = readTimeout;
 	}
 
+	public int getPrewarmConnections() {
+		return this.prewarmConnections;
+	}
+
+	public void setPrewarmConnections(int prewarmConnections) {
+		this.prewarmConnections = prewarmConnections;
+	}
+
 	public boolean isFailFast() {
 		return this.failFast;
 	}
@@ -361,6 +389,22 @@ public class VaultProperties implements EnvironmentAware {
 		this.session = session;
 	}
 
+	public Jfr getJfr() {
+		return this.jfr;
+	}
+
+	public void setJfr(Jfr jfr) {
+		this.jfr = jfr;
+	}
+
+	public Health getHealth() {
+		return this.health;
+	}
+
+	public void setHealth(Health health) {
+		this.health = health;
+	}
+
 	public String getApplicationName() {
 		return this.applicationName;
 	}
@@ -377,6 +421,14 @@ public class VaultProperties implements EnvironmentAware {
 		this.authentication = authentication;
 	}
 
+	public AuthenticationChain getAuthenticationChain() {
+		return this.authenticationChain;
+	}
+
+	public void setAuthenticationChain(AuthenticationChain authenticationChain) {
+		this.authenticationChain = authenticationChain;
+	}
+
 	/**
 	 * Enumeration of authentication methods.
 	 */
@@ -386,6 +438,60 @@ public class VaultProperties implements EnvironmentAware {
 
 	}
 
+	/**
+	 * Authentication chain properties.
+	 *
+	 * @since 5.0.3
+	 */
+	public static class AuthenticationChain {
+
+		/**
+		 * Authentication methods to attempt in the given order. Takes precedence over
+		 * {@code spring.cloud.vault.authentication} if configured. The method that
+		 * succeeded last is attempted first on subsequent logins.
+		 */
+		private List<AuthenticationMethod> methods = new ArrayList<>();
+
+		/**
+		 * Timeout for each login attempt.
+		 */
+		private Duration timeout = Duration.ofSeconds(10);
+
+		/**
+		 * Delay after which the next authentication method is attempted while the
+		 * previous attempt is still running. Methods are attempted sequentially if not
+		 * configured.
+		 */
+		@Nullable
+		private Duration hedgeDelay;
+
+		public List<AuthenticationMethod> getMethods() {
+			return this.methods;
+		}
+
+		public void setMethods(List<AuthenticationMethod> methods) {
+			this.methods = methods;
+		}
+
+		public Duration getTimeout() {
+			return this.timeout;
+		}
+
+		public void setTimeout(Duration timeout) {
+			this.timeout = timeout;
+		}
+
+		@Nullable
+		public Duration getHedgeDelay() {
+			return this.hedgeDelay;
+		}
+
+		public void setHedgeDelay(@Nullable Duration hedgeDelay) {
+			this.hedgeDelay = hedgeDelay;
+		}
+
+	}
+
 	/**
 	 * Reactive properties.
 	 *
@@ -398,6 +504,59 @@ public class VaultProperties implements EnvironmentAware {
 		 */
 		private boolean enabled = true;
 
+		/**
+		 * Flag to indicate that the reactive client infrastructure is created on demand
+		 * when reactive Vault operations are requested. Config data loading and session
+		 * management use the imperative client.
+		 */
+		private boolean onDemand = false;
+
+		/**
+		 * Flag to indicate that the reactive Vault client runs on the event loops of the
+		 * application's {@code ReactorResourceFactory} once the application context is
+		 * available.
+		 */
+		private boolean shareResources = false;
+
+		public boolean isEnabled() {
+			return this.enabled;
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		public boolean isOnDemand() {
+			return this.onDemand;
+		}
+
+		public void setOnDemand(boolean onDemand) {
+			this.onDemand = onDemand;
+		}
+
+		public boolean isShareResources() {
+			return this.shareResources;
+		}
+
+		public void setShareResources(boolean shareResources) {
+			this.shareResources = shareResources;
+		}
+
+	}
+
+	/**
+	 * Java Flight Recorder properties.
+	 *
+	 * @since 5.0.3
+	 */
+	public static class Jfr {
+
+		/**
+		 * Flag to indicate that Java Flight Recorder events for Vault requests, logins,
+		 * lease activity and config data loading are emitted.
+		 */
+		private boolean enabled;
+
 		public boolean isEnabled() {
 			return this.enabled;
 		}
@@ -408,6 +567,122 @@ public class VaultProperties implements EnvironmentAware {
 
 	}
 
+	/**
+	 * Health indicator properties.
+	 *
+	 * @since 5.0.3
+	 */
+	public static class Health {
+
+		private Cache cache = new Cache();
+
+		private Credentials credentials = new Credentials();
+
+		public Cache getCache() {
+			return this.cache;
+		}
+
+		public void setCache(Cache cache) {
+			this.cache = cache;
+		}
+
+		public Credentials getCredentials() {
+			return this.credentials;
+		}
+
+		public void setCredentials(Credentials credentials) {
+			this.credentials = credentials;
+		}
+
+		/**
+		 * Health check caching properties.
+		 */
+		public static class Cache {
+
+			/**
+			 * Flag to indicate that Vault health checks are cached and refreshed in the
+			 * background. Health probes report the last known status without waiting for
+			 * Vault.
+			 */
+			private boolean enabled;
+
+			/**
+			 * Time to live of a cached health check result. Expired results are still
+			 * reported while a refresh is in progress. Failed health checks are cached for
+			 * the time to live, too.
+			 */
+			private Duration timeToLive = Duration.ofSeconds(10);
+
+			/**
+			 * Timeout for a health check. Health checks that do not complete within the
+			 * timeout report the Vault health as down.
+			 */
+			private Duration timeout = Duration.ofSeconds(5);
+
+			public boolean isEnabled() {
+				return this.enabled;
+			}
+
+			public void setEnabled(boolean enabled) {
+				this.enabled = enabled;
+			}
+
+			public Duration getTimeToLive() {
+				return this.timeToLive;
+			}
+
+			public void setTimeToLive(Duration timeToLive) {
+				this.timeToLive = timeToLive;
+			}
+
+			public Duration getTimeout() {
+				return this.timeout;
+			}
+
+			public void setTimeout(Duration timeout) {
+				this.timeout = timeout;
+			}
+
+		}
+
+		/**
+		 * Credentials health indicator properties.
+		 */
+		public static class Credentials {
+
+			/**
+			 * Flag to indicate that the credentials health indicator is enabled. The
+			 * indicator reports the session token and lease state without issuing
+			 * requests to Vault.
+			 */
+			private boolean enabled;
+
+			/**
+			 * Minimum remaining time to live of the session token. Session tokens
+			 * expiring sooner report the credentials health as down.
+			 */
+			private Duration minTokenTtl = Duration.ofSeconds(10);
+
+			public boolean isEnabled() {
+				return this.enabled;
+			}
+
+			public void setEnabled(boolean enabled) {
+				this.enabled = enabled;
+			}
+
+			public Duration getMinTokenTtl() {
+				return this.minTokenTtl;
+			}
+
+			public void setMinTokenTtl(Duration minTokenTtl) {
+				this.minTokenTtl = minTokenTtl;
+			}
+
+		}
+
+	}
+
 	/**
 	 * Discovery properties.
 	 */
@@ -1305,6 +1580,15 @@ public class VaultProperties implements EnvironmentAware {
 		 */
 		private boolean enabled = true;
 
+		/**
+		 * Lifecycle management mode. {@code auto} reads static secrets without lease
+		 * management and starts the secret lease container only for leasing secret
+		 * backends or secrets returned with a lease.
+		 *
+		 * @since 5.0.3
+		 */
+		private Mode mode = Mode.ALWAYS;
+
 		/**
 		 * The time period that is at least required before renewing a lease.
 		 *
@@ -1387,6 +1671,34 @@ public class VaultProperties implements EnvironmentAware {
 			this.leaseStrategy = leaseStrategy;
 		}
 
+		public Mode getMode() {
+			return this.mode;
+		}
+
+		public void setMode(Mode mode) {
+			this.mode = mode;
+		}
+
+		/**
+		 * Lifecycle management mode.
+		 *
+		 * @since 5.0.3
+		 */
+		public enum Mode {
+
+			/**
+			 * Manage all secrets through the secret lease container.
+			 */
+			ALWAYS,
+
+			/**
+			 * Manage secrets through the secret lease container only if the secret
+			 * backend is a leasing backend or if the secret was returned with a lease.
+			 */
+			AUTO
+
+		}
+
 	}
 
 	/**
@@ -1408,6 +1720,14 @@ public class VaultProperties implements EnvironmentAware {
 
 		private SessionLifecycle lifecycle = new SessionLifecycle();
 
+		private TokenCache tokenCache = new TokenCache();
+
+		private CredentialWatch credentialWatch = new CredentialWatch();
+
+		private LoginMaterialCache loginMaterialCache = new LoginMaterialCache();
+
+		private EarlyLogin earlyLogin = new EarlyLogin();
+
 		public SessionLifecycle getLifecycle() {
 			return this.lifecycle;
 		}
@@ -1416,6 +1736,178 @@ public class VaultProperties implements EnvironmentAware {
 			this.lifecycle = lifecycle;
 		}
 
+		public TokenCache getTokenCache() {
+			return this.tokenCache;
+		}
+
+		public void setTokenCache(TokenCache tokenCache) {
+			this.tokenCache = tokenCache;
+		}
+
+		public CredentialWatch getCredentialWatch() {
+			return this.credentialWatch;
+		}
+
+		public void setCredentialWatch(CredentialWatch credentialWatch) {
+			this.credentialWatch = credentialWatch;
+		}
+
+		public LoginMaterialCache getLoginMaterialCache() {
+			return this.loginMaterialCache;
+		}
+
+		public void setLoginMaterialCache(LoginMaterialCache loginMaterialCache) {
+			this.loginMaterialCache = loginMaterialCache;
+		}
+
+		public EarlyLogin getEarlyLogin() {
+			return this.earlyLogin;
+		}
+
+		public void setEarlyLogin(EarlyLogin earlyLogin) {
+			this.earlyLogin = earlyLogin;
+		}
+
+	}
+
+	/**
+	 * Configuration of the early login performed while the environment is prepared.
+	 *
+	 * @since 5.0.3
+	 */
+	public static class EarlyLogin {
+
+		/**
+		 * Enable early initialization of the HTTP client, TLS and authentication. Login
+		 * is performed in the background as soon as Vault properties are bound so that
+		 * the session token is ready once the first config data location is loaded.
+		 */
+		private boolean enabled;
+
+		public boolean isEnabled() {
+			return this.enabled;
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+	}
+
+	/**
+	 * Configuration of the login material cache for cloud authentication methods.
+	 *
+	 * @since 5.0.3
+	 */
+	public static class LoginMaterialCache {
+
+		/**
+		 * Enable caching of login material (EC2 identity documents, Azure managed identity
+		 * access tokens, GCP signed JWTs) within its validity window.
+		 * Material is prefetched in the background before it expires.
+		 */
+		private boolean enabled;
+
+		/**
+		 * Time to live for login material that does not expire on its own, such as EC2
+		 * identity documents or Azure instance metadata.
+		 */
+		private Duration timeToLive = Duration.ofHours(1);
+
+		public boolean isEnabled() {
+			return this.enabled;
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		public Duration getTimeToLive() {
+			return this.timeToLive;
+		}
+
+		public void setTimeToLive(Duration timeToLive) {
+			this.timeToLive = timeToLive;
+		}
+
+	}
+
+	/**
+	 * Configuration of file-sourced credential watching.
+	 *
+	 * @since 5.0.3
+	 */
+	public static class CredentialWatch {
+
+		/**
+		 * Enable watching of file-sourced credentials (Kubernetes service account token,
+		 * {@code ~/.vault-token}). Keeps the file contents in memory, reloads them on
+		 * change and re-logins once the credentials have changed.
+		 */
+		private boolean enabled;
+
+		public boolean isEnabled() {
+			return this.enabled;
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+	}
+
+	/**
+	 * Configuration of the encrypted session token cache.
+	 *
+	 * @since 5.0.3
+	 */
+	public static class TokenCache {
+
+		/**
+		 * Enable caching of the session token on disk to reuse a valid token across
+		 * application restarts. Requires session lifecycle management.
+		 */
+		private boolean enabled;
+
+		/**
+		 * Location of the token cache file. Defaults to
+		 * {@code ~/.spring-cloud-vault/<application-name>.token}.
+		 */
+		@Nullable
+		private String location;
+
+		/**
+		 * Password to derive the token cache encryption key from.
+		 */
+		@Nullable
+		private String password;
+
+		public boolean isEnabled() {
+			return this.enabled;
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		@Nullable
+		public String getLocation() {
+			return this.location;
+		}
+
+		public void setLocation(@Nullable String location) {
+			this.location = location;
+		}
+
+		@Nullable
+		public String getPassword() {
+			return this.password;
+		}
+
+		public void setPassword(@Nullable String password) {
+			this.password = password;
+		}
+
 	}
 
 	/**
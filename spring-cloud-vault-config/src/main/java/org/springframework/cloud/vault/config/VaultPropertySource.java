@@ -16,6 +16,7 @@
 
 package org.springframework.cloud.vault.config;
 
+import java.time.Duration;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Set;
@@ -26,6 +27,8 @@ import org.apache.commons.logging.LogFactory;
 import org.springframework.core.env.EnumerablePropertySource;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+import org.springframework.vault.core.lease.domain.Lease;
 
 /**
  * A {@link EnumerablePropertySource} backed by {@link VaultConfigTemplate}.
@@ -88,6 +91,31 @@ class VaultPropertySource extends EnumerablePropertySource<VaultConfigOperations
 		}
 	}
 
+	/**
+	 * Determine whether the secret was returned with a lease. Static secrets (such as
+	 * Key-Value version 1) may report a lease duration without a lease id so the lease
+	 * duration is not considered.
+	 * @return {@literal true} if the secret was returned with a lease.
+	 */
+	boolean hasLease() {
+		return this.secrets != null && (StringUtils.hasText(this.secrets.getLeaseId()) || this.secrets.isRenewable());
+	}
+
+	/**
+	 * @return the {@link Lease} of the secret or {@literal null} if the secret was
+	 * returned without a lease id.
+	 */
+	@Nullable
+	Lease getLease() {
+
+		if (this.secrets == null || !StringUtils.hasText(this.secrets.getLeaseId())) {
+			return null;
+		}
+
+		return Lease.of(this.secrets.getLeaseId(), Duration.ofSeconds(this.secrets.getLeaseDuration()),
+				this.secrets.isRenewable());
+	}
+
 	@Override
 	public Object getProperty(String name) {
 		return this.properties.get(name);
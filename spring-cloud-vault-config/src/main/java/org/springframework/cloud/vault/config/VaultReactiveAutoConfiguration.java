@@ -19,6 +19,7 @@ package org.springframework.cloud.vault.config;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Supplier;
 
 import reactor.core.publisher.Flux;
 import reactor.netty.http.client.HttpClient;
@@ -29,7 +30,9 @@ import org.springframework.beans.factory.InitializingBean;
 import org.springframework.beans.factory.ListableBeanFactory;
 import org.springframework.beans.factory.ObjectFactory;
 import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
 import org.springframework.boot.autoconfigure.AutoConfigureBefore;
 import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
@@ -38,9 +41,12 @@ import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.Lifecycle;
+import org.springframework.context.SmartLifecycle;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.annotation.AnnotationAwareOrderComparator;
+import org.springframework.http.client.ReactorResourceFactory;
 import org.springframework.http.client.reactive.ClientHttpConnector;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
@@ -70,6 +76,16 @@ import static org.springframework.cloud.vault.config.VaultAutoConfiguration.Task
  * This auto-configuration only supports static endpoints without
  * {@link VaultEndpointProvider} support as endpoint providers could be potentially
  * blocking implementations.
+ * <p>
+ * Setting {@code spring.cloud.vault.reactive.on-demand} registers reactive
+ * infrastructure beans as lazy beans that are initialized only once
+ * {@link ReactiveVaultOperations} are requested. Session management uses the imperative
+ * {@link SessionManager} in that mode.
+ * <p>
+ * Setting {@code spring.cloud.vault.reactive.share-resources} runs the Vault client on
+ * the event loops of the application's {@link ReactorResourceFactory}. Connectors
+ * created during config data loading are moved onto these event loops once the
+ * application context is initialized.
  *
  * @author Mark Paluch
  * @since 3.0
@@ -82,6 +98,9 @@ import static org.springframework.cloud.vault.config.VaultAutoConfiguration.Task
 @AutoConfigureBefore(VaultAutoConfiguration.class)
 public class VaultReactiveAutoConfiguration implements InitializingBean {
 
+	private static final List<String> ON_DEMAND_BEAN_NAMES = List.of("clientHttpConnectorWrapper",
+			"vaultWebClientFactory", "vaultTokenSupplier", "reactiveVaultSessionManager", "reactiveVaultTemplate");
+
 	@Nullable
 	private final ConfigurableApplicationContext applicationContext;
 
@@ -162,7 +181,81 @@ public class VaultReactiveAutoConfiguration implements InitializingBean {
 	@Bean
 	@ConditionalOnMissingBean
 	public ClientHttpConnectorWrapper clientHttpConnectorWrapper() {
-		return new ClientHttpConnectorWrapper(createConnector(this.vaultProperties));
+
+		if (this.vaultProperties.getReactive().isOnDemand()) {
+			return new ClientHttpConnectorWrapper(this::createApplicationConnector);
+		}
+
+		return new ClientHttpConnectorWrapper(createApplicationConnector());
+	}
+
+	private ClientHttpConnector createApplicationConnector() {
+
+		ReactorResourceFactory resourceFactory = getSharedResourceFactory();
+
+		if (resourceFactory != null) {
+			return this.configuration.createClientHttpConnector(resourceFactory);
+		}
+
+		return createConnector(this.vaultProperties);
+	}
+
+	@Nullable
+	private ReactorResourceFactory getSharedResourceFactory() {
+
+		if (this.applicationContext == null || !this.vaultProperties.getReactive().isShareResources()) {
+			return null;
+		}
+
+		return this.applicationContext.getBeanProvider(ReactorResourceFactory.class).getIfUnique();
+	}
+
+	/**
+	 * Move a {@link ClientHttpConnector} created during config data loading onto the
+	 * event loops of the application's {@link ReactorResourceFactory}.
+	 * @param connectorWrapper object provider for {@link ClientHttpConnectorWrapper}.
+	 * @return the {@link SmartInitializingSingleton} rebinding the connector.
+	 * @since 5.0.3
+	 */
+	@Bean
+	@ConditionalOnProperty(name = "spring.cloud.vault.reactive.share-resources", havingValue = "true")
+	public SmartInitializingSingleton vaultClientHttpConnectorResourceBinding(
+			ObjectProvider<ClientHttpConnectorWrapper> connectorWrapper) {
+
+		return () -> {
+
+			ClientHttpConnectorWrapper wrapper = connectorWrapper.getIfUnique();
+			ReactorResourceFactory resourceFactory = getSharedResourceFactory();
+
+			if (wrapper == null || resourceFactory == null || !wrapper.isInitialized()) {
+				return;
+			}
+
+			if (wrapper.getConnector() instanceof RebindableClientHttpConnector connector && !connector.isRebound()) {
+				connector.rebind(this.configuration.createClientHttpConnector(resourceFactory));
+			}
+		};
+	}
+
+	/**
+	 * Mark reactive infrastructure beans as lazy so that they are initialized only when
+	 * {@link ReactiveVaultOperations} are requested.
+	 * @return the {@link BeanFactoryPostProcessor} to mark reactive infrastructure beans
+	 * as lazy.
+	 * @since 5.0.3
+	 */
+	@Bean
+	@ConditionalOnProperty(name = "spring.cloud.vault.reactive.on-demand", havingValue = "true")
+	public static BeanFactoryPostProcessor vaultReactiveOnDemandPostProcessor() {
+
+		return beanFactory -> {
+
+			for (String beanName : ON_DEMAND_BEAN_NAMES) {
+				if (beanFactory.containsBeanDefinition(beanName)) {
+					beanFactory.getBeanDefinition(beanName).setLazyInit(true);
+				}
+			}
+		};
 	}
 
 	@Override
@@ -250,6 +343,8 @@ public class VaultReactiveAutoConfiguration implements InitializingBean {
 	@Bean
 	@ConditionalOnMissingBean
 	@ConditionalOnAuthentication
+	@ConditionalOnProperty(name = "spring.cloud.vault.reactive.on-demand", havingValue = "false",
+			matchIfMissing = true)
 	public SessionManager vaultSessionManager(ReactiveSessionManager sessionManager) {
 		return this.configuration.createSessionManager(sessionManager);
 	}
@@ -279,14 +374,31 @@ public class VaultReactiveAutoConfiguration implements InitializingBean {
 	 *
 	 * @since 3.0.2
 	 */
-	public static class ClientHttpConnectorWrapper implements InitializingBean, DisposableBean {
+	public static class ClientHttpConnectorWrapper implements InitializingBean, DisposableBean, SmartLifecycle {
+
+		@Nullable
+		private final Supplier<ClientHttpConnector> connectorSupplier;
+
+		@Nullable
+		private volatile ClientHttpConnector connector;
 
-		private final ClientHttpConnector connector;
+		private volatile boolean running = true;
 
 		public ClientHttpConnectorWrapper(ClientHttpConnector connector) {
+			this.connectorSupplier = null;
 			this.connector = connector;
 		}
 
+		/**
+		 * Create a new {@link ClientHttpConnectorWrapper} that obtains the
+		 * {@link ClientHttpConnector} from {@link Supplier} upon first use.
+		 * @param connectorSupplier supplier for the {@link ClientHttpConnector}.
+		 * @since 5.0.3
+		 */
+		public ClientHttpConnectorWrapper(Supplier<ClientHttpConnector> connectorSupplier) {
+			this.connectorSupplier = connectorSupplier;
+		}
+
 		@Override
 		public void destroy() throws Exception {
 			if (this.connector instanceof DisposableBean) {
@@ -303,7 +415,74 @@ public class VaultReactiveAutoConfiguration implements InitializingBean {
 		}
 
 		public ClientHttpConnector getConnector() {
-			return this.connector;
+
+			ClientHttpConnector connector = this.connector;
+
+			if (connector != null) {
+				return connector;
+			}
+
+			synchronized (this) {
+
+				connector = this.connector;
+
+				if (connector == null) {
+
+					Assert.state(this.connectorSupplier != null, "ClientHttpConnector supplier must not be null");
+					connector = this.connectorSupplier.get();
+
+					try {
+						if (connector instanceof InitializingBean) {
+							((InitializingBean) connector).afterPropertiesSet();
+						}
+					}
+					catch (Exception e) {
+						throw new IllegalStateException("Cannot initialize ClientHttpConnector", e);
+					}
+
+					this.connector = connector;
+				}
+
+				return connector;
+			}
+		}
+
+		/**
+		 * @return {@literal true} if the {@link ClientHttpConnector} was created.
+		 * @since 5.0.3
+		 */
+		public boolean isInitialized() {
+			return this.connector != null;
+		}
+
+		@Override
+		public void start() {
+
+			if (this.connector instanceof Lifecycle lifecycle && !lifecycle.isRunning()) {
+				lifecycle.start();
+			}
+
+			this.running = true;
+		}
+
+		@Override
+		public void stop() {
+
+			if (this.connector instanceof Lifecycle lifecycle && lifecycle.isRunning()) {
+				lifecycle.stop();
+			}
+
+			this.running = false;
+		}
+
+		@Override
+		public boolean isRunning() {
+			return this.running;
+		}
+
+		@Override
+		public int getPhase() {
+			return LifecycleClientFactoryWrapper.PHASE;
 		}
 
 	}
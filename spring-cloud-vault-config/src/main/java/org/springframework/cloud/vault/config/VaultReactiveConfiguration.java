@@ -21,8 +21,11 @@ import java.util.List;
 import java.util.function.Supplier;
 
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
+import org.springframework.http.client.ReactorResourceFactory;
 import org.springframework.http.client.reactive.ClientHttpConnector;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.scheduling.TaskScheduler;
 import org.springframework.util.Assert;
 import org.springframework.util.StringUtils;
@@ -67,13 +70,34 @@ final class VaultReactiveConfiguration {
 	}
 
 	ClientHttpConnector createClientHttpConnector() {
+		return ClientHttpConnectorFactory.create(createClientOptions(), createSslConfiguration());
+	}
 
-		ClientOptions clientOptions = new ClientOptions(Duration.ofMillis(this.vaultProperties.getConnectionTimeout()),
-				Duration.ofMillis(this.vaultProperties.getReadTimeout()));
+	/**
+	 * Create a Reactor Netty {@link ClientHttpConnector} running on the event loops of
+	 * the given {@link ReactorResourceFactory}. The connector follows the lifecycle of
+	 * the resource factory and picks up its event loops again after a restart.
+	 * @param resourceFactory the resource factory providing event loops.
+	 * @return the {@link ClientHttpConnector}.
+	 * @since 5.0.3
+	 */
+	ClientHttpConnector createClientHttpConnector(ReactorResourceFactory resourceFactory) {
+
+		ClientOptions clientOptions = createClientOptions();
+		SslConfiguration sslConfiguration = createSslConfiguration();
+
+		return new ReactorClientHttpConnector(resourceFactory,
+				httpClient -> ClientHttpConnectorFactory.ReactorNetty.createClient(clientOptions, sslConfiguration)
+					.runOn(resourceFactory.getLoopResources()));
+	}
 
-		SslConfiguration sslConfiguration = VaultConfiguration.createSslConfiguration(this.vaultProperties.getSsl());
+	private ClientOptions createClientOptions() {
+		return new ClientOptions(Duration.ofMillis(this.vaultProperties.getConnectionTimeout()),
+				Duration.ofMillis(this.vaultProperties.getReadTimeout()));
+	}
 
-		return ClientHttpConnectorFactory.create(clientOptions, sslConfiguration);
+	private SslConfiguration createSslConfiguration() {
+		return VaultConfiguration.createSslConfiguration(this.vaultProperties.getSsl());
 	}
 
 	WebClientBuilder createWebClientBuilder(ClientHttpConnector connector,
@@ -99,6 +123,10 @@ final class VaultReactiveConfiguration {
 	private WebClientBuilder applyCustomizer(List<WebClientCustomizer> customizers, WebClientBuilder builder) {
 		customizers.forEach(builder::customizers);
 
+		if (VaultFlightRecorderEvents.isEnabled(this.vaultProperties)) {
+			builder.customizers(webClient -> webClient.filter(new FlightRecorderExchangeFilterFunction()));
+		}
+
 		if (StringUtils.hasText(this.vaultProperties.getNamespace())) {
 			builder.defaultHeader(VaultHttpHeaders.VAULT_NAMESPACE, this.vaultProperties.getNamespace());
 		}
@@ -130,6 +158,10 @@ final class VaultReactiveConfiguration {
 						webClientFactory);
 			}
 
+			if (clientAuthentication instanceof ChainedClientAuthentication chain) {
+				return new ChainedTokenSupplier(chain);
+			}
+
 			throw new IllegalStateException(String.format("Cannot construct VaultTokenSupplier from %s. "
 					+ "ClientAuthentication must implement AuthenticationStepsFactory or be TokenAuthentication",
 					clientAuthentication));
@@ -142,7 +174,14 @@ final class VaultReactiveConfiguration {
 	private VaultTokenSupplier createAuthenticationStepsOperator(AuthenticationStepsFactory factory,
 			WebClientFactory webClientFactory) {
 		WebClient webClient = webClientFactory.create();
-		return new AuthenticationStepsOperator(factory.getAuthenticationSteps(), webClient);
+		AuthenticationStepsOperator operator = new AuthenticationStepsOperator(factory.getAuthenticationSteps(),
+				webClient);
+
+		if (factory instanceof WatchedCredentialFile.Source source) {
+			return new CredentialFileTokenSupplier(operator, source.getCredentialFile());
+		}
+
+		return operator;
 	}
 
 	SessionManager createSessionManager(ReactiveSessionManager sessionManager) {
@@ -160,13 +199,91 @@ final class VaultReactiveConfiguration {
 			WebClient webClient = webClientFactory.create();
 			ReactiveLifecycleAwareSessionManager.RefreshTrigger trigger = new ReactiveLifecycleAwareSessionManager.FixedTimeoutRefreshTrigger(
 					lifecycle.getRefreshBeforeExpiry(), lifecycle.getExpiryThreshold());
-			return new ReactiveLifecycleAwareSessionManager(vaultTokenSupplier, taskScheduler.get(), webClient,
-					trigger);
+			ChainedClientAuthentication chain = ChainedClientAuthentication.unwrap(vaultTokenSupplier);
+			TokenCachingAuthentication tokenCache = new VaultConfiguration(this.vaultProperties)
+				.createTokenCachingAuthentication(chain);
+			InstrumentedReactiveSessionManager sessionManager;
+
+			if (tokenCache == null) {
+				sessionManager = new InstrumentedReactiveSessionManager(vaultTokenSupplier, taskScheduler.get(),
+						webClient, trigger, VaultConfiguration.createSessionInstrumentation(this.vaultProperties, chain));
+			}
+			else {
+				sessionManager = new InstrumentedReactiveSessionManager(
+						tokenCache.createTokenSupplier(vaultTokenSupplier, webClient), taskScheduler.get(), webClient,
+						trigger, VaultConfiguration.createSessionInstrumentation(this.vaultProperties, chain));
+				sessionManager.addAuthenticationListener(tokenCache);
+				sessionManager.setRevokeOnDestroy(false);
+			}
+
+			if (vaultTokenSupplier instanceof WatchedCredentialFile.Source source) {
+				source.getCredentialFile().addChangeListener(() -> {
+
+					if (tokenCache != null) {
+						tokenCache.bypassNextLogin();
+					}
+
+					sessionManager.relogin().block();
+				});
+			}
+
+			return sessionManager;
 		}
 
 		return CachingVaultTokenSupplier.of(vaultTokenSupplier);
 	}
 
+	/**
+	 * {@link VaultTokenSupplier} exposing the {@link WatchedCredentialFile} of its
+	 * authentication to re-login on credential changes.
+	 */
+	static class CredentialFileTokenSupplier implements VaultTokenSupplier, WatchedCredentialFile.Source {
+
+		private final VaultTokenSupplier delegate;
+
+		private final WatchedCredentialFile credentialFile;
+
+		CredentialFileTokenSupplier(VaultTokenSupplier delegate, WatchedCredentialFile credentialFile) {
+			this.delegate = delegate;
+			this.credentialFile = credentialFile;
+		}
+
+		@Override
+		public Mono<VaultToken> getVaultToken() {
+			return this.delegate.getVaultToken();
+		}
+
+		@Override
+		public WatchedCredentialFile getCredentialFile() {
+			return this.credentialFile;
+		}
+
+	}
+
+	/**
+	 * {@link VaultTokenSupplier} logging in through a {@link ChainedClientAuthentication}
+	 * on a thread that may block.
+	 */
+	static class ChainedTokenSupplier implements VaultTokenSupplier, ChainedClientAuthentication.Chained {
+
+		private final ChainedClientAuthentication chain;
+
+		ChainedTokenSupplier(ChainedClientAuthentication chain) {
+			this.chain = chain;
+		}
+
+		@Override
+		public Mono<VaultToken> getVaultToken() {
+			return Mono.fromCallable(this.chain::login).subscribeOn(Schedulers.boundedElastic());
+		}
+
+		@Override
+		public ChainedClientAuthentication getChain() {
+			return this.chain;
+		}
+
+	}
+
 	@SuppressWarnings("all")
 	static class ReactiveSessionManagerAdapter implements SessionManager {
 
@@ -16,15 +16,22 @@
 
 package org.springframework.cloud.vault.config;
 
+import java.time.Duration;
+
 import reactor.core.publisher.Mono;
 
 import org.springframework.boot.health.contributor.AbstractReactiveHealthIndicator;
 import org.springframework.boot.health.contributor.Health;
 import org.springframework.boot.health.contributor.Health.Builder;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
 import org.springframework.vault.core.ReactiveVaultOperations;
+import org.springframework.vault.support.VaultHealth;
 
 /**
- * Reactive health indicator reporting Vault's availability.
+ * Reactive health indicator reporting Vault's availability. The indicator can optionally
+ * cache health check results and refresh these in the background, see
+ * {@link #VaultReactiveHealthIndicator(ReactiveVaultOperations, Duration, Duration)}.
  *
  * @author Mark Paluch
  * @since 2.0
@@ -33,14 +40,41 @@ public class VaultReactiveHealthIndicator extends AbstractReactiveHealthIndicato
 
 	private final ReactiveVaultOperations vaultOperations;
 
+	@Nullable
+	private final VaultHealthCache cache;
+
 	public VaultReactiveHealthIndicator(ReactiveVaultOperations vaultOperations) {
 		this.vaultOperations = vaultOperations;
+		this.cache = null;
+	}
+
+	/**
+	 * Create a new {@link VaultReactiveHealthIndicator} caching health check results for
+	 * {@code timeToLive}. Expired results are refreshed in the background while the
+	 * previous result is reported. Health checks exceeding {@code timeout} report Vault
+	 * as down.
+	 * @param vaultOperations the reactive Vault operations, must not be {@literal null}.
+	 * @param timeToLive time to live of cached results, must not be {@literal null}.
+	 * @param timeout timeout for a health check, must not be {@literal null}.
+	 * @since 5.0.3
+	 */
+	public VaultReactiveHealthIndicator(ReactiveVaultOperations vaultOperations, Duration timeToLive,
+			Duration timeout) {
+
+		Assert.notNull(vaultOperations, "ReactiveVaultOperations must not be null");
+
+		this.vaultOperations = vaultOperations;
+		this.cache = new VaultHealthCache(() -> vaultOperations.opsForSys().health().timeout(timeout).toFuture(),
+				timeToLive, timeout);
 	}
 
 	@Override
 	protected Mono<Health> doHealthCheck(Builder builder) {
 
-		return this.vaultOperations.opsForSys().health().map((vaultHealthResponse) -> {
+		Mono<VaultHealth> health = this.cache != null ? Mono.fromFuture(this.cache::getHealth, true)
+				: this.vaultOperations.opsForSys().health();
+
+		return health.map((vaultHealthResponse) -> {
 
 			HealthBuilderDelegate.contributeToHealth(vaultHealthResponse, builder);
 			return builder.build();
@@ -17,16 +17,20 @@
 package org.springframework.cloud.vault.config;
 
 import java.util.Map;
+import java.util.function.Function;
 
 import reactor.core.publisher.Flux;
 
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.health.autoconfigure.contributor.CompositeReactiveHealthContributorConfiguration;
 import org.springframework.boot.health.contributor.ReactiveHealthContributor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.lang.Nullable;
 import org.springframework.vault.core.ReactiveVaultOperations;
 
 /**
@@ -39,16 +43,31 @@ import org.springframework.vault.core.ReactiveVaultOperations;
 @Configuration(proxyBeanMethods = false)
 @ConditionalOnClass(Flux.class)
 @ConditionalOnBean(ReactiveVaultOperations.class)
+@ConditionalOnProperty(name = "spring.cloud.vault.reactive.on-demand", havingValue = "false", matchIfMissing = true)
 class VaultReactiveHealthIndicatorConfiguration
 		extends CompositeReactiveHealthContributorConfiguration<VaultReactiveHealthIndicator, ReactiveVaultOperations> {
 
 	private final Map<String, ReactiveVaultOperations> reactiveVaultTemplates;
 
-	VaultReactiveHealthIndicatorConfiguration(Map<String, ReactiveVaultOperations> reactiveVaultTemplates) {
-		super(VaultReactiveHealthIndicator::new);
+	VaultReactiveHealthIndicatorConfiguration(Map<String, ReactiveVaultOperations> reactiveVaultTemplates,
+			ObjectProvider<VaultProperties> vaultProperties) {
+		super(createIndicatorFactory(vaultProperties.getIfAvailable()));
 		this.reactiveVaultTemplates = reactiveVaultTemplates;
 	}
 
+	private static Function<ReactiveVaultOperations, VaultReactiveHealthIndicator> createIndicatorFactory(
+			@Nullable VaultProperties vaultProperties) {
+
+		if (vaultProperties == null || !vaultProperties.getHealth().getCache().isEnabled()) {
+			return VaultReactiveHealthIndicator::new;
+		}
+
+		VaultProperties.Health.Cache cache = vaultProperties.getHealth().getCache();
+
+		return vaultOperations -> new VaultReactiveHealthIndicator(vaultOperations, cache.getTimeToLive(),
+				cache.getTimeout());
+	}
+
 	@Bean(name = { "vaultHealthIndicator", "vaultReactiveHealthIndicator" })
 	@ConditionalOnMissingBean(name = { "vaultHealthIndicator" })
 	ReactiveHealthContributor vaultHealthIndicator() {
@@ -27,7 +27,6 @@ import org.springframework.boot.webclient.observation.ObservationWebClientCustom
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.vault.client.WebClientCustomizer;
-import org.springframework.web.reactive.function.client.DefaultClientRequestObservationConvention;
 import org.springframework.web.reactive.function.client.WebClient;
 
 /**
@@ -46,7 +45,7 @@ public class VaultReactiveObservationAutoConfiguration {
 	@ConditionalOnSingleCandidate(ObservationRegistry.class)
 	public WebClientCustomizer observationVaultWebClientCustomizer(ObservationRegistry observationRegistry) {
 		return webClientBuilder -> new ObservationWebClientCustomizer(observationRegistry,
-				new DefaultClientRequestObservationConvention())
+				new VaultWebClientRequestObservationConvention())
 			.customize(webClientBuilder);
 	}
 
@@ -95,15 +95,12 @@ class VaultRuntimeHints implements RuntimeHintsRegistrar {
 		reflection.registerTypeIfPresent(classLoader, "com.google.auth.oauth2.GoogleCredentials",
 				MemberCategory.PUBLIC_CLASSES);
 
-		// reflection for pluggable config properties bindings
+		// reflection for pluggable metadata factories. Binding hints for descriptors are
+		// contributed by SecretBackendDescriptorsAotProcessor
 		List<Object> pluggableDescriptors = new ArrayList<>();
 
 		pluggableDescriptors
 			.addAll(SpringFactoriesLoader.loadFactories(SecretBackendMetadataFactory.class, classLoader));
-		pluggableDescriptors
-			.addAll(SpringFactoriesLoader.loadFactories(VaultSecretBackendDescriptor.class, classLoader));
-		pluggableDescriptors
-			.addAll(SpringFactoriesLoader.loadFactories(VaultSecretBackendDescriptorFactory.class, classLoader));
 
 		List<TypeReference> pluggableDescriptorReferences = pluggableDescriptors.stream()
 			.map(Object::getClass)
@@ -0,0 +1,394 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.vault.config;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+
+import javax.crypto.AEADBadTagException;
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+import javax.crypto.SecretKeyFactory;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.PBEKeySpec;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.vault.support.VaultToken;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Encrypted file-based cache for a single {@link VaultToken}. The token is encrypted
+ * using AES-GCM with a key derived from a password using PBKDF2. The cache entry is bound
+ * to a scope (typically the Vault endpoint and authentication method) through the GCM
+ * additional authenticated data so that a cached token is only used for the scope it
+ * was obtained for. A cache can accept several scopes, for example one per method of an
+ * authentication chain. Tokens are written for the first scope and read for any of the
+ * scopes.
+ * <p>
+ * Reading a missing, corrupted, expired or otherwise unusable cache entry yields
+ * {@literal null}. Failures to write the cache are logged and do not propagate.
+ *
+ * @author Mark Paluch
+ * @since 5.0.3
+ */
+final class VaultTokenCache {
+
+	private static final Log log = LogFactory.getLog(VaultTokenCache.class);
+
+	private static final int MAGIC = 0x53435654;
+
+	private static final int VERSION = 1;
+
+	private static final int SALT_LENGTH = 16;
+
+	private static final int IV_LENGTH = 12;
+
+	private static final int TAG_LENGTH = 128;
+
+	private static final int ITERATIONS = 210_000;
+
+	private static final SecureRandom RANDOM = new SecureRandom();
+
+	private final Path file;
+
+	private final char[] password;
+
+	private final Supplier<List<String>> scopes;
+
+	@Nullable
+	private volatile DerivedKey key;
+
+	/**
+	 * Create a new {@link VaultTokenCache}.
+	 * @param file the cache file, must not be {@literal null}.
+	 * @param password the password to derive the encryption key from, must not be
+	 * {@literal null} or empty.
+	 * @param scope the scope the cached token is bound to, must not be {@literal null}.
+	 */
+	VaultTokenCache(Path file, String password, String scope) {
+
+		Assert.notNull(file, "Cache file must not be null");
+		Assert.hasText(password, "Password must not be empty");
+		Assert.notNull(scope, "Scope must not be null");
+
+		this.file = file;
+		this.password = password.toCharArray();
+		this.scopes = () -> List.of(scope);
+	}
+
+	/**
+	 * Create a new {@link VaultTokenCache} accepting multiple scopes.
+	 * @param file the cache file, must not be {@literal null}.
+	 * @param password the password to derive the encryption key from, must not be
+	 * {@literal null} or empty.
+	 * @param scopes supplier of the scopes a cached token can be bound to, must not be
+	 * {@literal null}. Tokens are written for the first scope.
+	 */
+	VaultTokenCache(Path file, String password, Supplier<List<String>> scopes) {
+
+		Assert.notNull(file, "Cache file must not be null");
+		Assert.hasText(password, "Password must not be empty");
+		Assert.notNull(scopes, "Scopes must not be null");
+
+		this.file = file;
+		this.password = password.toCharArray();
+		this.scopes = scopes;
+	}
+
+	Path getFile() {
+		return this.file;
+	}
+
+	/**
+	 * Read the cached token.
+	 * @param now the current time to determine whether the cached token is expired.
+	 * @return the cached token or {@literal null} if no usable token is cached.
+	 */
+	@Nullable
+	CachedToken read(Instant now) {
+
+		if (!Files.isRegularFile(this.file)) {
+			return null;
+		}
+
+		try {
+
+			CachedToken token = decrypt(Files.readAllBytes(this.file));
+
+			if (token.getExpiry() != null && !token.getExpiry().isAfter(now)) {
+				log.debug("Cached Vault token is expired");
+				return null;
+			}
+
+			return token;
+		}
+		catch (IOException | GeneralSecurityException | RuntimeException e) {
+
+			if (log.isDebugEnabled()) {
+				log.debug("Cannot read cached Vault token from %s".formatted(this.file), e);
+			}
+			else {
+				log.info("Cannot read cached Vault token from %s: %s".formatted(this.file, e));
+			}
+			return null;
+		}
+	}
+
+	/**
+	 * Write a token to the cache. Replaces a previously cached token atomically.
+	 * @param token the token to cache.
+	 * @param expiry the token expiry, can be {@literal null} if the token does not
+	 * expire.
+	 */
+	void write(VaultToken token, @Nullable Instant expiry) {
+
+		try {
+
+			Path directory = this.file.toAbsolutePath().getParent();
+			if (directory != null) {
+				Files.createDirectories(directory);
+			}
+
+			Path tempFile = Files.createTempFile(directory, ".vault-token", ".tmp");
+
+			try {
+				restrictPermissions(tempFile);
+				Files.write(tempFile, encrypt(new CachedToken(token, expiry, this.scopes.get().get(0))));
+				move(tempFile);
+			}
+			finally {
+				Files.deleteIfExists(tempFile);
+			}
+		}
+		catch (IOException | GeneralSecurityException | RuntimeException e) {
+			log.warn("Cannot write Vault token cache to %s".formatted(this.file), e);
+		}
+	}
+
+	/**
+	 * Remove the cached token.
+	 */
+	void clear() {
+
+		try {
+			Files.deleteIfExists(this.file);
+		}
+		catch (IOException e) {
+			log.warn("Cannot delete Vault token cache %s".formatted(this.file), e);
+		}
+	}
+
+	private void move(Path tempFile) throws IOException {
+
+		try {
+			Files.move(tempFile, this.file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		}
+		catch (AtomicMoveNotSupportedException e) {
+			Files.move(tempFile, this.file, StandardCopyOption.REPLACE_EXISTING);
+		}
+	}
+
+	private static void restrictPermissions(Path file) throws IOException {
+
+		try {
+			Files.setPosixFilePermissions(file, PosixFilePermissions.fromString("rw-------"));
+		}
+		catch (UnsupportedOperationException e) {
+			// non-POSIX file system
+		}
+	}
+
+	byte[] encrypt(CachedToken token) throws IOException, GeneralSecurityException {
+
+		ByteArrayOutputStream plaintext = new ByteArrayOutputStream();
+		try (DataOutputStream out = new DataOutputStream(plaintext)) {
+			out.writeUTF(token.getToken().getToken());
+			out.writeLong(token.getExpiry() != null ? token.getExpiry().toEpochMilli() : -1);
+		}
+
+		DerivedKey key = getKey();
+		byte[] iv = new byte[IV_LENGTH];
+		RANDOM.nextBytes(iv);
+
+		Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+		cipher.init(Cipher.ENCRYPT_MODE, key.key, new GCMParameterSpec(TAG_LENGTH, iv));
+		cipher.updateAAD(token.getScope().getBytes(UTF_8));
+		byte[] ciphertext = cipher.doFinal(plaintext.toByteArray());
+
+		ByteBuffer buffer = ByteBuffer.allocate(8 + SALT_LENGTH + IV_LENGTH + ciphertext.length);
+		buffer.putInt(MAGIC).putInt(VERSION).put(key.salt).put(iv).put(ciphertext);
+		return buffer.array();
+	}
+
+	CachedToken decrypt(byte[] content) throws IOException, GeneralSecurityException {
+
+		ByteBuffer buffer = ByteBuffer.wrap(content);
+
+		if (content.length < 8 + SALT_LENGTH + IV_LENGTH || buffer.getInt() != MAGIC
+				|| buffer.getInt() != VERSION) {
+			throw new IOException("Unsupported token cache format");
+		}
+
+		byte[] salt = new byte[SALT_LENGTH];
+		byte[] iv = new byte[IV_LENGTH];
+		buffer.get(salt).get(iv);
+		byte[] ciphertext = new byte[buffer.remaining()];
+		buffer.get(ciphertext);
+
+		SecretKey key = getKey(salt);
+		List<String> scopes = this.scopes.get();
+
+		for (int i = 0; i < scopes.size(); i++) {
+
+			Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+			cipher.init(Cipher.DECRYPT_MODE, key, new GCMParameterSpec(TAG_LENGTH, iv));
+			cipher.updateAAD(scopes.get(i).getBytes(UTF_8));
+
+			byte[] plaintext;
+			try {
+				plaintext = cipher.doFinal(ciphertext);
+			}
+			catch (AEADBadTagException e) {
+
+				// bound to a different scope or tampered with
+				if (i < scopes.size() - 1) {
+					continue;
+				}
+				throw e;
+			}
+
+			try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(plaintext))) {
+
+				VaultToken token = VaultToken.of(in.readUTF());
+				long expiry = in.readLong();
+
+				return new CachedToken(token, expiry == -1 ? null : Instant.ofEpochMilli(expiry), scopes.get(i));
+			}
+		}
+
+		throw new IOException("No token cache scope configured");
+	}
+
+	private DerivedKey getKey() throws GeneralSecurityException {
+
+		DerivedKey key = this.key;
+
+		if (key == null) {
+
+			byte[] salt = new byte[SALT_LENGTH];
+			RANDOM.nextBytes(salt);
+			key = new DerivedKey(salt, deriveKey(salt));
+			this.key = key;
+		}
+
+		return key;
+	}
+
+	private SecretKey getKey(byte[] salt) throws GeneralSecurityException {
+
+		DerivedKey key = this.key;
+
+		if (key != null && Arrays.equals(key.salt, salt)) {
+			return key.key;
+		}
+
+		key = new DerivedKey(salt, deriveKey(salt));
+		this.key = key;
+		return key.key;
+	}
+
+	private SecretKey deriveKey(byte[] salt) throws GeneralSecurityException {
+
+		SecretKeyFactory factory = SecretKeyFactory.getInstance("PBKDF2WithHmacSHA256");
+		PBEKeySpec spec = new PBEKeySpec(this.password, salt, ITERATIONS, 256);
+
+		try {
+			return new SecretKeySpec(factory.generateSecret(spec).getEncoded(), "AES");
+		}
+		finally {
+			spec.clearPassword();
+		}
+	}
+
+	private static final class DerivedKey {
+
+		private final byte[] salt;
+
+		private final SecretKey key;
+
+		private DerivedKey(byte[] salt, SecretKey key) {
+			this.salt = salt;
+			this.key = key;
+		}
+
+	}
+
+	/**
+	 * A cached token along with its expiry and the scope it is bound to.
+	 */
+	static final class CachedToken {
+
+		private final VaultToken token;
+
+		@Nullable
+		private final Instant expiry;
+
+		private final String scope;
+
+		CachedToken(VaultToken token, @Nullable Instant expiry, String scope) {
+			this.token = token;
+			this.expiry = expiry;
+			this.scope = scope;
+		}
+
+		VaultToken getToken() {
+			return this.token;
+		}
+
+		@Nullable
+		Instant getExpiry() {
+			return this.expiry;
+		}
+
+		String getScope() {
+			return this.scope;
+		}
+
+	}
+
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.vault.config;
+
+import io.micrometer.common.KeyValue;
+import io.micrometer.common.KeyValues;
+
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientRequestObservationContext;
+import org.springframework.web.reactive.function.client.DefaultClientRequestObservationConvention;
+
+/**
+ * {@link DefaultClientRequestObservationConvention} for Vault requests issued through
+ * {@link org.springframework.web.reactive.function.client.WebClient}. Reports the
+ * {@code uri} as path template and adds the {@code vault.operation} key value.
+ *
+ * @author Mark Paluch
+ * @since 5.0.3
+ * @see VaultObservationSupport
+ */
+class VaultWebClientRequestObservationConvention extends DefaultClientRequestObservationConvention {
+
+	@Override
+	public String getContextualName(ClientRequestObservationContext context) {
+
+		ClientRequest request = context.getRequest();
+
+		if (request == null) {
+			return super.getContextualName(context);
+		}
+
+		return VaultObservationSupport.getContextualName(request.method(), request.url().getPath());
+	}
+
+	@Override
+	public KeyValues getLowCardinalityKeyValues(ClientRequestObservationContext context) {
+
+		KeyValues keyValues = super.getLowCardinalityKeyValues(context);
+		ClientRequest request = context.getRequest();
+
+		if (request == null) {
+			return keyValues;
+		}
+
+		return keyValues.and(VaultObservationSupport.operation(request.method(), request.url().getPath()));
+	}
+
+	@Override
+	protected KeyValue uri(ClientRequestObservationContext context) {
+
+		ClientRequest request = context.getRequest();
+
+		if (request == null) {
+			return super.uri(context);
+		}
+
+		return VaultObservationSupport.uri(request.url().getPath());
+	}
+
+}
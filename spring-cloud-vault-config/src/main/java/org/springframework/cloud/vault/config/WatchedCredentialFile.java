@@ -0,0 +1,425 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.vault.config;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+import org.springframework.vault.authentication.AuthenticationSteps;
+import org.springframework.vault.authentication.KubernetesAuthentication;
+import org.springframework.vault.authentication.KubernetesAuthenticationOptions;
+import org.springframework.vault.authentication.KubernetesJwtSupplier;
+import org.springframework.vault.authentication.TokenAuthentication;
+import org.springframework.vault.support.VaultToken;
+import org.springframework.web.client.RestOperations;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Credential supplier keeping the contents of a credential file (such as a Kubernetes
+ * service account token or {@code ~/.vault-token}) in memory. The file is watched
+ * through a {@link WatchService} on its parent directory so that changes, including
+ * symlink swaps of projected Kubernetes volumes, replace the in-memory value atomically.
+ * <p>
+ * If the file contains a JWT, its {@code exp} claim is used to re-read the file shortly
+ * before expiry in case a change notification was missed. Registered
+ * {@link #addChangeListener(Runnable) change listeners} are notified after the contents
+ * changed, typically to re-login proactively.
+ *
+ * @author Mark Paluch
+ * @since 5.0.3
+ */
+final class WatchedCredentialFile implements KubernetesJwtSupplier, AutoCloseable {
+
+	private static final Log log = LogFactory.getLog(WatchedCredentialFile.class);
+
+	/**
+	 * Time before the JWT expiry at which the file is re-read.
+	 */
+	static final Duration EXPIRY_MARGIN = Duration.ofMinutes(1);
+
+	/**
+	 * Maximum wait between two checks of the file.
+	 */
+	static final Duration MAX_CHECK_INTERVAL = Duration.ofHours(1);
+
+	/**
+	 * Minimum wait between two checks of the file.
+	 */
+	static final Duration MIN_CHECK_INTERVAL = Duration.ofSeconds(10);
+
+	private final Path file;
+
+	private final AtomicReference<Credential> credential = new AtomicReference<>();
+
+	private final List<Runnable> listeners = new CopyOnWriteArrayList<>();
+
+	private Clock clock = Clock.systemUTC();
+
+	@Nullable
+	private volatile WatchService watchService;
+
+	WatchedCredentialFile(Path file) {
+
+		Assert.notNull(file, "File must not be null");
+
+		this.file = file;
+	}
+
+	void setClock(Clock clock) {
+		this.clock = clock;
+	}
+
+	Path getFile() {
+		return this.file;
+	}
+
+	/**
+	 * Register a listener that is notified after the file contents have changed.
+	 * Listeners are called from the watcher thread.
+	 * @param listener the listener.
+	 */
+	void addChangeListener(Runnable listener) {
+		this.listeners.add(listener);
+	}
+
+	/**
+	 * Start watching the file. Falls back to re-reading the file on expiry if the file
+	 * system does not support watching.
+	 */
+	void start() {
+
+		Path directory = this.file.toAbsolutePath().getParent();
+
+		try {
+			WatchService watchService = directory.getFileSystem().newWatchService();
+			directory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+					StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE);
+			this.watchService = watchService;
+
+			Thread thread = new Thread(() -> watch(watchService), "vault-credential-watch");
+			thread.setDaemon(true);
+			thread.start();
+		}
+		catch (IOException | UnsupportedOperationException ex) {
+			log.warn("Cannot watch credential file %s, changes are picked up on expiry only".formatted(this.file),
+					ex);
+		}
+	}
+
+	@Override
+	public String get() {
+
+		Credential current = this.credential.get();
+
+		if (current == null || current.isExpired(this.clock.instant())) {
+			current = reload();
+		}
+
+		return current.value();
+	}
+
+	/**
+	 * @return the expiry of the current credential if the file contains a JWT with an
+	 * {@code exp} claim, {@literal null} otherwise.
+	 */
+	@Nullable
+	Instant getExpiry() {
+		Credential current = this.credential.get();
+		return current != null ? current.expiry() : null;
+	}
+
+	/**
+	 * Re-read the file and notify listeners if its contents have changed. Keeps the
+	 * previous contents if the file cannot be read.
+	 * @return the current credential.
+	 */
+	synchronized Credential reload() {
+
+		Credential previous = this.credential.get();
+		Credential current;
+
+		try {
+			current = Credential.of(new String(Files.readAllBytes(this.file), UTF_8));
+		}
+		catch (IOException ex) {
+
+			if (previous == null) {
+				throw new IllegalStateException("Cannot read credential file %s".formatted(this.file), ex);
+			}
+
+			log.debug("Cannot read credential file %s, retaining previous contents".formatted(this.file), ex);
+			return previous;
+		}
+
+		if (previous != null && previous.value().equals(current.value())) {
+			return previous;
+		}
+
+		// files are typically truncated before writing new contents
+		if (previous != null && !StringUtils.hasText(current.value())) {
+			log.debug("Credential file %s is empty, retaining previous contents".formatted(this.file));
+			return previous;
+		}
+
+		this.credential.set(current);
+
+		if (previous != null) {
+			log.info("Credential file %s changed".formatted(this.file));
+			notifyListeners();
+		}
+
+		return current;
+	}
+
+	private void notifyListeners() {
+
+		for (Runnable listener : this.listeners) {
+			try {
+				listener.run();
+			}
+			catch (RuntimeException ex) {
+				log.warn("Credential file change listener failed", ex);
+			}
+		}
+	}
+
+	private void watch(WatchService watchService) {
+
+		while (true) {
+
+			WatchKey key;
+
+			try {
+				key = watchService.poll(getCheckInterval().toMillis(), TimeUnit.MILLISECONDS);
+			}
+			catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+				return;
+			}
+			catch (ClosedWatchServiceException ex) {
+				return;
+			}
+
+			if (key != null) {
+
+				key.pollEvents();
+
+				if (!key.reset()) {
+					log.warn("Stopped watching credential file %s, directory is no longer accessible"
+						.formatted(this.file));
+					return;
+				}
+			}
+
+			try {
+				reload();
+			}
+			catch (RuntimeException ex) {
+				log.warn("Cannot reload credential file %s".formatted(this.file), ex);
+			}
+		}
+	}
+
+	/**
+	 * @return the time to wait until the file should be re-read in the absence of
+	 * change notifications.
+	 */
+	Duration getCheckInterval() {
+
+		Instant expiry = getExpiry();
+
+		if (expiry == null) {
+			return MAX_CHECK_INTERVAL;
+		}
+
+		Duration untilRefresh = Duration.between(this.clock.instant(), expiry.minus(EXPIRY_MARGIN));
+
+		if (untilRefresh.compareTo(MIN_CHECK_INTERVAL) < 0) {
+			return MIN_CHECK_INTERVAL;
+		}
+
+		return untilRefresh.compareTo(MAX_CHECK_INTERVAL) > 0 ? MAX_CHECK_INTERVAL : untilRefresh;
+	}
+
+	@Override
+	public void close() {
+
+		WatchService watchService = this.watchService;
+		this.watchService = null;
+
+		if (watchService != null) {
+			try {
+				watchService.close();
+			}
+			catch (IOException ex) {
+				log.debug("Cannot close watch service", ex);
+			}
+		}
+	}
+
+	/**
+	 * Parse the {@code exp} claim of a JWT.
+	 * @param value the credential value.
+	 * @return the expiry or {@literal null} if the value is not a JWT or does not carry
+	 * an {@code exp} claim.
+	 */
+	@Nullable
+	static Instant getJwtExpiry(String value) {
+
+		String[] parts = value.strip().split("\\.");
+
+		if (parts.length != 3) {
+			return null;
+		}
+
+		try {
+			JsonNode claims = JsonMapper.shared().readTree(Base64.getUrlDecoder().decode(parts[1]));
+			JsonNode exp = claims.path("exp");
+			return exp.isNumber() ? Instant.ofEpochSecond(exp.asLong()) : null;
+		}
+		catch (RuntimeException ex) {
+			return null;
+		}
+	}
+
+	/**
+	 * Contents of the credential file along with its expiry.
+	 */
+	static final class Credential {
+
+		private final String value;
+
+		@Nullable
+		private final Instant expiry;
+
+		private Credential(String value, @Nullable Instant expiry) {
+			this.value = value;
+			this.expiry = expiry;
+		}
+
+		static Credential of(String value) {
+			return new Credential(value, getJwtExpiry(value));
+		}
+
+		String value() {
+			return this.value;
+		}
+
+		@Nullable
+		Instant expiry() {
+			return this.expiry;
+		}
+
+		boolean isExpired(Instant now) {
+			return this.expiry != null && !now.isBefore(this.expiry);
+		}
+
+	}
+
+	/**
+	 * Component backed by a {@link WatchedCredentialFile}.
+	 */
+	interface Source {
+
+		WatchedCredentialFile getCredentialFile();
+
+	}
+
+	/**
+	 * {@link TokenAuthentication} using the current contents of a token file.
+	 */
+	static class TokenFileAuthentication extends TokenAuthentication implements Source, DisposableBean {
+
+		private final WatchedCredentialFile credentialFile;
+
+		TokenFileAuthentication(WatchedCredentialFile credentialFile) {
+			super(credentialFile.get());
+			this.credentialFile = credentialFile;
+		}
+
+		@Override
+		public VaultToken login() {
+			return VaultToken.of(this.credentialFile.get());
+		}
+
+		@Override
+		public AuthenticationSteps getAuthenticationSteps() {
+			return AuthenticationSteps.fromSupplier(this::login).login(token -> token);
+		}
+
+		@Override
+		public WatchedCredentialFile getCredentialFile() {
+			return this.credentialFile;
+		}
+
+		@Override
+		public void destroy() {
+			this.credentialFile.close();
+		}
+
+	}
+
+	/**
+	 * {@link KubernetesAuthentication} using the current contents of the service account
+	 * token file.
+	 */
+	static class KubernetesFileAuthentication extends KubernetesAuthentication implements Source, DisposableBean {
+
+		private final WatchedCredentialFile credentialFile;
+
+		KubernetesFileAuthentication(KubernetesAuthenticationOptions options, RestOperations restOperations,
+				WatchedCredentialFile credentialFile) {
+			super(options, restOperations);
+			this.credentialFile = credentialFile;
+		}
+
+		@Override
+		public WatchedCredentialFile getCredentialFile() {
+			return this.credentialFile;
+		}
+
+		@Override
+		public void destroy() {
+			this.credentialFile.close();
+		}
+
+	}
+
+}
@@ -0,0 +1,269 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.vault.config;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.cloud.vault.config.VaultProperties.AuthenticationMethod;
+import org.springframework.http.HttpEntity;
+import org.springframework.lang.Nullable;
+import org.springframework.vault.authentication.ClientAuthentication;
+import org.springframework.vault.authentication.LoginToken;
+import org.springframework.vault.authentication.VaultLoginException;
+import org.springframework.vault.support.VaultToken;
+import org.springframework.web.client.RestOperations;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for {@link ChainedClientAuthentication}.
+ *
+ * @author Mark Paluch
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class ChainedClientAuthenticationUnitTests {
+
+	@Mock
+	RestOperations restOperations;
+
+	Map<AuthenticationMethod, ClientAuthentication> authentications = new EnumMap<>(AuthenticationMethod.class);
+
+	List<AuthenticationMethod> created = new ArrayList<>();
+
+	CountDownLatch release = new CountDownLatch(1);
+
+	@AfterEach
+	void after() {
+		this.release.countDown();
+	}
+
+	@Test
+	public void shouldLoginUsingFirstMethod() {
+
+		this.authentications.put(AuthenticationMethod.KUBERNETES, () -> VaultToken.of("kubernetes"));
+		this.authentications.put(AuthenticationMethod.APPROLE, () -> VaultToken.of("approle"));
+
+		ChainedClientAuthentication authentication = create(Duration.ofSeconds(5), null,
+				AuthenticationMethod.KUBERNETES, AuthenticationMethod.APPROLE);
+
+		assertThat(authentication.login()).isEqualTo(VaultToken.of("kubernetes"));
+		assertThat(authentication.getPreferred()).isEqualTo(AuthenticationMethod.KUBERNETES);
+		assertThat(this.created).containsOnly(AuthenticationMethod.KUBERNETES);
+	}
+
+	@Test
+	public void shouldFallBackAndPreferLastSuccessfulMethod() {
+
+		this.authentications.put(AuthenticationMethod.KUBERNETES, () -> {
+			throw new VaultLoginException("no service account");
+		});
+		this.authentications.put(AuthenticationMethod.APPROLE, () -> VaultToken.of("approle"));
+
+		ChainedClientAuthentication authentication = create(Duration.ofSeconds(5), null,
+				AuthenticationMethod.KUBERNETES, AuthenticationMethod.APPROLE);
+
+		assertThat(authentication.login()).isEqualTo(VaultToken.of("approle"));
+		assertThat(authentication.getOrder()).containsExactly(AuthenticationMethod.APPROLE,
+				AuthenticationMethod.KUBERNETES);
+	}
+
+	@Test
+	public void shouldTreatFailingCreationAsFailedAttempt() {
+
+		this.authentications.put(AuthenticationMethod.APPROLE, () -> VaultToken.of("approle"));
+
+		ChainedClientAuthentication authentication = new ChainedClientAuthentication(
+				List.of(AuthenticationMethod.AWS_IAM, AuthenticationMethod.APPROLE), method -> {
+					if (method == AuthenticationMethod.AWS_IAM) {
+						throw new IllegalStateException("No AWS credentials");
+					}
+					return this.authentications.get(method);
+				}, Duration.ofSeconds(5), null, this.restOperations);
+
+		assertThat(authentication.login()).isEqualTo(VaultToken.of("approle"));
+	}
+
+	@Test
+	public void shouldTimeOutSlowMethod() {
+
+		this.authentications.put(AuthenticationMethod.AWS_EC2, this::awaitRelease);
+		this.authentications.put(AuthenticationMethod.TOKEN, () -> VaultToken.of("token"));
+
+		ChainedClientAuthentication authentication = create(Duration.ofMillis(100), null, AuthenticationMethod.AWS_EC2,
+				AuthenticationMethod.TOKEN);
+
+		assertThat(authentication.login()).isEqualTo(VaultToken.of("token"));
+	}
+
+	@Test
+	public void shouldNotRestartRunningAttempt() {
+
+		AtomicInteger attempts = new AtomicInteger();
+		AtomicInteger tokenAttempts = new AtomicInteger();
+		this.authentications.put(AuthenticationMethod.AWS_EC2, () -> {
+			attempts.incrementAndGet();
+			return awaitRelease();
+		});
+		this.authentications.put(AuthenticationMethod.TOKEN, () -> {
+			if (tokenAttempts.incrementAndGet() > 1) {
+				throw new VaultLoginException("token expired");
+			}
+			return VaultToken.of("token");
+		});
+
+		ChainedClientAuthentication authentication = create(Duration.ofMillis(100), null, AuthenticationMethod.AWS_EC2,
+				AuthenticationMethod.TOKEN);
+
+		assertThat(authentication.login()).isEqualTo(VaultToken.of("token"));
+		assertThat(authentication.getOrder()).containsExactly(AuthenticationMethod.TOKEN,
+				AuthenticationMethod.AWS_EC2);
+
+		assertThatExceptionOfType(VaultLoginException.class).isThrownBy(authentication::login)
+			.withMessageContaining("AWS_EC2: Previous attempt still running");
+		assertThat(attempts).hasValue(1);
+	}
+
+	@Test
+	public void shouldRevokeTokenOfTimedOutAttempt() {
+
+		this.authentications.put(AuthenticationMethod.AWS_EC2, () -> {
+			awaitRelease();
+			return LoginToken.of("slow");
+		});
+		this.authentications.put(AuthenticationMethod.TOKEN, () -> VaultToken.of("token"));
+
+		ChainedClientAuthentication authentication = create(Duration.ofMillis(100), null, AuthenticationMethod.AWS_EC2,
+				AuthenticationMethod.TOKEN);
+
+		assertThat(authentication.login()).isEqualTo(VaultToken.of("token"));
+
+		this.release.countDown();
+
+		verify(this.restOperations, timeout(5000)).postForObject(eq("auth/token/revoke-self"), any(HttpEntity.class),
+				eq(Map.class));
+	}
+
+	@Test
+	public void shouldAttemptNextMethodSpeculatively() {
+
+		this.authentications.put(AuthenticationMethod.AWS_EC2, () -> {
+			awaitRelease();
+			return LoginToken.of("slow");
+		});
+		this.authentications.put(AuthenticationMethod.APPROLE, () -> VaultToken.of("approle"));
+
+		ChainedClientAuthentication authentication = create(Duration.ofSeconds(30), Duration.ofMillis(50),
+				AuthenticationMethod.AWS_EC2, AuthenticationMethod.APPROLE);
+
+		long start = System.nanoTime();
+
+		assertThat(authentication.login()).isEqualTo(VaultToken.of("approle"));
+		assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(10));
+
+		this.release.countDown();
+
+		verify(this.restOperations, timeout(5000)).postForObject(eq("auth/token/revoke-self"), any(HttpEntity.class),
+				eq(Map.class));
+	}
+
+	@Test
+	public void shouldDestroyCreatedDelegates() throws Exception {
+
+		DisposableAuthentication kubernetes = mock(DisposableAuthentication.class);
+		DisposableAuthentication appRole = mock(DisposableAuthentication.class);
+		when(kubernetes.login()).thenReturn(VaultToken.of("kubernetes"));
+		this.authentications.put(AuthenticationMethod.KUBERNETES, kubernetes);
+		this.authentications.put(AuthenticationMethod.APPROLE, appRole);
+
+		ChainedClientAuthentication authentication = create(Duration.ofSeconds(5), null,
+				AuthenticationMethod.KUBERNETES, AuthenticationMethod.APPROLE);
+		authentication.login();
+		authentication.destroy();
+
+		verify(kubernetes).destroy();
+		verify(appRole, never()).destroy();
+	}
+
+	@Test
+	public void shouldReportAllFailures() {
+
+		this.authentications.put(AuthenticationMethod.KUBERNETES, () -> {
+			throw new VaultLoginException("no service account");
+		});
+		this.authentications.put(AuthenticationMethod.TOKEN, () -> {
+			throw new IllegalStateException("no token file");
+		});
+
+		ChainedClientAuthentication authentication = create(Duration.ofSeconds(5), null,
+				AuthenticationMethod.KUBERNETES, AuthenticationMethod.TOKEN);
+
+		assertThatExceptionOfType(VaultLoginException.class).isThrownBy(authentication::login)
+			.withMessageContaining("KUBERNETES: no service account")
+			.withMessageContaining("TOKEN: no token file");
+	}
+
+	private ChainedClientAuthentication create(Duration timeout, @Nullable Duration hedgeDelay,
+			AuthenticationMethod... methods) {
+
+		return new ChainedClientAuthentication(List.of(methods), method -> {
+			this.created.add(method);
+			return this.authentications.get(method);
+		}, timeout, hedgeDelay, this.restOperations);
+	}
+
+	private VaultToken awaitRelease() {
+
+		try {
+			this.release.await(30, TimeUnit.SECONDS);
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+		}
+
+		return VaultToken.of("released");
+	}
+
+	interface DisposableAuthentication extends ClientAuthentication, DisposableBean {
+
+	}
+
+}
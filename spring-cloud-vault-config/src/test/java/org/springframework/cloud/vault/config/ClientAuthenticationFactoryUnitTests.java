@@ -22,11 +22,13 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardOpenOption;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 import software.amazon.awssdk.core.SdkSystemSetting;
 import software.amazon.awssdk.regions.Region;
 
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.boot.system.SystemProperties;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.test.util.ReflectionTestUtils;
@@ -236,6 +238,52 @@ public class ClientAuthenticationFactoryUnitTests {
 		assertThat(clientAuthentication).isInstanceOf(ClientCertificateAuthentication.class);
 	}
 
+	@Test
+	public void shouldCacheLoginMaterialIfEnabled() throws Exception {
+
+		VaultProperties properties = new VaultProperties();
+		properties.getSession().getLoginMaterialCache().setEnabled(true);
+		properties.getAzureMsi().setRole("role");
+		properties.getGcpGce().setRole("role");
+
+		ClientAuthenticationFactory factory = new ClientAuthenticationFactory(properties, new RestTemplate(),
+				new RestTemplate());
+
+		properties.setAuthentication(VaultProperties.AuthenticationMethod.AWS_EC2);
+		ClientAuthentication awsEc2 = factory.createClientAuthentication();
+
+		properties.setAuthentication(VaultProperties.AuthenticationMethod.AZURE_MSI);
+		ClientAuthentication azureMsi = factory.createClientAuthentication();
+
+		properties.setAuthentication(VaultProperties.AuthenticationMethod.GCP_GCE);
+		ClientAuthentication gcpGce = factory.createClientAuthentication();
+
+		assertThat(awsEc2).isInstanceOf(LoginMaterialCachingAuthentication.AwsEc2.class);
+		assertThat(azureMsi).isInstanceOf(LoginMaterialCachingAuthentication.AzureMsi.class);
+		assertThat(gcpGce).isInstanceOf(LoginMaterialCachingAuthentication.GcpCompute.class);
+
+		((DisposableBean) awsEc2).destroy();
+		((DisposableBean) azureMsi).destroy();
+		((DisposableBean) gcpGce).destroy();
+	}
+
+	@Test
+	public void shouldCreateAuthenticationChain() {
+
+		VaultProperties properties = new VaultProperties();
+		properties.getAuthenticationChain()
+			.setMethods(List.of(VaultProperties.AuthenticationMethod.KUBERNETES,
+					VaultProperties.AuthenticationMethod.TOKEN));
+
+		ClientAuthentication clientAuthentication = new ClientAuthenticationFactory(properties, new RestTemplate(),
+				new RestTemplate())
+			.createClientAuthentication();
+
+		assertThat(clientAuthentication).isInstanceOf(ChainedClientAuthentication.class);
+		assertThat(((ChainedClientAuthentication) clientAuthentication).getOrder()).containsExactly(
+				VaultProperties.AuthenticationMethod.KUBERNETES, VaultProperties.AuthenticationMethod.TOKEN);
+	}
+
 	@Test
 	public void shouldSupportTokenFromFile() throws IOException {
 
@@ -260,6 +308,31 @@ public class ClientAuthenticationFactoryUnitTests {
 		}
 	}
 
+	@Test
+	public void shouldWatchTokenFile() throws IOException {
+
+		VaultProperties properties = new VaultProperties();
+		properties.setAuthentication(VaultProperties.AuthenticationMethod.TOKEN);
+		properties.getSession().getCredentialWatch().setEnabled(true);
+
+		Path vaultTokenPath = Paths.get(SystemProperties.get("user.home"), ".vault-token");
+		Files.write(vaultTokenPath, "hello".getBytes(StandardCharsets.UTF_8), StandardOpenOption.WRITE,
+				StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.CREATE);
+		try {
+			ClientAuthentication clientAuthentication = new ClientAuthenticationFactory(properties, new RestTemplate(),
+					new RestTemplate())
+				.createClientAuthentication();
+
+			assertThat(clientAuthentication).isInstanceOf(WatchedCredentialFile.TokenFileAuthentication.class);
+			assertThat(clientAuthentication.login()).isEqualTo(VaultToken.of("hello"));
+
+			((WatchedCredentialFile.TokenFileAuthentication) clientAuthentication).destroy();
+		}
+		finally {
+			Files.deleteIfExists(vaultTokenPath);
+		}
+	}
+
 	@Test
 	public void tokenAuthShouldFailIfTokenFileNotExistsAndTokenEmpty() throws IOException {
 
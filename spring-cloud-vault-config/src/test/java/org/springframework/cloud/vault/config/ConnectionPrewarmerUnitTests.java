@@ -0,0 +1,128 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.vault.config;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.vault.client.VaultEndpoint;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for {@link ConnectionPrewarmer}.
+ *
+ * @author Mark Paluch
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class ConnectionPrewarmerUnitTests {
+
+	@Mock
+	ClientHttpRequestFactory requestFactory;
+
+	@Mock
+	ClientHttpRequest request;
+
+	@Mock
+	ClientHttpResponse response;
+
+	@Test
+	void shouldOpenConnections() throws IOException {
+
+		when(this.requestFactory.createRequest(any(), any())).thenReturn(this.request);
+		when(this.request.execute()).thenReturn(this.response);
+		when(this.response.getBody()).thenReturn(new ByteArrayInputStream("{}".getBytes(StandardCharsets.UTF_8)));
+
+		ConnectionPrewarmer prewarmer = create(3);
+		List<ConnectionPrewarmer.Connection> connections = new ArrayList<>();
+		prewarmer.addListener(connections::add);
+
+		prewarmer.start().join();
+
+		verify(this.requestFactory, times(3)).createRequest(eq(URI.create("https://localhost:8200/v1/sys/health")),
+				eq(HttpMethod.GET));
+		verify(this.response, times(3)).close();
+		assertThat(connections).hasSize(3).allMatch(ConnectionPrewarmer.Connection::isSuccess);
+		assertThat(connections).filteredOn(ConnectionPrewarmer.Connection::isFirst).hasSize(1);
+		assertThat(connections.get(0).isFirst()).isTrue();
+	}
+
+	@Test
+	void shouldContinueAfterFailedConnection() throws IOException {
+
+		when(this.requestFactory.createRequest(any(), any())).thenThrow(new IOException("Connection refused"));
+
+		ConnectionPrewarmer prewarmer = create(2);
+
+		prewarmer.start().join();
+
+		List<ConnectionPrewarmer.Connection> connections = new ArrayList<>();
+		prewarmer.addListener(connections::add);
+
+		assertThat(connections).hasSize(2).noneMatch(ConnectionPrewarmer.Connection::isSuccess);
+	}
+
+	@Test
+	void shouldReportPrewarmMetrics() throws IOException {
+
+		when(this.requestFactory.createRequest(any(), any())).thenReturn(this.request);
+		when(this.request.execute()).thenReturn(this.response);
+		when(this.response.getBody()).thenReturn(new ByteArrayInputStream(new byte[0]));
+
+		ConnectionPrewarmer prewarmer = create(3);
+		prewarmer.start().join();
+
+		SimpleMeterRegistry registry = new SimpleMeterRegistry();
+		new ConnectionPrewarmerMetrics(prewarmer).bindTo(registry);
+
+		assertThat(registry.get("vault.client.prewarm").tag("request", "first").timer().count()).isOne();
+		assertThat(registry.get("vault.client.prewarm").tag("request", "subsequent").timer().count()).isEqualTo(2);
+	}
+
+	private ConnectionPrewarmer create(int connections) {
+
+		ConnectionPrewarmer prewarmer = new ConnectionPrewarmer(this.requestFactory, VaultEndpoint.create("localhost", 8200),
+				connections);
+		prewarmer.setExecutor(new TaskExecutorAdapter(new SyncTaskExecutor()));
+		return prewarmer;
+	}
+
+}
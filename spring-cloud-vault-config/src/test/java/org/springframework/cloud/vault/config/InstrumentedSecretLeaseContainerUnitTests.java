@@ -0,0 +1,112 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.vault.config;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.vault.core.VaultOperations;
+import org.springframework.vault.core.lease.domain.RequestedSecret;
+import org.springframework.vault.support.VaultResponse;
+import org.springframework.vault.support.VaultResponseSupport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for {@link InstrumentedSecretLeaseContainer}.
+ *
+ * @author Mark Paluch
+ */
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class InstrumentedSecretLeaseContainerUnitTests {
+
+	@Mock
+	VaultOperations vaultOperations;
+
+	@Mock
+	TaskScheduler taskScheduler;
+
+	InstrumentedSecretLeaseContainer container;
+
+	@BeforeEach
+	public void before() {
+
+		this.container = new InstrumentedSecretLeaseContainer(this.vaultOperations, this.taskScheduler);
+		this.container.setExpiryThreshold(Duration.ofMinutes(1));
+	}
+
+	@Test
+	public void shouldDeriveLeaseDurationOfRotatingStaticCredentials() {
+
+		when(this.vaultOperations.read("database/static-creds/app")).thenReturn(staticCredentials());
+
+		VaultResponseSupport<Map<String, Object>> secrets = this.container
+			.doGetSecrets(RequestedSecret.rotating("database/static-creds/app"));
+
+		assertThat(secrets.getLeaseDuration()).isEqualTo(100 + 60
+				+ InstrumentedSecretLeaseContainer.STATIC_CREDENTIALS_ROTATION_DELAY.toSeconds());
+	}
+
+	@Test
+	public void shouldRetainLeaseDurationOfRenewableStaticCredentials() {
+
+		when(this.vaultOperations.read("database/static-creds/app")).thenReturn(staticCredentials());
+
+		VaultResponseSupport<Map<String, Object>> secrets = this.container
+			.doGetSecrets(RequestedSecret.renewable("database/static-creds/app"));
+
+		assertThat(secrets.getLeaseDuration()).isZero();
+	}
+
+	@Test
+	public void shouldRetainLeaseDurationOfLeasedSecrets() {
+
+		VaultResponse response = staticCredentials();
+		response.setLeaseId("database/creds/app/1");
+		response.setLeaseDuration(300);
+		when(this.vaultOperations.read("database/creds/app")).thenReturn(response);
+
+		VaultResponseSupport<Map<String, Object>> secrets = this.container
+			.doGetSecrets(RequestedSecret.rotating("database/creds/app"));
+
+		assertThat(secrets.getLeaseDuration()).isEqualTo(300);
+	}
+
+	private static VaultResponse staticCredentials() {
+
+		Map<String, Object> data = new HashMap<>();
+		data.put("username", "app");
+		data.put("password", "secret");
+		data.put("last_vault_rotation", "2026-01-01T00:00:00Z");
+		data.put("rotation_period", 3600);
+		data.put("ttl", 100);
+
+		VaultResponse response = new VaultResponse();
+		response.setData(data);
+		return response;
+	}
+
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.vault.config;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import reactor.core.publisher.Mono;
+
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.vault.VaultException;
+import org.springframework.vault.authentication.ClientAuthentication;
+import org.springframework.vault.authentication.LifecycleAwareSessionManagerSupport.FixedTimeoutRefreshTrigger;
+import org.springframework.vault.authentication.LoginToken;
+import org.springframework.vault.support.VaultToken;
+import org.springframework.web.client.RestOperations;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for re-login of {@link InstrumentedSessionManager} and
+ * {@link InstrumentedReactiveSessionManager}.
+ *
+ * @author Mark Paluch
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class InstrumentedSessionManagerUnitTests {
+
+	@Mock
+	ClientAuthentication clientAuthentication;
+
+	@Mock
+	TaskScheduler taskScheduler;
+
+	@Mock
+	RestOperations restOperations;
+
+	@Mock
+	WebClient webClient;
+
+	@Test
+	void reloginShouldReplaceTokenWithoutRevocation() {
+
+		when(this.clientAuthentication.login()).thenReturn(LoginToken.of("first"), LoginToken.of("second"));
+		InstrumentedSessionManager sessionManager = createSessionManager();
+
+		assertThat(sessionManager.getSessionToken()).isEqualTo(LoginToken.of("first"));
+
+		sessionManager.relogin();
+
+		assertThat(sessionManager.getSessionToken()).isEqualTo(LoginToken.of("second"));
+		verifyNoInteractions(this.restOperations);
+	}
+
+	@Test
+	void failedReloginShouldRetainCurrentToken() {
+
+		when(this.clientAuthentication.login()).thenReturn(LoginToken.of("first"))
+			.thenThrow(new VaultException("login failed"));
+		InstrumentedSessionManager sessionManager = createSessionManager();
+
+		sessionManager.getSessionToken();
+
+		assertThatExceptionOfType(VaultException.class).isThrownBy(sessionManager::relogin);
+		assertThat(sessionManager.getSessionToken()).isEqualTo(LoginToken.of("first"));
+		verifyNoInteractions(this.restOperations);
+	}
+
+	@Test
+	void reactiveReloginShouldReplaceTokenWithoutRevocation() {
+
+		LoginToken[] tokens = { LoginToken.of("first"), LoginToken.of("second") };
+		int[] logins = { 0 };
+
+		InstrumentedReactiveSessionManager sessionManager = new InstrumentedReactiveSessionManager(
+				() -> Mono.fromSupplier(() -> tokens[logins[0]++]), this.taskScheduler, this.webClient,
+				new FixedTimeoutRefreshTrigger(Duration.ofSeconds(5), Duration.ofSeconds(7)),
+				new SessionInstrumentation(VaultProperties.AuthenticationMethod.KUBERNETES));
+
+		assertThat(sessionManager.getVaultToken().block()).isEqualTo(LoginToken.of("first"));
+
+		VaultToken token = sessionManager.relogin().block();
+
+		assertThat(token).isEqualTo(LoginToken.of("second"));
+		assertThat(sessionManager.getVaultToken().block()).isEqualTo(LoginToken.of("second"));
+		verifyNoInteractions(this.webClient);
+	}
+
+	private InstrumentedSessionManager createSessionManager() {
+		return new InstrumentedSessionManager(this.clientAuthentication, this.taskScheduler, this.restOperations,
+				new FixedTimeoutRefreshTrigger(Duration.ofSeconds(5), Duration.ofSeconds(7)),
+				new SessionInstrumentation(VaultProperties.AuthenticationMethod.APPROLE));
+	}
+
+}
@@ -0,0 +1,181 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.vault.config;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import org.springframework.scheduling.TaskScheduler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Unit tests for {@link LoginMaterialCache}.
+ *
+ * @author Mark Paluch
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class LoginMaterialCacheUnitTests {
+
+	static final Instant NOW = Instant.ofEpochSecond(1000);
+
+	@Mock
+	TaskScheduler taskScheduler;
+
+	AtomicInteger loads = new AtomicInteger();
+
+	LoginMaterialCache<String> cache;
+
+	@BeforeEach
+	void before() {
+
+		this.cache = new LoginMaterialCache<>("test material", () -> "material-" + this.loads.incrementAndGet(),
+				value -> NOW.plusSeconds(100), Duration.ofSeconds(50), this.taskScheduler);
+		this.cache.setClock(Clock.fixed(NOW, ZoneOffset.UTC));
+	}
+
+	@Test
+	public void shouldCacheMaterial() {
+
+		assertThat(this.cache.get()).isEqualTo("material-1");
+		assertThat(this.cache.get()).isEqualTo("material-1");
+		assertThat(this.loads).hasValue(1);
+	}
+
+	@Test
+	public void shouldSchedulePrefetchBeforeExpiry() {
+
+		this.cache.get();
+
+		verify(this.taskScheduler).schedule(any(Runnable.class), eq(NOW.plusSeconds(80)));
+	}
+
+	@Test
+	public void prefetchShouldReplaceMaterial() {
+
+		this.cache.get();
+		this.cache.setClock(Clock.fixed(NOW.plusSeconds(80), ZoneOffset.UTC));
+		this.cache.prefetch();
+
+		assertThat(this.cache.get()).isEqualTo("material-2");
+		verify(this.taskScheduler).schedule(any(Runnable.class), eq(NOW.plusSeconds(96)));
+	}
+
+	@Test
+	public void shouldReloadMaterialCloseToExpiry() {
+
+		this.cache.get();
+		this.cache.setClock(Clock.fixed(NOW.plusSeconds(89), ZoneOffset.UTC));
+
+		assertThat(this.cache.get()).isEqualTo("material-1");
+
+		this.cache.setClock(Clock.fixed(NOW.plusSeconds(90), ZoneOffset.UTC));
+
+		assertThat(this.cache.get()).isEqualTo("material-2");
+	}
+
+	@Test
+	public void shouldUseTimeToLiveForMaterialWithoutExpiry() {
+
+		LoginMaterialCache<String> cache = new LoginMaterialCache<>("test material",
+				() -> "material-" + this.loads.incrementAndGet(), value -> null, Duration.ofSeconds(50),
+				this.taskScheduler);
+		cache.setClock(Clock.fixed(NOW, ZoneOffset.UTC));
+
+		cache.get();
+
+		verify(this.taskScheduler).schedule(any(Runnable.class), eq(NOW.plusSeconds(40)));
+	}
+
+	@Test
+	public void shouldSchedulePrefetchOnceSchedulerIsAvailable() {
+
+		AtomicReference<TaskScheduler> taskScheduler = new AtomicReference<>();
+		LoginMaterialCache<String> cache = new LoginMaterialCache<>("test material",
+				() -> "material-" + this.loads.incrementAndGet(), value -> NOW.plusSeconds(100),
+				Duration.ofSeconds(50), taskScheduler::get);
+		cache.setClock(Clock.fixed(NOW, ZoneOffset.UTC));
+
+		assertThat(cache.get()).isEqualTo("material-1");
+
+		taskScheduler.set(this.taskScheduler);
+
+		assertThat(cache.get()).isEqualTo("material-1");
+		assertThat(cache.get()).isEqualTo("material-1");
+		verify(this.taskScheduler).schedule(any(Runnable.class), eq(NOW.plusSeconds(80)));
+	}
+
+	@Test
+	public void evictShouldForceReload() {
+
+		this.cache.get();
+		this.cache.evict();
+
+		assertThat(this.cache.get()).isEqualTo("material-2");
+	}
+
+	@Test
+	public void failedPrefetchShouldRetainMaterialAndRetry() {
+
+		AtomicInteger attempts = new AtomicInteger();
+		LoginMaterialCache<String> cache = new LoginMaterialCache<>("test material", () -> {
+			if (attempts.incrementAndGet() > 1) {
+				throw new IllegalStateException("throttled");
+			}
+			return "material";
+		}, value -> NOW.plusSeconds(100), Duration.ofSeconds(50), this.taskScheduler);
+		cache.setClock(Clock.fixed(NOW, ZoneOffset.UTC));
+		cache.get();
+
+		cache.setClock(Clock.fixed(NOW.plusSeconds(80), ZoneOffset.UTC));
+		cache.prefetch();
+
+		assertThat(cache.get()).isEqualTo("material");
+		verify(this.taskScheduler).schedule(any(Runnable.class), eq(NOW.plusSeconds(85)));
+	}
+
+	@Test
+	public void shouldNotPrefetchExpiredMaterial() {
+
+		LoginMaterialCache<String> cache = new LoginMaterialCache<>("test material",
+				() -> "material-" + this.loads.incrementAndGet(), value -> NOW.minusSeconds(1), Duration.ofSeconds(50),
+				this.taskScheduler);
+		cache.setClock(Clock.fixed(NOW, ZoneOffset.UTC));
+
+		assertThat(cache.get()).isEqualTo("material-1");
+		assertThat(cache.get()).isEqualTo("material-2");
+		verify(this.taskScheduler, never()).schedule(any(Runnable.class), any(Instant.class));
+	}
+
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.springframework.cloud.vault.config;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.vault.VaultException;
+import org.springframework.test.web.client.ExpectedCount;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.vault.authentication.AzureMsiAuthenticationOptions;
+import org.springframework.vault.support.VaultToken;
+import org.springframework.web.client.RestTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.Mockito.mock;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withStatus;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+/**
+ * Unit tests for {@link LoginMaterialCachingAuthentication}.
+ *
+ * @author Mark Paluch
+ */
+public class LoginMaterialCachingAuthenticationUnitTests {
+
+	AzureMsiAuthenticationOptions options = AzureMsiAuthenticationOptions.builder().role("role").build();
+
+	RestTemplate vaultRestTemplate = new RestTemplate();
+
+	RestTemplate metadataRestTemplate = new RestTemplate();
+
+	MockRestServiceServer vault;
+
+	MockRestServiceServer metadata;
+
+	LoginMaterialCachingAuthentication.AzureMsi authentication;
+
+	@BeforeEach
+	void before() {
+
+		this.vault = MockRestServiceServer.bindTo(this.vaultRestTemplate).build();
+		this.metadata = MockRestServiceServer.bindTo(this.metadataRestTemplate).build();
+
+		this.authentication = new LoginMaterialCachingAuthentication.AzureMsi(this.options, this.vaultRestTemplate,
+				this.metadataRestTemplate, Duration.ofHours(1), () -> mock(TaskScheduler.class));
+	}
+
+	@Test
+	public void shouldReuseAzureAccessTokenAndInstanceMetadata() {
+
+		expectMetadata();
+		this.vault.expect(ExpectedCount.twice(), requestTo("/auth/azure/login"))
+			.andRespond(withSuccess("{\"auth\": {\"client_token\": \"s.token\", \"lease_duration\": 60}}",
+					MediaType.APPLICATION_JSON));
+
+		VaultToken first = this.authentication.login();
+		VaultToken second = this.authentication.login();
+
+		assertThat(first.getToken()).isEqualTo("s.token");
+		assertThat(second.getToken()).isEqualTo("s.token");
+		this.metadata.verify();
+		this.vault.verify();
+	}
+
+	@Test
+	public void shouldEvictMetadataIfLoginFails() {
+
+		expectMetadata();
+		expectMetadata();
+		this.vault.expect(requestTo("/auth/azure/login")).andRespond(withStatus(HttpStatus.BAD_REQUEST));
+		this.vault.expect(requestTo("/auth/azure/login"))
+			.andRespond(withSuccess("{\"auth\": {\"client_token\": \"s.token\"}}", MediaType.APPLICATION_JSON));
+
+		assertThatExceptionOfType(VaultException.class).isThrownBy(this.authentication::login);
+		assertThat(this.authentication.login().getToken()).isEqualTo("s.token");
+		this.metadata.verify();
+		this.vault.verify();
+	}
+
+	private void expectMetadata() {
+
+		String claims = "{\"exp\": %d}".formatted(Instant.now().plusSeconds(3600).getEpochSecond());
+		String jwt = "header.%s.signature".formatted(
+				Base64.getUrlEncoder().withoutPadding().encodeToString(claims.getBytes(StandardCharsets.UTF_8)));
+
+		this.metadata.expect(ExpectedCount.once(), requestTo(this.options.getInstanceMetadataServiceUri()))
+			.andExpect(method(HttpMethod.GET))
+			.andRespond(withSuccess(
+					"{\"compute\": {\"subscriptionId\": \"sub\", \"resourceGroupName\": \"rg\", \"name\": \"vm\", \"vmScaleSetName\": \"\"}}",
+					MediaType.APPLICATION_JSON));
+		this.metadata.expect(ExpectedCount.once(), requestTo(this.options.getIdentityTokenServiceUri()))
+			.andExpect(method(HttpMethod.GET))
+			.andRespond(withSuccess("{\"access_token\": \"%s\"}".formatted(jwt), MediaType.APPLICATION_JSON));
+	}
+
+}
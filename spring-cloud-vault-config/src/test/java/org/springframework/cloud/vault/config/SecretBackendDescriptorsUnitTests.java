@@ -0,0 +1,143 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.vault.config;
+
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.MapConfigurationPropertySource;
+import org.springframework.core.io.ByteArrayResource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link SecretBackendDescriptors}.
+ *
+ * @author Mark Paluch
+ */
+public class SecretBackendDescriptorsUnitTests {
+
+	@Test
+	void shouldBindDescriptorsAndFactories() {
+
+		SecretBackendDescriptors descriptors = new SecretBackendDescriptors(createPrefixes());
+
+		List<VaultSecretBackendDescriptor> bound = descriptors.bind(createBinder());
+
+		assertThat(bound).hasSize(3);
+		assertThat(bound.get(0).getBackend()).isEqualTo("database");
+		assertThat(bound.get(0).isEnabled()).isTrue();
+		assertThat(bound).extracting(VaultSecretBackendDescriptor::getBackend)
+			.containsExactly("database", "first", "second");
+	}
+
+	@Test
+	void shouldRoundTripIndex() {
+
+		SecretBackendDescriptors descriptors = new SecretBackendDescriptors(createPrefixes());
+		String index = descriptors.toIndex();
+
+		SecretBackendDescriptors restored = SecretBackendDescriptors.fromIndex(
+				new ByteArrayResource(index.getBytes(StandardCharsets.ISO_8859_1)), getClass().getClassLoader());
+
+		assertThat(restored.getTypes()).containsExactly(TestDescriptor.class, TestDescriptorFactory.class);
+		assertThat(restored.bind(createBinder())).extracting(VaultSecretBackendDescriptor::getBackend)
+			.containsExactly("database", "first", "second");
+	}
+
+	@Test
+	void shouldCacheDiscoveredDescriptors() {
+
+		ClassLoader classLoader = getClass().getClassLoader();
+
+		assertThat(SecretBackendDescriptors.get(classLoader)).isSameAs(SecretBackendDescriptors.get(classLoader));
+	}
+
+	private static Map<Class<?>, String> createPrefixes() {
+
+		Map<Class<?>, String> prefixes = new LinkedHashMap<>();
+		prefixes.put(TestDescriptor.class, "test.descriptor");
+		prefixes.put(TestDescriptorFactory.class, "test.factory");
+		return prefixes;
+	}
+
+	private static Binder createBinder() {
+
+		Map<String, String> properties = Map.of("test.descriptor.enabled", "true", "test.descriptor.backend",
+				"database", "test.factory.backends", "first,second");
+
+		return new Binder(new MapConfigurationPropertySource(properties));
+	}
+
+	@ConfigurationProperties("test.descriptor")
+	public static class TestDescriptor implements VaultSecretBackendDescriptor {
+
+		private String backend = "test";
+
+		private boolean enabled;
+
+		@Override
+		public String getBackend() {
+			return this.backend;
+		}
+
+		public void setBackend(String backend) {
+			this.backend = backend;
+		}
+
+		@Override
+		public boolean isEnabled() {
+			return this.enabled;
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+	}
+
+	@ConfigurationProperties("test.factory")
+	public static class TestDescriptorFactory implements VaultSecretBackendDescriptorFactory {
+
+		private List<String> backends = List.of();
+
+		public List<String> getBackends() {
+			return this.backends;
+		}
+
+		public void setBackends(List<String> backends) {
+			this.backends = backends;
+		}
+
+		@Override
+		public List<VaultSecretBackendDescriptor> create() {
+			return this.backends.stream().map(backend -> {
+				TestDescriptor descriptor = new TestDescriptor();
+				descriptor.setBackend(backend);
+				return (VaultSecretBackendDescriptor) descriptor;
+			}).toList();
+		}
+
+	}
+
+}
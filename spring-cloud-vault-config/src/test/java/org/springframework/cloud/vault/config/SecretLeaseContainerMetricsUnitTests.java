@@ -0,0 +1,183 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.vault.config;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.vault.core.VaultOperations;
+import org.springframework.vault.core.lease.SecretLeaseContainer;
+import org.springframework.vault.core.lease.domain.Lease;
+import org.springframework.vault.core.lease.domain.RequestedSecret;
+import org.springframework.vault.support.LeaseStrategy;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link SecretLeaseContainerMetrics}.
+ *
+ * @author Mark Paluch
+ */
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class SecretLeaseContainerMetricsUnitTests {
+
+	@Mock
+	VaultOperations vaultOperations;
+
+	@Mock
+	TaskScheduler taskScheduler;
+
+	SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+	InstrumentedSecretLeaseContainer container;
+
+	RequestedSecret secret = RequestedSecret.rotating("database/creds/readonly");
+
+	@BeforeEach
+	public void before() {
+
+		this.container = new InstrumentedSecretLeaseContainer(this.vaultOperations, this.taskScheduler);
+		this.container.setClock(Clock.fixed(Instant.ofEpochSecond(1000), ZoneOffset.UTC));
+		this.container.setLeaseStrategy(LeaseStrategy.retainOnIoError());
+	}
+
+	@Test
+	public void shouldReportActiveLeasesAndExpiry() {
+
+		new SecretLeaseContainerMetrics(this.container, this.container.getLeaseStrategy()).bindTo(this.registry);
+
+		this.container.onSecretsObtained(this.secret, Lease.of("lease-1", Duration.ofMinutes(5), true),
+				Collections.emptyMap());
+
+		assertThat(this.registry.get("vault.lease.active").tag("path", "database/creds/{role}").gauge().value())
+			.isEqualTo(1);
+		assertThat(this.registry.get("vault.lease.expiry")
+			.tag("path", "database/creds/{role}")
+			.timeGauge()
+			.value(TimeUnit.SECONDS)).isEqualTo(300);
+
+		this.container.onLeaseExpired(this.secret, Lease.of("lease-1", Duration.ofMinutes(5), true));
+
+		assertThat(this.registry.get("vault.lease.active").gauge().value()).isZero();
+		assertThat(this.registry.get("vault.lease.expirations").counter().count()).isEqualTo(1);
+	}
+
+	@Test
+	public void shouldReportLeasesObtainedBeforeBinding() {
+
+		this.container.onSecretsObtained(this.secret, Lease.of("lease-1", Duration.ofMinutes(5), true),
+				Collections.emptyMap());
+
+		new SecretLeaseContainerMetrics(this.container, this.container.getLeaseStrategy()).bindTo(this.registry);
+
+		assertThat(this.registry.get("vault.lease.active").tag("path", "database/creds/{role}").gauge().value())
+			.isEqualTo(1);
+	}
+
+	@Test
+	public void shouldCountRenewalsAndRotations() {
+
+		new SecretLeaseContainerMetrics(this.container, this.container.getLeaseStrategy()).bindTo(this.registry);
+
+		Lease lease = Lease.of("lease-1", Duration.ofMinutes(5), true);
+		this.container.onSecretsObtained(this.secret, lease, Collections.emptyMap());
+		this.container.onAfterLeaseRenewed(this.secret, lease);
+		this.container.onSecretsRotated(this.secret, lease, Lease.of("lease-2", Duration.ofMinutes(5), true),
+				Collections.emptyMap());
+
+		assertThat(this.registry.get("vault.lease.renewals").counter().count()).isEqualTo(1);
+		assertThat(this.registry.get("vault.lease.rotations").counter().count()).isEqualTo(1);
+	}
+
+	@Test
+	public void shouldTimeRotationRequests() {
+
+		new SecretLeaseContainerMetrics(this.container, this.container.getLeaseStrategy()).bindTo(this.registry);
+
+		this.container.onSecretsObtained(this.secret, Lease.of("lease-1", Duration.ofMinutes(5), true),
+				Collections.emptyMap());
+		this.container.doGetSecrets(this.secret);
+
+		assertThat(this.registry.get("vault.lease.rotation").tag("path", "database/creds/{role}").timer().count())
+			.isEqualTo(1);
+	}
+
+	@Test
+	public void shouldTagErrorsWithLeaseStrategyOutcome() {
+
+		new SecretLeaseContainerMetrics(this.container, this.container.getLeaseStrategy()).bindTo(this.registry);
+
+		Lease lease = Lease.of("lease-1", Duration.ofMinutes(5), true);
+		this.container.onError(this.secret, lease, new IllegalStateException());
+		this.container.onError(this.secret, lease, new IllegalStateException(new IOException()));
+
+		assertThat(this.registry.get("vault.lease.errors").tag("outcome", "dropped").counter().count()).isEqualTo(1);
+		assertThat(this.registry.get("vault.lease.errors").tag("outcome", "retained").counter().count())
+			.isEqualTo(1);
+		assertThat(this.container.getLeaseStates()).hasSize(1)
+			.first()
+			.extracting(InstrumentedSecretLeaseContainer.LeaseState::getConsecutiveErrors)
+			.isEqualTo(2);
+	}
+
+	@Test
+	public void shouldTagMetricsWithContainerName() {
+
+		InstrumentedSecretLeaseContainer other = new InstrumentedSecretLeaseContainer(this.vaultOperations,
+				this.taskScheduler);
+		Map<String, SecretLeaseContainer> containers = new LinkedHashMap<>();
+		containers.put("secretLeaseContainer", this.container);
+		containers.put("otherLeaseContainer", other);
+
+		new SecretLeaseContainerMetrics(containers, it -> LeaseStrategy.dropOnError()).bindTo(this.registry);
+
+		Lease lease = Lease.of("lease-1", Duration.ofMinutes(5), true);
+		other.onSecretsObtained(this.secret, lease, Collections.emptyMap());
+		other.onAfterLeaseRenewed(this.secret, lease);
+
+		assertThat(this.registry.get("vault.lease.renewals").tag("container", "otherLeaseContainer").counter().count())
+			.isEqualTo(1);
+		assertThat(this.registry.find("vault.lease.renewals").tag("container", "secretLeaseContainer").counter())
+			.isNull();
+	}
+
+	@Test
+	public void shouldRegisterEventCountersOnlyForNonInstrumentedContainer() {
+
+		SecretLeaseContainer container = new SecretLeaseContainer(this.vaultOperations, this.taskScheduler);
+
+		new SecretLeaseContainerMetrics(container, LeaseStrategy.dropOnError()).bindTo(this.registry);
+
+		assertThat(this.registry.find("vault.lease.active").gauge()).isNull();
+	}
+
+}
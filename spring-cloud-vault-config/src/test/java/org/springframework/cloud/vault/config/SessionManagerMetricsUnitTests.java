@@ -0,0 +1,192 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.vault.config;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import reactor.core.publisher.Mono;
+
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.vault.authentication.ClientAuthentication;
+import org.springframework.vault.authentication.LifecycleAwareSessionManagerSupport.FixedTimeoutRefreshTrigger;
+import org.springframework.vault.authentication.LoginToken;
+import org.springframework.vault.authentication.VaultLoginException;
+import org.springframework.vault.authentication.event.AfterLoginEvent;
+import org.springframework.web.client.RestOperations;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for {@link SessionManagerMetrics}.
+ *
+ * @author Mark Paluch
+ */
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class SessionManagerMetricsUnitTests {
+
+	@Mock
+	ClientAuthentication clientAuthentication;
+
+	@Mock
+	TaskScheduler taskScheduler;
+
+	@Mock
+	RestOperations restOperations;
+
+	@Mock
+	WebClient webClient;
+
+	SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+	SessionInstrumentation instrumentation = new SessionInstrumentation(VaultProperties.AuthenticationMethod.APPROLE);
+
+	InstrumentedSessionManager sessionManager;
+
+	@BeforeEach
+	public void before() {
+
+		this.instrumentation.setClock(Clock.fixed(Instant.ofEpochSecond(1000), ZoneOffset.UTC));
+		this.sessionManager = new InstrumentedSessionManager(this.clientAuthentication, this.taskScheduler,
+				this.restOperations, new FixedTimeoutRefreshTrigger(Duration.ofSeconds(5), Duration.ofSeconds(7)),
+				this.instrumentation);
+
+		new SessionManagerMetrics(List.of(this.instrumentation)).bindTo(this.registry);
+	}
+
+	@Test
+	public void shouldReportLoginAndTokenTtl() {
+
+		when(this.clientAuthentication.login()).thenReturn(LoginToken.of("token".toCharArray(), Duration.ofMinutes(5)));
+
+		this.sessionManager.getSessionToken();
+		this.sessionManager.getSessionToken();
+
+		assertThat(this.registry.get("vault.session.login")
+			.tag("method", "approle")
+			.tag("outcome", "success")
+			.timer().count()).isEqualTo(1);
+		assertThat(this.registry.get("vault.session.token.wait").timer().count()).isEqualTo(1);
+		assertThat(this.registry.get("vault.session.relogins").counter().count()).isZero();
+		assertThat(this.registry.get("vault.session.token.ttl").timeGauge().value(TimeUnit.SECONDS)).isEqualTo(300);
+	}
+
+	@Test
+	public void shouldCountRelogins() {
+
+		LoginToken token = LoginToken.of("token".toCharArray(), Duration.ofMinutes(5));
+		when(this.clientAuthentication.login()).thenReturn(token);
+
+		this.sessionManager.getSessionToken();
+		this.sessionManager.revoke();
+
+		assertThat(this.registry.get("vault.session.token.ttl").timeGauge().value(TimeUnit.SECONDS)).isNaN();
+
+		this.sessionManager.getSessionToken();
+
+		assertThat(this.registry.get("vault.session.login").tag("outcome", "success").timer().count()).isEqualTo(2);
+		assertThat(this.registry.get("vault.session.relogins").counter().count()).isEqualTo(1);
+	}
+
+	@Test
+	public void shouldReportReactiveLogin() {
+
+		SessionInstrumentation instrumentation = new SessionInstrumentation(VaultProperties.AuthenticationMethod.KUBERNETES);
+		new SessionManagerMetrics(List.of(instrumentation)).bindTo(this.registry);
+
+		InstrumentedReactiveSessionManager sessionManager = new InstrumentedReactiveSessionManager(
+				() -> Mono.just(LoginToken.of("token".toCharArray(), Duration.ofMinutes(5))), this.taskScheduler,
+				this.webClient, new FixedTimeoutRefreshTrigger(Duration.ofSeconds(5), Duration.ofSeconds(7)),
+				instrumentation);
+
+		sessionManager.getVaultToken().block();
+		sessionManager.getVaultToken().block();
+
+		assertThat(this.registry.get("vault.session.login")
+			.tag("method", "kubernetes")
+			.tag("outcome", "success")
+			.timer().count())
+			.isEqualTo(1);
+		assertThat(this.registry.get("vault.session.token.wait").tag("method", "kubernetes").timer().count())
+			.isEqualTo(1);
+		assertThat(instrumentation.getRemainingTtl()).isNotNull();
+	}
+
+	@Test
+	public void shouldTagLoginWithOutcome() {
+
+		when(this.clientAuthentication.login()).thenThrow(new VaultLoginException("denied"))
+			.thenReturn(LoginToken.of("token".toCharArray(), Duration.ofMinutes(5)));
+
+		assertThatExceptionOfType(VaultLoginException.class).isThrownBy(this.sessionManager::getSessionToken);
+		this.sessionManager.getSessionToken();
+
+		assertThat(this.registry.get("vault.session.login").tag("outcome", "failure").timer().count()).isEqualTo(1);
+		assertThat(this.registry.get("vault.session.login").tag("outcome", "success").timer().count()).isEqualTo(1);
+	}
+
+	@Test
+	public void shouldTagMetricsWithCurrentMethod() {
+
+		AtomicReference<String> method = new AtomicReference<>("chain");
+		SessionInstrumentation instrumentation = new SessionInstrumentation(method::get);
+		new SessionManagerMetrics(List.of(instrumentation)).bindTo(this.registry);
+
+		method.set("kubernetes");
+		instrumentation.loginCompleted(Duration.ofMillis(10), true);
+		method.set("approle");
+		instrumentation.loginCompleted(Duration.ofMillis(10), true);
+		instrumentation.onAuthenticationEvent(
+				new AfterLoginEvent(LoginToken.of("token".toCharArray(), Duration.ofMinutes(5))));
+
+		assertThat(this.registry.get("vault.session.login")
+			.tag("method", "kubernetes")
+			.tag("outcome", "success")
+			.timer().count())
+			.isEqualTo(1);
+		assertThat(this.registry.get("vault.session.relogins").tag("method", "approle").counter().count())
+			.isEqualTo(1);
+		assertThat(this.registry.get("vault.session.token.ttl")
+			.tag("method", "kubernetes")
+			.timeGauge()
+			.value(TimeUnit.SECONDS)).isNaN();
+		assertThat(this.registry.get("vault.session.token.ttl")
+			.tag("method", "approle")
+			.timeGauge()
+			.value(TimeUnit.SECONDS)).isPositive();
+	}
+
+	@Test
+	public void shouldNotReportTtlWithoutToken() {
+		assertThat(this.registry.get("vault.session.token.ttl").timeGauge().value(TimeUnit.SECONDS)).isNaN();
+	}
+
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.vault.config;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import org.springframework.http.HttpEntity;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.vault.authentication.ClientAuthentication;
+import org.springframework.vault.authentication.LoginToken;
+import org.springframework.vault.support.VaultToken;
+import org.springframework.web.client.RestTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for {@link SpeculativeLogin}.
+ *
+ * @author Mark Paluch
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class SpeculativeLoginUnitTests {
+
+	@Mock
+	ClientHttpRequestFactory requestFactory;
+
+	@Mock
+	RestTemplate restTemplate;
+
+	@Mock
+	ClientAuthentication clientAuthentication;
+
+	@Test
+	void shouldReturnPrefetchedTokenOnce() {
+
+		VaultToken prefetched = LoginToken.of("prefetched");
+		when(this.clientAuthentication.login()).thenReturn(LoginToken.of("regular"));
+
+		SpeculativeLogin speculativeLogin = create(CompletableFuture.completedFuture(prefetched));
+		ClientAuthentication decorated = speculativeLogin.decorate(speculativeLogin.getClientAuthentication());
+
+		assertThat(decorated.login()).isSameAs(prefetched);
+		assertThat(decorated.login()).isEqualTo(LoginToken.of("regular"));
+		assertThat(SpeculativeLogin.PrefetchedAuthentication.unwrap(decorated)).isSameAs(this.clientAuthentication);
+	}
+
+	@Test
+	void shouldFallBackToRegularLoginIfEarlyLoginFailed() {
+
+		when(this.clientAuthentication.login()).thenReturn(LoginToken.of("regular"));
+
+		SpeculativeLogin speculativeLogin = create(CompletableFuture.failedFuture(new IllegalStateException()));
+		ClientAuthentication decorated = speculativeLogin.decorate(speculativeLogin.getClientAuthentication());
+
+		assertThat(decorated.login()).isEqualTo(LoginToken.of("regular"));
+	}
+
+	@Test
+	void shouldNotDecorateOtherClientAuthentication() {
+
+		SpeculativeLogin speculativeLogin = create(CompletableFuture.completedFuture(LoginToken.of("prefetched")));
+		ClientAuthentication other = () -> LoginToken.of("other");
+
+		assertThat(speculativeLogin.decorate(other)).isSameAs(other);
+	}
+
+	@Test
+	void shouldReturnNullIfClientInitializationFailed() {
+
+		SpeculativeLogin speculativeLogin = new SpeculativeLogin(
+				CompletableFuture.failedFuture(new IllegalStateException()),
+				CompletableFuture.failedFuture(new IllegalStateException()),
+				CompletableFuture.failedFuture(new IllegalStateException()), null, null);
+
+		assertThat(speculativeLogin.getRequestFactory()).isNull();
+		assertThat(speculativeLogin.getClientAuthentication()).isNull();
+		assertThat(speculativeLogin.claimToken()).isNull();
+	}
+
+	@Test
+	void discardShouldRevokeUnclaimedToken() {
+
+		VaultToken prefetched = LoginToken.of("prefetched");
+		SpeculativeLogin speculativeLogin = create(CompletableFuture.completedFuture(prefetched));
+
+		speculativeLogin.discard();
+
+		verify(this.restTemplate).postForObject(eq("auth/token/revoke-self"), any(HttpEntity.class), eq(Map.class));
+		assertThat(speculativeLogin.claimToken()).isNull();
+	}
+
+	@Test
+	void discardShouldNotRevokeClaimedToken() {
+
+		SpeculativeLogin speculativeLogin = create(CompletableFuture.completedFuture(LoginToken.of("prefetched")));
+		speculativeLogin.claimToken();
+
+		speculativeLogin.discard();
+
+		verify(this.restTemplate, never()).postForObject(any(String.class), any(), eq(Map.class));
+	}
+
+	@Test
+	void shouldTerminateInitializationThread() throws InterruptedException {
+
+		VaultProperties properties = new VaultProperties();
+		properties.setAuthentication(VaultProperties.AuthenticationMethod.NONE);
+
+		SpeculativeLogin speculativeLogin = SpeculativeLogin.start(properties);
+
+		assertThat(speculativeLogin.getRequestFactory()).isNotNull();
+
+		for (int i = 0; i < 100 && isInitializationThreadAlive(); i++) {
+			Thread.sleep(50);
+		}
+
+		assertThat(isInitializationThreadAlive()).isFalse();
+	}
+
+	private static boolean isInitializationThreadAlive() {
+		return Thread.getAllStackTraces()
+			.keySet()
+			.stream()
+			.anyMatch(thread -> thread.getName().startsWith("vault-early-login-") && thread.isAlive());
+	}
+
+	private SpeculativeLogin create(CompletableFuture<VaultToken> token) {
+		return new SpeculativeLogin(CompletableFuture.completedFuture(this.requestFactory),
+				CompletableFuture.completedFuture(this.restTemplate), CompletableFuture.completedFuture(null),
+				CompletableFuture.completedFuture(this.clientAuthentication), token);
+	}
+
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.vault.config;
+
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.vault.authentication.ClientAuthentication;
+import org.springframework.vault.authentication.LoginToken;
+import org.springframework.vault.authentication.event.AfterLoginEvent;
+import org.springframework.vault.authentication.event.AfterLoginTokenRevocationEvent;
+import org.springframework.vault.support.VaultResponse;
+import org.springframework.vault.support.VaultToken;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestOperations;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for {@link TokenCachingAuthentication}.
+ *
+ * @author Mark Paluch
+ */
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class TokenCachingAuthenticationUnitTests {
+
+	static final Instant NOW = Instant.ofEpochSecond(1000);
+
+	@TempDir
+	Path tempDir;
+
+	@Mock
+	RestOperations restOperations;
+
+	@Mock
+	ClientAuthentication delegate;
+
+	VaultTokenCache cache;
+
+	TokenCachingAuthentication authentication;
+
+	@BeforeEach
+	void before() {
+
+		this.cache = new VaultTokenCache(this.tempDir.resolve("app.token"), "password", "scope");
+		this.authentication = new TokenCachingAuthentication(this.cache, Duration.ofSeconds(10));
+		this.authentication.setClock(Clock.fixed(NOW, ZoneOffset.UTC));
+
+		when(this.delegate.login()).thenReturn(LoginToken.of("s.login".toCharArray(), Duration.ofMinutes(5)));
+	}
+
+	@Test
+	public void shouldLoginWithoutCachedToken() {
+
+		VaultToken token = this.authentication.createClientAuthentication(this.delegate, this.restOperations).login();
+
+		assertThat(token.getToken()).isEqualTo("s.login");
+		verify(this.restOperations, never()).exchange(any(String.class), any(HttpMethod.class), any(HttpEntity.class),
+				eq(VaultResponse.class));
+	}
+
+	@Test
+	public void shouldReuseCachedToken() {
+
+		this.cache.write(VaultToken.of("s.cached"), NOW.plusSeconds(300));
+
+		VaultResponse response = new VaultResponse();
+		response.setData(Map.of("ttl", 240, "renewable", true, "accessor", "accessor-1"));
+		when(this.restOperations.exchange(eq("auth/token/lookup-self"), eq(HttpMethod.GET), any(HttpEntity.class),
+				eq(VaultResponse.class)))
+			.thenReturn(ResponseEntity.ok(response));
+
+		VaultToken token = this.authentication.createClientAuthentication(this.delegate, this.restOperations).login();
+
+		assertThat(token).isInstanceOf(LoginToken.class);
+		assertThat(token.getToken()).isEqualTo("s.cached");
+		assertThat(((LoginToken) token).getLeaseDuration()).isEqualTo(Duration.ofSeconds(240));
+		assertThat(((LoginToken) token).isRenewable()).isTrue();
+		verify(this.delegate, never()).login();
+	}
+
+	@Test
+	public void shouldBypassCacheOnNextLoginOnly() {
+
+		this.cache.write(VaultToken.of("s.cached"), NOW.plusSeconds(300));
+
+		VaultResponse response = new VaultResponse();
+		response.setData(Map.of("ttl", 240));
+		when(this.restOperations.exchange(eq("auth/token/lookup-self"), eq(HttpMethod.GET), any(HttpEntity.class),
+				eq(VaultResponse.class)))
+			.thenReturn(ResponseEntity.ok(response));
+
+		ClientAuthentication clientAuthentication = this.authentication.createClientAuthentication(this.delegate,
+				this.restOperations);
+		this.authentication.bypassNextLogin();
+
+		assertThat(clientAuthentication.login().getToken()).isEqualTo("s.login");
+		assertThat(clientAuthentication.login().getToken()).isEqualTo("s.cached");
+	}
+
+	@Test
+	public void shouldNotReuseTokenExpiringSoon() {
+
+		this.cache.write(VaultToken.of("s.cached"), NOW.plusSeconds(5));
+
+		VaultToken token = this.authentication.createClientAuthentication(this.delegate, this.restOperations).login();
+
+		assertThat(token.getToken()).isEqualTo("s.login");
+	}
+
+	@Test
+	public void shouldFallBackToLoginIfLookupFails() {
+
+		this.cache.write(VaultToken.of("s.cached"), NOW.plusSeconds(300));
+		when(this.restOperations.exchange(eq("auth/token/lookup-self"), eq(HttpMethod.GET), any(HttpEntity.class),
+				eq(VaultResponse.class)))
+			.thenThrow(new HttpClientErrorException(HttpStatus.FORBIDDEN));
+
+		VaultToken token = this.authentication.createClientAuthentication(this.delegate, this.restOperations).login();
+
+		assertThat(token.getToken()).isEqualTo("s.login");
+		assertThat(this.cache.getFile()).doesNotExist();
+	}
+
+	@Test
+	public void shouldUpdateCacheFromAuthenticationEvents() {
+
+		this.authentication
+			.onAuthenticationEvent(new AfterLoginEvent(LoginToken.of("s.login".toCharArray(), Duration.ofMinutes(5))));
+
+		assertThat(this.cache.read(NOW).getToken().getToken()).isEqualTo("s.login");
+		assertThat(this.cache.read(NOW).getExpiry()).isEqualTo(NOW.plus(Duration.ofMinutes(5)));
+
+		this.authentication.onAuthenticationEvent(new AfterLoginTokenRevocationEvent(VaultToken.of("s.login")));
+
+		assertThat(this.cache.read(NOW)).isNull();
+	}
+
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.vault.config;
+
+import java.net.URI;
+
+import io.micrometer.common.KeyValue;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.observation.ClientRequestObservationContext;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link VaultClientRequestObservationConvention}.
+ *
+ * @author Mark Paluch
+ */
+public class VaultClientRequestObservationConventionUnitTests {
+
+	VaultClientRequestObservationConvention convention = new VaultClientRequestObservationConvention();
+
+	@Test
+	public void shouldUsePathTemplate() {
+
+		MockClientHttpRequest request = new MockClientHttpRequest(HttpMethod.GET,
+				URI.create("https://localhost:8200/v1/database/creds/readonly"));
+		ClientRequestObservationContext context = new ClientRequestObservationContext(request);
+
+		assertThat(this.convention.getLowCardinalityKeyValues(context)).contains(
+				KeyValue.of("uri", "database/creds/{role}"), KeyValue.of("vault.operation", "credentials"));
+		assertThat(this.convention.getContextualName(context)).isEqualTo("vault credentials");
+	}
+
+	@Test
+	public void shouldReportLogin() {
+
+		MockClientHttpRequest request = new MockClientHttpRequest(HttpMethod.POST,
+				URI.create("https://localhost:8200/v1/auth/userpass/login/walter"));
+		ClientRequestObservationContext context = new ClientRequestObservationContext(request);
+
+		assertThat(this.convention.getLowCardinalityKeyValues(context)).contains(
+				KeyValue.of("uri", "auth/userpass/login/{username}"), KeyValue.of("vault.operation", "login"));
+	}
+
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.vault.config;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.boot.bootstrap.DefaultBootstrapContext;
+import org.springframework.boot.context.config.ConfigData;
+import org.springframework.boot.logging.DeferredLogs;
+import org.springframework.core.env.PropertySource;
+import org.springframework.lang.Nullable;
+import org.springframework.vault.core.env.LeaseAwareVaultPropertySource;
+import org.springframework.vault.core.lease.SecretLeaseContainer;
+import org.springframework.vault.core.lease.domain.RequestedSecret;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for {@link VaultConfigDataLoader} using
+ * {@link VaultProperties.ConfigLifecycle.Mode#AUTO auto} lifecycle mode.
+ *
+ * @author Mark Paluch
+ */
+public class VaultConfigDataLoaderLifecycleUnitTests {
+
+	VaultConfigDataLoader loader = new VaultConfigDataLoader(new DeferredLogs());
+
+	DefaultBootstrapContext context = new DefaultBootstrapContext();
+
+	VaultConfigTemplate configTemplate = mock(VaultConfigTemplate.class);
+
+	VaultProperties properties = new VaultProperties();
+
+	@Test
+	void shouldReadStaticSecretsWithoutLeaseContainer() {
+
+		this.properties.getConfig().getLifecycle().setMode(VaultProperties.ConfigLifecycle.Mode.AUTO);
+		this.properties.getSession().getLifecycle().setEnabled(false);
+		when(this.configTemplate.read(any())).thenReturn(createSecrets(null, 0));
+		registerInfrastructure();
+
+		ConfigData configData = this.loader.load(() -> this.context, new VaultConfigLocation("secret/foo", true));
+
+		PropertySource<?> propertySource = configData.getPropertySources().get(0);
+		assertThat(propertySource).isInstanceOf(VaultPropertySource.class);
+		assertThat(propertySource.getProperty("key")).isEqualTo("value");
+		assertThat(this.context.isRegistered(SecretLeaseContainer.class)).isFalse();
+		assertThat(this.context.isRegistered(VaultAutoConfiguration.TaskSchedulerWrapper.class)).isFalse();
+	}
+
+	@Test
+	void shouldNotConsiderLeaseDurationOfStaticSecrets() {
+
+		this.properties.getConfig().getLifecycle().setMode(VaultProperties.ConfigLifecycle.Mode.AUTO);
+		this.properties.getSession().getLifecycle().setEnabled(false);
+		when(this.configTemplate.read(any())).thenReturn(createSecrets("", 2764800));
+		registerInfrastructure();
+
+		ConfigData configData = this.loader.load(() -> this.context, new VaultConfigLocation("secret/foo", true));
+
+		assertThat(configData.getPropertySources().get(0)).isInstanceOf(VaultPropertySource.class);
+		assertThat(this.context.isRegistered(SecretLeaseContainer.class)).isFalse();
+	}
+
+	@Test
+	void shouldUseLeaseContainerForSecretsWithLease() {
+
+		this.properties.getConfig().getLifecycle().setMode(VaultProperties.ConfigLifecycle.Mode.AUTO);
+		when(this.configTemplate.read(any())).thenReturn(createSecrets("secret/foo/1", 60));
+		InstrumentedSecretLeaseContainer container = mock(InstrumentedSecretLeaseContainer.class);
+		this.context.register(SecretLeaseContainer.class, it -> container);
+		registerInfrastructure();
+
+		ConfigData configData = this.loader.load(() -> this.context, new VaultConfigLocation("secret/foo", true));
+
+		assertThat(configData.getPropertySources().get(0)).isInstanceOf(LeaseAwareVaultPropertySource.class);
+		verify(container).revokeLease(eq(RequestedSecret.rotating("secret/foo")),
+				argThat(lease -> "secret/foo/1".equals(lease.getLeaseId())));
+		verify(container).addRequestedSecret(RequestedSecret.rotating("secret/foo"));
+	}
+
+	@Test
+	void shouldUseLeaseContainerByDefault() {
+
+		when(this.configTemplate.read(any())).thenReturn(createSecrets(null, 0));
+		SecretLeaseContainer container = mock(SecretLeaseContainer.class);
+		this.context.register(SecretLeaseContainer.class, it -> container);
+		registerInfrastructure();
+
+		ConfigData configData = this.loader.load(() -> this.context, new VaultConfigLocation("secret/foo", true));
+
+		assertThat(configData.getPropertySources().get(0)).isInstanceOf(LeaseAwareVaultPropertySource.class);
+	}
+
+	private void registerInfrastructure() {
+		this.properties.setAuthentication(VaultProperties.AuthenticationMethod.NONE);
+		this.context.register(VaultProperties.class, it -> this.properties);
+		this.context.register(VaultConfigTemplate.class, it -> this.configTemplate);
+	}
+
+	private static Secrets createSecrets(@Nullable String leaseId, long leaseDuration) {
+
+		Secrets secrets = new Secrets();
+		secrets.setData(Map.of("key", "value"));
+		secrets.setLeaseId(leaseId);
+		secrets.setLeaseDuration(leaseDuration);
+
+		return secrets;
+	}
+
+}
@@ -0,0 +1,191 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.vault.config;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import org.springframework.boot.health.contributor.Health;
+import org.springframework.boot.health.contributor.Status;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.vault.authentication.LoginToken;
+import org.springframework.vault.authentication.event.AfterLoginEvent;
+import org.springframework.vault.authentication.event.LoginTokenExpiredEvent;
+import org.springframework.vault.core.VaultOperations;
+import org.springframework.vault.core.lease.domain.Lease;
+import org.springframework.vault.core.lease.domain.RequestedSecret;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link VaultCredentialsHealthIndicator}.
+ *
+ * @author Mark Paluch
+ */
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class VaultCredentialsHealthIndicatorUnitTests {
+
+	static final Clock CLOCK = Clock.fixed(Instant.ofEpochSecond(1000), ZoneOffset.UTC);
+
+	@Mock
+	VaultOperations vaultOperations;
+
+	@Mock
+	TaskScheduler taskScheduler;
+
+	SessionInstrumentation session = new SessionInstrumentation(VaultProperties.AuthenticationMethod.KUBERNETES);
+
+	InstrumentedSecretLeaseContainer container;
+
+	VaultCredentialsHealthIndicator healthIndicator;
+
+	RequestedSecret secret = RequestedSecret.rotating("database/creds/readonly");
+
+	@BeforeEach
+	public void before() {
+
+		this.session.setClock(CLOCK);
+		this.container = new InstrumentedSecretLeaseContainer(this.vaultOperations, this.taskScheduler);
+		this.container.setClock(CLOCK);
+
+		this.healthIndicator = new VaultCredentialsHealthIndicator(List.of(this.session), List.of(this.container),
+				Duration.ofSeconds(10));
+		this.healthIndicator.setClock(CLOCK);
+	}
+
+	@Test
+	public void shouldReportPendingSession() {
+
+		Health health = this.healthIndicator.health();
+
+		assertThat(health.getStatus()).isEqualTo(Status.UP);
+		assertThat(getDetails(health, "session", "kubernetes")).containsEntry("state", "pending");
+	}
+
+	@Test
+	public void shouldReportValidSession() {
+
+		login(Duration.ofMinutes(5));
+
+		Health health = this.healthIndicator.health();
+
+		assertThat(health.getStatus()).isEqualTo(Status.UP);
+		assertThat(getDetails(health, "session", "kubernetes")).containsEntry("state", "valid")
+			.containsEntry("ttl", Duration.ofMinutes(5));
+	}
+
+	@Test
+	public void shouldReportExpiringSession() {
+
+		login(Duration.ofSeconds(5));
+
+		Health health = this.healthIndicator.health();
+
+		assertThat(health.getStatus()).isEqualTo(Status.DOWN);
+		assertThat(getDetails(health, "session", "kubernetes")).containsEntry("state", "expiring");
+	}
+
+	@Test
+	public void shouldReportExpiredSession() {
+
+		login(Duration.ofMinutes(5));
+		this.session.onAuthenticationEvent(new LoginTokenExpiredEvent(LoginToken.of("token")));
+
+		Health health = this.healthIndicator.health();
+
+		assertThat(health.getStatus()).isEqualTo(Status.DOWN);
+		assertThat(getDetails(health, "session", "kubernetes")).containsEntry("state", "expired");
+	}
+
+	@Test
+	public void shouldReportActiveLease() {
+
+		this.container.onSecretsObtained(this.secret, Lease.of("lease-1", Duration.ofMinutes(5), true),
+				Collections.emptyMap());
+
+		Health health = this.healthIndicator.health();
+
+		assertThat(health.getStatus()).isEqualTo(Status.UP);
+		assertThat(getDetails(health, "leases", "database/creds/readonly")).containsEntry("state", "active")
+			.containsEntry("ttl", Duration.ofMinutes(5));
+	}
+
+	@Test
+	public void shouldReportExpiredLease() {
+
+		Lease lease = Lease.of("lease-1", Duration.ofMinutes(5), true);
+		this.container.onSecretsObtained(this.secret, lease, Collections.emptyMap());
+		this.container.onLeaseExpired(this.secret, lease);
+
+		Health health = this.healthIndicator.health();
+
+		assertThat(health.getStatus()).isEqualTo(Status.DOWN);
+		assertThat(getDetails(health, "leases", "database/creds/readonly")).containsEntry("state", "expired");
+	}
+
+	@Test
+	public void shouldReportRetryingLease() {
+
+		Lease lease = Lease.of("lease-1", Duration.ofMinutes(5), true);
+		this.container.onSecretsObtained(this.secret, lease, Collections.emptyMap());
+		this.container.onError(this.secret, lease, new IllegalStateException("connection refused"));
+		this.container.onError(this.secret, lease, new IllegalStateException("connection refused"));
+
+		Health health = this.healthIndicator.health();
+
+		assertThat(health.getStatus()).isEqualTo(Status.DOWN);
+		assertThat(getDetails(health, "leases", "database/creds/readonly")).containsEntry("state", "retrying")
+			.containsEntry("errors", 2)
+			.containsEntry("error", "java.lang.IllegalStateException: connection refused");
+	}
+
+	@Test
+	public void shouldReportFailedLease() {
+
+		this.container.onError(this.secret, Lease.none(), new IllegalStateException("permission denied"));
+
+		Health health = this.healthIndicator.health();
+
+		assertThat(health.getStatus()).isEqualTo(Status.DOWN);
+		assertThat(getDetails(health, "leases", "database/creds/readonly")).containsEntry("state", "failed");
+	}
+
+	private void login(Duration ttl) {
+
+		this.session.loginCompleted(Duration.ofMillis(1), true);
+		this.session.onAuthenticationEvent(new AfterLoginEvent(LoginToken.of("token".toCharArray(), ttl)));
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Map<String, Object> getDetails(Health health, String group, String key) {
+
+		Map<String, Object> details = (Map<String, Object>) health.getDetails().get(group);
+		return (Map<String, Object>) details.get(key);
+	}
+
+}
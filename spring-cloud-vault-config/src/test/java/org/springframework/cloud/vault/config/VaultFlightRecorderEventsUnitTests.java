@@ -0,0 +1,205 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.vault.config;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import reactor.core.publisher.Mono;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+import org.springframework.web.reactive.function.client.ClientRequest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIOException;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for {@link VaultFlightRecorderEvents}.
+ *
+ * @author Mark Paluch
+ */
+public class VaultFlightRecorderEventsUnitTests {
+
+	@TempDir
+	Path tempDir;
+
+	@Test
+	public void shouldDetermineOutcome() {
+
+		assertThat(VaultFlightRecorderEvents.getOutcome(HttpStatus.OK)).isEqualTo("SUCCESS");
+		assertThat(VaultFlightRecorderEvents.getOutcome(HttpStatus.NOT_FOUND)).isEqualTo("CLIENT_ERROR");
+		assertThat(VaultFlightRecorderEvents.getOutcome(HttpStatus.SERVICE_UNAVAILABLE)).isEqualTo("SERVER_ERROR");
+		assertThat(VaultFlightRecorderEvents.getOutcome(null)).isEqualTo("IO_ERROR");
+	}
+
+	@Test
+	public void shouldConsiderProperty() {
+
+		VaultProperties properties = new VaultProperties();
+
+		assertThat(VaultFlightRecorderEvents.isEnabled(properties)).isFalse();
+
+		properties.getJfr().setEnabled(true);
+
+		assertThat(VaultFlightRecorderEvents.isEnabled(properties)).isTrue();
+	}
+
+	@Test
+	public void shouldRecordRequestEvent() throws IOException {
+
+		MockClientHttpRequest request = new MockClientHttpRequest(HttpMethod.GET,
+				URI.create("https://localhost:8200/v1/database/creds/readonly"));
+		MockClientHttpResponse response = new MockClientHttpResponse(new byte[42], HttpStatus.OK);
+		response.getHeaders().setContentLength(42);
+
+		List<RecordedEvent> events = record("org.springframework.cloud.vault.Request", () -> {
+			new FlightRecorderClientHttpRequestInterceptor().intercept(request, new byte[0], (req, body) -> response);
+		});
+
+		assertThat(events).hasSize(1);
+
+		RecordedEvent event = events.get(0);
+		assertThat(event.getString("method")).isEqualTo("GET");
+		assertThat(event.getString("path")).isEqualTo("database/creds/{role}");
+		assertThat(event.getString("operation")).isEqualTo("credentials");
+		assertThat(event.getInt("status")).isEqualTo(200);
+		assertThat(event.getLong("bytes")).isEqualTo(42);
+		assertThat(event.getString("outcome")).isEqualTo("SUCCESS");
+	}
+
+	@Test
+	public void shouldRecordFailedRequestEvent() throws IOException {
+
+		MockClientHttpRequest request = new MockClientHttpRequest(HttpMethod.POST,
+				URI.create("https://localhost:8200/v1/auth/kubernetes/login"));
+
+		List<RecordedEvent> events = record("org.springframework.cloud.vault.Request", () -> {
+			assertThatIOException().isThrownBy(() -> new FlightRecorderClientHttpRequestInterceptor()
+				.intercept(request, new byte[0], (req, body) -> {
+					throw new IOException("Connection refused");
+				}));
+		});
+
+		assertThat(events).hasSize(1);
+		assertThat(events.get(0).getString("operation")).isEqualTo("login");
+		assertThat(events.get(0).getString("outcome")).isEqualTo("IO_ERROR");
+	}
+
+	@Test
+	public void shouldNotFailIfStatusCannotBeRead() throws IOException {
+
+		MockClientHttpRequest request = new MockClientHttpRequest(HttpMethod.GET,
+				URI.create("https://localhost:8200/v1/sys/health"));
+		ClientHttpResponse response = mock(ClientHttpResponse.class);
+		when(response.getStatusCode()).thenThrow(new IOException("Connection reset"));
+		when(response.getHeaders()).thenReturn(new HttpHeaders());
+
+		List<RecordedEvent> events = record("org.springframework.cloud.vault.Request", () -> {
+			assertThat(new FlightRecorderClientHttpRequestInterceptor().intercept(request, new byte[0],
+					(req, body) -> response))
+				.isSameAs(response);
+		});
+
+		assertThat(events).hasSize(1);
+		assertThat(events.get(0).getString("outcome")).isEqualTo("IO_ERROR");
+	}
+
+	@Test
+	public void shouldRecordCancelledReactiveRequestEvent() throws IOException {
+
+		ClientRequest request = ClientRequest
+			.create(HttpMethod.GET, URI.create("https://localhost:8200/v1/database/creds/readonly"))
+			.build();
+
+		List<RecordedEvent> events = record("org.springframework.cloud.vault.Request", () -> {
+			new FlightRecorderExchangeFilterFunction().filter(request, req -> Mono.never()).subscribe().dispose();
+		});
+
+		assertThat(events).hasSize(1);
+		assertThat(events.get(0).getString("path")).isEqualTo("database/creds/{role}");
+		assertThat(events.get(0).getString("outcome")).isEqualTo("CANCELLED");
+	}
+
+	@Test
+	public void shouldRecordLoginEvent() throws IOException {
+
+		SessionInstrumentation instrumentation = new SessionInstrumentation(
+				VaultProperties.AuthenticationMethod.KUBERNETES);
+		instrumentation.setFlightRecorderEnabled(true);
+
+		List<RecordedEvent> events = record("org.springframework.cloud.vault.Login", () -> {
+			instrumentation.loginCompleted(instrumentation.loginStarted(), Duration.ofMillis(1), false);
+		});
+
+		assertThat(events).hasSize(1);
+		assertThat(events.get(0).getString("authenticationMethod")).isEqualTo("kubernetes");
+		assertThat(events.get(0).getString("outcome")).isEqualTo("ERROR");
+	}
+
+	@Test
+	public void shouldNotCreateLoginEventIfDisabled() {
+
+		SessionInstrumentation instrumentation = new SessionInstrumentation(
+				VaultProperties.AuthenticationMethod.KUBERNETES);
+
+		assertThat(instrumentation.loginStarted()).isNull();
+	}
+
+	private List<RecordedEvent> record(String eventName, ThrowingRunnable runnable) throws IOException {
+
+		Path file = this.tempDir.resolve("recording.jfr");
+
+		try (Recording recording = new Recording()) {
+
+			recording.enable(eventName).withoutThreshold();
+			recording.start();
+			runnable.run();
+			recording.stop();
+			recording.dump(file);
+		}
+
+		try {
+			return RecordingFile.readAllEvents(file);
+		}
+		finally {
+			Files.deleteIfExists(file);
+		}
+	}
+
+	interface ThrowingRunnable {
+
+		void run() throws IOException;
+
+	}
+
+}
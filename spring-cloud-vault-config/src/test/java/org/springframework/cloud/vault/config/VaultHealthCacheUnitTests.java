@@ -0,0 +1,155 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.vault.config;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.vault.VaultException;
+import org.springframework.vault.support.VaultHealth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Unit tests for {@link VaultHealthCache}.
+ *
+ * @author Mark Paluch
+ */
+public class VaultHealthCacheUnitTests {
+
+	List<CompletableFuture<VaultHealth>> healthChecks = new ArrayList<>();
+
+	VaultHealthCache cache;
+
+	@BeforeEach
+	void before() {
+
+		this.cache = new VaultHealthCache(() -> {
+			CompletableFuture<VaultHealth> future = new CompletableFuture<>();
+			this.healthChecks.add(future);
+			return future;
+		}, Duration.ofSeconds(10), Duration.ofMillis(100));
+		setTime(1000);
+	}
+
+	@Test
+	public void shouldAwaitInitialHealthCheck() {
+
+		CompletableFuture<VaultHealth> health = this.cache.getHealth();
+
+		assertThat(health).isNotDone();
+		assertThat(this.healthChecks).hasSize(1);
+
+		VaultHealth vaultHealth = mock(VaultHealth.class);
+		this.healthChecks.get(0).complete(vaultHealth);
+
+		assertThat(health).isCompletedWithValue(vaultHealth);
+	}
+
+	@Test
+	public void shouldShareInFlightHealthCheck() {
+
+		this.cache.getHealth();
+		this.cache.getHealth();
+
+		assertThat(this.healthChecks).hasSize(1);
+	}
+
+	@Test
+	public void shouldReportCachedHealth() {
+
+		VaultHealth vaultHealth = mock(VaultHealth.class);
+		this.cache.getHealth();
+		this.healthChecks.get(0).complete(vaultHealth);
+
+		setTime(1009);
+
+		assertThat(this.cache.getHealth()).isCompletedWithValue(vaultHealth);
+		assertThat(this.healthChecks).hasSize(1);
+	}
+
+	@Test
+	public void shouldReportExpiredHealthWhileRefreshing() {
+
+		VaultHealth initial = mock(VaultHealth.class);
+		VaultHealth refreshed = mock(VaultHealth.class);
+		this.cache.getHealth();
+		this.healthChecks.get(0).complete(initial);
+
+		setTime(1010);
+
+		assertThat(this.cache.getHealth()).isCompletedWithValue(initial);
+		assertThat(this.cache.getHealth()).isCompletedWithValue(initial);
+		assertThat(this.healthChecks).hasSize(2);
+
+		this.healthChecks.get(1).complete(refreshed);
+
+		assertThat(this.cache.getHealth()).isCompletedWithValue(refreshed);
+	}
+
+	@Test
+	public void shouldCacheFailures() {
+
+		this.cache.getHealth();
+		this.healthChecks.get(0).completeExceptionally(new IllegalStateException("sealed"));
+
+		assertThatExceptionOfType(IllegalStateException.class).isThrownBy(() -> this.cache.awaitHealth());
+		assertThat(this.healthChecks).hasSize(1);
+	}
+
+	@Test
+	public void shouldTimeOutHealthCheck() {
+
+		assertThatExceptionOfType(VaultException.class).isThrownBy(() -> this.cache.awaitHealth())
+			.withMessageContaining("did not complete within");
+
+		assertThatExceptionOfType(VaultException.class).isThrownBy(() -> this.cache.awaitHealth());
+		assertThat(this.healthChecks).hasSize(1);
+	}
+
+	@Test
+	public void shouldNotRestartTimedOutHealthCheckBeforeCompletion() {
+
+		assertThatExceptionOfType(VaultException.class).isThrownBy(() -> this.cache.awaitHealth());
+
+		setTime(1010);
+
+		assertThat(this.cache.getHealth()).isCompletedExceptionally();
+		assertThat(this.healthChecks).hasSize(1);
+		assertThat(this.healthChecks.get(0)).isNotDone();
+
+		this.healthChecks.get(0).complete(mock(VaultHealth.class));
+		this.cache.getHealth();
+
+		assertThat(this.healthChecks).hasSize(2);
+	}
+
+	private void setTime(long epochSecond) {
+		this.cache.setClock(Clock.fixed(Instant.ofEpochSecond(epochSecond), ZoneOffset.UTC));
+	}
+
+}
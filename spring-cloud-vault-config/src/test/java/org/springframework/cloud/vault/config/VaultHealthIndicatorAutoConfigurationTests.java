@@ -19,6 +19,7 @@ package org.springframework.cloud.vault.config;
 import org.junit.jupiter.api.Test;
 
 import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.boot.test.context.runner.ApplicationContextRunner;
 import org.springframework.context.annotation.Bean;
 import org.springframework.vault.core.ReactiveVaultOperations;
@@ -73,6 +74,34 @@ class VaultHealthIndicatorAutoConfigurationTests {
 			});
 	}
 
+	@Test
+	void shouldConfigureCachingHealthIndicator() {
+
+		this.contextRunner.withUserConfiguration(ImperativeConfiguration.class, PropertiesConfiguration.class)
+			.withPropertyValues("spring.cloud.vault.health.cache.enabled=true")
+			.run(context -> {
+				assertThat(context).hasSingleBean(VaultHealthIndicator.class);
+				assertThat(context.getBean(VaultHealthIndicator.class)).extracting("cache").isNotNull();
+			});
+	}
+
+	@Test
+	void shouldConfigureCredentialsHealthIndicator() {
+
+		this.contextRunner.run(context -> {
+			assertThat(context).doesNotHaveBean(VaultCredentialsHealthIndicator.class);
+		});
+
+		this.contextRunner.withPropertyValues("spring.cloud.vault.health.credentials.enabled=true").run(context -> {
+			assertThat(context).hasSingleBean(VaultCredentialsHealthIndicator.class);
+		});
+	}
+
+	@EnableConfigurationProperties(VaultProperties.class)
+	static class PropertiesConfiguration {
+
+	}
+
 	static class ImperativeConfiguration {
 
 		@Bean
@@ -16,6 +16,8 @@
 
 package org.springframework.cloud.vault.config;
 
+import java.time.Duration;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
@@ -30,6 +32,8 @@ import org.springframework.vault.support.VaultHealth;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -115,6 +119,32 @@ public class VaultHealthIndicatorUnitTests {
 		assertThat(health.getDetails()).containsKey("error");
 	}
 
+	@Test
+	public void shouldCacheHealth() {
+
+		when(this.healthResponse.isInitialized()).thenReturn(true);
+		VaultHealthIndicator healthIndicator = new VaultHealthIndicator(this.vaultOperations, Duration.ofMinutes(1),
+				Duration.ofSeconds(1), Runnable::run);
+
+		assertThat(healthIndicator.health().getStatus()).isEqualTo(Status.UP);
+		assertThat(healthIndicator.health().getStatus()).isEqualTo(Status.UP);
+
+		verify(this.vaultSysOperations, times(1)).health();
+	}
+
+	@Test
+	public void shouldReportHealthCheckTimeout() {
+
+		VaultHealthIndicator healthIndicator = new VaultHealthIndicator(this.vaultOperations, Duration.ofMinutes(1),
+				Duration.ofMillis(10), command -> {
+				});
+
+		Health health = healthIndicator.health();
+
+		assertThat(health.getStatus()).isEqualTo(Status.DOWN);
+		assertThat(health.getDetails()).containsKey("error");
+	}
+
 	@Test
 	public void shouldReportPerformanceStandby() {
 
@@ -0,0 +1,267 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.vault.config;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.cloud.vault.config.VaultAutoConfiguration.TaskSchedulerWrapper;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.vault.authentication.ClientAuthentication;
+import org.springframework.vault.authentication.LifecycleAwareSessionManagerSupport.FixedTimeoutRefreshTrigger;
+import org.springframework.vault.authentication.LoginToken;
+import org.springframework.vault.core.VaultOperations;
+import org.springframework.vault.core.lease.domain.RequestedSecret;
+import org.springframework.vault.support.VaultResponse;
+import org.springframework.web.client.RestOperations;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * Unit tests for stop/start (checkpoint/restore) handling of Vault client components.
+ *
+ * @author Mark Paluch
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class VaultLifecycleUnitTests {
+
+	@Mock
+	ClientAuthentication clientAuthentication;
+
+	@Mock
+	TaskScheduler taskScheduler;
+
+	@Mock
+	RestOperations restOperations;
+
+	@Test
+	void stopShouldDisposeRequestFactoryAndRecreateOnNextRequest() throws Exception {
+
+		List<ClientHttpRequestFactory> created = new ArrayList<>();
+		ClientHttpRequest request = mock(ClientHttpRequest.class);
+
+		RestartableClientHttpRequestFactory factory = new RestartableClientHttpRequestFactory(() -> {
+
+			ClientHttpRequestFactory delegate = mock(ClientHttpRequestFactory.class,
+					withSettings().extraInterfaces(DisposableBean.class));
+			try {
+				when(delegate.createRequest(URI.create("https://localhost"), HttpMethod.GET)).thenReturn(request);
+			}
+			catch (Exception e) {
+				throw new IllegalStateException(e);
+			}
+			created.add(delegate);
+			return delegate;
+		});
+
+		LifecycleClientFactoryWrapper wrapper = new LifecycleClientFactoryWrapper(factory);
+		wrapper.stop();
+
+		assertThat(wrapper.isRunning()).isFalse();
+		assertThat(factory.isActive()).isFalse();
+		verify((DisposableBean) created.get(0)).destroy();
+
+		wrapper.start();
+
+		assertThat(factory.createRequest(URI.create("https://localhost"), HttpMethod.GET)).isSameAs(request);
+		assertThat(created).hasSize(2);
+		assertThat(factory.isActive()).isTrue();
+	}
+
+	@Test
+	void stopShouldAwaitRequestCreation() throws Exception {
+
+		CountDownLatch creating = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		ClientHttpRequest request = mock(ClientHttpRequest.class);
+		ClientHttpRequestFactory delegate = mock(ClientHttpRequestFactory.class,
+				withSettings().extraInterfaces(DisposableBean.class));
+
+		when(delegate.createRequest(any(), any())).then(invocation -> {
+			creating.countDown();
+			release.await(5, TimeUnit.SECONDS);
+			return request;
+		});
+
+		RestartableClientHttpRequestFactory factory = new RestartableClientHttpRequestFactory(() -> delegate);
+
+		CompletableFuture<ClientHttpRequest> create = CompletableFuture.supplyAsync(() -> {
+			try {
+				return factory.createRequest(URI.create("https://localhost"), HttpMethod.GET);
+			}
+			catch (Exception e) {
+				throw new IllegalStateException(e);
+			}
+		});
+		assertThat(creating.await(5, TimeUnit.SECONDS)).isTrue();
+
+		CompletableFuture<Void> stop = CompletableFuture.runAsync(factory::stop);
+		Thread.sleep(100);
+
+		assertThat(stop).isNotDone();
+		verify((DisposableBean) delegate, never()).destroy();
+
+		release.countDown();
+
+		assertThat(create.get(5, TimeUnit.SECONDS)).isSameAs(request);
+		stop.get(5, TimeUnit.SECONDS);
+		verify((DisposableBean) delegate).destroy();
+	}
+
+	@Test
+	void shouldCreateRestartableRequestFactoryOnlyIfRequested() {
+
+		VaultConfiguration configuration = new VaultConfiguration(new VaultProperties());
+
+		assertThat(configuration.createClientHttpRequestFactory(true))
+			.isInstanceOf(RestartableClientHttpRequestFactory.class);
+		assertThat(configuration.createClientHttpRequestFactory(false))
+			.isNotInstanceOf(RestartableClientHttpRequestFactory.class);
+	}
+
+	@Test
+	void sessionManagerShouldReloginAfterRestart() {
+
+		when(this.clientAuthentication.login()).thenReturn(LoginToken.of("first"), LoginToken.of("second"));
+
+		InstrumentedSessionManager sessionManager = new InstrumentedSessionManager(this.clientAuthentication,
+				this.taskScheduler, this.restOperations,
+				new FixedTimeoutRefreshTrigger(Duration.ofSeconds(5), Duration.ofSeconds(7)),
+				new SessionInstrumentation(VaultProperties.AuthenticationMethod.APPROLE));
+
+		assertThat(sessionManager.getSessionToken()).isEqualTo(LoginToken.of("first"));
+
+		sessionManager.start();
+		assertThat(sessionManager.getSessionToken()).isEqualTo(LoginToken.of("first"));
+
+		sessionManager.stop();
+		sessionManager.start();
+
+		assertThat(sessionManager.isRunning()).isTrue();
+		assertThat(sessionManager.getSessionToken()).isEqualTo(LoginToken.of("second"));
+		assertThat(sessionManager.getPhase()).isLessThan(200);
+		verifyNoInteractions(this.restOperations);
+	}
+
+	@Test
+	void sessionManagerShouldNotReloginOnInitialStart() {
+
+		when(this.clientAuthentication.login()).thenReturn(LoginToken.of("first"), LoginToken.of("second"));
+
+		InstrumentedSessionManager sessionManager = new InstrumentedSessionManager(this.clientAuthentication,
+				this.taskScheduler, this.restOperations,
+				new FixedTimeoutRefreshTrigger(Duration.ofSeconds(5), Duration.ofSeconds(7)),
+				new SessionInstrumentation(VaultProperties.AuthenticationMethod.APPROLE));
+
+		sessionManager.getSessionToken();
+		sessionManager.start();
+		sessionManager.start();
+
+		assertThat(sessionManager.getSessionToken()).isEqualTo(LoginToken.of("first"));
+		verify(this.clientAuthentication).login();
+	}
+
+	@Test
+	void restoreShouldRetainLeases() throws Exception {
+
+		VaultOperations vaultOperations = mock(VaultOperations.class);
+		VaultResponse response = new VaultResponse();
+		response.setData(Map.of("username", "app", "password", "secret"));
+		response.setLeaseId("database/creds/app/1");
+		response.setLeaseDuration(300);
+		response.setRenewable(true);
+		when(vaultOperations.read("database/creds/app")).thenReturn(response);
+		when(this.clientAuthentication.login()).thenReturn(LoginToken.of("first"), LoginToken.of("second"));
+
+		InstrumentedSessionManager sessionManager = new InstrumentedSessionManager(this.clientAuthentication,
+				this.taskScheduler, this.restOperations,
+				new FixedTimeoutRefreshTrigger(Duration.ofSeconds(5), Duration.ofSeconds(7)),
+				new SessionInstrumentation(VaultProperties.AuthenticationMethod.APPROLE));
+		ThreadPoolTaskScheduler scheduler = VaultConfiguration.createScheduler();
+		scheduler.afterPropertiesSet();
+		InstrumentedSecretLeaseContainer container = new InstrumentedSecretLeaseContainer(vaultOperations,
+				scheduler);
+		container.addRequestedSecret(RequestedSecret.renewable("database/creds/app"));
+		container.afterPropertiesSet();
+
+		try {
+			container.start();
+			sessionManager.getSessionToken();
+
+			container.stop();
+			sessionManager.stop();
+			sessionManager.start();
+			container.start();
+
+			assertThat(sessionManager.getSessionToken()).isEqualTo(LoginToken.of("second"));
+			verifyNoInteractions(this.restOperations);
+			verify(vaultOperations, never()).doWithSession(any());
+		}
+		finally {
+			container.destroy();
+			scheduler.destroy();
+		}
+	}
+
+	@Test
+	void taskSchedulerWrapperShouldPauseScheduler() {
+
+		ThreadPoolTaskScheduler scheduler = VaultConfiguration.createScheduler();
+		TaskSchedulerWrapper wrapper = new TaskSchedulerWrapper(scheduler);
+		wrapper.afterPropertiesSet();
+
+		try {
+			assertThat(wrapper.isRunning()).isTrue();
+
+			wrapper.stop();
+			assertThat(wrapper.isRunning()).isFalse();
+
+			wrapper.start();
+			assertThat(wrapper.isRunning()).isTrue();
+		}
+		finally {
+			wrapper.destroy();
+		}
+	}
+
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.vault.config;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.http.HttpMethod;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link VaultObservationSupport}.
+ *
+ * @author Mark Paluch
+ */
+public class VaultObservationSupportUnitTests {
+
+	@Test
+	public void shouldClassifyOperations() {
+
+		assertThat(VaultObservationSupport.getOperation(HttpMethod.POST, "/v1/auth/kubernetes/login"))
+			.isEqualTo("login");
+		assertThat(VaultObservationSupport.getOperation(HttpMethod.POST, "/v1/auth/userpass/login/walter"))
+			.isEqualTo("login");
+		assertThat(VaultObservationSupport.getOperation(HttpMethod.POST, "/v1/auth/token/renew-self"))
+			.isEqualTo("token-renew");
+		assertThat(VaultObservationSupport.getOperation(HttpMethod.PUT, "/v1/sys/leases/renew"))
+			.isEqualTo("lease-renew");
+		assertThat(VaultObservationSupport.getOperation(HttpMethod.PUT, "/v1/sys/revoke/database/creds/r/1234"))
+			.isEqualTo("lease-revoke");
+		assertThat(VaultObservationSupport.getOperation(HttpMethod.GET, "/v1/sys/health")).isEqualTo("health");
+		assertThat(VaultObservationSupport.getOperation(HttpMethod.GET, "/v1/secret/data/my-app"))
+			.isEqualTo("kv-read");
+		assertThat(VaultObservationSupport.getOperation(HttpMethod.GET, "/v1/database/creds/readonly"))
+			.isEqualTo("credentials");
+		assertThat(VaultObservationSupport.getOperation(HttpMethod.POST, "/v1/transit/encrypt/key"))
+			.isEqualTo("write");
+	}
+
+}
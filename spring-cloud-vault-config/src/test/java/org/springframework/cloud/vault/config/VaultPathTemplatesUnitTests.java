@@ -0,0 +1,76 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.vault.config;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link VaultPathTemplates}.
+ *
+ * @author Mark Paluch
+ */
+public class VaultPathTemplatesUnitTests {
+
+	@Test
+	public void shouldTemplateRoleBasedSecrets() {
+
+		assertThat(VaultPathTemplates.toTemplate("database/creds/readonly")).isEqualTo("database/creds/{role}");
+		assertThat(VaultPathTemplates.toTemplate("/v1/my-db/static-creds/app")).isEqualTo("my-db/static-creds/{role}");
+		assertThat(VaultPathTemplates.toTemplate("aws/sts/deploy")).isEqualTo("aws/sts/{role}");
+		assertThat(VaultPathTemplates.toTemplate("pki/issue/web")).isEqualTo("pki/issue/{role}");
+	}
+
+	@Test
+	public void shouldTemplateKeyValueSecrets() {
+
+		assertThat(VaultPathTemplates.toTemplate("secret/data/my-app/cloud")).isEqualTo("secret/data/{path}");
+		assertThat(VaultPathTemplates.toTemplate("secret/metadata/my-app")).isEqualTo("secret/metadata/{path}");
+		assertThat(VaultPathTemplates.toTemplate("secret/my-app")).isEqualTo("secret/{path}");
+		assertThat(VaultPathTemplates.toTemplate("cubbyhole/response")).isEqualTo("cubbyhole/{path}");
+	}
+
+	@Test
+	public void shouldTemplateSystemPaths() {
+
+		assertThat(VaultPathTemplates.toTemplate("sys/health?standbyok=true")).isEqualTo("sys/health");
+		assertThat(VaultPathTemplates.toTemplate("sys/leases/renew")).isEqualTo("sys/leases/renew");
+		assertThat(VaultPathTemplates.toTemplate("sys/renew/database/creds/readonly/abcd"))
+			.isEqualTo("sys/renew/{lease_id}");
+		assertThat(VaultPathTemplates.toTemplate("sys/leases/revoke/database/creds/readonly/abcd"))
+			.isEqualTo("sys/leases/revoke/{lease_id}");
+	}
+
+	@Test
+	public void shouldTemplateAuthenticationPaths() {
+
+		assertThat(VaultPathTemplates.toTemplate("auth/kubernetes/login")).isEqualTo("auth/kubernetes/login");
+		assertThat(VaultPathTemplates.toTemplate("auth/userpass/login/walter")).isEqualTo("auth/userpass/login/{username}");
+		assertThat(VaultPathTemplates.toTemplate("auth/approle/role/my-role/secret-id"))
+			.isEqualTo("auth/approle/role/{role}/secret-id");
+		assertThat(VaultPathTemplates.toTemplate("auth/token/renew-self")).isEqualTo("auth/token/renew-self");
+	}
+
+	@Test
+	public void shouldRetainSingleSegmentPaths() {
+
+		assertThat(VaultPathTemplates.toTemplate("/")).isEqualTo("/");
+		assertThat(VaultPathTemplates.toTemplate("secret/")).isEqualTo("secret");
+	}
+
+}
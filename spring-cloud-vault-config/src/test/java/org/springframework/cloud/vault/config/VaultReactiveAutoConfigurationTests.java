@@ -28,7 +28,9 @@ import org.springframework.boot.test.context.FilteredClassLoader;
 import org.springframework.boot.test.context.runner.ApplicationContextRunner;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.ReactorResourceFactory;
 import org.springframework.http.client.reactive.ClientHttpConnector;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.vault.authentication.AuthenticationSteps;
@@ -119,6 +121,61 @@ public class VaultReactiveAutoConfigurationTests {
 			});
 	}
 
+	@Test
+	public void shouldCreateReactiveInfrastructureOnDemand() {
+
+		this.contextRunner.withUserConfiguration(VaultAutoConfiguration.class)
+			.withPropertyValues("spring.cloud.vault.reactive.on-demand=true", "spring.cloud.vault.token=foo",
+					"spring.cloud.vault.session.lifecycle.enabled=false")
+			.run(context -> {
+
+				assertThat(context.getBean(SessionManager.class)).isInstanceOf(SimpleSessionManager.class);
+				assertThat(context.getBeanFactory().containsSingleton("reactiveVaultTemplate")).isFalse();
+				assertThat(context.getBeanFactory().containsSingleton("reactiveVaultSessionManager")).isFalse();
+				assertThat(context.getBean(VaultReactiveAutoConfiguration.ClientHttpConnectorWrapper.class)
+					.isInitialized()).isFalse();
+
+				assertThat(context.getBean(ReactiveVaultOperations.class)).isNotNull();
+				assertThat(context.getBean(VaultReactiveAutoConfiguration.ClientHttpConnectorWrapper.class)
+					.isInitialized()).isTrue();
+			});
+	}
+
+	@Test
+	public void shouldCreateConnectorUsingResourceFactory() {
+
+		this.contextRunner.withUserConfiguration(AuthenticationFactoryConfiguration.class, ResourceFactory.class)
+			.withPropertyValues("spring.cloud.vault.reactive.share-resources=true",
+					"spring.cloud.vault.session.lifecycle.enabled=false")
+			.run(context -> {
+
+				ClientHttpConnector connector = context
+					.getBean(VaultReactiveAutoConfiguration.ClientHttpConnectorWrapper.class)
+					.getConnector();
+
+				assertThat(connector).isInstanceOf(ReactorClientHttpConnector.class);
+				assertThat(ReflectionTestUtils.getField(connector, "resourceFactory"))
+					.isSameAs(context.getBean(ReactorResourceFactory.class));
+			});
+	}
+
+	@Test
+	public void shouldRebindBootstrapConnectorToResourceFactory() {
+
+		RebindableClientHttpConnector connector = new RebindableClientHttpConnector(mock(ClientHttpConnector.class));
+
+		this.contextRunner.withUserConfiguration(AuthenticationFactoryConfiguration.class, ResourceFactory.class)
+			.withPropertyValues("spring.cloud.vault.reactive.share-resources=true",
+					"spring.cloud.vault.session.lifecycle.enabled=false")
+			.withBean("clientHttpConnectorWrapper", VaultReactiveAutoConfiguration.ClientHttpConnectorWrapper.class,
+					() -> new VaultReactiveAutoConfiguration.ClientHttpConnectorWrapper(connector))
+			.run(context -> {
+
+				assertThat(connector.isRebound()).isTrue();
+				assertThat(connector.getDelegate()).isInstanceOf(ReactorClientHttpConnector.class);
+			});
+	}
+
 	@Test
 	public void sessionManagerBridgeShouldNotCacheTokens() {
 
@@ -228,6 +285,20 @@ public class VaultReactiveAutoConfigurationTests {
 
 	}
 
+	@Configuration(proxyBeanMethods = false)
+	static class ResourceFactory {
+
+		@Bean
+		ReactorResourceFactory reactorResourceFactory() {
+
+			ReactorResourceFactory resourceFactory = new ReactorResourceFactory();
+			resourceFactory.setUseGlobalResources(false);
+
+			return resourceFactory;
+		}
+
+	}
+
 	@Configuration(proxyBeanMethods = false)
 	static class TokenSupplierConfiguration {
 
@@ -0,0 +1,134 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.vault.config;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.springframework.cloud.vault.config.VaultTokenCache.CachedToken;
+import org.springframework.vault.support.VaultToken;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link VaultTokenCache}.
+ *
+ * @author Mark Paluch
+ */
+public class VaultTokenCacheUnitTests {
+
+	static final Instant NOW = Instant.ofEpochSecond(1000);
+
+	@TempDir
+	Path tempDir;
+
+	@Test
+	public void shouldRoundtripToken() {
+
+		VaultTokenCache cache = createCache("password", "KUBERNETES@https://localhost:8200/v1/");
+		cache.write(VaultToken.of("s.token"), NOW.plusSeconds(60));
+
+		CachedToken cached = createCache("password", "KUBERNETES@https://localhost:8200/v1/").read(NOW);
+
+		assertThat(cached).isNotNull();
+		assertThat(cached.getToken()).isEqualTo(VaultToken.of("s.token"));
+		assertThat(cached.getExpiry()).isEqualTo(NOW.plusSeconds(60));
+	}
+
+	@Test
+	public void shouldEncryptToken() throws Exception {
+
+		VaultTokenCache cache = createCache("password", "scope");
+		cache.write(VaultToken.of("s.token"), null);
+
+		assertThat(new String(Files.readAllBytes(cache.getFile()))).doesNotContain("s.token");
+		assertThat(cache.read(NOW).getExpiry()).isNull();
+	}
+
+	@Test
+	public void shouldNotReadTokenWithDifferentPassword() {
+
+		createCache("password", "scope").write(VaultToken.of("s.token"), null);
+
+		assertThat(createCache("other", "scope").read(NOW)).isNull();
+	}
+
+	@Test
+	public void shouldNotReadTokenForDifferentScope() {
+
+		createCache("password", "APPROLE@https://localhost:8200/v1/").write(VaultToken.of("s.token"), null);
+
+		assertThat(createCache("password", "APPROLE@https://vault.example:8200/v1/").read(NOW)).isNull();
+	}
+
+	@Test
+	public void shouldReadTokenBoundToAnyScope() {
+
+		Path file = this.tempDir.resolve("cache/app.token");
+		new VaultTokenCache(file, "password", () -> List.of("APPROLE@vault", "KUBERNETES@vault"))
+			.write(VaultToken.of("s.token"), null);
+
+		CachedToken cached = new VaultTokenCache(file, "password",
+				() -> List.of("KUBERNETES@vault", "APPROLE@vault"))
+			.read(NOW);
+
+		assertThat(cached).isNotNull();
+		assertThat(cached.getToken()).isEqualTo(VaultToken.of("s.token"));
+		assertThat(cached.getScope()).isEqualTo("APPROLE@vault");
+		assertThat(new VaultTokenCache(file, "password", () -> List.of("KUBERNETES@vault")).read(NOW)).isNull();
+	}
+
+	@Test
+	public void shouldNotReadExpiredToken() {
+
+		VaultTokenCache cache = createCache("password", "scope");
+		cache.write(VaultToken.of("s.token"), NOW.plusSeconds(60));
+
+		assertThat(cache.read(NOW.plusSeconds(60))).isNull();
+	}
+
+	@Test
+	public void shouldIgnoreCorruptedCache() throws Exception {
+
+		VaultTokenCache cache = createCache("password", "scope");
+		Files.createDirectories(cache.getFile().getParent());
+		Files.write(cache.getFile(), "not a token cache".getBytes());
+
+		assertThat(cache.read(NOW)).isNull();
+	}
+
+	@Test
+	public void shouldClearCache() {
+
+		VaultTokenCache cache = createCache("password", "scope");
+		cache.write(VaultToken.of("s.token"), null);
+		cache.clear();
+
+		assertThat(cache.getFile()).doesNotExist();
+		assertThat(cache.read(NOW)).isNull();
+	}
+
+	private VaultTokenCache createCache(String password, String scope) {
+		return new VaultTokenCache(this.tempDir.resolve("cache/app.token"), password, scope);
+	}
+
+}
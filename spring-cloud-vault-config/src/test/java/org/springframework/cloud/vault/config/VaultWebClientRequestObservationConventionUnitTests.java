@@ -0,0 +1,53 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.vault.config;
+
+import java.net.URI;
+
+import io.micrometer.common.KeyValue;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientRequestObservationContext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link VaultWebClientRequestObservationConvention}.
+ *
+ * @author Mark Paluch
+ */
+public class VaultWebClientRequestObservationConventionUnitTests {
+
+	VaultWebClientRequestObservationConvention convention = new VaultWebClientRequestObservationConvention();
+
+	@Test
+	public void shouldUsePathTemplate() {
+
+		ClientRequest request = ClientRequest
+			.create(HttpMethod.POST, URI.create("https://localhost:8200/v1/sys/leases/revoke/database/creds/r/1234"))
+			.build();
+		ClientRequestObservationContext context = new ClientRequestObservationContext(ClientRequest.from(request));
+		context.setRequest(request);
+
+		assertThat(this.convention.getLowCardinalityKeyValues(context)).contains(
+				KeyValue.of("uri", "sys/leases/revoke/{lease_id}"), KeyValue.of("vault.operation", "lease-revoke"));
+		assertThat(this.convention.getContextualName(context)).isEqualTo("vault lease-revoke");
+	}
+
+}
@@ -0,0 +1,216 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.vault.config;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Base64;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.springframework.vault.support.VaultToken;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+/**
+ * Unit tests for {@link WatchedCredentialFile}.
+ *
+ * @author Mark Paluch
+ */
+public class WatchedCredentialFileUnitTests {
+
+	static final Instant NOW = Instant.ofEpochSecond(1000);
+
+	@TempDir
+	Path tempDir;
+
+	@Test
+	public void shouldKeepContentsInMemory() throws IOException {
+
+		Path file = write("token", "first");
+		WatchedCredentialFile credentialFile = new WatchedCredentialFile(file);
+
+		assertThat(credentialFile.get()).isEqualTo("first");
+
+		write("token", "second");
+
+		assertThat(credentialFile.get()).isEqualTo("first");
+	}
+
+	@Test
+	public void reloadShouldNotifyListenersOnChange() throws IOException {
+
+		Path file = write("token", "first");
+		WatchedCredentialFile credentialFile = new WatchedCredentialFile(file);
+		AtomicInteger changes = new AtomicInteger();
+		credentialFile.addChangeListener(changes::incrementAndGet);
+
+		credentialFile.get();
+		credentialFile.reload();
+
+		assertThat(changes).hasValue(0);
+
+		write("token", "second");
+		credentialFile.reload();
+
+		assertThat(credentialFile.get()).isEqualTo("second");
+		assertThat(changes).hasValue(1);
+	}
+
+	@Test
+	public void shouldRetainContentsIfFileIsMissing() throws IOException {
+
+		Path file = write("token", "first");
+		WatchedCredentialFile credentialFile = new WatchedCredentialFile(file);
+		credentialFile.get();
+
+		Files.delete(file);
+		credentialFile.reload();
+
+		assertThat(credentialFile.get()).isEqualTo("first");
+	}
+
+	@Test
+	public void shouldRetainContentsIfFileIsEmpty() throws IOException {
+
+		Path file = write("token", "first");
+		WatchedCredentialFile credentialFile = new WatchedCredentialFile(file);
+		AtomicInteger changes = new AtomicInteger();
+		credentialFile.addChangeListener(changes::incrementAndGet);
+		credentialFile.get();
+
+		write("token", "");
+		credentialFile.reload();
+
+		assertThat(credentialFile.get()).isEqualTo("first");
+		assertThat(changes).hasValue(0);
+	}
+
+	@Test
+	public void shouldFailIfFileIsMissingInitially() {
+
+		WatchedCredentialFile credentialFile = new WatchedCredentialFile(this.tempDir.resolve("missing"));
+
+		assertThatIllegalStateException().isThrownBy(credentialFile::get);
+	}
+
+	@Test
+	public void shouldPickUpChangesThroughWatchService() throws Exception {
+
+		Path file = write("token", "first");
+		WatchedCredentialFile credentialFile = new WatchedCredentialFile(file);
+		AtomicInteger changes = new AtomicInteger();
+		credentialFile.addChangeListener(changes::incrementAndGet);
+		credentialFile.get();
+		credentialFile.start();
+
+		try {
+			write("token", "second");
+
+			long deadline = System.nanoTime() + Duration.ofSeconds(30).toNanos();
+			while (changes.get() == 0 && System.nanoTime() < deadline) {
+				Thread.sleep(50);
+			}
+
+			assertThat(credentialFile.get()).isEqualTo("second");
+			assertThat(changes).hasValue(1);
+		}
+		finally {
+			credentialFile.close();
+		}
+	}
+
+	@Test
+	public void shouldParseJwtExpiry() {
+
+		assertThat(WatchedCredentialFile.getJwtExpiry(jwt("{\"sub\":\"foo\",\"exp\":1060}")))
+			.isEqualTo(Instant.ofEpochSecond(1060));
+		assertThat(WatchedCredentialFile.getJwtExpiry(jwt("{\"sub\":\"foo\"}"))).isNull();
+		assertThat(WatchedCredentialFile.getJwtExpiry("hvs.token")).isNull();
+		assertThat(WatchedCredentialFile.getJwtExpiry("a.b.c")).isNull();
+	}
+
+	@Test
+	public void shouldReloadExpiredJwt() throws IOException {
+
+		Path file = write("token", jwt("{\"exp\":1060}"));
+		WatchedCredentialFile credentialFile = new WatchedCredentialFile(file);
+		credentialFile.setClock(Clock.fixed(NOW, ZoneOffset.UTC));
+		credentialFile.get();
+
+		String rotated = jwt("{\"exp\":2000}");
+		write("token", rotated);
+
+		assertThat(credentialFile.get()).isNotEqualTo(rotated);
+
+		credentialFile.setClock(Clock.fixed(NOW.plusSeconds(60), ZoneOffset.UTC));
+
+		assertThat(credentialFile.get()).isEqualTo(rotated);
+		assertThat(credentialFile.getExpiry()).isEqualTo(Instant.ofEpochSecond(2000));
+	}
+
+	@Test
+	public void shouldDeriveCheckIntervalFromJwtExpiry() throws IOException {
+
+		Path file = write("token", jwt("{\"exp\":1600}"));
+		WatchedCredentialFile credentialFile = new WatchedCredentialFile(file);
+		credentialFile.setClock(Clock.fixed(NOW, ZoneOffset.UTC));
+		credentialFile.get();
+
+		assertThat(credentialFile.getCheckInterval()).isEqualTo(Duration.ofSeconds(540));
+
+		credentialFile.setClock(Clock.fixed(NOW.plusSeconds(590), ZoneOffset.UTC));
+
+		assertThat(credentialFile.getCheckInterval()).isEqualTo(WatchedCredentialFile.MIN_CHECK_INTERVAL);
+	}
+
+	@Test
+	public void tokenFileAuthenticationShouldUseCurrentContents() throws IOException {
+
+		Path file = write(".vault-token", "first");
+		WatchedCredentialFile credentialFile = new WatchedCredentialFile(file);
+		WatchedCredentialFile.TokenFileAuthentication authentication = new WatchedCredentialFile.TokenFileAuthentication(
+				credentialFile);
+
+		write(".vault-token", "second");
+		credentialFile.reload();
+
+		assertThat(authentication.login()).isEqualTo(VaultToken.of("second"));
+	}
+
+	private Path write(String name, String content) throws IOException {
+		return Files.write(this.tempDir.resolve(name), content.getBytes(StandardCharsets.UTF_8));
+	}
+
+	private static String jwt(String claims) {
+
+		Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+
+		return encoder.encodeToString("{\"alg\":\"none\"}".getBytes(StandardCharsets.UTF_8)) + "."
+				+ encoder.encodeToString(claims.getBytes(StandardCharsets.UTF_8)) + ".signature";
+	}
+
+}